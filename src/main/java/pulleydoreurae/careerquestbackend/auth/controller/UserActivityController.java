@@ -0,0 +1,40 @@
+package pulleydoreurae.careerquestbackend.auth.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.auth.domain.dto.response.UserActivityResponse;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
+
+/**
+ * 회원 활동 수 Controller
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequestMapping("/api")
+@RestController
+@RequiredArgsConstructor
+public class UserActivityController {
+
+	private final UserActivityService userActivityService;
+
+	/**
+	 * 회원의 활동 수(게시글, 댓글, 좋아요, 후기, 참여한 공모전)를 반환하는 메서드
+	 *
+	 * @param userId 회원 아이디
+	 * @return 활동 수
+	 */
+	@GetMapping("/users/activity/{userId}")
+	public ResponseEntity<UserActivityResponse> findActivity(@PathVariable String userId) {
+		UserActivityResponse activity = userActivityService.findActivity(userId);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(activity);
+	}
+}
@@ -0,0 +1,25 @@
+package pulleydoreurae.careerquestbackend.auth.domain;
+
+import lombok.Getter;
+
+/**
+ * 회원 활동 카운터 종류 (카운터가 저장된 컬럼명을 가진다.)
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+public enum UserActivityType {
+	POST("post_count"), // 작성한 게시글
+	COMMENT("comment_count"), // 작성한 댓글
+	LIKE_GIVEN("like_given_count"), // 누른 좋아요
+	LIKE_RECEIVED("like_received_count"), // 작성한 게시글이 받은 좋아요
+	REVIEW("review_count"), // 작성한 후기
+	JOINED_CONTEST("joined_contest_count"); // 참여한 공모전
+
+	private final String column;
+
+	UserActivityType(String column) {
+		this.column = column;
+	}
+}
@@ -0,0 +1,29 @@
+package pulleydoreurae.careerquestbackend.auth.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 활동 수 Response
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode
+public class UserActivityResponse {
+
+	private String userId; // 회원 아이디
+	private Long postCount; // 작성한 게시글 수
+	private Long commentCount; // 작성한 댓글 수
+	private Long likeGivenCount; // 누른 좋아요 수
+	private Long likeReceivedCount; // 작성한 게시글이 받은 좋아요 수
+	private Long reviewCount; // 작성한 후기 수
+	private Long joinedContestCount; // 참여한 공모전 수
+}
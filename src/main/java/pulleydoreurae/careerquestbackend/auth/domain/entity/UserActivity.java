@@ -0,0 +1,41 @@
+package pulleydoreurae.careerquestbackend.auth.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 활동 카운터 Entity
+ * <p>
+ * 프로필에 보여줄 활동 수를 목록을 불러와 세지 않도록 작성, 삭제할 때마다 증감해 둔다.
+ * 회원 엔티티를 불러오지 않도록 연관관계 대신 회원 id 를 그대로 기본키로 사용한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserActivity {
+
+	@Id
+	private Long userAccountId; // UserAccount 의 id
+
+	@Builder.Default
+	private Long postCount = 0L; // 작성한 게시글 수
+	@Builder.Default
+	private Long commentCount = 0L; // 작성한 댓글 수
+	@Builder.Default
+	private Long likeGivenCount = 0L; // 누른 좋아요 수
+	@Builder.Default
+	private Long likeReceivedCount = 0L; // 작성한 게시글이 받은 좋아요 수
+	@Builder.Default
+	private Long reviewCount = 0L; // 작성한 후기 수
+	@Builder.Default
+	private Long joinedContestCount = 0L; // 참여한 공모전 수
+}
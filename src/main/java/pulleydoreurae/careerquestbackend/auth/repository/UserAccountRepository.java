@@ -20,4 +20,7 @@ public interface UserAccountRepository extends JpaRepository<UserAccount, Long>
 
 	@Query("select u.mbti from UserAccount u where u.userId = :userId")
 	MBTI findMBTIByUserId(String userId);
+
+	@Query("select u.id from UserAccount u where u.userId = :userId")
+	Optional<Long> findIdByUserId(String userId);
 }
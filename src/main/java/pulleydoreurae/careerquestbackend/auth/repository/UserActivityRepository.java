@@ -0,0 +1,14 @@
+package pulleydoreurae.careerquestbackend.auth.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserActivity;
+
+/**
+ * 회원 활동 카운터 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface UserActivityRepository extends JpaRepository<UserActivity, Long>, UserActivityRepositoryCustom {
+}
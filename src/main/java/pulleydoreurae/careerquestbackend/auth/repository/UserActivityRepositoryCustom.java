@@ -0,0 +1,28 @@
+package pulleydoreurae.careerquestbackend.auth.repository;
+
+import java.util.Collection;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
+
+/**
+ * 회원 활동 카운터 JDBC Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface UserActivityRepositoryCustom {
+
+	@Transactional
+	void increase(Long userAccountId, UserActivityType type, long delta);
+
+	@Transactional
+	void insertCounted(Long userAccountId);
+
+	@Transactional
+	void recount(Collection<Long> userAccountIds);
+
+	@Transactional
+	int syncCounts();
+}
@@ -0,0 +1,117 @@
+package pulleydoreurae.careerquestbackend.auth.repository;
+
+import java.util.Collection;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
+
+/**
+ * 회원 활동 카운터 JDBC 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class UserActivityRepositoryImpl implements UserActivityRepositoryCustom {
+
+	// 실제 데이터로 센 활동 수 (%s 에는 회원 id 컬럼이 들어간다.)
+	private static final String POST_COUNT = "(SELECT COUNT(*) FROM post WHERE user_id = %s)";
+	private static final String COMMENT_COUNT = "(SELECT COUNT(*) FROM comment WHERE user_id = %s)";
+	private static final String LIKE_GIVEN_COUNT = "(SELECT COUNT(*) FROM post_like WHERE user_id = %s)";
+	private static final String LIKE_RECEIVED_COUNT = "(SELECT COUNT(*) FROM post_like pl "
+			+ "JOIN post p ON pl.post_id = p.id WHERE p.user_id = %s)";
+	private static final String REVIEW_COUNT = "(SELECT COUNT(*) FROM review WHERE user_id = %s)";
+	private static final String JOINED_CONTEST_COUNT = "(SELECT COUNT(*) FROM joined_contest WHERE user_id = %s)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 카운터를 증감한다. (아직 카운터가 만들어지지 않은 회원이라면 아무것도 하지 않으며, 처음 조회할 때 실제 데이터로 센다.)
+	 *
+	 * @param userAccountId 회원 id
+	 * @param type          카운터 종류
+	 * @param delta         증감할 값
+	 */
+	@Override
+	public void increase(Long userAccountId, UserActivityType type, long delta) {
+		String column = type.getColumn();
+		jdbcTemplate.update("UPDATE user_activity SET " + column + " = GREATEST(" + column + " + ?, 0) "
+				+ "WHERE user_account_id = ?", delta, userAccountId);
+	}
+
+	/**
+	 * 실제 데이터로 센 카운터를 만든다.
+	 *
+	 * @param userAccountId 회원 id
+	 */
+	@Override
+	public void insertCounted(Long userAccountId) {
+		jdbcTemplate.update("INSERT INTO user_activity (user_account_id, post_count, comment_count, "
+						+ "like_given_count, like_received_count, review_count, joined_contest_count) "
+						+ "SELECT id, " + String.join(", ", counts("id")) + " FROM user_account WHERE id = ?",
+				userAccountId);
+	}
+
+	/**
+	 * 회원들의 카운터를 batch 로 실제 데이터와 맞춘다. (게시글과 함께 여러 회원의 댓글, 좋아요가 지워졌을 때 사용한다.)
+	 *
+	 * @param userAccountIds 회원 id
+	 */
+	@Override
+	public void recount(Collection<Long> userAccountIds) {
+		if (userAccountIds.isEmpty()) {
+			return;
+		}
+		String[] counts = counts("?");
+		jdbcTemplate.batchUpdate("UPDATE user_activity SET "
+						+ "post_count = " + counts[0] + ", "
+						+ "comment_count = " + counts[1] + ", "
+						+ "like_given_count = " + counts[2] + ", "
+						+ "like_received_count = " + counts[3] + ", "
+						+ "review_count = " + counts[4] + ", "
+						+ "joined_contest_count = " + counts[5] + " "
+						+ "WHERE user_account_id = ?",
+				userAccountIds.stream()
+						.map(id -> new Object[] {id, id, id, id, id, id, id})
+						.toList());
+	}
+
+	/**
+	 * 모든 카운터를 실제 데이터와 맞추고 탈퇴한 회원의 카운터를 제거한다.
+	 *
+	 * @return 보정하거나 제거한 카운터 수
+	 */
+	@Override
+	public int syncCounts() {
+		String[] counts = counts("ua.user_account_id");
+		int deleted = jdbcTemplate.update("DELETE FROM user_activity "
+				+ "WHERE user_account_id NOT IN (SELECT id FROM user_account)");
+		int updated = jdbcTemplate.update("UPDATE user_activity ua SET "
+				+ "post_count = " + counts[0] + ", "
+				+ "comment_count = " + counts[1] + ", "
+				+ "like_given_count = " + counts[2] + ", "
+				+ "like_received_count = " + counts[3] + ", "
+				+ "review_count = " + counts[4] + ", "
+				+ "joined_contest_count = " + counts[5] + " "
+				+ "WHERE post_count <> " + counts[0]
+				+ " OR comment_count <> " + counts[1]
+				+ " OR like_given_count <> " + counts[2]
+				+ " OR like_received_count <> " + counts[3]
+				+ " OR review_count <> " + counts[4]
+				+ " OR joined_contest_count <> " + counts[5]);
+		return deleted + updated;
+	}
+
+	private static String[] counts(String userAccountId) {
+		return new String[] {
+				POST_COUNT.formatted(userAccountId),
+				COMMENT_COUNT.formatted(userAccountId),
+				LIKE_GIVEN_COUNT.formatted(userAccountId),
+				LIKE_RECEIVED_COUNT.formatted(userAccountId),
+				REVIEW_COUNT.formatted(userAccountId),
+				JOINED_CONTEST_COUNT.formatted(userAccountId)
+		};
+	}
+}
@@ -0,0 +1,113 @@
+package pulleydoreurae.careerquestbackend.auth.service;
+
+import java.util.Collection;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
+import pulleydoreurae.careerquestbackend.auth.domain.dto.response.UserActivityResponse;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserActivity;
+import pulleydoreurae.careerquestbackend.auth.repository.UserAccountRepository;
+import pulleydoreurae.careerquestbackend.auth.repository.UserActivityRepository;
+
+/**
+ * 회원 활동 카운터 Service
+ * <p>
+ * 게시글, 댓글, 후기 작성과 공모전 참여는 각 Service 가 같은 트랜잭션에서 카운터를 증감하고,
+ * 좋아요는 좋아요를 데이터베이스에 반영할 때 다시 센다.
+ * 카운터가 없는 회원은 처음 조회할 때 실제 데이터로 세어 만든다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserActivityService {
+
+	private final UserActivityRepository userActivityRepository;
+	private final UserAccountRepository userAccountRepository;
+
+	/**
+	 * 카운터를 1 증가시키는 메서드
+	 *
+	 * @param user 회원
+	 * @param type 카운터 종류
+	 */
+	public void increase(UserAccount user, UserActivityType type) {
+		userActivityRepository.increase(user.getId(), type, 1);
+	}
+
+	/**
+	 * 카운터를 1 감소시키는 메서드 (0 보다 작아지지 않는다.)
+	 *
+	 * @param user 회원
+	 * @param type 카운터 종류
+	 */
+	public void decrease(UserAccount user, UserActivityType type) {
+		userActivityRepository.increase(user.getId(), type, -1);
+	}
+
+	/**
+	 * 여러 회원의 카운터를 실제 데이터로 다시 세는 메서드
+	 *
+	 * @param userAccountIds 회원 id
+	 */
+	public void recount(Collection<Long> userAccountIds) {
+		userActivityRepository.recount(userAccountIds);
+	}
+
+	/**
+	 * 회원의 활동 수를 반환하는 메서드
+	 *
+	 * @param userId 회원 아이디
+	 * @return 활동 수
+	 */
+	public UserActivityResponse findActivity(String userId) {
+		Long userAccountId = userAccountRepository.findIdByUserId(userId)
+				.orElseThrow(() -> new UsernameNotFoundException("요청한 회원 정보를 찾을 수 없습니다."));
+		UserActivity activity = userActivityRepository.findById(userAccountId)
+				.orElseGet(() -> create(userAccountId));
+
+		return UserActivityResponse.builder()
+				.userId(userId)
+				.postCount(activity.getPostCount())
+				.commentCount(activity.getCommentCount())
+				.likeGivenCount(activity.getLikeGivenCount())
+				.likeReceivedCount(activity.getLikeReceivedCount())
+				.reviewCount(activity.getReviewCount())
+				.joinedContestCount(activity.getJoinedContestCount())
+				.build();
+	}
+
+	/**
+	 * 카운터를 실제 데이터와 맞추는 메서드 (매일 새벽 4시에 실행)
+	 * 반영 도중 실패했거나 데이터베이스에서 직접 수정된 값처럼 증감되지 않은 값을 보정한다.
+	 */
+	@Scheduled(cron = "0 0 4 * * *")
+	public void syncCounts() {
+		int updated = userActivityRepository.syncCounts();
+		if (updated > 0) {
+			log.warn("회원 활동 카운터가 어긋나 {} 건을 보정했습니다.", updated);
+		}
+	}
+
+	/**
+	 * 실제 데이터로 세어 카운터를 만든다. (동시에 만들어졌다면 먼저 만들어진 카운터를 사용한다.)
+	 */
+	private UserActivity create(Long userAccountId) {
+		try {
+			userActivityRepository.insertCounted(userAccountId);
+		} catch (DataIntegrityViolationException e) {
+			log.debug("이미 만들어진 회원 활동 카운터 userAccountId = {}", userAccountId);
+		}
+		return userActivityRepository.findById(userAccountId)
+				.orElseThrow(() -> new UsernameNotFoundException("요청한 회원 정보를 찾을 수 없습니다."));
+	}
+}
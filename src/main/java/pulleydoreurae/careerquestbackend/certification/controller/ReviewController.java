@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -23,6 +24,7 @@ import pulleydoreurae.careerquestbackend.certification.domain.dto.response.Revie
 import pulleydoreurae.careerquestbackend.certification.domain.dto.request.ReviewRequest;
 import pulleydoreurae.careerquestbackend.certification.domain.dto.response.ReviewResponse;
 import pulleydoreurae.careerquestbackend.certification.service.ReviewService;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.dto.response.SimpleResponse;
 
 /**
@@ -47,6 +49,17 @@ public class ReviewController {
 				.body(response);
 	}
 
+	@GetMapping("/certifications/reviews/cursor")
+	public ResponseEntity<CursorResponse<ReviewResponse>> getReviewListByCursor(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = "15") int limit) {
+
+		CursorResponse<ReviewResponse> response = reviewService.getReviewResponseListByCursor(cursor, limit);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(response);
+	}
+
 	@GetMapping("/certifications/reviews/{certificationName}")
 	public ResponseEntity<List<ReviewResponse>> getReviewListByCertificationName(
 			@PathVariable(name = "certificationName") String certificationName,
@@ -1,5 +1,7 @@
 package pulleydoreurae.careerquestbackend.certification.domain.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -25,6 +27,8 @@ public class ReviewResponse {
 	private String content; // 내용
 	private String certificationName; // 자격증명
 	private Long view; // 조회수
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long uniqueViewers; // 방문자 수 (근사치, 단건 조회에서만 전송된다.)
 	private Long postLikeCount; // 좋아요 수
 	private Boolean isLiked; // 좋아요 상태 ture -> O, false -> X
 	private String createdAt; // 작성일자
@@ -2,6 +2,8 @@ package pulleydoreurae.careerquestbackend.certification.domain.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -14,7 +16,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.common.entity.BaseEntity;
 
@@ -44,12 +45,19 @@ public class Review extends BaseEntity {
 	@Column(nullable = false)
 	private String content; // 내용
 
-	@Setter
-	@Column(nullable = false)
+	// 조회수는 ViewCountService 가 모아서 반영하므로 엔티티 수정으로 덮어쓰지 않는다.
+	@Column(nullable = false, updatable = false)
 	private Long view; // 조회수
 
 	@OneToMany(mappedBy = "review")
 	private List<ReviewLike> postLikes; // 좋아요
 
+	// 목록 조회시 좋아요를 매번 세지 않도록 개수를 컬럼으로 유지한다.
+	// 변경은 ReviewRepository 의 update 쿼리로만 하므로 엔티티 수정으로 덮어쓰지 않는다.
+	@Builder.Default
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long postLikeCount = 0L; // 좋아요 수
+
 	private String certificationName; // 자격증 이름
 }
@@ -0,0 +1,283 @@
+package pulleydoreurae.careerquestbackend.certification.index;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 메모리에 유지하는 자격증 이름 색인
+ * <p>
+ * 띄어쓰기와 대소문자를 무시한 부분 일치 외에 초성(ㅈㅂㅊㄹㄱㅅ)이나 초성이 섞인 검색어(정보ㅊㄹ)도 찾고,
+ * 찾지 못하면 BK-tree 로 편집거리(글자 단위)가 가까운 이름을 찾아 오타를 보정한다.
+ * 자격증은 관리자만 추가하므로 한번 만든 색인은 바꾸지 않고 새로 만들어 교체한다. (동시에 조회해도 안전하다.)
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public class CertificationNameIndex {
+
+	private static final char[] CHOSUNG = {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ',
+			'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+	private static final char SYLLABLE_START = '가';
+	private static final char SYLLABLE_END = '힣';
+	private static final int SYLLABLES_PER_CHOSUNG = 21 * 28; // 중성 21개 * 종성 28개(없음 포함)
+	private static final Comparator<Name> ORDER = Comparator.comparingInt((Name name) -> name.normalized().length())
+			.thenComparing(Name::original);
+
+	private final List<Name> names; // 짧은 이름 먼저
+	private final Map<String, Name> exact = new HashMap<>(); // 정규화한 이름 -> 이름
+	private BkNode root;
+
+	private CertificationNameIndex(List<Name> names) {
+		this.names = names;
+		names.forEach(name -> {
+			if (exact.putIfAbsent(name.normalized(), name) == null) {
+				insert(name);
+			}
+		});
+	}
+
+	/**
+	 * 자격증 이름으로 색인을 만드는 메서드
+	 *
+	 * @param certificationNames 자격증 이름 목록
+	 * @return 색인
+	 */
+	public static CertificationNameIndex of(Collection<String> certificationNames) {
+		List<Name> names = certificationNames.stream()
+				.filter(name -> name != null && !normalize(name).isEmpty())
+				.distinct()
+				.map(name -> new Name(name, normalize(name), chosung(normalize(name))))
+				.sorted(ORDER)
+				.toList();
+		return new CertificationNameIndex(names);
+	}
+
+	/**
+	 * 입력한 이름에 해당하는 자격증 이름을 하나 찾는 메서드
+	 * <p>
+	 * 띄어쓰기, 대소문자만 다른 이름 -> 초성이 모두 같은 이름 -> 오타 허용 범위 안에서 가장 가까운 이름 순서로 찾는다.
+	 * (여러 개라면 짧은 이름)
+	 *
+	 * @param query 입력한 이름
+	 * @return 자격증 이름 (없다면 empty)
+	 */
+	public Optional<String> findBest(String query) {
+		String normalized = normalize(query);
+		if (normalized.isEmpty()) {
+			return Optional.empty();
+		}
+		Name name = exact.get(normalized);
+		if (name != null) {
+			return Optional.of(name.original());
+		}
+		if (isChosungOnly(normalized)) {
+			return names.stream()
+					.filter(candidate -> candidate.chosung().equals(normalized))
+					.findFirst()
+					.map(Name::original);
+		}
+		return similar(normalized).stream().findFirst().map(Name::original);
+	}
+
+	/**
+	 * 입력한 검색어로 자격증 이름을 찾는 메서드
+	 * <p>
+	 * 부분 일치(초성 포함)하는 이름을 앞에서부터 일치하는 이름 먼저 반환하고, 없다면 오타 허용 범위 안의 이름을 가까운 순서로 반환한다.
+	 *
+	 * @param query 검색어
+	 * @return 자격증 이름 리스트
+	 */
+	public List<String> search(String query) {
+		String normalized = normalize(query);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+		boolean hasChosung = normalized.chars().anyMatch(c -> isChosung((char)c));
+		List<Name> prefixMatches = new ArrayList<>();
+		List<Name> matches = new ArrayList<>();
+		for (Name name : names) {
+			int index = indexOf(name, normalized, hasChosung);
+			if (index == 0) {
+				prefixMatches.add(name);
+			} else if (index > 0) {
+				matches.add(name);
+			}
+		}
+		if (prefixMatches.isEmpty() && matches.isEmpty()) {
+			return similar(normalized).stream().map(Name::original).toList();
+		}
+		Set<String> result = new LinkedHashSet<>();
+		prefixMatches.forEach(name -> result.add(name.original()));
+		matches.forEach(name -> result.add(name.original()));
+		return List.copyOf(result);
+	}
+
+	public int size() {
+		return names.size();
+	}
+
+	/**
+	 * 띄어쓰기를 모두 제거하고 소문자로 바꾼다. (한글 자모가 분리되어 들어온 경우는 합친다.)
+	 */
+	static String normalize(String value) {
+		if (value == null) {
+			return "";
+		}
+		return Normalizer.normalize(value, Normalizer.Form.NFC)
+				.replaceAll("\\s+", "")
+				.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 한글 음절을 초성으로 바꾼다. (정보처리기사 -> ㅈㅂㅊㄹㄱㅅ, 한글이 아닌 글자는 그대로 둔다.)
+	 */
+	static String chosung(String value) {
+		StringBuilder result = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			result.append(chosungOf(value.charAt(i)));
+		}
+		return result.toString();
+	}
+
+	private static char chosungOf(char c) {
+		if (c < SYLLABLE_START || c > SYLLABLE_END) {
+			return c;
+		}
+		return CHOSUNG[(c - SYLLABLE_START) / SYLLABLES_PER_CHOSUNG];
+	}
+
+	private static boolean isChosung(char c) {
+		return c >= 'ㄱ' && c <= 'ㅎ';
+	}
+
+	private static boolean isChosungOnly(String value) {
+		return value.chars().allMatch(c -> isChosung((char)c));
+	}
+
+	/**
+	 * 검색어가 처음 나오는 위치를 찾는다. 검색어의 초성은 이름의 같은 초성을 가진 음절과 일치하는 것으로 본다.
+	 *
+	 * @return 위치 (없다면 -1)
+	 */
+	private static int indexOf(Name name, String query, boolean hasChosung) {
+		if (!hasChosung) {
+			return name.normalized().indexOf(query);
+		}
+		String target = name.normalized();
+		for (int start = 0; start + query.length() <= target.length(); start++) {
+			int i = 0;
+			while (i < query.length() && matches(query.charAt(i), target.charAt(start + i))) {
+				i++;
+			}
+			if (i == query.length()) {
+				return start;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean matches(char query, char target) {
+		return query == target || (isChosung(query) && chosungOf(target) == query);
+	}
+
+	/**
+	 * 편집거리가 허용 범위 안인 이름을 가까운 순서로 찾는다. (거리가 같다면 짧은 이름 먼저)
+	 */
+	private List<Name> similar(String query) {
+		int maxDistance = maxDistance(query);
+		if (maxDistance == 0 || root == null) {
+			return List.of();
+		}
+		Map<Name, Integer> found = new HashMap<>();
+		Deque<BkNode> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			BkNode node = stack.pop();
+			int distance = distance(query, node.name.normalized());
+			if (distance <= maxDistance) {
+				found.put(node.name, distance);
+			}
+			// 삼각부등식에 따라 거리 차이가 허용 범위 안인 자식만 확인한다.
+			node.children.forEach((edge, child) -> {
+				if (Math.abs(edge - distance) <= maxDistance) {
+					stack.push(child);
+				}
+			});
+		}
+		return found.keySet().stream()
+				.sorted(Comparator.comparing((Name name) -> found.get(name)).thenComparing(ORDER))
+				.toList();
+	}
+
+	/**
+	 * 짧은 검색어는 오타를 보정하면 엉뚱한 이름이 나오므로 길이에 따라 허용하는 편집거리를 정한다.
+	 */
+	private static int maxDistance(String query) {
+		if (query.length() < 3) {
+			return 0;
+		}
+		return query.length() < 6 ? 1 : 2;
+	}
+
+	private void insert(Name name) {
+		if (root == null) {
+			root = new BkNode(name);
+			return;
+		}
+		BkNode node = root;
+		while (true) {
+			int distance = distance(name.normalized(), node.name.normalized());
+			BkNode child = node.children.get(distance);
+			if (child == null) {
+				node.children.put(distance, new BkNode(name));
+				return;
+			}
+			node = child;
+		}
+	}
+
+	/**
+	 * 글자 단위 편집거리 (Levenshtein)
+	 */
+	static int distance(String a, String b) {
+		int[] previous = new int[b.length() + 1];
+		int[] current = new int[b.length() + 1];
+		for (int j = 0; j <= b.length(); j++) {
+			previous[j] = j;
+		}
+		for (int i = 1; i <= a.length(); i++) {
+			current[0] = i;
+			for (int j = 1; j <= b.length(); j++) {
+				int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+				current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+			}
+			int[] temp = previous;
+			previous = current;
+			current = temp;
+		}
+		return previous[b.length()];
+	}
+
+	private record Name(String original, String normalized, String chosung) {
+	}
+
+	private static class BkNode {
+		private final Name name;
+		private final Map<Integer, BkNode> children = new HashMap<>();
+
+		private BkNode(Name name) {
+			this.name = name;
+		}
+	}
+}
@@ -1,12 +1,11 @@
 package pulleydoreurae.careerquestbackend.certification.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Certification;
 
@@ -21,6 +20,8 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
 
 	Optional<Certification> findByCertificationName(String name);
 
-	@Query("SELECT c FROM Certification c WHERE c.certificationName LIKE concat('%', :keyword, '%')")
-	Page<Certification> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+	List<Certification> findAllByCertificationNameIn(Collection<String> names);
+
+	@Query("select c.certificationName from Certification c")
+	List<String> findAllCertificationNames();
 }
@@ -1,11 +1,14 @@
 package pulleydoreurae.careerquestbackend.certification.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
@@ -28,4 +31,7 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
 	Optional<ReviewLike> findByReviewAndUserAccount(Review review, UserAccount userAccount);
 
 	boolean existsByReviewAndUserAccount(Review review, UserAccount userAccount);
+
+	@Query("select rl.review.id from ReviewLike rl where rl.userAccount.id = :userId and rl.review.id in :reviewIds")
+	List<Long> findLikedReviewIds(@Param("userId") Long userId, @Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -1,8 +1,14 @@
 package pulleydoreurae.careerquestbackend.certification.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,18 +21,38 @@ import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
  * @author : parkjihyeok
  * @since : 2024/05/24
  */
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRepositoryCustom {
 
+	@EntityGraph(attributePaths = "userAccount")
 	Page<Review> findAllByOrderByIdDesc(Pageable pageable);
 
+	// 커서 기반 조회 (count 쿼리 없이 limit + 1 개를 조회해 다음 내용 존재 여부를 확인한다.)
+	@EntityGraph(attributePaths = "userAccount")
+	Slice<Review> findAllByIdLessThanOrderByIdDesc(Long beforeId, Pageable pageable);
+
+	// 검색 색인 갱신용 (id 순으로 이어서 조회하므로 조회하는 중에 저장, 삭제되어도 건너뛰거나 두번 읽지 않는다.)
+	@EntityGraph(attributePaths = "userAccount")
+	List<Review> findAllByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
 	Page<Review> findAllByCertificationNameOrderByIdDesc(String certificationName, Pageable pageable);
 
 	Page<Review> findAllByUserAccountOrderByIdDesc(UserAccount userAccount, Pageable pageable);
 
-	@Query("SELECT r FROM Review r WHERE r.title LIKE concat('%', :keyword, '%') OR r.content LIKE concat('%', :keyword, '%')")
-	Page<Review> searchByKeyword(String keyword, Pageable pageable);
+	// 검색은 SearchIndexService 의 역색인으로 id 를 찾은 뒤 한번에 불러온다.
+	@EntityGraph(attributePaths = "userAccount")
+	List<Review> findAllByIdIn(Collection<Long> ids);
+
+	@Modifying
+	@Query("UPDATE Review r SET r.postLikeCount = r.postLikeCount + 1 WHERE r.id = :reviewId")
+	void increasePostLikeCount(@Param("reviewId") Long reviewId);
+
+	@Modifying
+	@Query("UPDATE Review r SET r.postLikeCount = r.postLikeCount - 1 WHERE r.id = :reviewId AND r.postLikeCount > 0")
+	void decreasePostLikeCount(@Param("reviewId") Long reviewId);
 
-	@Query("SELECT r FROM Review r WHERE r.certificationName = :certificationName AND (r.title LIKE concat('%', :keyword, '%') OR r.content LIKE concat('%', :keyword, '%'))")
-	Page<Review> searchByKeywordAndCertificationName(@Param("keyword") String keyword,
-			@Param("certificationName") String certificationName, Pageable pageable);
+	// 실제 좋아요 수와 어긋난 후기의 카운터만 다시 계산한다.
+	@Modifying
+	@Query("UPDATE Review r SET r.postLikeCount = (SELECT count(rl) FROM ReviewLike rl WHERE rl.review.id = r.id) "
+			+ "WHERE r.postLikeCount <> (SELECT count(rl) FROM ReviewLike rl WHERE rl.review.id = r.id)")
+	int syncCounts();
 }
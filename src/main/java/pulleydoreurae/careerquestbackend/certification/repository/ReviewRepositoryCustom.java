@@ -0,0 +1,14 @@
+package pulleydoreurae.careerquestbackend.certification.repository;
+
+import java.util.Map;
+
+/**
+ * 자격증 후기 엔티티를 JDBC 로 일괄 수정하기 위한 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface ReviewRepositoryCustom {
+
+	void increaseViews(Map<Long, Long> views);
+}
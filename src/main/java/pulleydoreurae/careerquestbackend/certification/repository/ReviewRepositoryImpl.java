@@ -0,0 +1,32 @@
+package pulleydoreurae.careerquestbackend.certification.repository;
+
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자격증 후기 엔티티 JDBC 일괄 수정 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 모아둔 조회수를 한번의 batch update 로 반영하는 메서드
+	 *
+	 * @param views 후기 id, 증가할 조회수
+	 */
+	@Override
+	public void increaseViews(Map<Long, Long> views) {
+		jdbcTemplate.batchUpdate("UPDATE review SET view = view + ? WHERE id = ?",
+				views.entrySet().stream()
+						.map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+						.toList());
+	}
+}
@@ -0,0 +1,104 @@
+package pulleydoreurae.careerquestbackend.certification.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.certification.domain.entity.Certification;
+import pulleydoreurae.careerquestbackend.certification.index.CertificationNameIndex;
+import pulleydoreurae.careerquestbackend.certification.repository.CertificationRepository;
+
+/**
+ * 자격증 이름 색인을 관리하는 Service
+ * <p>
+ * 초성이나 오타가 섞인 자격증 이름은 LIKE 검색과 이름 일치 조회로 찾을 수 없으므로 자격증 이름을 메모리 색인으로 유지한다.
+ * 서버가 시작할 때 색인을 만들고, 자격증은 관리자만 추가하므로 주기적으로 다시 만들어 교체한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CertificationIndexService {
+
+	private final CertificationRepository certificationRepository;
+
+	private volatile CertificationNameIndex nameIndex = CertificationNameIndex.of(List.of());
+
+	/**
+	 * 서버가 시작되면, 이후 1시간 간격으로 자격증 이름 색인을 다시 만드는 메서드
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(initialDelay = 1000 * 60 * 60, fixedDelay = 1000 * 60 * 60)
+	public void rebuild() {
+		long start = System.currentTimeMillis();
+		try {
+			nameIndex = CertificationNameIndex.of(certificationRepository.findAllCertificationNames());
+			log.info("자격증 이름 색인 생성 완료 ({}건, {}ms)", nameIndex.size(), System.currentTimeMillis() - start);
+		} catch (RuntimeException e) { // 실패하면 이전 색인을 계속 사용한다.
+			log.warn("자격증 이름 색인 생성 실패 {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 입력한 이름(띄어쓰기, 초성, 오타 포함)에 해당하는 자격증 이름을 찾는 메서드
+	 *
+	 * @param certificationName 입력한 이름
+	 * @return 자격증 이름 (없다면 empty)
+	 */
+	public Optional<String> resolveName(String certificationName) {
+		return nameIndex.findBest(certificationName);
+	}
+
+	/**
+	 * 자격증 이름 검색 (부분 일치, 초성 검색, 오타 보정)
+	 *
+	 * @param keyword 검색어
+	 * @return 자격증 이름 리스트 (앞에서부터 일치, 짧은 이름 먼저)
+	 */
+	public List<String> searchNames(String keyword) {
+		return nameIndex.search(keyword);
+	}
+
+	/**
+	 * 자격증 검색 (부분 일치, 초성 검색, 오타 보정)
+	 *
+	 * @param keyword  검색어
+	 * @param pageable 페이지
+	 * @return 색인의 순서(앞에서부터 일치, 짧은 이름 먼저)로 정렬한 자격증 페이지
+	 */
+	public Page<Certification> search(String keyword, Pageable pageable) {
+		List<String> names = nameIndex.search(keyword);
+		int from = (int)Math.min(pageable.getOffset(), names.size());
+		int to = Math.min(from + pageable.getPageSize(), names.size());
+		if (from == to) {
+			return new PageImpl<>(List.of(), pageable, names.size());
+		}
+
+		// 같은 이름의 자격증이 여러건이라도 이름마다 한건(id 가 가장 작은 자격증)만 사용해 페이지 크기를 이름 수와 맞춘다.
+		List<String> pageNames = names.subList(from, to);
+		Map<String, Certification> byName = certificationRepository.findAllByCertificationNameIn(pageNames).stream()
+				.collect(Collectors.toMap(Certification::getCertificationName, Function.identity(),
+						(first, second) -> first.getId() <= second.getId() ? first : second));
+		// 색인의 순서대로 정렬 (색인에는 남아있지만 이미 삭제된 자격증은 결과에서 빠진다.)
+		List<Certification> certifications = pageNames.stream()
+				.map(byName::get)
+				.filter(Objects::nonNull)
+				.toList();
+		return new PageImpl<>(certifications, pageable, names.size());
+	}
+}
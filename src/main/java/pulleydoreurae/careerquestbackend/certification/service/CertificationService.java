@@ -32,9 +32,11 @@ public class CertificationService {
 	private final CertificationRegistrationPeriodRepository certificationRegistrationPeriodRepository;
 	private final CertificationExamDateRepository certificationExamDateRepository;
 	private final AiService aiService;
+	private final CertificationIndexService certificationIndexService;
 
 	/**
 	 * 자격증 이름으로 자격증정보를 가져오는 메서드
+	 * (일치하는 이름이 없다면 띄어쓰기, 초성, 오타를 보정한 이름으로 다시 찾는다.)
 	 *
 	 * @param certificationName 자격증 이름
 	 * @return 자격증 정보
@@ -43,14 +45,21 @@ public class CertificationService {
 		Optional<Certification> byCertificationName = certificationRepository.findByCertificationName(
 				certificationName);
 
+		if (byCertificationName.isEmpty()) {
+			byCertificationName = certificationIndexService.resolveName(certificationName)
+					.filter(resolved -> !resolved.equals(certificationName))
+					.flatMap(certificationRepository::findByCertificationName);
+		}
+
 		if (byCertificationName.isEmpty()) {
 			throw new IllegalArgumentException("자격증 정보를 찾을 수 없습니다.");
 		}
 
 		Certification certification = byCertificationName.get();
+		String name = certification.getCertificationName(); // 보정된 이름일 수 있으므로 저장된 이름을 사용한다.
 
 		if (certification.getAiSummary() == null) { // 자격증 AI 요약이 비어있다면 AI요약 호출
-			AiRequest request = new AiRequest(certificationName, "cert_summary");
+			AiRequest request = new AiRequest(name, "cert_summary");
 			aiService.findResult(request);
 		}
 
@@ -63,7 +72,7 @@ public class CertificationService {
 				.aiSummary(certification.getAiSummary())
 				.build();
 
-		addDateInfo(certificationName, response);
+		addDateInfo(name, response);
 
 		return response;
 	}
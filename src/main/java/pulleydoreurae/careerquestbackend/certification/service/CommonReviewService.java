@@ -4,8 +4,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,10 +19,8 @@ import pulleydoreurae.careerquestbackend.certification.domain.dto.request.Review
 import pulleydoreurae.careerquestbackend.certification.domain.dto.response.ReviewResponse;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.ReviewLike;
-import pulleydoreurae.careerquestbackend.certification.domain.entity.ReviewViewCheck;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewLikeRepository;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
-import pulleydoreurae.careerquestbackend.certification.repository.ReviewViewCheckRepository;
 import pulleydoreurae.careerquestbackend.community.exception.PostLikeNotFoundException;
 import pulleydoreurae.careerquestbackend.community.exception.PostNotFoundException;
 
@@ -37,7 +37,6 @@ public class CommonReviewService {
 
 	private final ReviewRepository reviewRepository;
 	private final ReviewLikeRepository reviewLikeRepository;
-	private final ReviewViewCheckRepository reviewViewCheckRepository;
 
 	/**
 	 * 후기 id로 게시글을 찾아오는 메서드
@@ -56,25 +55,15 @@ public class CommonReviewService {
 	}
 
 	/**
-	 * 조회수 중복을 확인하기 위해 Optional 을 제거하는 메서드
-	 *
-	 * @param userId 키값
-	 * @return 제거한 결과 없으면 null, 있다면 해당 객체를 리턴
-	 */
-	public ReviewViewCheck findReviewViewCheck(String userId) {
-		Optional<ReviewViewCheck> reviewViewCheck = reviewViewCheckRepository.findById(userId);
-		return reviewViewCheck.orElse(null);
-	}
-
-	/**
-	 * 한 후기에 달린 좋아요를 세어주는 메서드
-	 *
-	 * @param reviewId 후기 id
-	 * @return 해당 게시글의 좋아요 수
+	 * 후기의 좋아요 수 카운터를 실제 데이터와 맞추는 메서드 (매일 새벽 4시에 실행)
 	 */
-	public Long countReviewLike(Long reviewId) {
-		Review review = findReview(reviewId);
-		return (long)reviewLikeRepository.findAllByReview(review).size();
+	@Transactional
+	@Scheduled(cron = "0 0 4 * * *")
+	public void syncCounts() {
+		int updated = reviewRepository.syncCounts();
+		if (updated > 0) {
+			log.warn("후기 카운터가 어긋나 {} 건을 보정했습니다.", updated);
+		}
 	}
 
 	/**
@@ -137,7 +126,7 @@ public class CommonReviewService {
 				.title(review.getTitle())
 				.content(review.getContent())
 				.view(review.getView())
-				.postLikeCount(countReviewLike(review.getId()))
+				.postLikeCount(review.getPostLikeCount())
 				.certificationName(review.getCertificationName())
 				.isLiked(isLiked)
 				.createdAt(review.getCreatedAt())
@@ -151,9 +140,9 @@ public class CommonReviewService {
 	 * @param reviewList 후기 엔티티 리스트
 	 * @return 후기 response 리스트
 	 */
-	public List<ReviewResponse> reviewListToReviewResponseList(Page<Review> reviewList) {
+	public List<ReviewResponse> reviewListToReviewResponseList(Slice<Review> reviewList) {
 		return reviewList.stream()
-				// 게시글 리스트를 반환할땐 좋아요 상태를 사용하지 않는다. (false 으로 지정)
+				// 좋아요 상태는 요청한 회원마다 다르므로 false 로 지정하고 Service 에서 페이지 단위로 채운다.
 				.map(review -> reviewToReviewResponse(review, false))
 				.toList();
 	}
@@ -193,6 +182,7 @@ public class CommonReviewService {
 				.content(reviewRequest.getContent())
 				.certificationName(reviewRequest.getCertificationName())
 				.view(review.getView()) // 조회수도 유지
+				.postLikeCount(review.getPostLikeCount()) // 좋아요 수도 유지
 				.postLikes(review.getPostLikes()) // 좋아요 리스트도 유지
 				.build();
 	}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
@@ -13,7 +14,10 @@ import pulleydoreurae.careerquestbackend.certification.domain.dto.response.Revie
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.ReviewLike;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewLikeRepository;
+import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
 
 /**
  * 자격증 좋아요 서비스 구현체
@@ -27,13 +31,16 @@ public class ReviewLikeService {
 
 	private final CommonReviewService commonReviewService;
 	private final ReviewLikeRepository reviewLikeRepository;
+	private final ReviewRepository reviewRepository;
 	private final CommonService commonService;
+	private final NotificationService notificationService;
 
 	/**
 	 * 좋아요 상태를 변경하는 메서드
 	 *
 	 * @param reviewLikeRequest 좋아요 요청 (isLiked 가 0일땐 증가, 1일땐 감소)
 	 */
+	@Transactional // 좋아요 변경과 후기의 좋아요 수 변경을 하나의 트랜잭션으로 묶음
 	public void changeReviewLike(ReviewLikeRequest reviewLikeRequest) {
 		UserAccount user = commonService.findUserAccount(reviewLikeRequest.getUserId(), true);
 		Review review = commonReviewService.findReview(reviewLikeRequest.getReviewId());
@@ -41,9 +48,13 @@ public class ReviewLikeService {
 		if (reviewLikeRequest.getIsLiked()) { // 감소
 			ReviewLike reviewLike = commonReviewService.findReviewLike(review, user);
 			reviewLikeRepository.delete(reviewLike);
+			reviewRepository.decreasePostLikeCount(review.getId());
 		} else { // 증가
 			ReviewLike reviewLike = makeReviewLike(user, review);
 			reviewLikeRepository.save(reviewLike);
+			reviewRepository.increasePostLikeCount(review.getId());
+			notificationService.notify(review.getUserAccount().getId(), NotificationType.REVIEW_LIKE, review.getId(),
+					user);
 		}
 	}
 
@@ -1,8 +1,11 @@
 package pulleydoreurae.careerquestbackend.certification.service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,15 +15,19 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
 import pulleydoreurae.careerquestbackend.certification.domain.dto.request.ReviewRequest;
 import pulleydoreurae.careerquestbackend.certification.domain.dto.response.ReviewResponse;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
-import pulleydoreurae.careerquestbackend.certification.domain.entity.ReviewViewCheck;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewLikeRepository;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
-import pulleydoreurae.careerquestbackend.certification.repository.ReviewViewCheckRepository;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
+import pulleydoreurae.careerquestbackend.common.service.ViewCountService;
+import pulleydoreurae.careerquestbackend.common.service.ViewHistoryService;
+import pulleydoreurae.careerquestbackend.search.service.SearchIndexService;
 
 /**
  * 자격증 후기 서비스 구현체
@@ -36,8 +43,11 @@ public class ReviewService {
 	private final CommonReviewService commonReviewService;
 	private final ReviewRepository reviewRepository;
 	private final ReviewLikeRepository reviewLikeRepository;
-	private final ReviewViewCheckRepository reviewViewCheckRepository;
 	private final CommonService commonService;
+	private final ViewCountService viewCountService;
+	private final ViewHistoryService viewHistoryService;
+	private final SearchIndexService searchIndexService;
+	private final UserActivityService userActivityService;
 
 	/**
 	 * 후기 리스트를 불러오는 메서드
@@ -46,7 +56,22 @@ public class ReviewService {
 	 * @return Repository 에서 가져온 리스트 반환
 	 */
 	public List<ReviewResponse> getPostResponseList(Pageable pageable) {
-		return commonReviewService.reviewListToReviewResponseList(reviewRepository.findAllByOrderByIdDesc(pageable));
+		return resolveIsLiked(
+				commonReviewService.reviewListToReviewResponseList(reviewRepository.findAllByOrderByIdDesc(pageable)));
+	}
+
+	/**
+	 * 후기 리스트를 커서 기반으로 불러오는 메서드 (count 쿼리를 실행하지 않는다.)
+	 *
+	 * @param cursor 이전 요청에서 전달받은 커서 (첫 요청이라면 null)
+	 * @param limit  조회할 개수
+	 * @return 후기 리스트와 다음 커서
+	 */
+	public CursorResponse<ReviewResponse> getReviewResponseListByCursor(String cursor, int limit) {
+		Slice<Review> reviews = reviewRepository.findAllByIdLessThanOrderByIdDesc(CursorResponse.decode(cursor),
+				CursorResponse.limit(limit));
+		return CursorResponse.of(resolveIsLiked(commonReviewService.reviewListToReviewResponseList(reviews)), reviews,
+				Review::getId);
 	}
 
 	/**
@@ -58,8 +83,8 @@ public class ReviewService {
 	 */
 	public List<ReviewResponse> getReviewResponseListByCertificationName(String certificationName, Pageable pageable) {
 
-		return commonReviewService.reviewListToReviewResponseList(
-				reviewRepository.findAllByCertificationNameOrderByIdDesc(certificationName, pageable));
+		return resolveIsLiked(commonReviewService.reviewListToReviewResponseList(
+				reviewRepository.findAllByCertificationNameOrderByIdDesc(certificationName, pageable)));
 	}
 
 	/**
@@ -72,8 +97,8 @@ public class ReviewService {
 	public List<ReviewResponse> getReviewListByUserAccount(String userId, Pageable pageable) {
 		UserAccount user = commonService.findUserAccount(userId, false);
 
-		return commonReviewService.reviewListToReviewResponseList(
-				reviewRepository.findAllByUserAccountOrderByIdDesc(user, pageable));
+		return resolveIsLiked(commonReviewService.reviewListToReviewResponseList(
+				reviewRepository.findAllByUserAccountOrderByIdDesc(user, pageable)));
 	}
 
 	/**
@@ -86,15 +111,9 @@ public class ReviewService {
 	 */
 	public List<ReviewResponse> searchPosts(String keyword, String certificationName, Pageable pageable) {
 
-		// 자격증명 없이 전체 검색
-		if (certificationName == null) {
-			return commonReviewService.reviewListToReviewResponseList(
-					reviewRepository.searchByKeyword(keyword, pageable));
-		}
-
-		// 자격증명 포함 검색
-		return commonReviewService.reviewListToReviewResponseList(
-				reviewRepository.searchByKeywordAndCertificationName(keyword, certificationName, pageable));
+		// 자격증명이 없다면 전체 검색, 있다면 자격증명 포함 검색
+		return resolveIsLiked(commonReviewService.reviewListToReviewResponseList(
+				searchIndexService.searchReviews(keyword, certificationName, pageable)));
 	}
 
 	/**
@@ -108,7 +127,11 @@ public class ReviewService {
 
 		String userId = checkView(request, response, reviewId, review);
 		// 게시글 단건 요청은 게시글 좋아요 정보가 필요하므로 좋아요 정보를 넘기기
-		return commonReviewService.reviewToReviewResponse(review, getIsLiked(userId, review));
+		ReviewResponse reviewResponse = commonReviewService.reviewToReviewResponse(review, getIsLiked(userId, review));
+		// 아직 데이터베이스에 반영되지 않은 조회수까지 더해서 반환
+		reviewResponse.setView(viewCountService.getReviewView(reviewId, review.getView()));
+		reviewResponse.setUniqueViewers(viewHistoryService.countReviewViewers(reviewId));
+		return reviewResponse;
 	}
 
 	/**
@@ -131,11 +154,8 @@ public class ReviewService {
 			name = commonReviewService.getUUID(request, response);
 		}
 
-		ReviewViewCheck reviewViewCheck = commonReviewService.findReviewViewCheck(name);
-		if (reviewViewCheck == null || !reviewViewCheck.getReviewId()
-				.equals(reviewId)) { // Redis 에 저장되어 있지 않다면 저장하고 조회수 증가
-			review.setView(review.getView() + 1); // 조회수 증가
-			reviewViewCheckRepository.save(mackReviewViewCheck(reviewId, name)); // 지정한 시간동안 저장
+		if (viewHistoryService.checkReviewView(reviewId, name)) { // 최근 10분 안에 조회한 기록이 없다면 조회수 증가
+			viewCountService.increaseReviewView(reviewId); // 조회수 증가 (모아서 주기적으로 반영)
 		}
 		return name;
 	}
@@ -154,6 +174,26 @@ public class ReviewService {
 		return reviewLikeRepository.existsByReviewAndUserAccount(review, user);
 	}
 
+	/**
+	 * 후기 리스트에 로그인한 회원의 좋아요 상태를 채우는 메서드 (IN 쿼리 한번으로 페이지 전체를 확인한다.)
+	 *
+	 * @param reviews 후기 리스트
+	 * @return 좋아요 상태를 채운 후기 리스트 (로그인하지 않았다면 그대로 반환)
+	 */
+	private List<ReviewResponse> resolveIsLiked(List<ReviewResponse> reviews) {
+		if (reviews.isEmpty()) {
+			return reviews;
+		}
+		Optional<Long> userAccountId = commonService.findAuthenticatedUserAccountId();
+		if (userAccountId.isEmpty()) {
+			return reviews;
+		}
+		Set<Long> liked = Set.copyOf(reviewLikeRepository.findLikedReviewIds(userAccountId.get(),
+				reviews.stream().map(ReviewResponse::getReviewId).toList()));
+		reviews.forEach(review -> review.setIsLiked(liked.contains(review.getReviewId())));
+		return reviews;
+	}
+
 	/**
 	 * 후기 저장 메서드
 	 *
@@ -163,6 +203,8 @@ public class ReviewService {
 		UserAccount user = commonService.findUserAccount(reviewRequest.getUserId(), true);
 		Review review = commonReviewService.reviewRequestToReview(reviewRequest, user);
 		reviewRepository.save(review);
+		searchIndexService.indexReview(review);
+		userActivityService.increase(user, UserActivityType.REVIEW);
 	}
 
 	/**
@@ -182,6 +224,7 @@ public class ReviewService {
 
 		Review updatedReview = commonReviewService.reviewRequestToReviewForUpdate(review, reviewRequest, user);
 		reviewRepository.save(updatedReview);
+		searchIndexService.indexReview(updatedReview);
 
 		return true;
 	}
@@ -201,18 +244,10 @@ public class ReviewService {
 			return false;
 		}
 		reviewRepository.deleteById(reviewId);
+		searchIndexService.removeReview(reviewId);
+		viewHistoryService.deleteReviewHistory(reviewId);
+		userActivityService.decrease(user, UserActivityType.REVIEW);
 
 		return true;
 	}
-
-	/**
-	 * 조회수 생성하기
-	 *
-	 * @param reviewId 게시글 정보
-	 * @param name     UUID값
-	 * @return 조회수
-	 */
-	public ReviewViewCheck mackReviewViewCheck(Long reviewId, String name) {
-		return new ReviewViewCheck(name, reviewId);
-	}
 }
@@ -0,0 +1,82 @@
+package pulleydoreurae.careerquestbackend.common.dto.response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지 Response
+ * <p>
+ * 무한 스크롤 목록은 마지막으로 받은 id 보다 작은 id 를 limit 만큼 조회하므로 offset 과 상관없이 일정한 비용으로 불러온다.
+ * 다음 요청에는 nextCursor 를 그대로 전달하면 되며, 더 불러올 내용이 없다면 nextCursor 는 null 이다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+	public static final int MAX_LIMIT = 100;
+
+	private List<T> content; // 조회 결과
+	private String nextCursor; // 다음 요청에 사용할 커서
+	private boolean hasNext; // 다음 내용 존재 여부
+
+	/**
+	 * 조회 결과로 커서 Response 를 만드는 메서드
+	 *
+	 * @param content  Response 로 변환한 조회 결과
+	 * @param slice    Repository 에서 조회한 결과 (다음 내용 존재 여부와 마지막 id 를 사용한다.)
+	 * @param idGetter 엔티티의 id
+	 * @return 커서 Response
+	 */
+	public static <T, E> CursorResponse<T> of(List<T> content, Slice<E> slice, Function<E, Long> idGetter) {
+		if (!slice.hasNext() || slice.getContent().isEmpty()) {
+			return new CursorResponse<>(content, null, false);
+		}
+		Long lastId = idGetter.apply(slice.getContent().get(slice.getContent().size() - 1));
+		return new CursorResponse<>(content, encode(lastId), true);
+	}
+
+	/**
+	 * 커서를 id 로 바꾸는 메서드
+	 *
+	 * @param cursor 전달받은 커서 (첫 요청이라 없다면 가장 최신 내용부터 조회한다.)
+	 * @return 이 id 보다 작은 id 를 조회한다.
+	 */
+	public static Long decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return Long.MAX_VALUE;
+		}
+		try {
+			return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+		} catch (IllegalArgumentException e) { // NumberFormatException 포함
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+
+	/**
+	 * 조회할 개수로 count 쿼리 없이 사용할 페이지를 만드는 메서드 (1 ~ MAX_LIMIT 사이로 맞춘다.)
+	 *
+	 * @param limit 조회할 개수
+	 * @return 페이지 정보
+	 */
+	public static Pageable limit(int limit) {
+		return PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT)));
+	}
+
+	private static String encode(Long id) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -2,6 +2,7 @@ package pulleydoreurae.careerquestbackend.common.service;
 
 import java.util.Optional;
 
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -48,6 +49,20 @@ public class CommonService {
 		return findUser.get();
 	}
 
+	/**
+	 * 현재 로그인한 회원의 id 를 찾아오는 메서드 (회원 엔티티는 불러오지 않는다.)
+	 *
+	 * @return 로그인한 회원이라면 회원 id, 로그인하지 않았거나 회원정보를 찾을 수 없다면 빈 Optional
+	 */
+	public Optional<Long> findAuthenticatedUserAccountId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()
+				|| authentication instanceof AnonymousAuthenticationToken) {
+			return Optional.empty();
+		}
+		return userAccountRepository.findIdByUserId(authentication.getName());
+	}
+
 	/**
 	 * 요청자가 접근 권한이 있는지 확인하는 메서드
 	 *
@@ -2,56 +2,335 @@ package pulleydoreurae.careerquestbackend.common.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
 
 /**
  * 파일 입출력을 담당하는 Service
+ * <p>
+ * 파일은 내용의 SHA-256 값으로 저장하므로 같은 사진을 여러번 올려도 서버에는 한번만 저장된다.
+ * 파일마다 참조 수를 Redis 에 두고 게시글에 첨부할 때 증가, 첨부가 삭제될 때 감소시키며 참조 수가 0 이 되면 실제 파일을 삭제한다.
+ * 업로드만 하고 아직 첨부하지 않은 파일은 참조 수 대신 업로드 대기 목록(시간순)과 올린 회원의 업로드 목록에 남기고,
+ * 하루가 지나도록 첨부되지 않으면 삭제한다. (파일명은 내용으로 정해지므로 자신이 올린 파일만 첨부할 수 있도록 한다.)
+ * 참조 수는 여러 서버가 함께 사용하므로 확인과 증가, 감소와 제거를 하나의 스크립트로 처리하고,
+ * 이미 참조되는 파일이라도 이 서버에 파일이 없다면 (서버마다 디스크를 따로 사용하는 경우) 이번에 받은 파일을 저장한다.
  *
  * @author : parkjihyeok
  * @since : 2024/04/10
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class FileManagementService {
 
+	static final String REFERENCE_KEY = "file:refs";
+	static final String PENDING_KEY = "file:pending"; // 첨부되지 않은 업로드 (파일명 -> 업로드 시간)
+	static final String UPLOADS_KEY_PREFIX = "file:uploads:"; // 회원별 업로드한 파일명
+	static final Duration PENDING_TTL = Duration.ofDays(1); // 이 시간 안에 첨부하지 않으면 삭제한다.
+	private static final int UPLOAD_THREADS = 4;
+	private static final int LOCK_STRIPES = 64;
+
+	/**
+	 * KEYS[1] 참조 수 Hash, KEYS[2] 업로드 대기 ZSet, ARGV[1..] 파일명
+	 * 모든 파일이 업로드 대기 중이거나 이미 참조되고 있을 때만 참조 수를 1 씩 증가시키고 1 을 반환한다. (아니라면 0)
+	 * 확인과 증가 사이에 만료된 업로드가 삭제되지 않도록 한번에 처리한다.
+	 */
+	static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+			for i = 1, #ARGV do
+				if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 0 and not redis.call('ZSCORE', KEYS[2], ARGV[i]) then
+					return 0
+				end
+			end
+			for i = 1, #ARGV do
+				redis.call('HINCRBY', KEYS[1], ARGV[i], 1)
+			end
+			return 1
+			""", Long.class);
+
+	/**
+	 * KEYS[1] 참조 수 Hash, KEYS[2] 업로드 대기 ZSet, ARGV[1] 파일명
+	 * 참조 수를 1 감소시키고 0 이하가 되면 필드를 제거한다. (감소 후 참조 수를 반환한다.)
+	 * 참조 수가 0 이 되었더라도 아직 첨부되지 않은 업로드가 있다면 파일을 남기도록 1 을 반환한다.
+	 * 감소와 제거 사이에 다른 서버가 증가시킨 참조 수를 지우지 않도록 한번에 처리한다.
+	 */
+	static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+			local references = redis.call('HINCRBY', KEYS[1], ARGV[1], -1)
+			if references <= 0 then
+				redis.call('HDEL', KEYS[1], ARGV[1])
+				if redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+					return 1
+				end
+			end
+			return references
+			""", Long.class);
+
+	/**
+	 * KEYS[1] 업로드 대기 ZSet, KEYS[2] 참조 수 Hash, ARGV[1] 기준 시간, ARGV[2] 파일명
+	 * 기준 시간 전에 올린 업로드라면 대기 목록에서 제거하고, 참조하는 곳도 없다면 1 을 반환한다. (실제 파일을 삭제해도 된다.)
+	 * 그 사이에 다시 업로드되었다면 업로드 시간이 바뀌므로 제거하지 않는다.
+	 */
+	static final RedisScript<Long> EXPIRE_SCRIPT = new DefaultRedisScript<>("""
+			local uploadedAt = redis.call('ZSCORE', KEYS[1], ARGV[2])
+			if not uploadedAt or tonumber(uploadedAt) > tonumber(ARGV[1]) then
+				return 0
+			end
+			redis.call('ZREM', KEYS[1], ARGV[2])
+			if tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0') > 0 then
+				return 0
+			end
+			return 1
+			""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	// 동시에 업로드되는 사진 수를 제한하고, 큐가 가득 차면 요청한 스레드에서 직접 처리한다.
+	private final ExecutorService uploadExecutor = new ThreadPoolExecutor(UPLOAD_THREADS, UPLOAD_THREADS,
+			0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(64), new ThreadPoolExecutor.CallerRunsPolicy());
+	// 이 서버에서 같은 파일에 대한 파일 이동, 삭제가 섞이지 않도록 파일명 별로 잠근다.
+	private final ReentrantLock[] locks = createLocks();
+
 	/**
 	 * 파일 저장 메서드
+	 * 전달받은 파일을 해시를 계산하면서 임시파일로 복사한 뒤, 이 서버에 같은 내용의 파일이 없을 때만 해시값으로 옮긴다.
+	 * 저장한 파일은 게시글에 첨부될 때까지 업로드 대기 목록에 남긴다. (참조 수는 첨부할 때 증가시킨다.)
 	 *
 	 * @param file 전달받은 이미지
-	 * @return 저장에 성공하면 true, 실패하면 false 리턴
+	 * @return 저장에 성공하면 저장된 파일명, 실패하면 null 리턴
 	 */
 	public String saveFile(MultipartFile file, String PATH) {
-		String uuid = UUID.randomUUID().toString();
-		String fileName = uuid + ":" + file.getOriginalFilename();
-		String filePath = PATH + fileName;
-		File imageDestination = new File(filePath);
-
+		Path temp = null;
 		try {
-			file.transferTo(imageDestination);
-		} catch (IOException e) {
+			temp = Files.createTempFile(Path.of(PATH).toAbsolutePath(), "upload-", ".tmp");
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+				 OutputStream out = Files.newOutputStream(temp)) {
+				in.transferTo(out);
+			}
+			String fileName = HexFormat.of().formatHex(digest.digest()) + extension(file.getOriginalFilename());
+
+			ReentrantLock lock = lockFor(fileName);
+			lock.lock();
+			try {
+				Path target = Path.of(PATH + fileName);
+				// 옮기기 전에 대기 목록에 넣어 그 사이에 참조 수가 0 이 된 같은 파일이 삭제되지 않도록 한다.
+				redisTemplate.opsForZSet().add(PENDING_KEY, fileName, System.currentTimeMillis());
+				// 처음 저장되는 내용이거나 다른 서버에만 저장된 내용이라면 임시파일을 옮긴다.
+				if (!Files.exists(target)) {
+					Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+				} else {
+					Files.delete(temp);
+				}
+			} finally {
+				lock.unlock();
+			}
+			return fileName;
+		} catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
 			log.error("이미지 업로드 실패 : {}", e.getMessage());
+			deleteQuietly(temp);
+			return null;
+		}
+	}
+
+	/**
+	 * 여러 파일을 병렬로 저장하고 올린 회원의 업로드 목록에 남기는 메서드
+	 * 한건이라도 실패하면 실패로 처리한다. (이미 저장한 파일은 첨부되지 않으므로 대기 시간이 지나면 삭제된다.)
+	 *
+	 * @param files    전달받은 이미지들
+	 * @param uploader 올린 회원 아이디
+	 * @return 모두 저장에 성공하면 전달받은 순서대로 저장된 파일명 리스트, 실패하면 null 리턴
+	 */
+	public List<String> saveFiles(List<MultipartFile> files, String PATH, String uploader) {
+		List<CompletableFuture<String>> futures = files.stream()
+				.map(file -> CompletableFuture.supplyAsync(() -> saveFile(file, PATH), uploadExecutor))
+				.toList();
+		List<String> fileNames = futures.stream().map(CompletableFuture::join).toList();
+
+		if (fileNames.contains(null)) {
 			return null;
 		}
-		return fileName;
+		if (!fileNames.isEmpty()) {
+			String key = UPLOADS_KEY_PREFIX + uploader;
+			redisTemplate.opsForSet().add(key, fileNames.toArray(String[]::new));
+			redisTemplate.expire(key, PENDING_TTL);
+		}
+		return fileNames;
+	}
+
+	/**
+	 * 회원이 올린 파일인지 확인하는 메서드 (대기 시간이 지나지 않은 업로드만 확인한다.)
+	 *
+	 * @param uploader  회원 아이디
+	 * @param fileNames 파일명 리스트
+	 * @return 모두 이 회원이 올린 파일이라면 true
+	 */
+	public boolean isUploadedBy(String uploader, List<String> fileNames) {
+		if (fileNames.isEmpty()) {
+			return true;
+		}
+		Set<String> uploads = redisTemplate.opsForSet().members(UPLOADS_KEY_PREFIX + uploader);
+		return uploads != null && uploads.containsAll(fileNames);
+	}
+
+	/**
+	 * 파일을 첨부할 때 참조 수를 증가시키는 메서드 (파일명마다 1 씩, 같은 파일명이 여러번 있다면 그만큼 증가)
+	 * 트랜잭션 안에서 호출되었다면 롤백될 때 다시 감소시킨다.
+	 *
+	 * @param fileNames 첨부한 파일명 리스트
+	 * @return 모두 업로드 대기 중이거나 이미 참조되는 파일이라 증가시켰다면 true, 하나라도 없다면 증가시키지 않고 false
+	 */
+	public boolean acquire(List<String> fileNames, String PATH) {
+		if (fileNames.isEmpty()) {
+			return true;
+		}
+		Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(REFERENCE_KEY, PENDING_KEY),
+				fileNames.toArray());
+		if (acquired == null || acquired != 1L) {
+			return false;
+		}
+		TransactionUtils.afterRollback(() -> deleteFile(fileNames, PATH));
+		return true;
+	}
+
+	/**
+	 * 대기 시간이 지나도록 첨부되지 않은 업로드를 정리하는 메서드
+	 * 대기 목록에서 제거하고, 참조하는 곳도 없다면 이 서버의 실제 파일을 삭제한다.
+	 *
+	 * @return 실제 파일을 삭제한 파일명 리스트
+	 */
+	public List<String> deleteExpiredUploads(String PATH) {
+		long expiredBefore = System.currentTimeMillis() - PENDING_TTL.toMillis();
+		Set<String> expired = redisTemplate.opsForZSet().rangeByScore(PENDING_KEY, 0, expiredBefore);
+		if (expired == null || expired.isEmpty()) {
+			return List.of();
+		}
+
+		List<String> deleted = new ArrayList<>();
+		expired.forEach(fileName -> {
+			ReentrantLock lock = lockFor(fileName);
+			lock.lock();
+			try {
+				Long unused = redisTemplate.execute(EXPIRE_SCRIPT, List.of(PENDING_KEY, REFERENCE_KEY),
+						String.valueOf(expiredBefore), fileName);
+				if (unused != null && unused == 1L) {
+					deleteSaved(fileName, PATH);
+					deleted.add(fileName);
+				}
+			} finally {
+				lock.unlock();
+			}
+		});
+		return deleted;
 	}
 
 	/**
-	 * 파일 삭제 메서드
+	 * 파일 삭제 메서드 (첨부가 삭제될 때 참조 수를 줄이고 더이상 사용하는 곳이 없다면 실제 파일을 삭제한다.)
 	 *
-	 * @param fileNames 저장된 파일명 리스트
+	 * @param fileNames 삭제된 첨부의 파일명 리스트
 	 */
 	public void deleteFile(List<String> fileNames, String PATH) {
 		fileNames.forEach(fileName -> {
-			if (!new File(PATH + fileName).delete()) {
-				// 파일 삭제에 실패하면 로그로 남기고 나중에 스크립트로 로그를 확인하고 삭제하기
-				log.error("파일 삭제 실패 fileName = {}", fileName);
+			ReentrantLock lock = lockFor(fileName);
+			lock.lock();
+			try {
+				if (release(fileName) > 0) {
+					return;
+				}
+				deleteSaved(fileName, PATH);
+			} finally {
+				lock.unlock();
 			}
 		});
 	}
+
+	@PreDestroy
+	public void shutdown() {
+		uploadExecutor.shutdown();
+	}
+
+	/**
+	 * 원본 파일명에서 확장자만 가져온다. (영문, 숫자가 아니거나 너무 긴 확장자는 사용하지 않는다.)
+	 */
+	static String extension(String originalFilename) {
+		if (originalFilename == null) {
+			return "";
+		}
+		int dot = originalFilename.lastIndexOf('.');
+		if (dot < 0) {
+			return "";
+		}
+		String extension = originalFilename.substring(dot + 1).toLowerCase();
+		if (extension.isEmpty() || extension.length() > 10 || !extension.matches("[a-z0-9]+")) {
+			return "";
+		}
+		return "." + extension;
+	}
+
+	/**
+	 * 참조 수를 1 감소시킨다. (0 이하가 되면 필드까지 제거한다.)
+	 *
+	 * @return 감소 후 참조 수 (첨부되지 않은 업로드가 남아있다면 1)
+	 */
+	private long release(String fileName) {
+		Long references = redisTemplate.execute(RELEASE_SCRIPT, List.of(REFERENCE_KEY, PENDING_KEY), fileName);
+		return references == null ? 0 : references;
+	}
+
+	private void deleteSaved(String fileName, String PATH) {
+		File saved = new File(PATH + fileName);
+		if (saved.exists() && !saved.delete()) { // 다른 서버에만 저장된 파일이라면 이 서버에는 없다.
+			// 파일 삭제에 실패하면 로그로 남기고 나중에 스크립트로 로그를 확인하고 삭제하기
+			log.error("파일 삭제 실패 fileName = {}", fileName);
+		}
+	}
+
+	private ReentrantLock lockFor(String fileName) {
+		return locks[Math.floorMod(fileName.hashCode(), LOCK_STRIPES)];
+	}
+
+	private static ReentrantLock[] createLocks() {
+		ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		return locks;
+	}
+
+	private void deleteQuietly(Path path) {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.error("임시파일 삭제 실패 path = {}", path);
+		}
+	}
 }
@@ -0,0 +1,89 @@
+package pulleydoreurae.careerquestbackend.common.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+
+/**
+ * 서버 메모리에 유지하는 색인의 변경을 다른 서버에 알리는 Service
+ * <p>
+ * 색인은 서버마다 따로 가지고 있으므로 한 서버에서 저장, 수정, 삭제한 내용을 Redis 채널로 알리고,
+ * 알림을 받은 서버는 데이터베이스에서 해당 id 를 다시 불러와 색인에 반영한다. (없다면 색인에서 제거)
+ * 메시지에는 대상과 id 만 담기 때문에 알림의 순서가 바뀌어도 마지막에는 데이터베이스와 같은 상태가 된다.
+ * 자신이 보낸 알림은 이미 반영했으므로 무시한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IndexSyncService {
+
+	public static final String CHANNEL = "index-changes";
+	private static final String DELIMITER = ":";
+
+	private final StringRedisTemplate redisTemplate;
+
+	private final String nodeId = UUID.randomUUID().toString(); // 자신이 보낸 알림을 구분하기 위한 서버 id
+	private final Map<String, Consumer<Long>> handlers = new ConcurrentHashMap<>();
+
+	/**
+	 * 다른 서버에서 대상이 변경되었을 때 실행할 작업을 등록하는 메서드
+	 *
+	 * @param target  색인 대상 (POST, REVIEW 등)
+	 * @param handler 변경된 id 를 받아 색인에 반영하는 작업
+	 */
+	public void register(String target, Consumer<Long> handler) {
+		handlers.put(target, handler);
+	}
+
+	/**
+	 * 변경을 알리는 메서드 (트랜잭션 안에서 호출되었다면 커밋된 후에 알리며, 실패해도 요청은 계속 처리한다.)
+	 *
+	 * @param target 색인 대상
+	 * @param id     변경된 id
+	 */
+	public void publish(String target, Long id) {
+		TransactionUtils.afterCommit(() -> {
+			try {
+				redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + target + DELIMITER + id);
+			} catch (RuntimeException e) {
+				log.warn("색인 변경 알림 발행 실패 {}:{} {}", target, id, e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * Redis 채널로 받은 변경을 색인에 반영하는 메서드
+	 *
+	 * @param message 변경 (서버 id:대상:id)
+	 */
+	public void receive(String message) {
+		String[] parts = message.split(DELIMITER);
+		if (parts.length != 3) {
+			log.warn("잘못된 색인 변경 알림 {}", message);
+			return;
+		}
+		if (nodeId.equals(parts[0])) {
+			return;
+		}
+		Consumer<Long> handler = handlers.get(parts[1]);
+		if (handler == null) {
+			return;
+		}
+		try {
+			handler.accept(Long.parseLong(parts[2]));
+		} catch (RuntimeException e) {
+			log.warn("색인 변경 반영 실패 {} {}", message, e.getMessage());
+		}
+	}
+}
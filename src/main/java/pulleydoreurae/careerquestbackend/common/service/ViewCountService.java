@@ -0,0 +1,106 @@
+package pulleydoreurae.careerquestbackend.common.service;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.common.utils.CountBuffer;
+
+/**
+ * 게시글, 후기의 조회수를 메모리에 모아두었다가 주기적으로 데이터베이스에 반영하는 Service
+ * 조회할 때마다 같은 행을 update 하면 인기 게시글에서 행 잠금 경합이 생기므로 조회수는 이 Service 를 통해서만 증가시킨다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+	private final PostRepository postRepository;
+	private final ReviewRepository reviewRepository;
+
+	private final CountBuffer<Long> postViews = new CountBuffer<>();
+	private final CountBuffer<Long> reviewViews = new CountBuffer<>();
+
+	/**
+	 * 게시글 조회수 증가
+	 *
+	 * @param postId 게시글 id
+	 */
+	public void increasePostView(Long postId) {
+		postViews.increase(postId);
+	}
+
+	/**
+	 * 아직 반영되지 않은 조회수를 포함한 게시글 조회수
+	 *
+	 * @param postId 게시글 id
+	 * @param view   데이터베이스에 저장된 조회수
+	 * @return 조회수
+	 */
+	public Long getPostView(Long postId, Long view) {
+		return view + postViews.pending(postId);
+	}
+
+	/**
+	 * 후기 조회수 증가
+	 *
+	 * @param reviewId 후기 id
+	 */
+	public void increaseReviewView(Long reviewId) {
+		reviewViews.increase(reviewId);
+	}
+
+	/**
+	 * 아직 반영되지 않은 조회수를 포함한 후기 조회수
+	 *
+	 * @param reviewId 후기 id
+	 * @param view     데이터베이스에 저장된 조회수
+	 * @return 조회수
+	 */
+	public Long getReviewView(Long reviewId, Long view) {
+		return view + reviewViews.pending(reviewId);
+	}
+
+	/**
+	 * 모아둔 조회수를 데이터베이스에 반영하는 메서드 (3초 간격으로 실행)
+	 */
+	@Scheduled(fixedDelay = 3000)
+	public void flush() {
+		flush(postViews, postRepository::increaseViews, false);
+		flush(reviewViews, reviewRepository::increaseViews, false);
+	}
+
+	/**
+	 * 서버가 종료될 때 남은 조회수를 모두 반영한다.
+	 */
+	@PreDestroy
+	public void flushAll() {
+		flush(postViews, postRepository::increaseViews, true);
+		flush(reviewViews, reviewRepository::increaseViews, true);
+	}
+
+	private void flush(CountBuffer<Long> buffer, Consumer<Map<Long, Long>> writer, boolean all) {
+		Map<Long, Long> views = buffer.drain(all);
+		if (views.isEmpty()) {
+			return;
+		}
+		try {
+			writer.accept(views);
+		} catch (Exception e) {
+			log.error("조회수 반영 실패, 다음 주기에 다시 시도합니다. {}", e.getMessage());
+			buffer.restore(views);
+		} finally {
+			buffer.flushed();
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package pulleydoreurae.careerquestbackend.common.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+
+/**
+ * 게시글, 후기의 중복 조회를 확인하고 방문자 수를 세는 Service
+ * <p>
+ * 게시글마다 10분 단위 구간의 Bloom filter(Redis 비트맵)를 두고 현재 구간과 직전 구간에서 방문 기록을 확인한다.
+ * 방문자 수와 상관없이 게시글당 비트맵 두개 크기로 메모리가 고정되며, 전체 방문자 수는 HyperLogLog 로 근사치를 센다.
+ * 비트맵은 만료시간이 지나면 사라지고 HyperLogLog 는 게시글, 후기가 삭제될 때 함께 삭제한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewHistoryService {
+
+	private static final long WINDOW_SECONDS = 60 * 10; // 10분 안에 같은 사용자가 조회한다면 조회수는 증가하지 않는다.
+	private static final int BITS = 1 << 17; // 구간당 16KB (방문자 1만명일 때 오탐률 약 0.5%)
+	private static final int HASHES = 4;
+
+	/**
+	 * KEYS[1] 현재 구간 비트맵, KEYS[2] 직전 구간 비트맵, KEYS[3] 방문자 HyperLogLog
+	 * ARGV[1] 비트맵 만료시간, ARGV[2] 방문자, ARGV[3..] 비트 위치
+	 * 처음 방문했다면 1, 이미 방문했다면 0 을 반환한다.
+	 */
+	private static final RedisScript<Long> CHECK_VIEW_SCRIPT = new DefaultRedisScript<>("""
+			local inCurrent = 1
+			local inPrevious = 1
+			for i = 3, #ARGV do
+				if redis.call('SETBIT', KEYS[1], ARGV[i], 1) == 0 then inCurrent = 0 end
+				if inPrevious == 1 and redis.call('GETBIT', KEYS[2], ARGV[i]) == 0 then inPrevious = 0 end
+			end
+			redis.call('EXPIRE', KEYS[1], ARGV[1])
+			redis.call('PFADD', KEYS[3], ARGV[2])
+			if inCurrent == 1 or inPrevious == 1 then return 0 end
+			return 1
+			""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 게시글을 처음 조회했는지 확인하고 방문 기록을 남기는 메서드
+	 *
+	 * @param postId 게시글 id
+	 * @param viewer 로그인 상태라면 userId, 로그인상태가 아니라면 UUID
+	 * @return 최근 10분 안에 조회한 기록이 없다면 true
+	 */
+	public boolean checkPostView(Long postId, String viewer) {
+		return checkView("post", postId, viewer);
+	}
+
+	/**
+	 * 후기를 처음 조회했는지 확인하고 방문 기록을 남기는 메서드
+	 *
+	 * @param reviewId 후기 id
+	 * @param viewer   로그인 상태라면 userId, 로그인상태가 아니라면 UUID
+	 * @return 최근 10분 안에 조회한 기록이 없다면 true
+	 */
+	public boolean checkReviewView(Long reviewId, String viewer) {
+		return checkView("review", reviewId, viewer);
+	}
+
+	/**
+	 * 게시글의 방문자 수 (근사치)
+	 *
+	 * @param postId 게시글 id
+	 * @return 방문자 수
+	 */
+	public Long countPostViewers(Long postId) {
+		return redisTemplate.opsForHyperLogLog().size(viewersKey("post", postId));
+	}
+
+	/**
+	 * 후기의 방문자 수 (근사치)
+	 *
+	 * @param reviewId 후기 id
+	 * @return 방문자 수
+	 */
+	public Long countReviewViewers(Long reviewId) {
+		return redisTemplate.opsForHyperLogLog().size(viewersKey("review", reviewId));
+	}
+
+	/**
+	 * 삭제된 게시글의 방문 기록을 삭제하는 메서드 (커밋된 후에 삭제한다.)
+	 *
+	 * @param postId 게시글 id
+	 */
+	public void deletePostHistory(Long postId) {
+		deleteHistory("post", postId);
+	}
+
+	/**
+	 * 삭제된 후기의 방문 기록을 삭제하는 메서드 (커밋된 후에 삭제한다.)
+	 *
+	 * @param reviewId 후기 id
+	 */
+	public void deleteReviewHistory(Long reviewId) {
+		deleteHistory("review", reviewId);
+	}
+
+	private void deleteHistory(String type, Long id) {
+		TransactionUtils.afterCommit(() -> {
+			long window = Instant.now().getEpochSecond() / WINDOW_SECONDS;
+			try {
+				redisTemplate.delete(
+						List.of(viewersKey(type, id), windowKey(type, id, window), windowKey(type, id, window - 1)));
+			} catch (RuntimeException e) {
+				log.warn("방문 기록 삭제 실패 {}:{} {}", type, id, e.getMessage());
+			}
+		});
+	}
+
+	private boolean checkView(String type, Long id, String viewer) {
+		long window = Instant.now().getEpochSecond() / WINDOW_SECONDS;
+
+		List<String> keys = List.of(windowKey(type, id, window), windowKey(type, id, window - 1), viewersKey(type, id));
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(Duration.ofSeconds(WINDOW_SECONDS * 2).toSeconds())); // 다음 구간까지 확인에 사용된다.
+		args.add(viewer);
+		for (long offset : offsets(viewer)) {
+			args.add(String.valueOf(offset));
+		}
+
+		Long result = redisTemplate.execute(CHECK_VIEW_SCRIPT, keys, args.toArray());
+		return result != null && result == 1L;
+	}
+
+	/**
+	 * 방문자의 비트 위치를 구하는 메서드 (하나의 64비트 해시를 나눠 HASHES 개의 위치를 만든다.)
+	 *
+	 * @param viewer 방문자
+	 * @return 비트 위치
+	 */
+	static long[] offsets(String viewer) {
+		long hash = hash(viewer);
+		int h1 = (int)hash;
+		int h2 = (int)(hash >>> 32);
+
+		long[] offsets = new long[HASHES];
+		for (int i = 0; i < HASHES; i++) {
+			offsets[i] = Math.floorMod(h1 + i * h2, BITS);
+		}
+		return offsets;
+	}
+
+	// FNV-1a 64비트 해시에 murmur3 의 마무리 연산을 더해 비트를 고르게 섞는다.
+	private static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	private String windowKey(String type, Long id, long window) {
+		return "viewed:" + type + ":" + id + ":" + window;
+	}
+
+	private String viewersKey(String type, Long id) {
+		return "viewers:" + type + ":" + id;
+	}
+}
@@ -0,0 +1,90 @@
+package pulleydoreurae.careerquestbackend.common.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키 별 LongAdder 로 횟수를 모아두었다가 주기적으로 꺼내서 반영하기 위한 버퍼
+ * 증가는 current 에만 한다. drain 은 current 를 retired 로 넘기고 한 주기 전에 넘겨둔 retired 를 꺼내기 때문에
+ * 교체 직전에 current 를 읽은 요청이 늦게 증가시키더라도 값이 유실되지 않는다.
+ *
+ * @param <K> 키 타입
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public class CountBuffer<K> {
+
+	private volatile Map<K, LongAdder> current = new ConcurrentHashMap<>();
+	private volatile Map<K, LongAdder> retired = new ConcurrentHashMap<>();
+	private volatile Map<K, Long> flushing = Map.of(); // 반영중인 값
+
+	public void increase(K key) {
+		current.computeIfAbsent(key, k -> new LongAdder()).increment();
+	}
+
+	/**
+	 * 아직 반영되지 않은 횟수
+	 *
+	 * @param key 키
+	 * @return 횟수
+	 */
+	public long pending(K key) {
+		return sum(current.get(key)) + sum(retired.get(key)) + flushing.getOrDefault(key, 0L);
+	}
+
+	/**
+	 * 반영할 횟수를 꺼내는 메서드
+	 *
+	 * @param all true 라면 current 까지 모두 꺼낸다. (종료시 사용)
+	 * @return 키 별 증가할 횟수
+	 */
+	public synchronized Map<K, Long> drain(boolean all) {
+		Map<K, Long> counts = new HashMap<>();
+		collect(retired, counts);
+		if (all) {
+			collect(current, counts);
+			retired = new ConcurrentHashMap<>();
+			current = new ConcurrentHashMap<>();
+		} else {
+			retired = current;
+			current = new ConcurrentHashMap<>();
+		}
+		flushing = counts;
+		return counts;
+	}
+
+	/**
+	 * 반영에 실패한 횟수를 다음 주기에 다시 반영하도록 되돌리는 메서드
+	 *
+	 * @param counts 반영에 실패한 횟수
+	 */
+	public void restore(Map<K, Long> counts) {
+		counts.forEach((key, count) -> current.computeIfAbsent(key, k -> new LongAdder()).add(count));
+	}
+
+	/**
+	 * 반영중인 값을 포함해 반영되지 않은 횟수가 없는지 확인하는 메서드
+	 */
+	public boolean isEmpty() {
+		return current.isEmpty() && retired.isEmpty() && flushing.isEmpty();
+	}
+
+	public void flushed() {
+		flushing = Map.of();
+	}
+
+	private void collect(Map<K, LongAdder> source, Map<K, Long> target) {
+		source.forEach((key, adder) -> {
+			long sum = adder.sum();
+			if (sum > 0) {
+				target.merge(key, sum, Long::sum);
+			}
+		});
+	}
+
+	private long sum(LongAdder adder) {
+		return adder == null ? 0 : adder.sum();
+	}
+}
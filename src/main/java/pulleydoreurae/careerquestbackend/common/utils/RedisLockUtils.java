@@ -0,0 +1,59 @@
+package pulleydoreurae.careerquestbackend.common.utils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 여러 서버가 같은 작업을 동시에 실행하지 않도록 Redis 로 잠그는 유틸
+ * <p>
+ * 잠글 때마다 새 토큰을 값으로 저장하고 토큰이 같을 때만 해제한다.
+ * 작업이 만료시간보다 오래 걸려 다른 서버가 잠갔더라도 그 잠금을 해제하지 않는다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public final class RedisLockUtils {
+
+	/**
+	 * KEYS[1] 잠금 키, ARGV[1] 토큰
+	 * 잠금 키의 값이 토큰과 같을 때만 삭제한다.
+	 */
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+			if redis.call('GET', KEYS[1]) == ARGV[1] then
+				return redis.call('DEL', KEYS[1])
+			end
+			return 0
+			""", Long.class);
+
+	private RedisLockUtils() {
+	}
+
+	/**
+	 * 잠금을 시도하는 메서드
+	 *
+	 * @param redisTemplate redisTemplate
+	 * @param key           잠금 키
+	 * @param ttl           만료시간 (서버가 해제하지 못하고 종료되어도 이 시간이 지나면 풀린다.)
+	 * @return 잠갔다면 해제할 때 사용할 토큰, 이미 잠겨있다면 null
+	 */
+	public static String tryLock(StringRedisTemplate redisTemplate, String key, Duration ttl) {
+		String token = UUID.randomUUID().toString();
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl)) ? token : null;
+	}
+
+	/**
+	 * 잠금을 해제하는 메서드 (토큰이 다르다면 다른 서버의 잠금이므로 해제하지 않는다.)
+	 *
+	 * @param redisTemplate redisTemplate
+	 * @param key           잠금 키
+	 * @param token         잠글 때 받은 토큰
+	 */
+	public static void unlock(StringRedisTemplate redisTemplate, String key, String token) {
+		redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+	}
+}
@@ -0,0 +1,55 @@
+package pulleydoreurae.careerquestbackend.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public final class TransactionUtils {
+
+	private TransactionUtils() {
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되었다면 커밋된 후에 실행하고 아니라면 바로 실행한다.
+	 * (색인, 캐시처럼 데이터베이스 밖에 있는 상태에 롤백된 내용이 반영되지 않도록 한다.)
+	 *
+	 * @param task 실행할 작업
+	 */
+	public static void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	/**
+	 * 트랜잭션 안에서 호출되었다면 롤백된 후에 실행한다. (트랜잭션 밖이라면 되돌릴 내용이 없으므로 실행하지 않는다.)
+	 * (트랜잭션 안에서 먼저 반영한 데이터베이스 밖의 상태를 되돌릴 때 사용한다.)
+	 *
+	 * @param task 실행할 작업
+	 */
+	public static void afterRollback(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					task.run();
+				}
+			}
+		});
+	}
+}
@@ -15,10 +15,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.dto.response.SimpleResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.CommentRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.CommentFailResponse;
@@ -72,6 +74,25 @@ public class CommentController {
 				.body(comments);
 	}
 
+	/**
+	 * 게시글에 달린 댓글 조회 (커서 기반, 무한 스크롤용)
+	 *
+	 * @param postId 게시글 정보
+	 * @param cursor 이전 응답의 nextCursor (첫 요청이라면 생략)
+	 * @param limit  조회할 개수
+	 * @return 댓글 리스트와 다음 커서
+	 */
+	@GetMapping("/posts/{postId}/comments/cursor")
+	public ResponseEntity<CursorResponse<CommentResponse>> findAllByPostIdWithCursor(@PathVariable Long postId,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = "30") int limit) {
+
+		CursorResponse<CommentResponse> comments = commentService.findListByPostIdWithCursor(postId, cursor, limit);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(comments);
+	}
+
 	/**
 	 * 댓글 저장
 	 *
@@ -1,9 +1,8 @@
 package pulleydoreurae.careerquestbackend.community.controller;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -26,17 +25,21 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.dto.response.SimpleResponse;
+import pulleydoreurae.careerquestbackend.community.domain.ImageVariant;
 import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.ContestSearchRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.JoinContestRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.PostAndContestRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.PostRequest;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestFacetResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.JoinContestResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostFailResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
 import pulleydoreurae.careerquestbackend.community.service.ContestService;
+import pulleydoreurae.careerquestbackend.community.service.ImageServingService;
 import pulleydoreurae.careerquestbackend.community.service.PostService;
 
 /**
@@ -52,6 +55,7 @@ public class PostController {
 
 	private final PostService postService;
 	private final ContestService contestService;
+	private final ImageServingService imageServingService;
 
 	/**
 	 * 게시글 전체 조회
@@ -67,6 +71,24 @@ public class PostController {
 				.body(posts);
 	}
 
+	/**
+	 * 게시글 전체 조회 (커서 기반, 무한 스크롤용)
+	 *
+	 * @param cursor 이전 응답의 nextCursor (첫 요청이라면 생략)
+	 * @param limit  조회할 개수
+	 * @return 게시글 리스트와 다음 커서
+	 */
+	@GetMapping("/posts/cursor")
+	public ResponseEntity<CursorResponse<PostResponse>> getPostListByCursor(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = "15") int limit) {
+
+		CursorResponse<PostResponse> posts = postService.getPostResponseListByCursor(cursor, limit);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(posts);
+	}
+
 	/**
 	 * 카테고리별 게시글 조회
 	 *
@@ -84,6 +106,37 @@ public class PostController {
 				.body(posts);
 	}
 
+	/**
+	 * 인기 게시글 조회
+	 *
+	 * @param pageable 페이지 정보
+	 * @return 인기순으로 정렬한 게시글 리스트
+	 */
+	@GetMapping("/posts/trending")
+	public ResponseEntity<List<PostResponse>> getTrendingPosts(@PageableDefault(size = 15) Pageable pageable) {
+		List<PostResponse> posts = postService.getTrendingPosts(null, pageable);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(posts);
+	}
+
+	/**
+	 * 카테고리별 인기 게시글 조회
+	 *
+	 * @param postCategory 카테고리 정보
+	 * @param pageable     페이지 정보
+	 * @return 인기순으로 정렬한 게시글 리스트
+	 */
+	@GetMapping("/posts/trending/{postCategory}")
+	public ResponseEntity<List<PostResponse>> getTrendingPostsByCategory(@PathVariable PostCategory postCategory,
+			@PageableDefault(size = 15) Pageable pageable) {
+
+		List<PostResponse> posts = postService.getTrendingPosts(postCategory, pageable);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(posts);
+	}
+
 	/**
 	 * 작성자별 게시글 조회
 	 *
@@ -137,6 +190,20 @@ public class PostController {
 				.body(contests);
 	}
 
+	/**
+	 * 공모전 검색조건별 개수 조회
+	 *
+	 * @param contestSearchRequest 공모전 검색조건
+	 * @return 분야, 대상, 지역, 주관처별 개수
+	 */
+	@PostMapping("/contests/search/facets")
+	public ResponseEntity<ContestFacetResponse> searchContestFacets(
+			@RequestBody ContestSearchRequest contestSearchRequest) {
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(contestService.countBySearchRequest(contestSearchRequest));
+	}
+
 	/**
 	 * 게시글 단건 조회
 	 *
@@ -171,15 +238,18 @@ public class PostController {
 	}
 
 	/**
-	 * 사진 조회
+	 * 사진 조회 (ETag, Last-Modified, Range 요청 지원)
 	 *
 	 * @param fileName 사진 정보
-	 * @return 사진 경로
-	 * @throws MalformedURLException 사진 정보를 찾지 못했을 경우
+	 * @param variant  크기별 변형 (thumbnail, medium / 생략하면 원본)
+	 * @param request  요청
+	 * @param response 응답
+	 * @throws IOException 사진 정보를 찾지 못했을 경우 MalformedURLException
 	 */
 	@GetMapping("/posts/images/{fileName}")
-	public Resource getImage(@PathVariable String fileName) throws MalformedURLException {
-		return postService.getImageResource(fileName);
+	public void getImage(@PathVariable String fileName, @RequestParam(required = false) String variant,
+			HttpServletRequest request, HttpServletResponse response) throws IOException {
+		imageServingService.serve(fileName, ImageVariant.from(variant), request, response);
 	}
 
 	/**
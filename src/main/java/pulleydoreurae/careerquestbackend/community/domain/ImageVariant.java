@@ -0,0 +1,84 @@
+package pulleydoreurae.careerquestbackend.community.domain;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+
+/**
+ * 게시글 사진의 크기별 변형
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+public enum ImageVariant {
+	THUMBNAIL("thumbnail", 320),
+	MEDIUM("medium", 1024);
+
+	private final String value; // 요청 파라미터, 파일명에 사용하는 값
+	private final int width; // 최대 너비 (원본이 더 작다면 원본 크기를 유지한다.)
+
+	ImageVariant(String value, int width) {
+		this.value = value;
+		this.width = width;
+	}
+
+	/**
+	 * 요청 파라미터로 변형을 찾는 메서드
+	 *
+	 * @param value 요청 파라미터
+	 * @return 일치하는 변형이 없다면 null
+	 */
+	public static ImageVariant from(String value) {
+		if (value == null) {
+			return null;
+		}
+		return Arrays.stream(values())
+				.filter(variant -> variant.value.equalsIgnoreCase(value.trim()))
+				.findFirst()
+				.orElse(null);
+	}
+
+	/**
+	 * 변형을 만드는 사진인지 확인하는 메서드
+	 * (gif 는 움직이는 사진일 수 있으므로 변형을 만들지 않고 원본을 사용한다.)
+	 *
+	 * @param fileName 원본 파일명
+	 * @return 변형을 만든다면 true
+	 */
+	public static boolean supports(String fileName) {
+		return !fileName.toLowerCase().endsWith(".gif");
+	}
+
+	/**
+	 * 사진 경로로 변형을 요청하는 경로를 만드는 메서드 (변형을 만들지 않는 사진이라면 원본 경로)
+	 *
+	 * @param image 사진 경로
+	 * @return 변형 경로
+	 */
+	public String urlOf(String image) {
+		return supports(image) ? image + "?variant=" + value : image;
+	}
+
+	/**
+	 * 원본 파일명으로 변형 파일명을 만드는 메서드 (png 는 png 로, 나머지는 jpg 로 저장한다.)
+	 *
+	 * @param fileName 원본 파일명
+	 * @return 변형 파일명
+	 */
+	public String fileNameOf(String fileName) {
+		int dot = fileName.lastIndexOf('.');
+		String name = dot < 0 ? fileName : fileName.substring(0, dot);
+		return name + "_" + value + "." + formatOf(fileName);
+	}
+
+	/**
+	 * 변형을 저장할 이미지 형식
+	 *
+	 * @param fileName 원본 파일명
+	 * @return png 또는 jpg
+	 */
+	public static String formatOf(String fileName) {
+		return fileName.toLowerCase().endsWith(".png") ? "png" : "jpg";
+	}
+}
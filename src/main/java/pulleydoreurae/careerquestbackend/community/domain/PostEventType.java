@@ -0,0 +1,13 @@
+package pulleydoreurae.careerquestbackend.community.domain;
+
+/**
+ * 게시글 구독자에게 전송하는 이벤트 종류
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public enum PostEventType {
+	COMMENT_ADDED, // 댓글 작성
+	COMMENT_REMOVED, // 댓글 삭제
+	LIKE_CHANGED // 좋아요 수 변경
+}
@@ -0,0 +1,31 @@
+package pulleydoreurae.careerquestbackend.community.domain.dto.response;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pulleydoreurae.careerquestbackend.community.domain.ContestCategory;
+import pulleydoreurae.careerquestbackend.community.domain.Organizer;
+import pulleydoreurae.careerquestbackend.community.domain.Region;
+import pulleydoreurae.careerquestbackend.community.domain.Target;
+
+/**
+ * 공모전 검색조건별 개수를 담을 Response
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContestFacetResponse {
+
+	private Long total; // 검색조건에 맞는 전체 공모전 수
+	private Map<ContestCategory, Long> contestCategory; // 공모전 분야별 개수
+	private Map<Target, Long> target; // 대상별 개수
+	private Map<Region, Long> region; // 개최지역별 개수
+	private Map<Organizer, Long> organizer; // 주관처별 개수
+}
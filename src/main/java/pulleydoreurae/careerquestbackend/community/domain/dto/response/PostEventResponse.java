@@ -0,0 +1,33 @@
+package pulleydoreurae.careerquestbackend.community.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pulleydoreurae.careerquestbackend.community.domain.PostEventType;
+
+/**
+ * 게시글 구독자에게 전송하는 변경 이벤트 (이벤트 종류에 필요한 값만 채운다.)
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostEventResponse {
+
+	private PostEventType type; // 이벤트 종류
+	private Long postId; // 게시글 id
+	private Long commentId; // 작성, 삭제된 댓글 id
+	private String userId; // 댓글 작성자
+	private String content; // 댓글 내용
+	private String createdAt; // 댓글 작성일자
+	private Long postLikeCount; // 변경 후 좋아요 수
+}
@@ -2,10 +2,13 @@ package pulleydoreurae.careerquestbackend.community.domain.dto.response;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
 
@@ -18,6 +21,7 @@ import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode
 public class PostResponse {
@@ -27,7 +31,13 @@ public class PostResponse {
 	private String title; // 제목
 	private String content; // 내용
 	private List<String> images; // 사진 리스트
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private List<String> thumbnails; // 썸네일 사진 리스트 (목록에서 사용, 아직 만들어지지 않았다면 원본이 전송된다.)
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private List<String> mediums; // 중간 크기 사진 리스트 (상세 화면에서 사용, 아직 만들어지지 않았다면 원본이 전송된다.)
 	private Long view; // 조회수
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Long uniqueViewers; // 방문자 수 (근사치, 단건 조회에서만 전송된다.)
 	private Long commentCount; // 댓글 수
 	private Long postLikeCount; // 좋아요 수
 	private PostCategory postCategory; // 카테고리
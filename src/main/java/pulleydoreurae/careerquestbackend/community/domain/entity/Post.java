@@ -2,6 +2,8 @@ package pulleydoreurae.careerquestbackend.community.domain.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -16,7 +18,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
 import pulleydoreurae.careerquestbackend.common.entity.BaseEntity;
@@ -49,14 +50,26 @@ public class Post extends BaseEntity {
 	@Column(nullable = false)
 	private String content; // 내용
 
-	@Setter
-	@Column(nullable = false)
+	// 조회수는 ViewCountService 가 모아서 반영하므로 엔티티 수정으로 덮어쓰지 않는다.
+	@Column(nullable = false, updatable = false)
 	private Long view; // 조회수
 
 	@Column(nullable = false)
 	@Enumerated(value = EnumType.STRING)
 	private PostCategory postCategory; // 카테고리
 
+	// 목록 조회시 댓글, 좋아요를 매번 세지 않도록 개수를 컬럼으로 유지한다.
+	// 변경은 PostRepository 의 update 쿼리로만 하므로 엔티티 수정으로 덮어쓰지 않는다.
+	@Builder.Default
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long commentCount = 0L; // 댓글 수
+
+	@Builder.Default
+	@ColumnDefault("0")
+	@Column(nullable = false, updatable = false)
+	private Long postLikeCount = 0L; // 좋아요 수
+
 	// TODO: 2024/05/24 좋아요와 댓글의 경우 굳이 양방향 매핑할필요가 있는지 확인해보기
 	@OneToMany(mappedBy = "post")
 	private List<PostLike> postLikes; // 좋아요
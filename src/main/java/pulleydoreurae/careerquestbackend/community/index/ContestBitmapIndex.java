@@ -0,0 +1,220 @@
+package pulleydoreurae.careerquestbackend.community.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import pulleydoreurae.careerquestbackend.community.domain.dto.request.ContestSearchRequest;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
+
+/**
+ * 메모리에 유지하는 공모전 비트맵 색인 (검색조건 값 -> 공모전 id 비트맵)
+ * <p>
+ * 분야, 대상, 지역, 주관처는 값의 종류가 적으므로 값마다 공모전 id 를 비트로 표시하고 검색조건은 비트 AND 로 처리한다.
+ * 총상금, 시작일, 종료일은 정렬된 맵(값 -> 비트맵)으로 유지해 범위에 포함된 비트맵만 OR 한다.
+ * 조회는 동시에, 수정은 하나씩 처리한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public class ContestBitmapIndex {
+
+	private final Map<Enum<?>, BitSet> bitmaps = new HashMap<>();
+	private final NavigableMap<Long, BitSet> prizes = new TreeMap<>();
+	private final NavigableMap<LocalDate, BitSet> startDates = new TreeMap<>();
+	private final NavigableMap<LocalDate, BitSet> endDates = new TreeMap<>();
+	private final Map<Integer, Document> documents = new HashMap<>();
+	private final BitSet all = new BitSet();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 공모전을 색인하는 메서드 (이미 색인된 공모전이라면 교체한다.)
+	 *
+	 * @param contest 공모전
+	 */
+	public void put(Contest contest) {
+		int id = Math.toIntExact(contest.getId());
+		Document document = new Document(
+				Stream.<Enum<?>>of(contest.getContestCategory(), contest.getTarget(), contest.getRegion(),
+								contest.getOrganizer())
+						.filter(Objects::nonNull)
+						.toList(),
+				contest.getTotalPrize(), contest.getStartDate(), contest.getEndDate());
+
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+			documents.put(id, document);
+			all.set(id);
+			document.values().forEach(value -> bitmaps.computeIfAbsent(value, key -> new BitSet()).set(id));
+			set(prizes, document.totalPrize(), id);
+			set(startDates, document.startDate(), id);
+			set(endDates, document.endDate(), id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 공모전을 색인에서 제거하는 메서드
+	 *
+	 * @param id 공모전 id
+	 */
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(Math.toIntExact(id));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색조건에 맞는 공모전 id 를 찾는 메서드 (and 검색)
+	 *
+	 * @param request  검색조건
+	 * @param pageable 페이지
+	 * @return 최신순(id 역순)으로 정렬한 공모전 id 페이지
+	 */
+	public Page<Long> search(ContestSearchRequest request, Pageable pageable) {
+		lock.readLock().lock();
+		try {
+			BitSet result = filter(request, null);
+			List<Long> ids = new ArrayList<>(pageable.getPageSize());
+			long skip = pageable.getOffset();
+			for (int id = result.length() - 1; id >= 0 && ids.size() < pageable.getPageSize();
+				 id = result.previousSetBit(id - 1)) {
+				if (skip > 0) {
+					skip--;
+					continue;
+				}
+				ids.add((long)id);
+			}
+			return new PageImpl<>(ids, pageable, result.cardinality());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색조건에 맞는 공모전을 facet 값별로 세는 메서드
+	 * <p>
+	 * 다른 값을 선택했을 때의 개수를 보여줄 수 있도록 세는 facet 자신의 검색조건은 제외하고 센다.
+	 *
+	 * @param request 검색조건
+	 * @param facet   셀 검색조건의 enum 타입 (ContestCategory, Target, Region, Organizer)
+	 * @return 값별 공모전 수 (모든 값을 포함한다.)
+	 */
+	public <E extends Enum<E>> Map<E, Long> countBy(ContestSearchRequest request, Class<E> facet) {
+		lock.readLock().lock();
+		try {
+			BitSet base = filter(request, facet);
+			Map<E, Long> counts = new EnumMap<>(facet);
+			for (E value : facet.getEnumConstants()) {
+				BitSet bitmap = bitmaps.get(value);
+				if (bitmap == null) {
+					counts.put(value, 0L);
+					continue;
+				}
+				BitSet matched = (BitSet)base.clone();
+				matched.and(bitmap);
+				counts.put(value, (long)matched.cardinality());
+			}
+			return counts;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색조건을 비트 연산으로 처리한다. (ContestRepositoryImpl 의 동적쿼리와 같은 조건)
+	 *
+	 * @param excluded 적용하지 않을 enum 검색조건 타입 (없다면 null)
+	 */
+	private BitSet filter(ContestSearchRequest request, Class<?> excluded) {
+		BitSet result = (BitSet)all.clone();
+		Stream.<Enum<?>>of(request.getContestCategory(), request.getTarget(), request.getRegion(), request.getOrganizer())
+				.filter(value -> value != null && value.getDeclaringClass() != excluded)
+				.forEach(value -> result.and(bitmaps.getOrDefault(value, new BitSet())));
+
+		// 총상금은 검색조건이 최소금액
+		if (request.getTotalPrize() != null && request.getTotalPrize() > 0) {
+			result.and(union(prizes.tailMap(request.getTotalPrize(), true).values()));
+		}
+		// 시작일이나 종료일이 기간에 포함된 공모전
+		if (request.getStartDate() != null && request.getEndDate() != null) {
+			if (request.getStartDate().isAfter(request.getEndDate())) {
+				result.clear();
+				return result;
+			}
+			BitSet dates = union(startDates.subMap(request.getStartDate(), true, request.getEndDate(), true).values());
+			dates.or(union(endDates.subMap(request.getStartDate(), true, request.getEndDate(), true).values()));
+			result.and(dates);
+		}
+		return result;
+	}
+
+	private void removeDocument(int id) {
+		Document document = documents.remove(id);
+		if (document == null) {
+			return;
+		}
+		all.clear(id);
+		document.values().forEach(value -> clear(bitmaps, value, id));
+		clear(prizes, document.totalPrize(), id);
+		clear(startDates, document.startDate(), id);
+		clear(endDates, document.endDate(), id);
+	}
+
+	private static BitSet union(Collection<BitSet> bitSets) {
+		BitSet result = new BitSet();
+		bitSets.forEach(result::or);
+		return result;
+	}
+
+	private static <K> void set(Map<K, BitSet> map, K key, int id) {
+		if (key != null) {
+			map.computeIfAbsent(key, k -> new BitSet()).set(id);
+		}
+	}
+
+	private static <K> void clear(Map<K, BitSet> map, K key, int id) {
+		if (key == null) {
+			return;
+		}
+		BitSet bitmap = map.get(key);
+		if (bitmap != null) {
+			bitmap.clear(id);
+			if (bitmap.isEmpty()) { // 비어있는 값은 제거해 범위 검색시 OR 할 비트맵 수를 줄인다.
+				map.remove(key);
+			}
+		}
+	}
+
+	private record Document(List<Enum<?>> values, Long totalPrize, LocalDate startDate, LocalDate endDate) {
+	}
+}
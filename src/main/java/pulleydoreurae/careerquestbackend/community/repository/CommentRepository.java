@@ -2,11 +2,14 @@ package pulleydoreurae.careerquestbackend.community.repository;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.CommentResponse;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 
@@ -18,9 +21,26 @@ import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
  */
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-	Page<Comment> findAllByUserAccountOrderByIdDesc(UserAccount userAccount, Pageable pageable);
-
-	Page<Comment> findAllByPostOrderByIdDesc(Post post, Pageable pageable);
+	// 커서 기반 조회 (count 쿼리 없이 limit + 1 개를 조회해 다음 내용 존재 여부를 확인한다.)
+	@EntityGraph(attributePaths = "userAccount")
+	Slice<Comment> findAllByPostAndIdLessThanOrderByIdDesc(Post post, Long beforeId, Pageable pageable);
 
 	List<Comment> findAllByPost(Post post);
+
+	// 목록 조회용 projection (엔티티를 만들지 않고 필요한 컬럼만 조회하며, count 쿼리도 실행하지 않는다.)
+	@Query("select new pulleydoreurae.careerquestbackend.community.domain.dto.response.CommentResponse("
+			+ "c.id, ua.userId, c.post.id, c.content, c.createdAt, c.modifiedAt) "
+			+ "from Comment c "
+			+ "join c.userAccount ua "
+			+ "where c.post.id = :postId "
+			+ "order by c.id desc")
+	List<CommentResponse> findResponsesByPostId(@Param("postId") Long postId, Pageable pageable);
+
+	@Query("select new pulleydoreurae.careerquestbackend.community.domain.dto.response.CommentResponse("
+			+ "c.id, ua.userId, c.post.id, c.content, c.createdAt, c.modifiedAt) "
+			+ "from Comment c "
+			+ "join c.userAccount ua "
+			+ "where ua.userId = :userId "
+			+ "order by c.id desc")
+	List<CommentResponse> findResponsesByUserId(@Param("userId") String userId, Pageable pageable);
 }
@@ -1,5 +1,7 @@
 package pulleydoreurae.careerquestbackend.community.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -22,6 +24,8 @@ public interface ContestRepository extends JpaRepository<Contest, Long>, Contest
 
 	void deleteByPostId(Long postId);
 
+	List<Contest> findAllByIdIn(Collection<Long> ids);
+
 	@Query("select c from Contest c join fetch c.post p where p.title LIKE concat('%', :keyword, '%')"
 			+ " OR p.content LIKE concat('%', :keyword, '%') order by p.id desc")
 	Page<Contest> findByKeyword(String keyword, Pageable pageable);
@@ -70,16 +70,16 @@ public class ContestRepositoryImpl implements ContestRepositoryCustom {
 				.limit(pageable.getPageSize())
 				.fetch();
 
-		// 전체 개수
-		long total = jpaQueryFactory
-				.selectFrom(contest)
+		// 전체 개수 (엔티티를 불러오지 않고 count 쿼리로 센다.)
+		Long total = jpaQueryFactory
+				.select(contest.count())
+				.from(contest)
 				.where(builder)
-				.fetch()
-				.size();
+				.fetchOne();
 
 		if (contests.isEmpty()) { // 검색결과가 없는 경우
 			return new PageImpl<>(List.of(), pageable, 0);
 		}
-		return new PageImpl<>(contests, pageable, total);
+		return new PageImpl<>(contests, pageable, total == null ? 0 : total);
 	}
 }
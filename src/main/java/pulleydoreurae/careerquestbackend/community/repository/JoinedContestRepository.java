@@ -4,8 +4,10 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.JoinContestResponse;
 import pulleydoreurae.careerquestbackend.community.domain.entity.JoinedContest;
 
 /**
@@ -16,13 +18,16 @@ import pulleydoreurae.careerquestbackend.community.domain.entity.JoinedContest;
  */
 public interface JoinedContestRepository extends JpaRepository<JoinedContest, Long> {
 
-	@Query("select jc from JoinedContest jc "
-			+ "join fetch jc.contest c "
-			+ "join fetch jc.contest.post p "
-			+ "join fetch jc.contest.post.userAccount ua "
-			+ "where jc.userAccount.userId = :userId "
-			+ "order by jc.id desc ")
-	List<JoinedContest> findByUserId(String userId);
+	// 목록 조회용 projection (공모전, 게시글, 회원 엔티티를 만들지 않는다.)
+	@Query("select new pulleydoreurae.careerquestbackend.community.domain.dto.response.JoinContestResponse("
+			+ "p.id, c.id, jc.id, ua.userId, p.title) "
+			+ "from JoinedContest jc "
+			+ "join jc.contest c "
+			+ "join c.post p "
+			+ "join jc.userAccount ua "
+			+ "where ua.userId = :userId "
+			+ "order by jc.id desc")
+	List<JoinContestResponse> findResponsesByUserId(@Param("userId") String userId);
 
-	void deleteByContestIdAndUserAccount(Long contestId, UserAccount userAccount);
+	long deleteByContestIdAndUserAccount(Long contestId, UserAccount userAccount);
 }
@@ -1,8 +1,12 @@
 package pulleydoreurae.careerquestbackend.community.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.community.domain.entity.PostImage;
@@ -13,11 +17,18 @@ import pulleydoreurae.careerquestbackend.community.domain.entity.PostImage;
  * @author : parkjihyeok
  * @since : 2024/04/09
  */
-public interface PostImageRepository extends JpaRepository<PostImage, Long> {
+public interface PostImageRepository extends JpaRepository<PostImage, Long>, PostImageRepositoryCustom {
 
 	List<PostImage> findAllByPost(Post post);
 
+	List<PostImage> findAllByPostIn(Collection<Post> posts);
+
 	void deleteByFileName(String fileName);
 
+	// 삭제한 행 수만큼 파일 참조 수를 줄이므로 삭제한 행 수를 반환한다. (다른 요청이 먼저 삭제한 행은 세지 않는다.)
+	@Modifying
+	@Query("delete from PostImage pi where pi.id in :ids")
+	int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
 	boolean existsByFileName(String fileName);
 }
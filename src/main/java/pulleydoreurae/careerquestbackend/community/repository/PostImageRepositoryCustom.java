@@ -0,0 +1,16 @@
+package pulleydoreurae.careerquestbackend.community.repository;
+
+import java.util.List;
+
+import pulleydoreurae.careerquestbackend.community.domain.entity.PostImage;
+
+/**
+ * 게시글 사진을 JDBC 로 일괄 저장하기 위한 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface PostImageRepositoryCustom {
+
+	void saveAllInBatch(List<PostImage> images);
+}
@@ -0,0 +1,40 @@
+package pulleydoreurae.careerquestbackend.community.repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.community.domain.entity.PostImage;
+
+/**
+ * 게시글 사진 JDBC 일괄 저장 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class PostImageRepositoryImpl implements PostImageRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 사진 정보를 한번의 batch insert 로 저장하는 메서드
+	 * (JPA 를 거치지 않으므로 BaseEntity 의 작성/수정 시간을 직접 넣는다.)
+	 *
+	 * @param images 저장할 사진 정보 (게시글은 이미 저장된 상태여야 한다.)
+	 */
+	@Override
+	public void saveAllInBatch(List<PostImage> images) {
+		if (images.isEmpty()) {
+			return;
+		}
+		String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm"));
+		jdbcTemplate.batchUpdate("INSERT INTO post_image (file_name, post_id, created_at, modified_at) VALUES (?, ?, ?, ?)",
+				images.stream()
+						.map(image -> new Object[] {image.getFileName(), image.getPost().getId(), now, now})
+						.toList());
+	}
+}
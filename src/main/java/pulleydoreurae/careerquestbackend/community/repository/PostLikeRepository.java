@@ -1,11 +1,15 @@
 package pulleydoreurae.careerquestbackend.community.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
@@ -17,15 +21,22 @@ import pulleydoreurae.careerquestbackend.community.domain.entity.PostLike;
  * @author : parkjihyeok
  * @since : 2024/04/02
  */
-public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
+public interface PostLikeRepository extends JpaRepository<PostLike, Long>, PostLikeRepositoryCustom {
 
 	Page<PostLike> findAllByPostOrderByIdDesc(Post post, Pageable pageable);
 
 	List<PostLike> findAllByPost(Post post);
 
+	@EntityGraph(attributePaths = {"post", "post.userAccount"})
 	Page<PostLike> findAllByUserAccountOrderByIdDesc(UserAccount userAccount, Pageable pageable);
 
 	Optional<PostLike> findByPostAndUserAccount(Post post, UserAccount userAccount);
 
 	boolean existsByPostAndUserAccount(Post post, UserAccount userAccount);
+
+	@Query("select pl.userAccount.id from PostLike pl where pl.post.id = :postId")
+	List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+	@Query("select pl.post.id from PostLike pl where pl.userAccount.id = :userId and pl.post.id in :postIds")
+	List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
 }
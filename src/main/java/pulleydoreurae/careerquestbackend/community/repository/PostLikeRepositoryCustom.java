@@ -0,0 +1,25 @@
+package pulleydoreurae.careerquestbackend.community.repository;
+
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 좋아요를 JDBC 로 일괄 반영하기 위한 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface PostLikeRepositoryCustom {
+
+	@Transactional
+	void applyChanges(List<Change> changes);
+
+	/**
+	 * 좋아요 변경 내역 (같은 게시글, 사용자의 마지막 상태만 남긴다.)
+	 *
+	 * @param liked true 라면 좋아요, false 라면 좋아요 취소
+	 */
+	record Change(Long postId, Long userId, boolean liked) {
+	}
+}
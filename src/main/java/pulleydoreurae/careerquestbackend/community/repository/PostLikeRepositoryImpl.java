@@ -0,0 +1,71 @@
+package pulleydoreurae.careerquestbackend.community.repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 좋아요 JDBC 일괄 반영 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class PostLikeRepositoryImpl implements PostLikeRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 좋아요 변경 내역을 batch 로 반영하고 변경된 게시글의 좋아요 수와 관련된 회원의 활동 카운터를 다시 센다.
+	 * 같은 내역을 다시 반영해도 결과가 같도록 기존 행을 지운 뒤 좋아요 상태인 행만 넣는다.
+	 * (이미 삭제된 게시글, 회원의 좋아요는 넣지 않는다.)
+	 *
+	 * @param changes 좋아요 변경 내역
+	 */
+	@Override
+	public void applyChanges(List<Change> changes) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm"));
+
+		jdbcTemplate.batchUpdate("DELETE FROM post_like WHERE post_id = ? AND user_id = ?",
+				changes.stream()
+						.map(change -> new Object[] {change.postId(), change.userId()})
+						.toList());
+		jdbcTemplate.batchUpdate("INSERT INTO post_like (post_id, user_id, created_at, modified_at) "
+						+ "SELECT p.id, u.id, ?, ? FROM post p, user_account u WHERE p.id = ? AND u.id = ?",
+				changes.stream()
+						.filter(Change::liked)
+						.map(change -> new Object[] {now, now, change.postId(), change.userId()})
+						.toList());
+		jdbcTemplate.batchUpdate("UPDATE post SET post_like_count = "
+						+ "(SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = ?) WHERE id = ?",
+				changes.stream()
+						.map(Change::postId)
+						.distinct()
+						.map(postId -> new Object[] {postId, postId})
+						.toList());
+		// 좋아요를 누른 회원과 게시글 작성자의 활동 카운터 (카운터가 없는 회원은 처음 조회할 때 센다.)
+		jdbcTemplate.batchUpdate("UPDATE user_activity SET like_given_count = "
+						+ "(SELECT COUNT(*) FROM post_like pl WHERE pl.user_id = ?) WHERE user_account_id = ?",
+				changes.stream()
+						.map(Change::userId)
+						.distinct()
+						.map(userId -> new Object[] {userId, userId})
+						.toList());
+		jdbcTemplate.batchUpdate("UPDATE user_activity SET like_received_count = "
+						+ "(SELECT COUNT(*) FROM post_like pl JOIN post p ON pl.post_id = p.id "
+						+ "WHERE p.user_id = user_activity.user_account_id) "
+						+ "WHERE user_account_id = (SELECT user_id FROM post WHERE id = ?)",
+				changes.stream()
+						.map(Change::postId)
+						.distinct()
+						.map(postId -> new Object[] {postId})
+						.toList());
+	}
+}
@@ -1,8 +1,14 @@
 package pulleydoreurae.careerquestbackend.community.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,18 +22,51 @@ import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
  * @author : parkjihyeok
  * @since : 2024/03/28
  */
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
+	// 리스트 조회시 작성자를 게시글마다 따로 불러오지 않도록 함께 조회한다.
+	@EntityGraph(attributePaths = "userAccount")
 	Page<Post> findAllByOrderByIdDesc(Pageable pageable);
 
+	// 커서 기반 조회 (count 쿼리 없이 limit + 1 개를 조회해 다음 내용 존재 여부를 확인한다.)
+	@EntityGraph(attributePaths = "userAccount")
+	Slice<Post> findAllByIdLessThanOrderByIdDesc(Long beforeId, Pageable pageable);
+
+	// 검색 색인 갱신용 (id 순으로 이어서 조회하므로 조회하는 중에 저장, 삭제되어도 건너뛰거나 두번 읽지 않는다.)
+	@EntityGraph(attributePaths = "userAccount")
+	List<Post> findAllByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+	@EntityGraph(attributePaths = "userAccount")
 	Page<Post> findAllByUserAccountOrderByIdDesc(UserAccount userAccount, Pageable pageable);
 
+	@EntityGraph(attributePaths = "userAccount")
 	Page<Post> findAllByPostCategoryOrderByIdDesc(PostCategory postCategory, Pageable pageable);
 
-	@Query("SELECT p FROM Post p WHERE p.title LIKE concat('%', :keyword, '%') OR p.content LIKE concat('%', :keyword, '%')")
-	Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+	// 검색은 SearchIndexService 의 역색인으로 id 를 찾은 뒤 한번에 불러온다.
+	@EntityGraph(attributePaths = "userAccount")
+	List<Post> findAllByIdIn(Collection<Long> ids);
+
+	@Modifying
+	@Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+	void increaseCommentCount(@Param("postId") Long postId);
+
+	@Modifying
+	@Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+	void decreaseCommentCount(@Param("postId") Long postId);
+
+	@Modifying
+	@Query("UPDATE Post p SET p.postLikeCount = p.postLikeCount + 1 WHERE p.id = :postId")
+	void increasePostLikeCount(@Param("postId") Long postId);
+
+	@Modifying
+	@Query("UPDATE Post p SET p.postLikeCount = p.postLikeCount - 1 WHERE p.id = :postId AND p.postLikeCount > 0")
+	void decreasePostLikeCount(@Param("postId") Long postId);
 
-	@Query("SELECT p FROM Post p WHERE p.postCategory = :category AND (p.title LIKE concat('%', :keyword, '%') OR p.content LIKE concat('%', :keyword, '%'))")
-	Page<Post> searchByKeywordAndCategory(@Param("keyword") String keyword,
-			@Param("category") PostCategory postCategory, Pageable pageable);
+	// 실제 댓글, 좋아요 수와 어긋난 게시글의 카운터만 다시 계산한다.
+	@Modifying
+	@Query("UPDATE Post p SET p.commentCount = (SELECT count(c) FROM Comment c WHERE c.post.id = p.id), "
+			+ "p.postLikeCount = (SELECT count(pl) FROM PostLike pl WHERE pl.post.id = p.id) "
+			+ "WHERE p.commentCount <> (SELECT count(c) FROM Comment c WHERE c.post.id = p.id) "
+			+ "OR p.postLikeCount <> (SELECT count(pl) FROM PostLike pl WHERE pl.post.id = p.id)")
+	int syncCounts();
 }
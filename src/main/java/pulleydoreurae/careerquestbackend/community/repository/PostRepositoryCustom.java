@@ -0,0 +1,20 @@
+package pulleydoreurae.careerquestbackend.community.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 엔티티를 JDBC 로 일괄 수정하기 위한 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface PostRepositoryCustom {
+
+	void increaseViews(Map<Long, Long> views);
+
+	@Transactional
+	List<Long> deleteCascade(Long postId);
+}
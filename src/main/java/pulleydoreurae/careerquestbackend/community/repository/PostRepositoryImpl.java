@@ -0,0 +1,62 @@
+package pulleydoreurae.careerquestbackend.community.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 엔티티 JDBC 일괄 수정 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class PostRepositoryImpl implements PostRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 모아둔 조회수를 한번의 batch update 로 반영하는 메서드
+	 *
+	 * @param views 게시글 id, 증가할 조회수
+	 */
+	@Override
+	public void increaseViews(Map<Long, Long> views) {
+		jdbcTemplate.batchUpdate("UPDATE post SET view = view + ? WHERE id = ?",
+				views.entrySet().stream()
+						.map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+						.toList());
+	}
+
+	/**
+	 * 게시글과 게시글에 속한 좋아요, 댓글, 사진, 공모전, 공모전 참여 정보를 함께 삭제하는 메서드
+	 * 엔티티를 불러오지 않고 테이블마다 한번의 DELETE 로 삭제하며, 외래키가 걸린 순서대로 지운다.
+	 * (사진 파일은 삭제하지 않으므로 호출한 쪽에서 파일명을 먼저 조회해야 한다.)
+	 *
+	 * @param postId 게시글 id
+	 * @return 활동 카운터를 다시 세야 하는 회원 id (작성자, 좋아요, 댓글, 공모전 참여 회원)
+	 */
+	@Override
+	public List<Long> deleteCascade(Long postId) {
+		List<Long> userAccountIds = jdbcTemplate.queryForList("SELECT user_id FROM post WHERE id = ? "
+						+ "UNION SELECT user_id FROM post_like WHERE post_id = ? "
+						+ "UNION SELECT user_id FROM comment WHERE post_id = ? "
+						+ "UNION SELECT jc.user_id FROM joined_contest jc JOIN contest c ON jc.contest_id = c.id "
+						+ "WHERE c.post_id = ?",
+				Long.class, postId, postId, postId, postId);
+
+		jdbcTemplate.update("DELETE FROM joined_contest WHERE contest_id IN "
+				+ "(SELECT id FROM contest WHERE post_id = ?)", postId);
+		jdbcTemplate.update("DELETE FROM contest WHERE post_id = ?", postId);
+		jdbcTemplate.update("DELETE FROM post_like WHERE post_id = ?", postId);
+		jdbcTemplate.update("DELETE FROM comment WHERE post_id = ?", postId);
+		jdbcTemplate.update("DELETE FROM post_image WHERE post_id = ?", postId);
+		jdbcTemplate.update("DELETE FROM post WHERE id = ?", postId);
+
+		return userAccountIds.stream().filter(Objects::nonNull).toList();
+	}
+}
@@ -3,16 +3,24 @@ package pulleydoreurae.careerquestbackend.community.service;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.CommentRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.CommentResponse;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.community.repository.CommentRepository;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
 
 /**
  * 댓글 Service
@@ -25,19 +33,32 @@ import pulleydoreurae.careerquestbackend.community.repository.CommentRepository;
 public class CommentService {
 
 	private final CommentRepository commentRepository;
+	private final PostRepository postRepository;
 	private final CommonCommunityService commonCommunityService;
 	private final CommonService commonService;
+	private final PostFeedCacheService postFeedCacheService;
+	private final TrendingPostService trendingPostService;
+	private final UserActivityService userActivityService;
+	private final PostEventService postEventService;
+	private final NotificationService notificationService;
 
 	/**
 	 * 댓글 저장 메서드
 	 *
 	 * @param commentRequest 댓글 요청
 	 */
+	@Transactional // 댓글 저장과 게시글의 댓글 수 증가를 하나의 트랜잭션으로 묶음
 	public void saveComment(CommentRequest commentRequest) {
 		UserAccount user = commonService.findUserAccount(commentRequest.getUserId(), true);
 		Post post = commonCommunityService.findPost(commentRequest.getPostId());
 		Comment comment = commentRequestToComment(commentRequest, user, post);
 		commentRepository.save(comment);
+		postRepository.increaseCommentCount(post.getId());
+		postFeedCacheService.evict(post.getPostCategory());
+		trendingPostService.recordComment(post);
+		userActivityService.increase(user, UserActivityType.COMMENT);
+		postEventService.publishCommentAdded(comment);
+		notificationService.notify(post.getUserAccount().getId(), NotificationType.COMMENT, post.getId(), user);
 	}
 
 	/**
@@ -71,6 +92,7 @@ public class CommentService {
 	 * @param userId    회원아이디
 	 * @return 삭제에 성공하면 true, 실패하면 false
 	 */
+	@Transactional // 댓글 삭제와 게시글의 댓글 수 감소를 하나의 트랜잭션으로 묶음
 	public boolean deleteComment(Long commentId, Long postId, String userId) {
 		UserAccount user = commonService.findUserAccount(userId, true);
 		Post post = commonCommunityService.findPost(postId);
@@ -83,6 +105,10 @@ public class CommentService {
 			return false;
 		}
 		commentRepository.deleteById(commentId);
+		postRepository.decreaseCommentCount(post.getId());
+		postFeedCacheService.evict(post.getPostCategory());
+		userActivityService.decrease(user, UserActivityType.COMMENT);
+		postEventService.publishCommentRemoved(post.getId(), commentId);
 		return true;
 	}
 
@@ -94,16 +120,29 @@ public class CommentService {
 	 * @return 댓글 리스트
 	 */
 	public List<CommentResponse> findListByPostId(Long postId, Pageable pageable) {
+		List<CommentResponse> comments = commentRepository.findResponsesByPostId(postId, pageable);
+		if (comments.isEmpty()) { // 댓글이 없을 때만 게시글이 존재하는지 확인한다.
+			commonCommunityService.findPost(postId);
+		}
+		return comments;
+	}
+
+	/**
+	 * 한 게시글에 작성된 댓글리스트를 커서 기반으로 반환하는 메서드 (count 쿼리를 실행하지 않는다.)
+	 *
+	 * @param postId 게시글 id
+	 * @param cursor 이전 요청에서 전달받은 커서 (첫 요청이라면 null)
+	 * @param limit  조회할 개수
+	 * @return 댓글 리스트와 다음 커서
+	 */
+	public CursorResponse<CommentResponse> findListByPostIdWithCursor(Long postId, String cursor, int limit) {
 		Post post = commonCommunityService.findPost(postId);
-		return commentRepository.findAllByPostOrderByIdDesc(post, pageable).stream()
-				.map(comment -> CommentResponse.builder()
-						.commentId(comment.getId())
-						.userId(comment.getUserAccount().getUserId())
-						.postId(comment.getPost().getId())
-						.content(comment.getContent())
-						.createdAt(comment.getCreatedAt())
-						.modifiedAt(comment.getModifiedAt())
-						.build()).toList();
+		Slice<Comment> comments = commentRepository.findAllByPostAndIdLessThanOrderByIdDesc(post,
+				CursorResponse.decode(cursor), CursorResponse.limit(limit));
+		List<CommentResponse> content = comments.stream()
+				.map(this::commentToCommentResponse)
+				.toList();
+		return CursorResponse.of(content, comments, Comment::getId);
 	}
 
 	/**
@@ -114,16 +153,28 @@ public class CommentService {
 	 * @return 댓글 리스트
 	 */
 	public List<CommentResponse> findListByUserAccount(String userId, Pageable pageable) {
-		UserAccount user = commonService.findUserAccount(userId, false);
-		return commentRepository.findAllByUserAccountOrderByIdDesc(user, pageable).stream()
-				.map(comment -> CommentResponse.builder()
-						.commentId(comment.getId())
-						.userId(comment.getUserAccount().getUserId())
-						.postId(comment.getPost().getId())
-						.content(comment.getContent())
-						.createdAt(comment.getCreatedAt())
-						.modifiedAt(comment.getModifiedAt())
-						.build()).toList();
+		List<CommentResponse> comments = commentRepository.findResponsesByUserId(userId, pageable);
+		if (comments.isEmpty()) { // 댓글이 없을 때만 회원이 존재하는지 확인한다.
+			commonService.findUserAccount(userId, false);
+		}
+		return comments;
+	}
+
+	/**
+	 * Comment -> CommentResponse 변환 메서드
+	 *
+	 * @param comment 댓글 엔티티
+	 * @return 댓글 response
+	 */
+	private CommentResponse commentToCommentResponse(Comment comment) {
+		return CommentResponse.builder()
+				.commentId(comment.getId())
+				.userId(comment.getUserAccount().getUserId())
+				.postId(comment.getPost().getId())
+				.content(comment.getContent())
+				.createdAt(comment.getCreatedAt())
+				.modifiedAt(comment.getModifiedAt())
+				.build();
 	}
 
 	/**
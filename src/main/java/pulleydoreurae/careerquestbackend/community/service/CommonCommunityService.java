@@ -1,12 +1,16 @@
 package pulleydoreurae.careerquestbackend.community.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,12 +18,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.community.domain.ImageVariant;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.PostRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.community.domain.entity.PostLike;
-import pulleydoreurae.careerquestbackend.community.domain.entity.PostViewCheck;
 import pulleydoreurae.careerquestbackend.community.exception.CommentNotFoundException;
 import pulleydoreurae.careerquestbackend.community.exception.PostLikeNotFoundException;
 import pulleydoreurae.careerquestbackend.community.exception.PostNotFoundException;
@@ -27,7 +31,6 @@ import pulleydoreurae.careerquestbackend.community.repository.CommentRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostImageRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
-import pulleydoreurae.careerquestbackend.community.repository.PostViewCheckRepository;
 
 /**
  * 커뮤니티에서 쟈주 사용되는 메서드 모음
@@ -41,7 +44,6 @@ import pulleydoreurae.careerquestbackend.community.repository.PostViewCheckRepos
 public class CommonCommunityService {
 
 	private final PostRepository postRepository;
-	private final PostViewCheckRepository postViewCheckRepository;
 	private final CommentRepository commentRepository;
 	private final PostLikeRepository postLikeRepository;
 	private final PostImageRepository postImageRepository;
@@ -57,15 +59,29 @@ public class CommonCommunityService {
 	 * @return 변환된 객체
 	 */
 	public PostResponse postToPostResponse(Post post, Boolean isLiked) {
+		return postToPostResponse(post, isLiked, postImageToStringList(post));
+	}
+
+	/**
+	 * 게시글 Entity -> 게시글 Response 변환 메서드 (사진 정보를 미리 조회한 경우 사용)
+	 *
+	 * @param post    게시글 정보
+	 * @param isLiked 좋아요 정보
+	 * @param images  사진 경로 리스트
+	 * @return 변환된 객체
+	 */
+	private PostResponse postToPostResponse(Post post, Boolean isLiked, List<String> images) {
 		return PostResponse.builder()
 				.postId(post.getId())
 				.userId(post.getUserAccount().getUserId())
 				.title(post.getTitle())
 				.content(post.getContent())
-				.images(postImageToStringList(post))
+				.images(images)
+				.thumbnails(images.stream().map(ImageVariant.THUMBNAIL::urlOf).toList())
+				.mediums(images.stream().map(ImageVariant.MEDIUM::urlOf).toList())
 				.view(post.getView())
-				.commentCount(countComment(post.getId()))
-				.postLikeCount(countPostLike(post.getId()))
+				.commentCount(post.getCommentCount())
+				.postLikeCount(post.getPostLikeCount())
 				.postCategory(post.getPostCategory())
 				.isLiked(isLiked)
 				.createdAt(post.getCreatedAt())
@@ -80,9 +96,29 @@ public class CommonCommunityService {
 	 * @return 게시글 response 리스트
 	 */
 	public List<PostResponse> postListToPostResponseList(Page<Post> postList) {
+		return postListToPostResponseList(postList.getContent());
+	}
+
+	/**
+	 * 게시글 엔티티 리스트 -> 게시글 response 리스트
+	 * 사진 정보는 게시글마다 조회하지 않고 한번의 IN 쿼리로 모아서 조회한다.
+	 * (작성자는 Repository 에서 함께 조회하고, 댓글 수와 좋아요 수는 게시글의 카운터를 사용한다.)
+	 *
+	 * @param postList 게시글 엔티티 리스트
+	 * @return 게시글 response 리스트
+	 */
+	public List<PostResponse> postListToPostResponseList(List<Post> postList) {
+		if (postList.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, List<String>> images = postImageRepository.findAllByPostIn(postList).stream()
+				.collect(Collectors.groupingBy(image -> image.getPost().getId(),
+						Collectors.mapping(image -> IMAGES_PATH + image.getFileName(), Collectors.toList())));
+
 		return postList.stream()
-				// 게시글 리스트를 반환할땐 좋아요 상태를 사용하지 않는다. (false 으로 지정)
-				.map(post -> postToPostResponse(post, false))
+				// 좋아요 상태는 요청한 회원마다 다르므로 false 로 지정하고 Service 에서 페이지 단위로 채운다.
+				.map(post -> postToPostResponse(post, false, images.getOrDefault(post.getId(), List.of())))
 				.toList();
 	}
 
@@ -119,36 +155,16 @@ public class CommonCommunityService {
 	}
 
 	/**
-	 * 조회수 중복을 확인하기 위해 Optional 을 제거하는 메서드
-	 *
-	 * @param userId 키값
-	 * @return 제거한 결과 없으면 null, 있다면 해당 객체를 리턴
-	 */
-	public PostViewCheck findPostViewCheck(String userId) {
-		Optional<PostViewCheck> findPostViewCheck = postViewCheckRepository.findById(userId);
-		return findPostViewCheck.orElse(null);
-	}
-
-	/**
-	 * 한 게시글에 달린 댓글을 세어주는 메서드
-	 *
-	 * @param postId 게시글 id
-	 * @return 해당 게시글의 댓글 수
-	 */
-	public Long countComment(Long postId) {
-		Post post = findPost(postId);
-		return (long)commentRepository.findAllByPost(post).size();
-	}
-
-	/**
-	 * 한 게시글에 달린 좋아요를 세어주는 메서드
-	 *
-	 * @param postId 게시글 id
-	 * @return 해당 게시글의 좋아요 수
+	 * 게시글의 댓글 수, 좋아요 수 카운터를 실제 데이터와 맞추는 메서드 (매일 새벽 4시에 실행)
+	 * 카운터는 update 쿼리로 증감하므로 실패나 직접적인 데이터 수정으로 어긋난 값을 보정한다.
 	 */
-	public Long countPostLike(Long postId) {
-		Post post = findPost(postId);
-		return (long)postLikeRepository.findAllByPost(post).size();
+	@Transactional
+	@Scheduled(cron = "0 0 4 * * *")
+	public void syncCounts() {
+		int updated = postRepository.syncCounts();
+		if (updated > 0) {
+			log.warn("게시글 카운터가 어긋나 {} 건을 보정했습니다.", updated);
+		}
 	}
 
 	/**
@@ -244,6 +260,8 @@ public class CommonCommunityService {
 				.content(postRequest.getContent())
 				.postCategory(postRequest.getPostCategory())
 				.view(post.getView()) // 조회수도 유지
+				.commentCount(post.getCommentCount()) // 댓글 수도 유지
+				.postLikeCount(post.getPostLikeCount()) // 좋아요 수도 유지
 				.comments(post.getComments()) // 댓글 리스트도 유지
 				.postLikes(post.getPostLikes()) // 좋아요 리스트도 유지
 				.build();
@@ -0,0 +1,147 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.service.IndexSyncService;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.community.domain.ContestCategory;
+import pulleydoreurae.careerquestbackend.community.domain.Organizer;
+import pulleydoreurae.careerquestbackend.community.domain.Region;
+import pulleydoreurae.careerquestbackend.community.domain.Target;
+import pulleydoreurae.careerquestbackend.community.domain.dto.request.ContestSearchRequest;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestFacetResponse;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
+import pulleydoreurae.careerquestbackend.community.index.ContestBitmapIndex;
+import pulleydoreurae.careerquestbackend.community.repository.ContestRepository;
+
+/**
+ * 공모전 검색 색인을 관리하는 Service
+ * <p>
+ * 검색조건 조합마다 동적쿼리와 전체 개수 쿼리를 실행하는 대신 비트맵 색인에서 id 와 개수를 구하고 해당 페이지의 공모전만 불러온다.
+ * 색인은 저장, 수정, 삭제가 커밋된 후에 반영하며 서버가 시작할 때 데이터베이스로부터 다시 만든다.
+ * 색인은 서버마다 따로 가지고 있으므로 변경된 id 를 다른 서버에도 알려 데이터베이스에서 다시 불러오도록 한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContestIndexService {
+
+	private static final int REBUILD_PAGE_SIZE = 500;
+	static final String CONTEST_TARGET = "CONTEST";
+
+	private final ContestRepository contestRepository;
+	private final IndexSyncService indexSyncService;
+
+	private final ContestBitmapIndex contestIndex = new ContestBitmapIndex();
+
+	/**
+	 * 다른 서버에서 변경된 공모전을 반영하도록 등록한다.
+	 */
+	@PostConstruct
+	public void registerSync() {
+		indexSyncService.register(CONTEST_TARGET, this::syncContest);
+	}
+
+	/**
+	 * 서버가 시작되면 데이터베이스의 공모전으로 색인을 만드는 메서드
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		long start = System.currentTimeMillis();
+		Page<Contest> page;
+		int number = 0;
+		do {
+			page = contestRepository.findAll(PageRequest.of(number++, REBUILD_PAGE_SIZE, Sort.by("id")));
+			page.forEach(contestIndex::put);
+		} while (page.hasNext());
+		log.info("공모전 색인 생성 완료 ({}건, {}ms)", contestIndex.size(), System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * 공모전을 색인하는 메서드 (저장, 수정시 호출)
+	 *
+	 * @param contest 공모전
+	 */
+	public void indexContest(Contest contest) {
+		TransactionUtils.afterCommit(() -> contestIndex.put(contest));
+		indexSyncService.publish(CONTEST_TARGET, contest.getId());
+	}
+
+	/**
+	 * 공모전을 색인에서 제거하는 메서드 (삭제시 호출)
+	 *
+	 * @param contestId 공모전 id
+	 */
+	public void removeContest(Long contestId) {
+		TransactionUtils.afterCommit(() -> contestIndex.remove(contestId));
+		indexSyncService.publish(CONTEST_TARGET, contestId);
+	}
+
+	/**
+	 * 다른 서버에서 변경된 공모전을 데이터베이스에서 다시 불러와 색인에 반영하는 메서드 (삭제되었다면 색인에서 제거한다.)
+	 *
+	 * @param contestId 공모전 id
+	 */
+	public void syncContest(Long contestId) {
+		contestRepository.findById(contestId)
+				.ifPresentOrElse(contestIndex::put, () -> contestIndex.remove(contestId));
+	}
+
+	/**
+	 * 공모전 검색
+	 *
+	 * @param request  검색조건
+	 * @param pageable 페이지
+	 * @return 최신순으로 정렬한 공모전 페이지
+	 */
+	public Page<Contest> search(ContestSearchRequest request, Pageable pageable) {
+		Page<Long> ids = contestIndex.search(request, pageable);
+		if (ids.isEmpty()) {
+			return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+		}
+
+		// 색인의 순서대로 정렬 (색인에는 남아있지만 이미 삭제된 공모전은 결과에서 빠진다.)
+		Map<Long, Integer> order = new HashMap<>();
+		for (Long id : ids.getContent()) {
+			order.put(id, order.size());
+		}
+		List<Contest> contests = contestRepository.findAllByIdIn(ids.getContent()).stream()
+				.sorted(Comparator.comparing(contest -> order.get(contest.getId())))
+				.toList();
+		return new PageImpl<>(contests, pageable, ids.getTotalElements());
+	}
+
+	/**
+	 * 검색조건별 공모전 수를 세는 메서드
+	 *
+	 * @param request 검색조건
+	 * @return 전체 개수와 분야, 대상, 지역, 주관처별 개수
+	 */
+	public ContestFacetResponse countFacets(ContestSearchRequest request) {
+		return ContestFacetResponse.builder()
+				.total(contestIndex.search(request, PageRequest.of(0, 1)).getTotalElements())
+				.contestCategory(contestIndex.countBy(request, ContestCategory.class))
+				.target(contestIndex.countBy(request, Target.class))
+				.region(contestIndex.countBy(request, Region.class))
+				.organizer(contestIndex.countBy(request, Organizer.class))
+				.build();
+	}
+}
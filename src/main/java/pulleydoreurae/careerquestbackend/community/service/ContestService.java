@@ -10,12 +10,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.ContestRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.ContestSearchRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.JoinContestRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.PostRequest;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestFacetResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.JoinContestResponse;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
@@ -26,6 +29,8 @@ import pulleydoreurae.careerquestbackend.community.exception.PostSaveException;
 import pulleydoreurae.careerquestbackend.community.repository.ContestRepository;
 import pulleydoreurae.careerquestbackend.community.repository.JoinedContestRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.search.domain.SearchTarget;
+import pulleydoreurae.careerquestbackend.search.service.SearchResultCacheService;
 
 /**
  * 공모전 서비스
@@ -43,6 +48,9 @@ public class ContestService {
 	private final CommonCommunityService commonCommunityService;
 	private final JoinedContestRepository joinedContestRepository;
 	private final CommonService commonService;
+	private final ContestIndexService contestIndexService;
+	private final SearchResultCacheService searchResultCacheService;
+	private final UserActivityService userActivityService;
 
 	/**
 	 * 게시글 + 공모전정보를 함께 저장하는 메서드 (하나의 트랜잭션으로 묶어 게시글 저장에 실패하면 공모전 저장에도 실패한다.)
@@ -70,6 +78,8 @@ public class ContestService {
 				.build();
 
 		contestRepository.save(contest);
+		contestIndexService.indexContest(contest);
+		searchResultCacheService.evict(SearchTarget.CONTEST);
 	}
 
 	/**
@@ -100,18 +110,20 @@ public class ContestService {
 				.build();
 
 		contestRepository.save(updatedContest);
+		contestIndexService.indexContest(updatedContest);
+		searchResultCacheService.evict(SearchTarget.CONTEST);
 	}
 
 	/**
 	 * 게시글과 공모전을 함께 삭제하는 메서드
+	 * (공모전과 공모전 참여 정보는 게시글 삭제에서 함께 삭제된다.)
 	 *
 	 * @param postId 게시글 정보
 	 * @param userId 작성자 정보
 	 */
 	@Transactional
 	public void delete(Long postId, String userId) {
-		postService.deletePost(postId, userId);
-		contestRepository.deleteByPostId(postId);
+		postService.deletePost(postId, userId); // 공모전 정보, 색인, 검색결과 캐시도 함께 정리된다.
 	}
 
 	/**
@@ -148,13 +160,13 @@ public class ContestService {
 	}
 
 	/**
-	 * 공모전 검색 조건으로 검색한 결과를 반환하는 메서드
+	 * 공모전 검색 조건으로 검색한 결과를 반환하는 메서드 (검색 색인에서 찾는다.)
 	 *
 	 * @param request 검색조건
 	 * @return 수행결과
 	 */
 	public List<ContestResponse> findBySearchRequest(ContestSearchRequest request, Pageable pageable) {
-		Page<Contest> bySearchRequest = contestRepository.findAllBySearchRequest(request, pageable);
+		Page<Contest> bySearchRequest = contestIndexService.search(request, pageable);
 
 		List<ContestResponse> response = new ArrayList<>();
 		bySearchRequest.forEach(contest -> {
@@ -173,6 +185,16 @@ public class ContestService {
 		return response;
 	}
 
+	/**
+	 * 공모전 검색 조건별 개수를 반환하는 메서드
+	 *
+	 * @param request 검색조건
+	 * @return 분야, 대상, 지역, 주관처별 개수
+	 */
+	public ContestFacetResponse countBySearchRequest(ContestSearchRequest request) {
+		return contestIndexService.countFacets(request);
+	}
+
 	/**
 	 * 공모전 참여 메서드
 	 *
@@ -183,6 +205,7 @@ public class ContestService {
 		UserAccount user = commonService.findUserAccount(request.getUserId(), true);
 		JoinedContest joinedContest = JoinedContest.builder().contest(contest).userAccount(user).build();
 		joinedContestRepository.save(joinedContest);
+		userActivityService.increase(user, UserActivityType.JOINED_CONTEST);
 	}
 
 	/**
@@ -193,7 +216,10 @@ public class ContestService {
 	public void removeFromJoinContest(JoinContestRequest request) {
 		Contest contest = findContest(request.getContestId());
 		UserAccount user = commonService.findUserAccount(request.getUserId(), true);
-		joinedContestRepository.deleteByContestIdAndUserAccount(contest.getId(), user);
+		// 참여하지 않은 공모전이라면 카운터를 줄이지 않는다.
+		if (joinedContestRepository.deleteByContestIdAndUserAccount(contest.getId(), user) > 0) {
+			userActivityService.decrease(user, UserActivityType.JOINED_CONTEST);
+		}
 	}
 
 	/**
@@ -203,17 +229,7 @@ public class ContestService {
 	 * @return 결과 리스트
 	 */
 	public List<JoinContestResponse> findJoinContest(String userId) {
-		return joinedContestRepository.findByUserId(userId)
-				.stream()
-				.map(jc ->
-						JoinContestResponse.builder()
-								.postId(jc.getContest().getPost().getId())
-								.contestId(jc.getContest().getId())
-								.joinContestId(jc.getId())
-								.userId(jc.getUserAccount().getUserId())
-								.title(jc.getContest().getPost().getTitle())
-								.build()
-				).toList();
+		return joinedContestRepository.findResponsesByUserId(userId);
 	}
 
 	/**
@@ -0,0 +1,284 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.community.domain.ImageVariant;
+import pulleydoreurae.careerquestbackend.community.repository.PostImageRepository;
+
+/**
+ * 게시글 사진을 전송하는 Service
+ * <p>
+ * 사진 요청은 게시글 요청보다 훨씬 많으므로 한번 확인한 사진의 정보(크기, 수정시간, ETag)를 메모리에 두고 데이터베이스 조회 없이 응답한다.
+ * 사진이 삭제되면 삭제한 서버의 캐시만 바로 비워지므로, 다른 서버도 캐시 시간이 지나면 데이터베이스를 다시 확인하도록 짧게 캐시한다.
+ * ETag, Last-Modified 로 변경되지 않은 사진은 304 로 응답하고, Range 요청은 요청한 부분만 전송한다.
+ * 파일 내용은 서블릿 컨테이너가 sendfile 을 지원하면 sendfile 로, 아니라면 FileChannel.transferTo 로 전송한다.
+ * 크기별 변형을 요청했지만 아직 만들어지지 않았다면 원본을 짧은 캐시 시간으로 대신 전송한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Service
+@RequiredArgsConstructor
+public class ImageServingService {
+
+	static final int MAX_CACHED_IMAGES = 10_000;
+	private static final long DEFAULT_CACHE_TTL_SECONDS = 60;
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+	// 내용의 해시값으로 저장된 파일은 내용이 바뀌지 않으므로 오래 캐시해도 된다.
+	private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+	private static final String DEFAULT_CACHE = "public, max-age=3600";
+	private static final String FALLBACK_CACHE = "public, max-age=60";
+
+	private final PostImageRepository postImageRepository;
+
+	@Value("${IMAGES_SAVE_PATH}")
+	protected String IMAGES_SAVE_PATH;
+
+	@Value("${images.metadata-cache-ttl-seconds:60}")
+	long cacheTtlSeconds = DEFAULT_CACHE_TTL_SECONDS; // 다른 서버에서 삭제된 사진은 최대 이 시간 동안 전송될 수 있다.
+
+	// 최근에 요청된 사진 정보 (LRU)
+	private final Map<String, CachedImage> cache = Collections.synchronizedMap(
+			new LinkedHashMap<>(256, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, CachedImage> eldest) {
+					return size() > MAX_CACHED_IMAGES;
+				}
+			});
+
+	/**
+	 * 사진을 응답으로 전송하는 메서드
+	 *
+	 * @param fileName 저장된 파일명
+	 * @param variant  요청한 변형 (null 이거나 gif 라면 원본)
+	 * @param request  요청
+	 * @param response 응답
+	 * @throws MalformedURLException 게시글에 등록된 사진이 아닌 경우 예외를 던진다.
+	 */
+	public void serve(String fileName, ImageVariant variant, HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		ImageMetadata image = findImage(fileName);
+		boolean fallback = false;
+		if (variant != null && ImageVariant.supports(fileName)) { // 변형을 만들지 않는 형식이라면 원본을 그대로 전송한다.
+			ImageMetadata variantImage = findVariant(fileName, variant);
+			fallback = variantImage == null;
+			image = fallback ? image : variantImage;
+		}
+
+		// If-None-Match, If-Modified-Since 를 확인하고 변경되지 않았다면 304 (ETag, Last-Modified 헤더도 여기서 설정된다.)
+		if (new ServletWebRequest(request, response).checkNotModified(image.eTag(), image.lastModified())) {
+			return;
+		}
+		response.setHeader(HttpHeaders.CACHE_CONTROL, fallback ? FALLBACK_CACHE : image.immutable() ? IMMUTABLE : DEFAULT_CACHE);
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		response.setContentType(image.contentType());
+
+		long start = 0;
+		long end = image.length() - 1;
+		String range = request.getHeader(HttpHeaders.RANGE);
+		if (range != null && isRangeApplicable(request, image)) {
+			List<HttpRange> ranges;
+			try {
+				ranges = HttpRange.parseRanges(range);
+			} catch (IllegalArgumentException e) {
+				ranges = List.of();
+			}
+			// 해석할 수 없거나 여러 구간을 요청했다면 Range 를 무시하고 전체를 전송한다. (RFC 9110 14.2)
+			if (ranges.size() == 1) {
+				HttpRange requested = ranges.get(0);
+				if (image.length() == 0 || requested.getRangeStart(image.length()) >= image.length()) {
+					response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.length());
+					return;
+				}
+				start = requested.getRangeStart(image.length());
+				end = requested.getRangeEnd(image.length());
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + image.length());
+			}
+		}
+		long count = end - start + 1;
+		response.setContentLengthLong(count);
+		if ("HEAD".equals(request.getMethod()) || count <= 0) {
+			return;
+		}
+
+		transfer(image, start, count, request, response);
+	}
+
+	/**
+	 * 사진 정보를 캐시에서 제거하는 메서드 (게시글 사진이 삭제되었을 때 호출)
+	 *
+	 * @param fileNames 삭제된 파일명 리스트
+	 */
+	public void evict(Collection<String> fileNames) {
+		fileNames.forEach(fileName -> {
+			cache.remove(fileName);
+			for (ImageVariant variant : ImageVariant.values()) {
+				cache.remove(variant.fileNameOf(fileName));
+			}
+		});
+	}
+
+	private ImageMetadata findImage(String fileName) throws MalformedURLException {
+		ImageMetadata cached = getCached(fileName);
+		if (cached != null) {
+			return cached;
+		}
+		if (!postImageRepository.existsByFileName(fileName)) {
+			throw new MalformedURLException("잘못된 URL 요청입니다.");
+		}
+		ImageMetadata image = readMetadata(fileName);
+		if (image == null) {
+			throw new MalformedURLException("잘못된 URL 요청입니다.");
+		}
+		return image;
+	}
+
+	/**
+	 * 변형 정보를 찾는 메서드 (원본이 게시글에 등록된 사진인지는 먼저 확인한 상태)
+	 *
+	 * @return 아직 만들어지지 않았다면 null
+	 */
+	private ImageMetadata findVariant(String fileName, ImageVariant variant) {
+		String variantFileName = variant.fileNameOf(fileName);
+		ImageMetadata cached = getCached(variantFileName);
+		if (cached != null) {
+			return cached;
+		}
+		return readMetadata(variantFileName);
+	}
+
+	/**
+	 * 캐시된 사진 정보를 찾는 메서드 (캐시 시간이 지났다면 제거하고 null 을 반환한다.)
+	 */
+	private ImageMetadata getCached(String fileName) {
+		CachedImage cached = cache.get(fileName);
+		if (cached == null) {
+			return null;
+		}
+		if (cached.expiresAt() <= System.currentTimeMillis()) {
+			cache.remove(fileName);
+			return null;
+		}
+		return cached.image();
+	}
+
+	private ImageMetadata readMetadata(String fileName) {
+		try {
+			Path path = Path.of(IMAGES_SAVE_PATH + fileName).toAbsolutePath();
+			ImageMetadata image = ImageMetadata.of(fileName, path, Files.size(path),
+					Files.getLastModifiedTime(path).toMillis());
+			cache.put(fileName, new CachedImage(image, System.currentTimeMillis() + cacheTtlSeconds * 1000));
+			return image;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * If-Range 가 있다면 사진이 변경되지 않았을 때만 Range 를 적용한다.
+	 */
+	private boolean isRangeApplicable(HttpServletRequest request, ImageMetadata image) {
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange == null) {
+			return true;
+		}
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			return ifRange.equals(image.eTag());
+		}
+		try {
+			long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+			return since >= image.lastModified() / 1000 * 1000;
+		} catch (IllegalArgumentException e) { // 날짜 형식이 잘못되었다면 전체를 전송한다.
+			return false;
+		}
+	}
+
+	private void transfer(ImageMetadata image, long start, long count, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		// 컨테이너가 sendfile 을 지원하면 파일 내용을 애플리케이션으로 읽지 않고 커널에서 바로 전송한다.
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, start + count);
+			return;
+		}
+
+		try (FileChannel file = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+			OutputStream out = response.getOutputStream();
+			WritableByteChannel channel = Channels.newChannel(out);
+			long position = start;
+			long remaining = count;
+			while (remaining > 0) {
+				long sent = file.transferTo(position, remaining, channel);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+				remaining -= sent;
+			}
+			out.flush();
+		} catch (NoSuchFileException e) { // 캐시된 뒤에 파일이 삭제된 경우
+			cache.remove(image.fileName());
+			throw new MalformedURLException("잘못된 URL 요청입니다.");
+		}
+	}
+
+	/**
+	 * 캐시된 사진 정보
+	 *
+	 * @param expiresAt 이 시간이 지나면 데이터베이스를 다시 확인한다.
+	 */
+	private record CachedImage(ImageMetadata image, long expiresAt) {
+	}
+
+	/**
+	 * 사진 정보
+	 *
+	 * @param eTag      해시값으로 저장된 파일(변형 포함)은 확장자를 제외한 파일명, 아니라면 크기와 수정시간으로 만든 strong ETag
+	 * @param immutable 내용의 해시값으로 저장된 파일인지 여부
+	 */
+	record ImageMetadata(String fileName, Path path, long length, long lastModified, String eTag, String contentType,
+						 boolean immutable) {
+
+		static ImageMetadata of(String fileName, Path path, long length, long lastModified) {
+			int dot = fileName.lastIndexOf('.');
+			String name = dot < 0 ? fileName : fileName.substring(0, dot);
+			boolean hashed = name.matches("[0-9a-f]{64}(_[a-z]+)?");
+			String eTag = "\"" + (hashed ? name : Long.toHexString(length) + "-" + Long.toHexString(lastModified)) + "\"";
+			String contentType = MediaTypeFactory.getMediaType(fileName)
+					.orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+			return new ImageMetadata(fileName, path, length, lastModified, eTag, contentType, hashed);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.community.domain.ImageVariant;
+
+/**
+ * 게시글 사진의 크기별 변형(썸네일 등)을 만드는 Service
+ * <p>
+ * 게시글이 저장된 후 백그라운드 작업 큐에서 원본을 줄여 변형을 저장한다. (다시 인코딩하므로 EXIF 등 메타데이터는 제거된다.)
+ * 변형이 만들어지기 전에는 원본을 대신 전송하므로 작업이 밀리거나 버려져도 사진이 보이지 않는 일은 없다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+	private static final int QUEUE_SIZE = 1000;
+
+	@Value("${IMAGES_SAVE_PATH}")
+	protected String IMAGES_SAVE_PATH;
+
+	// 사진 변환은 CPU 를 많이 사용하므로 하나의 스레드에서 순서대로 처리한다.
+	private final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(QUEUE_SIZE));
+
+	/**
+	 * 변형 생성 작업을 큐에 넣는 메서드 (트랜잭션이 커밋된 후에 넣는다.)
+	 *
+	 * @param fileNames 원본 파일명 리스트
+	 */
+	public void generate(List<String> fileNames) {
+		TransactionUtils.afterCommit(() -> fileNames.forEach(fileName -> {
+			try {
+				executor.execute(() -> createVariants(fileName));
+			} catch (RejectedExecutionException e) {
+				log.warn("사진 변형 작업이 가득 차 건너뜀 fileName = {}", fileName);
+			}
+		}));
+	}
+
+	/**
+	 * 원본 파일로 모든 변형을 만드는 메서드 (이미 있는 변형과 변형을 만들지 않는 형식은 건너뛴다.)
+	 *
+	 * @param fileName 원본 파일명
+	 */
+	void createVariants(String fileName) {
+		try {
+			Path original = Path.of(IMAGES_SAVE_PATH + fileName);
+			if (!ImageVariant.supports(fileName) || !Files.exists(original)) {
+				return;
+			}
+			BufferedImage source = ImageIO.read(original.toFile());
+			if (source == null) { // 읽을 수 없는 형식이라면 원본만 사용한다.
+				return;
+			}
+			for (ImageVariant variant : ImageVariant.values()) {
+				Path target = Path.of(IMAGES_SAVE_PATH + variant.fileNameOf(fileName));
+				if (Files.exists(target)) {
+					continue;
+				}
+				String format = ImageVariant.formatOf(fileName);
+				BufferedImage resized = resize(source, variant.getWidth(), format.equals("png"));
+				Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), "variant-", ".tmp");
+				try {
+					ImageIO.write(resized, format, temp.toFile());
+					Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+				} finally {
+					Files.deleteIfExists(temp);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			log.error("사진 변형 생성 실패 fileName = {}, {}", fileName, e.getMessage());
+		}
+	}
+
+	/**
+	 * 원본이 삭제된 사진의 변형을 삭제하는 메서드
+	 *
+	 * @param fileNames 원본 파일명 리스트
+	 */
+	public void deleteOrphans(List<String> fileNames) {
+		fileNames.stream()
+				.filter(fileName -> !Files.exists(Path.of(IMAGES_SAVE_PATH + fileName)))
+				.forEach(fileName -> {
+					for (ImageVariant variant : ImageVariant.values()) {
+						try {
+							Files.deleteIfExists(Path.of(IMAGES_SAVE_PATH + variant.fileNameOf(fileName)));
+						} catch (IOException e) {
+							log.error("사진 변형 삭제 실패 fileName = {}", variant.fileNameOf(fileName));
+						}
+					}
+				});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 너비가 maxWidth 를 넘지 않도록 비율을 유지하며 줄인다. (한번에 크게 줄이면 품질이 떨어지므로 절반씩 줄인다.)
+	 */
+	static BufferedImage resize(BufferedImage source, int maxWidth, boolean alpha) {
+		int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		int targetWidth = Math.min(maxWidth, source.getWidth());
+		int targetHeight = Math.max(1, (int)((long)source.getHeight() * targetWidth / source.getWidth()));
+
+		BufferedImage current = source;
+		int width = source.getWidth();
+		int height = source.getHeight();
+		do {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			BufferedImage next = new BufferedImage(width, height, type);
+			Graphics2D graphics = next.createGraphics();
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(current, 0, 0, width, height, null);
+			graphics.dispose();
+			current = next;
+		} while (width != targetWidth || height != targetHeight);
+		return current;
+	}
+}
@@ -0,0 +1,108 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.community.domain.PostEventType;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostEventResponse;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
+
+/**
+ * 게시글의 변경(댓글, 좋아요 수)을 구독자에게 실시간으로 전송하는 Service
+ * <p>
+ * 구독자는 서버마다 나뉘어 연결되어 있으므로 이벤트를 Redis 채널에 발행하고,
+ * 모든 서버가 이를 받아 자신에게 연결된 /sub/posts/{postId} 구독자에게 전송한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostEventService {
+
+	public static final String CHANNEL = "post-events";
+	static final String DESTINATION = "/sub/posts/";
+
+	private final StringRedisTemplate redisTemplate;
+	private final SimpMessageSendingOperations messagingTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 댓글 작성 이벤트를 발행하는 메서드
+	 *
+	 * @param comment 작성된 댓글
+	 */
+	public void publishCommentAdded(Comment comment) {
+		publish(PostEventResponse.builder()
+				.type(PostEventType.COMMENT_ADDED)
+				.postId(comment.getPost().getId())
+				.commentId(comment.getId())
+				.userId(comment.getUserAccount().getUserId())
+				.content(comment.getContent())
+				.createdAt(comment.getCreatedAt())
+				.build());
+	}
+
+	/**
+	 * 댓글 삭제 이벤트를 발행하는 메서드
+	 *
+	 * @param postId    게시글 id
+	 * @param commentId 삭제된 댓글 id
+	 */
+	public void publishCommentRemoved(Long postId, Long commentId) {
+		publish(PostEventResponse.builder()
+				.type(PostEventType.COMMENT_REMOVED)
+				.postId(postId)
+				.commentId(commentId)
+				.build());
+	}
+
+	/**
+	 * 좋아요 수 변경 이벤트를 발행하는 메서드
+	 *
+	 * @param postId        게시글 id
+	 * @param postLikeCount 변경 후 좋아요 수
+	 */
+	public void publishLikeChanged(Long postId, Long postLikeCount) {
+		publish(PostEventResponse.builder()
+				.type(PostEventType.LIKE_CHANGED)
+				.postId(postId)
+				.postLikeCount(postLikeCount)
+				.build());
+	}
+
+	/**
+	 * Redis 채널로 받은 이벤트를 이 서버에 연결된 게시글 구독자에게 전송하는 메서드
+	 *
+	 * @param message 이벤트 (JSON)
+	 */
+	public void sendToSubscribers(String message) {
+		try {
+			PostEventResponse event = objectMapper.readValue(message, PostEventResponse.class);
+			messagingTemplate.convertAndSend(DESTINATION + event.getPostId(), event);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("게시글 이벤트 전송 실패 {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 이벤트를 발행하는 메서드 (트랜잭션 안에서 호출되었다면 커밋된 후에 발행하며, 실패해도 요청은 계속 처리한다.)
+	 */
+	private void publish(PostEventResponse event) {
+		TransactionUtils.afterCommit(() -> {
+			try {
+				redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+			} catch (JsonProcessingException | RuntimeException e) {
+				log.warn("게시글 이벤트 발행 실패 {}", e.getMessage());
+			}
+		});
+	}
+}
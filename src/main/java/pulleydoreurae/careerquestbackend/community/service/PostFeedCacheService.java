@@ -0,0 +1,137 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
+
+/**
+ * 게시글 목록 앞쪽 페이지를 캐시하는 Service
+ * <p>
+ * 게시판 목록 요청은 대부분 앞쪽 몇 페이지에 몰리므로 카테고리(전체 포함)와 페이지 별로 Response 리스트를 Redis 에 저장한다.
+ * 키에는 카테고리마다 증가하는 버전을 포함하여, 게시글 작성, 수정, 삭제나 댓글 수, 좋아요 수가 바뀌면 해당 카테고리와 전체 목록의 버전만 올려 한번에 무효화한다.
+ * 조회수 변경으로는 무효화하지 않으며 TTL 만큼만 지난 값이 보일 수 있다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostFeedCacheService {
+
+	static final int CACHED_PAGES = 3; // 0 ~ 2 페이지만 캐시
+	private static final Duration TTL = Duration.ofSeconds(60);
+	private static final String ALL = "ALL";
+	private static final TypeReference<List<PostResponse>> TYPE = new TypeReference<>() {
+	};
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * 캐시된 목록을 반환하고 없다면 불러와서 캐시하는 메서드
+	 *
+	 * @param postCategory 카테고리 (null 이라면 전체 목록)
+	 * @param pageable     페이지
+	 * @param loader       캐시에 없을 때 목록을 불러오는 메서드
+	 * @return 게시글 리스트
+	 */
+	public List<PostResponse> getPage(PostCategory postCategory, Pageable pageable, Supplier<List<PostResponse>> loader) {
+		if (pageable.getPageNumber() >= CACHED_PAGES) {
+			return loader.get();
+		}
+
+		String key;
+		try {
+			key = pageKey(scope(postCategory), pageable);
+			String cached = redisTemplate.opsForValue().get(key);
+			if (cached != null) {
+				hits.increment();
+				return objectMapper.readValue(cached, TYPE);
+			}
+		} catch (Exception e) { // 캐시에 문제가 생겨도 목록은 데이터베이스에서 불러온다.
+			log.warn("게시글 목록 캐시 조회 실패 {}", e.getMessage());
+			return loader.get();
+		}
+
+		misses.increment();
+		List<PostResponse> result = loader.get();
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), TTL);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("게시글 목록 캐시 저장 실패 {}", e.getMessage());
+		}
+		return result;
+	}
+
+	/**
+	 * 카테고리의 목록 캐시를 무효화하는 메서드 (전체 목록도 함께 무효화하며 트랜잭션이 커밋된 후에 반영한다.)
+	 *
+	 * @param postCategory 변경된 게시글의 카테고리
+	 */
+	public void evict(PostCategory postCategory) {
+		TransactionUtils.afterCommit(() -> {
+			try {
+				redisTemplate.opsForValue().increment(versionKey(ALL));
+				if (postCategory != null) {
+					redisTemplate.opsForValue().increment(versionKey(postCategory.name()));
+				}
+			} catch (RuntimeException e) {
+				log.warn("게시글 목록 캐시 무효화 실패 {}", e.getMessage());
+			}
+		});
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * 주기적으로 서버가 시작된 후의 캐시 적중률을 기록하는 메서드
+	 */
+	@Scheduled(fixedDelay = 1000 * 60 * 10)
+	public void logHitRate() {
+		long hit = hits.sum();
+		long miss = misses.sum();
+		if (hit + miss > 0) {
+			log.info("게시글 목록 캐시 적중률 {}% (hit {}, miss {})", hit * 100 / (hit + miss), hit, miss);
+		}
+	}
+
+	private String pageKey(String scope, Pageable pageable) {
+		String version = redisTemplate.opsForValue().get(versionKey(scope));
+		return "feed:" + scope + ":v" + (version == null ? "0" : version) + ":" + pageable.getPageNumber() + ":"
+				+ pageable.getPageSize();
+	}
+
+	private String versionKey(String scope) {
+		return "feed:" + scope + ":version";
+	}
+
+	private String scope(PostCategory postCategory) {
+		return postCategory == null ? ALL : postCategory.name();
+	}
+}
@@ -0,0 +1,118 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.service.FileManagementService;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+
+/**
+ * 삭제된 게시글의 사진 파일을 정리하는 Service
+ * <p>
+ * 게시글 삭제 요청은 데이터베이스만 정리하고 바로 응답하며, 파일 참조 수 감소, 파일과 변형 삭제, 캐시 제거는 백그라운드 작업 큐에서 처리한다.
+ * 트랜잭션이 커밋된 후에 큐에 넣으므로 삭제가 롤백되면 파일도 그대로 남는다.
+ * 업로드만 하고 게시글에 첨부하지 않은 사진도 주기적으로 정리한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostImageCleanupService {
+
+	private static final int QUEUE_SIZE = 1000;
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+	@Value("${IMAGES_SAVE_PATH}")
+	protected String IMAGES_SAVE_PATH;
+
+	private final FileManagementService fileManagementService;
+	private final ImageVariantService imageVariantService;
+	private final ImageServingService imageServingService;
+
+	// 파일 삭제는 디스크 입출력이므로 하나의 스레드에서 순서대로 처리한다.
+	private final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+			new LinkedBlockingQueue<>(QUEUE_SIZE));
+
+	/**
+	 * 사진 파일 삭제 작업을 큐에 넣는 메서드 (트랜잭션이 커밋된 후에 넣는다.)
+	 *
+	 * @param fileNames 삭제된 게시글의 사진 파일명 리스트
+	 */
+	public void deleteImages(List<String> fileNames) {
+		if (fileNames.isEmpty()) {
+			return;
+		}
+		TransactionUtils.afterCommit(() -> {
+			try {
+				executor.execute(() -> delete(fileNames));
+			} catch (RejectedExecutionException e) { // 큐가 가득 찼다면 참조 수가 어긋나지 않도록 요청한 스레드에서 처리한다.
+				log.warn("사진 삭제 작업이 가득 차 바로 삭제합니다. fileNames = {}", fileNames);
+				delete(fileNames);
+			}
+		});
+	}
+
+	/**
+	 * 파일 참조 수를 줄이고 더이상 참조하지 않는 원본과 변형을 삭제한 뒤 캐시에서 제거하는 메서드
+	 *
+	 * @param fileNames 사진 파일명 리스트
+	 */
+	void delete(List<String> fileNames) {
+		try {
+			fileManagementService.deleteFile(fileNames, IMAGES_SAVE_PATH);
+			imageVariantService.deleteOrphans(fileNames);
+			imageServingService.evict(fileNames);
+		} catch (RuntimeException e) {
+			log.error("사진 삭제 실패 fileNames = {}, {}", fileNames, e.getMessage());
+		}
+	}
+
+	/**
+	 * 대기 시간이 지나도록 첨부되지 않은 사진과 변형을 삭제하는 메서드 (1시간 간격으로 실행)
+	 */
+	@Scheduled(fixedDelay = 1000 * 60 * 60)
+	public void deleteExpiredUploads() {
+		try {
+			List<String> fileNames = fileManagementService.deleteExpiredUploads(IMAGES_SAVE_PATH);
+			if (!fileNames.isEmpty()) {
+				imageVariantService.deleteOrphans(fileNames);
+				imageServingService.evict(fileNames);
+				log.info("첨부되지 않은 사진 {}건 삭제", fileNames.size());
+			}
+		} catch (RuntimeException e) {
+			log.error("첨부되지 않은 사진 정리 실패 {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 서버가 종료될 때 큐에 남은 작업을 모두 처리한다. (처리하지 않으면 파일 참조 수가 어긋난다.)
+	 * 제한 시간 안에 끝나지 않은 작업은 꺼내서 종료하는 스레드에서 직접 처리한다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+		try {
+			if (executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		List<Runnable> remaining = executor.shutdownNow();
+		log.warn("사진 삭제 작업 {}건을 종료 전에 바로 처리합니다.", remaining.size());
+		remaining.forEach(Runnable::run);
+	}
+}
@@ -0,0 +1,327 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.common.utils.RedisLockUtils;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepository;
+import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepositoryCustom.Change;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
+
+/**
+ * 게시글 좋아요를 Redis 에 먼저 저장하고 주기적으로 데이터베이스에 반영하는 Service
+ * <p>
+ * 게시글마다 좋아요 누른 회원 id 를 Redis set 으로 유지하고 좋아요 변경은 Lua 스크립트로 한번에 처리한다.
+ * 실제로 상태가 바뀐 경우만 반영 대기 hash 에 마지막 상태를 남기며, 백그라운드 작업이 이를 모아 batch 로 데이터베이스에 반영한다.
+ * 반영이 끝난 게시글은 데이터베이스를 기준으로 Redis set 을 다시 만들어 어긋난 값을 바로잡는다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeCacheService {
+
+	static final String DIRTY_KEY = "likes:post:dirty"; // 반영할 변경이 있는 게시글 id
+	private static final String FLUSH_LOCK_KEY = "likes:post:flush-lock"; // 여러 서버가 동시에 반영하지 않도록 잠근다.
+	private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+	private static final long TTL_SECONDS = 60 * 60 * 24;
+
+	/**
+	 * KEYS[1] 좋아요 set, KEYS[2] 반영 대기 hash, KEYS[3] 반영할 게시글 set
+	 * ARGV[1] 회원 id, ARGV[2] 1 이라면 좋아요 0 이라면 취소, ARGV[3] 게시글 id, ARGV[4] 만료시간
+	 * {변경 후 좋아요 수, 상태가 바뀌었다면 1} 을 반환하고 아직 불러오지 않은 게시글이라면 {-1, 0} 을 반환한다.
+	 * (이미 같은 상태라면 아무것도 바꾸지 않는다.)
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CHANGE_LIKE_SCRIPT = new DefaultRedisScript<>("""
+			if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end
+			local changed
+			if ARGV[2] == '1' then
+				changed = redis.call('SADD', KEYS[1], ARGV[1])
+			else
+				changed = redis.call('SREM', KEYS[1], ARGV[1])
+			end
+			if changed == 1 then
+				redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+				redis.call('SADD', KEYS[3], ARGV[3])
+			end
+			redis.call('EXPIRE', KEYS[1], ARGV[4])
+			return {redis.call('SCARD', KEYS[1]) - 1, changed}
+			""", List.class);
+
+	/**
+	 * KEYS[1] 좋아요 set
+	 * ARGV[1] 회원 id
+	 * 아직 불러오지 않은 게시글이라면 -1, 좋아요를 눌렀다면 1, 아니라면 0 을 반환한다.
+	 */
+	private static final RedisScript<Long> IS_LIKED_SCRIPT = new DefaultRedisScript<>("""
+			if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+			return redis.call('SISMEMBER', KEYS[1], ARGV[1])
+			""", Long.class);
+
+	/**
+	 * KEYS 게시글마다 {좋아요 set, 반영중 hash, 반영 대기 hash}
+	 * ARGV[1] 회원 id
+	 * 게시글마다 좋아요를 눌렀다면 1, 아니라면 0 을 반환하고 Redis 만으로 알 수 없다면 -1 을 반환한다.
+	 * (불러오지 않은 게시글이라도 아직 반영되지 않은 변경이 있다면 그 값을 사용한다.)
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> FIND_LIKED_SCRIPT = new DefaultRedisScript<>("""
+			local result = {}
+			for i = 1, #KEYS, 3 do
+				local liked = -1
+				if redis.call('EXISTS', KEYS[i]) == 1 then
+					liked = redis.call('SISMEMBER', KEYS[i], ARGV[1])
+				else
+					local change = redis.call('HGET', KEYS[i + 2], ARGV[1]) or redis.call('HGET', KEYS[i + 1], ARGV[1])
+					if change then liked = tonumber(change) end
+				end
+				result[#result + 1] = liked
+			end
+			return result
+			""", List.class);
+
+	/**
+	 * KEYS[1] 좋아요 set, KEYS[2] 반영중 hash, KEYS[3] 반영 대기 hash
+	 * ARGV[1] 만료시간, ARGV[2..] 데이터베이스에 저장된 좋아요 회원 id
+	 * 데이터베이스의 좋아요에 아직 반영되지 않은 변경을 순서대로 덮어써 set 을 다시 만들고 좋아요 수를 반환한다.
+	 * ('-' 는 좋아요가 없는 게시글도 불러온 상태임을 표시하는 값이므로 좋아요 수에서 제외한다.)
+	 */
+	private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+			redis.call('DEL', KEYS[1])
+			redis.call('SADD', KEYS[1], '-')
+			for i = 2, #ARGV do
+				redis.call('SADD', KEYS[1], ARGV[i])
+			end
+			for k = 2, 3 do
+				local changes = redis.call('HGETALL', KEYS[k])
+				for i = 1, #changes, 2 do
+					if changes[i + 1] == '1' then
+						redis.call('SADD', KEYS[1], changes[i])
+					else
+						redis.call('SREM', KEYS[1], changes[i])
+					end
+				end
+			end
+			redis.call('EXPIRE', KEYS[1], ARGV[1])
+			return redis.call('SCARD', KEYS[1]) - 1
+			""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final PostLikeRepository postLikeRepository;
+	private final PostRepository postRepository;
+	private final PostFeedCacheService postFeedCacheService;
+	private final TrendingPostService trendingPostService;
+	private final PostEventService postEventService;
+	private final NotificationService notificationService;
+
+	/**
+	 * 좋아요 상태를 변경하는 메서드 (같은 요청을 여러번 보내도 결과는 같다.)
+	 *
+	 * @param post  게시글
+	 * @param user  회원
+	 * @param liked true 라면 좋아요, false 라면 좋아요 취소
+	 * @return 변경 후 좋아요 수
+	 */
+	public Long changeLike(Post post, UserAccount user, boolean liked) {
+		List<Long> result = executeChangeLike(post.getId(), user.getId(), liked);
+		if (result == null || result.get(0) < 0) { // 아직 불러오지 않은 게시글이라면 데이터베이스에서 불러온 후 다시 시도
+			load(post.getId());
+			result = executeChangeLike(post.getId(), user.getId(), liked);
+		}
+		if (result == null) {
+			return null;
+		}
+		if (result.get(1) == 1L) { // 실제로 상태가 바뀐 경우만 인기 게시글 점수에 반영하고 구독자, 작성자에게 전송
+			trendingPostService.recordLike(post, liked);
+			postEventService.publishLikeChanged(post.getId(), result.get(0));
+			if (liked) {
+				notificationService.notify(post.getUserAccount().getId(), NotificationType.POST_LIKE, post.getId(), user);
+			}
+		}
+		return result.get(0);
+	}
+
+	/**
+	 * 좋아요 상태를 반환하는 메서드 (아직 데이터베이스에 반영되지 않은 변경도 포함한다.)
+	 *
+	 * @param post 게시글
+	 * @param user 회원
+	 * @return 좋아요를 눌렀다면 true
+	 */
+	public boolean isLiked(Post post, UserAccount user) {
+		try {
+			Long result = executeIsLiked(post.getId(), user.getId());
+			if (result == null || result < 0) {
+				load(post.getId());
+				result = executeIsLiked(post.getId(), user.getId());
+			}
+			return result != null && result == 1L;
+		} catch (RuntimeException e) { // Redis 를 사용할 수 없다면 데이터베이스에서 확인한다.
+			log.warn("좋아요 상태 조회 실패, 데이터베이스에서 확인합니다. {}", e.getMessage());
+			return postLikeRepository.existsByPostAndUserAccount(post, user);
+		}
+	}
+
+	/**
+	 * 여러 게시글의 좋아요 상태를 한번에 확인하는 메서드 (목록 조회용)
+	 * Redis 로 한번에 확인하고 알 수 없는 게시글만 데이터베이스에서 IN 쿼리 한번으로 확인한다.
+	 *
+	 * @param userAccountId 회원 id
+	 * @param postIds       게시글 id 리스트
+	 * @return 좋아요를 누른 게시글 id
+	 */
+	public Set<Long> findLikedPostIds(Long userAccountId, List<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return Set.of();
+		}
+		Set<Long> liked = new HashSet<>();
+		List<Long> unresolved = new ArrayList<>();
+		try {
+			List<Long> result = executeFindLiked(userAccountId, postIds);
+			for (int i = 0; i < postIds.size(); i++) {
+				long state = result == null ? -1L : result.get(i);
+				if (state == 1L) {
+					liked.add(postIds.get(i));
+				} else if (state < 0) {
+					unresolved.add(postIds.get(i));
+				}
+			}
+		} catch (RuntimeException e) { // Redis 를 사용할 수 없다면 데이터베이스에서 확인한다.
+			log.warn("좋아요 상태 조회 실패, 데이터베이스에서 확인합니다. {}", e.getMessage());
+			unresolved = postIds;
+		}
+		if (!unresolved.isEmpty()) {
+			liked.addAll(postLikeRepository.findLikedPostIds(userAccountId, unresolved));
+		}
+		return liked;
+	}
+
+	/**
+	 * 모아둔 좋아요 변경을 데이터베이스에 반영하는 메서드 (3초 간격으로 실행)
+	 */
+	@Scheduled(fixedDelay = 3000)
+	public void flush() {
+		try {
+			String token = RedisLockUtils.tryLock(redisTemplate, FLUSH_LOCK_KEY, FLUSH_LOCK_TTL);
+			if (token == null) {
+				return;
+			}
+			try {
+				flushDirtyPosts();
+			} finally {
+				RedisLockUtils.unlock(redisTemplate, FLUSH_LOCK_KEY, token);
+			}
+		} catch (RuntimeException e) {
+			log.error("좋아요 반영 실패, 다음 주기에 다시 시도합니다. {}", e.getMessage());
+		}
+	}
+
+	private void flushDirtyPosts() {
+		Set<String> postIds = redisTemplate.opsForSet().members(DIRTY_KEY);
+		if (postIds == null || postIds.isEmpty()) {
+			return;
+		}
+
+		// 반영 대기 hash 를 반영중 hash 로 옮긴다. (이전 반영에 실패해 반영중 hash 가 남아있다면 새 변경은 옮기지 않고 그것부터 다시 반영한다.)
+		// 반영할 게시글 목록에서는 반영에 성공한 후에만 제거하므로 중간에 실패해도 다음 주기에 반영중 hash 부터 다시 반영된다.
+		List<Change> changes = new ArrayList<>();
+		for (String postId : postIds) {
+			String flushingKey = flushingKey(postId);
+			if (!Boolean.TRUE.equals(redisTemplate.hasKey(flushingKey))
+					&& Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey(postId)))) {
+				redisTemplate.rename(pendingKey(postId), flushingKey);
+			}
+			redisTemplate.<String, String>opsForHash().entries(flushingKey).forEach((userId, liked) ->
+					changes.add(new Change(Long.valueOf(postId), Long.valueOf(userId), "1".equals(liked))));
+		}
+
+		postLikeRepository.applyChanges(changes);
+
+		// 반영이 끝난 게시글은 데이터베이스를 기준으로 다시 만들고, 그 사이에 새로 생긴 변경은 다음 주기에 반영한다.
+		List<Long> flushedIds = postIds.stream().map(Long::valueOf).toList();
+		for (Long postId : flushedIds) {
+			redisTemplate.delete(flushingKey(String.valueOf(postId)));
+			redisTemplate.opsForSet().remove(DIRTY_KEY, String.valueOf(postId));
+			load(postId);
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey(String.valueOf(postId))))) {
+				redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(postId));
+			}
+		}
+		// 좋아요 수가 바뀌었으므로 게시글 목록 캐시 무효화
+		postRepository.findAllByIdIn(flushedIds).stream()
+				.map(Post::getPostCategory)
+				.distinct()
+				.forEach(postFeedCacheService::evict);
+		log.info("좋아요 변경 {}건 반영 (게시글 {}개)", changes.size(), flushedIds.size());
+	}
+
+	/**
+	 * 데이터베이스의 좋아요로 Redis set 을 다시 만드는 메서드
+	 *
+	 * @param postId 게시글 id
+	 * @return 좋아요 수
+	 */
+	Long load(Long postId) {
+		List<String> args = new ArrayList<>();
+		args.add(String.valueOf(TTL_SECONDS));
+		postLikeRepository.findUserIdsByPostId(postId).forEach(userId -> args.add(String.valueOf(userId)));
+
+		String id = String.valueOf(postId);
+		return redisTemplate.execute(LOAD_SCRIPT, List.of(likesKey(id), flushingKey(id), pendingKey(id)),
+				args.toArray());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Long> executeChangeLike(Long postId, Long userId, boolean liked) {
+		String id = String.valueOf(postId);
+		return redisTemplate.execute(CHANGE_LIKE_SCRIPT, List.of(likesKey(id), pendingKey(id), DIRTY_KEY),
+				String.valueOf(userId), liked ? "1" : "0", id, String.valueOf(TTL_SECONDS));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Long> executeFindLiked(Long userId, List<Long> postIds) {
+		List<String> keys = new ArrayList<>(postIds.size() * 3);
+		for (Long postId : postIds) {
+			String id = String.valueOf(postId);
+			keys.add(likesKey(id));
+			keys.add(flushingKey(id));
+			keys.add(pendingKey(id));
+		}
+		return redisTemplate.execute(FIND_LIKED_SCRIPT, keys, String.valueOf(userId));
+	}
+
+	private Long executeIsLiked(Long postId, Long userId) {
+		return redisTemplate.execute(IS_LIKED_SCRIPT, List.of(likesKey(String.valueOf(postId))),
+				String.valueOf(userId));
+	}
+
+	private String likesKey(String postId) {
+		return "likes:post:" + postId;
+	}
+
+	private String pendingKey(String postId) {
+		return "likes:post:" + postId + ":pending";
+	}
+
+	private String flushingKey(String postId) {
+		return "likes:post:" + postId + ":flushing";
+	}
+}
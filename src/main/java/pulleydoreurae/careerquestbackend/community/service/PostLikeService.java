@@ -1,6 +1,5 @@
 package pulleydoreurae.careerquestbackend.community.service;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -28,23 +27,20 @@ public class PostLikeService {
 	private final PostLikeRepository postLikeRepository;
 	private final CommonCommunityService commonCommunityService;
 	private final CommonService commonService;
+	private final PostLikeCacheService postLikeCacheService;
 
 	/**
 	 * 좋아요 상태를 변경하는 메서드
+	 * 변경은 Redis 에 먼저 저장하고 데이터베이스(좋아요, 게시글의 좋아요 수)에는 PostLikeCacheService 가 모아서 반영한다.
 	 *
 	 * @param postLikeRequest 좋아요 요청 (isLiked 가 false 일땐 추가, true 일땐 제거)
+	 * @return 변경 후 좋아요 수
 	 */
-	public void changePostLike(PostLikeRequest postLikeRequest) {
+	public Long changePostLike(PostLikeRequest postLikeRequest) {
 		UserAccount user = commonService.findUserAccount(postLikeRequest.getUserId(), true);
 		Post post = commonCommunityService.findPost(postLikeRequest.getPostId());
 
-		if (postLikeRequest.getIsLiked()) { // 좋아요 제거
-			PostLike postLike = commonCommunityService.findPostLike(post, user);
-			postLikeRepository.delete(postLike);
-		} else { // 좋아요 추가
-			PostLike postLike = mackPostLike(user, post);
-			postLikeRepository.save(postLike);
-		}
+		return postLikeCacheService.changeLike(post, user, !postLikeRequest.getIsLiked());
 	}
 
 	/**
@@ -56,30 +52,11 @@ public class PostLikeService {
 	 */
 	public List<PostResponse> findAllPostLikeByUserAccount(String userId, Pageable pageable) {
 		UserAccount user = commonService.findUserAccount(userId, false);
-		List<PostResponse> list = new ArrayList<>();
 
-		postLikeRepository.findAllByUserAccountOrderByIdDesc(user, pageable)
-				.forEach(postLike -> {
-					Post post = postLike.getPost();
-					// 게시글 리스트를 반환할땐 좋아요 상태를 사용하지 않는다. (false 로 지정)
-					PostResponse postResponse = commonCommunityService.postToPostResponse(post, false);
-					list.add(postResponse);
-				});
+		List<Post> posts = postLikeRepository.findAllByUserAccountOrderByIdDesc(user, pageable).stream()
+				.map(PostLike::getPost)
+				.toList();
 
-		return list;
-	}
-
-	/**
-	 * 좋아요 구현체 생성
-	 *
-	 * @param user 사용자 정보
-	 * @param post 게시글 정보
-	 * @return 구현체
-	 */
-	public PostLike mackPostLike(UserAccount user, Post post) {
-		return PostLike.builder()
-				.userAccount(user)
-				.post(post)
-				.build();
+		return commonCommunityService.postListToPostResponseList(posts);
 	}
 }
@@ -1,12 +1,16 @@
 package pulleydoreurae.careerquestbackend.community.service;
 
-import java.net.MalformedURLException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.UrlResource;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,23 +23,30 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
 import pulleydoreurae.careerquestbackend.common.service.FileManagementService;
+import pulleydoreurae.careerquestbackend.common.service.ViewCountService;
+import pulleydoreurae.careerquestbackend.common.service.ViewHistoryService;
 import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.PostRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.community.domain.entity.PostImage;
-import pulleydoreurae.careerquestbackend.community.domain.entity.PostViewCheck;
 import pulleydoreurae.careerquestbackend.community.exception.FileSaveException;
 import pulleydoreurae.careerquestbackend.community.exception.PostDeleteException;
 import pulleydoreurae.careerquestbackend.community.exception.PostSaveException;
 import pulleydoreurae.careerquestbackend.community.exception.PostUpdateException;
+import pulleydoreurae.careerquestbackend.community.repository.ContestRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostImageRepository;
-import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
-import pulleydoreurae.careerquestbackend.community.repository.PostViewCheckRepository;
+import pulleydoreurae.careerquestbackend.search.domain.SearchTarget;
+import pulleydoreurae.careerquestbackend.search.service.SearchIndexService;
+import pulleydoreurae.careerquestbackend.search.service.SearchResultCacheService;
 
 /**
  * 게시판을 담당하는 Service
@@ -50,11 +61,21 @@ public class PostService {
 
 	private final PostRepository postRepository;
 	private final CommonCommunityService commonCommunityService;
-	private final PostLikeRepository postLikeRepository;
-	private final PostViewCheckRepository postViewCheckRepository;
+	private final PostLikeCacheService postLikeCacheService;
 	private final PostImageRepository postImageRepository;
 	private final FileManagementService fileManagementService;
 	private final CommonService commonService;
+	private final ViewCountService viewCountService;
+	private final ViewHistoryService viewHistoryService;
+	private final SearchIndexService searchIndexService;
+	private final SearchResultCacheService searchResultCacheService;
+	private final PostFeedCacheService postFeedCacheService;
+	private final ImageVariantService imageVariantService;
+	private final PostImageCleanupService postImageCleanupService;
+	private final ContestRepository contestRepository;
+	private final ContestIndexService contestIndexService;
+	private final TrendingPostService trendingPostService;
+	private final UserActivityService userActivityService;
 
 	@Value("${IMAGES_SAVE_PATH}")
 	protected String IMAGES_SAVE_PATH;
@@ -66,7 +87,22 @@ public class PostService {
 	 * @return Repository 에서 가져온 리스트 반환
 	 */
 	public List<PostResponse> getPostResponseList(Pageable pageable) {
-		return commonCommunityService.postListToPostResponseList(postRepository.findAllByOrderByIdDesc(pageable));
+		return resolveIsLiked(postFeedCacheService.getPage(null, pageable, () ->
+				commonCommunityService.postListToPostResponseList(postRepository.findAllByOrderByIdDesc(pageable))));
+	}
+
+	/**
+	 * 게시글 리스트를 커서 기반으로 불러오는 메서드 (count 쿼리를 실행하지 않는다.)
+	 *
+	 * @param cursor 이전 요청에서 전달받은 커서 (첫 요청이라면 null)
+	 * @param limit  조회할 개수
+	 * @return 게시글 리스트와 다음 커서
+	 */
+	public CursorResponse<PostResponse> getPostResponseListByCursor(String cursor, int limit) {
+		Slice<Post> posts = postRepository.findAllByIdLessThanOrderByIdDesc(CursorResponse.decode(cursor),
+				CursorResponse.limit(limit));
+		return CursorResponse.of(resolveIsLiked(commonCommunityService.postListToPostResponseList(posts.getContent())),
+				posts, Post::getId);
 	}
 
 	/**
@@ -78,8 +114,9 @@ public class PostService {
 	 */
 	public List<PostResponse> getPostResponseListByCategory(PostCategory postCategory, Pageable pageable) {
 
-		return commonCommunityService.postListToPostResponseList(
-				postRepository.findAllByPostCategoryOrderByIdDesc(postCategory, pageable));
+		return resolveIsLiked(postFeedCacheService.getPage(postCategory, pageable, () ->
+				commonCommunityService.postListToPostResponseList(
+						postRepository.findAllByPostCategoryOrderByIdDesc(postCategory, pageable))));
 	}
 
 	/**
@@ -92,8 +129,8 @@ public class PostService {
 	public List<PostResponse> getPostListByUserAccount(String userId, Pageable pageable) {
 		UserAccount user = commonService.findUserAccount(userId, false);
 
-		return commonCommunityService.postListToPostResponseList(
-				postRepository.findAllByUserAccountOrderByIdDesc(user, pageable));
+		return resolveIsLiked(commonCommunityService.postListToPostResponseList(
+				postRepository.findAllByUserAccountOrderByIdDesc(user, pageable)));
 	}
 
 	/**
@@ -106,14 +143,30 @@ public class PostService {
 	 */
 	public List<PostResponse> searchPosts(String keyword, PostCategory postCategory, Pageable pageable) {
 
-		// 카테고리 없이 전체 검색
-		if (postCategory == null) {
-			return commonCommunityService.postListToPostResponseList(postRepository.searchByKeyword(keyword, pageable));
-		}
+		// 카테고리가 없다면 전체 검색, 있다면 카테고리 포함 검색
+		return resolveIsLiked(commonCommunityService.postListToPostResponseList(
+				searchIndexService.searchPosts(keyword, postCategory, pageable)));
+	}
 
-		// 카테고리 포함 검색
-		return commonCommunityService.postListToPostResponseList(
-				postRepository.searchByKeywordAndCategory(keyword, postCategory, pageable));
+	/**
+	 * 인기 게시글 리스트를 불러오는 메서드
+	 *
+	 * @param postCategory 카테고리 (null 이라면 전체)
+	 * @param pageable     페이지
+	 * @return 인기순으로 정렬한 게시글 리스트
+	 */
+	public List<PostResponse> getTrendingPosts(PostCategory postCategory, Pageable pageable) {
+		List<Long> ids = trendingPostService.findTrendingPostIds(postCategory, pageable);
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		// 인기 목록에는 남아있지만 이미 삭제된 게시글은 결과에서 빠진다.
+		Map<Long, Post> posts = postRepository.findAllByIdIn(ids).stream()
+				.collect(Collectors.toMap(Post::getId, Function.identity()));
+		return resolveIsLiked(commonCommunityService.postListToPostResponseList(ids.stream()
+				.map(posts::get)
+				.filter(Objects::nonNull)
+				.toList()));
 	}
 
 	/**
@@ -128,21 +181,11 @@ public class PostService {
 
 		String userId = checkView(request, response, postId, post);
 		// 게시글 단건 요청은 게시글 좋아요 정보가 필요하므로 좋아요 정보를 넘기기
-		return commonCommunityService.postToPostResponse(post, getIsLiked(userId, post));
-	}
-
-	/**
-	 * 저장된 사진을 반환하는 메서드
-	 *
-	 * @param fileName 저장된 파일명
-	 * @return 전달받은 파일명으로 UrlResource 생성하여 반환
-	 * @throws MalformedURLException 저장된 파일명이 아닌 경우 예외를 던진다.
-	 */
-	public UrlResource getImageResource(String fileName) throws MalformedURLException {
-		if (!postImageRepository.existsByFileName(fileName)) {
-			throw new MalformedURLException("잘못된 URL 요청입니다.");
-		}
-		return new UrlResource("file:" + IMAGES_SAVE_PATH + fileName);
+		PostResponse postResponse = commonCommunityService.postToPostResponse(post, getIsLiked(userId, post));
+		// 아직 데이터베이스에 반영되지 않은 조회수까지 더해서 반환
+		postResponse.setView(viewCountService.getPostView(postId, post.getView()));
+		postResponse.setUniqueViewers(viewHistoryService.countPostViewers(postId));
+		return postResponse;
 	}
 
 	/**
@@ -165,10 +208,9 @@ public class PostService {
 			name = commonCommunityService.getUUID(request, response);
 		}
 
-		PostViewCheck postViewCheck = commonCommunityService.findPostViewCheck(name);
-		if (postViewCheck == null || !postViewCheck.getPostId().equals(postId)) { // Redis 에 저장되어 있지 않다면 저장하고 조회수 증가
-			post.setView(post.getView() + 1); // 조회수 증가
-			postViewCheckRepository.save(mackPostViewCheck(postId, name)); // 지정한 시간동안 저장
+		if (viewHistoryService.checkPostView(postId, name)) { // 최근 10분 안에 조회한 기록이 없다면 조회수 증가
+			viewCountService.increasePostView(postId); // 조회수 증가 (모아서 주기적으로 반영)
+			trendingPostService.recordView(post);
 		}
 		return name;
 	}
@@ -183,28 +225,51 @@ public class PostService {
 	public Boolean getIsLiked(String userId, Post post) {
 		// userId 로 회원을 가져온다.
 		UserAccount user = commonService.findUserAccount(userId, false);
-		// user 가 null 이거나 좋아요 누른 정보를 가져올 수 없다면 false, 눌렀다면 true
-		return postLikeRepository.existsByPostAndUserAccount(post, user);
+		// user 가 null 이거나 좋아요 누른 정보를 가져올 수 없다면 false, 눌렀다면 true (아직 반영되지 않은 변경도 포함)
+		if (user == null) {
+			return false;
+		}
+		return postLikeCacheService.isLiked(post, user);
+	}
+
+	/**
+	 * 게시글 리스트에 로그인한 회원의 좋아요 상태를 채우는 메서드 (페이지 전체를 한번에 확인한다.)
+	 * 목록 캐시는 모든 회원이 함께 사용하므로 캐시에서 꺼낸 후에 채운다.
+	 *
+	 * @param posts 게시글 리스트
+	 * @return 좋아요 상태를 채운 게시글 리스트 (로그인하지 않았다면 그대로 반환)
+	 */
+	private List<PostResponse> resolveIsLiked(List<PostResponse> posts) {
+		if (posts.isEmpty()) {
+			return posts;
+		}
+		Optional<Long> userAccountId = commonService.findAuthenticatedUserAccountId();
+		if (userAccountId.isEmpty()) {
+			return posts;
+		}
+		Set<Long> liked = postLikeCacheService.findLikedPostIds(userAccountId.get(),
+				posts.stream().map(PostResponse::getPostId).toList());
+		posts.forEach(post -> post.setIsLiked(liked.contains(post.getPostId())));
+		return posts;
 	}
 
 	/**
-	 * 이미지 저장 메서드
+	 * 이미지 저장 메서드 (저장한 사진은 올린 회원만 게시글에 첨부할 수 있다.)
 	 *
 	 * @param images 컨트롤러로부터 전달받은 이미지 파일들
 	 * @return 한장이라도 실패하면 null, 성공하면 저장한 이미지 파일들의 파일명을 리스트 형태로 반환
 	 */
 	public List<String> saveImage(List<MultipartFile> images) {
-		List<String> successFiles = new ArrayList<>();
-		images.forEach(image -> {
-			String savedFile = fileManagementService.saveFile(image, IMAGES_SAVE_PATH);
-			// 파일 저장에 한건이라도 실패한다면
-			if (savedFile == null) {
-				fileManagementService.deleteFile(successFiles, IMAGES_SAVE_PATH);
-				throw new FileSaveException("사진 저장에 실패했습니다.");
-			}
-			successFiles.add(savedFile);
-		});
-		return successFiles;
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+			throw new FileSaveException("사진 저장에 실패했습니다.");
+		}
+		List<String> savedFiles = fileManagementService.saveFiles(images, IMAGES_SAVE_PATH, authentication.getName());
+		// 파일 저장에 한건이라도 실패한다면 (이미 저장한 파일들은 첨부되지 않았으므로 나중에 정리된다.)
+		if (savedFiles == null) {
+			throw new FileSaveException("사진 저장에 실패했습니다.");
+		}
+		return savedFiles;
 	}
 
 	/**
@@ -212,48 +277,66 @@ public class PostService {
 	 *
 	 * @param postRequest 게시글 요청
 	 */
-	@Transactional // 사진 저장과 게시글 저장을 하나의 트랜잭션으로 묶음
+	@Transactional // 사진 첨부와 게시글 저장을 하나의 트랜잭션으로 묶음
 	public Long savePost(PostRequest postRequest) {
 		List<String> fileNames = postRequest.getImages();
+		UserAccount user = commonService.findUserAccount(postRequest.getUserId(), true);
+		// 파일명은 내용으로 정해지므로 다른 게시글의 사진을 첨부하지 못하도록 이 회원이 올린 사진만 첨부한다.
+		if (fileNames != null && !fileManagementService.isUploadedBy(user.getUserId(), fileNames)) {
+			throw new PostSaveException("게시글 저장에 실패했습니다.");
+		}
+		Post post = commonCommunityService.postRequestToPost(postRequest, user);
 		try {
-			UserAccount user = commonService.findUserAccount(postRequest.getUserId(), true);
-			Post post = commonCommunityService.postRequestToPost(postRequest, user);
-			try {
-				postRepository.save(post);
-				// 게시글 저장이 무사히 완료되고 사진이 서버에 저장되어 있다면 데이터베이스에 해당 정보 입력
-				if (fileNames != null) {
-					saveImages(fileNames, post);
-				}
-				return post.getId();
-			} catch (Exception e) {
-				log.error("게시글 저장 실패 {}", e.getMessage());
-				// 예외가 발생해 게시글 저장에 실패한 경우 미리 저장한 사진 정보를 삭제한다.
-				if (fileNames != null) {
-					fileManagementService.deleteFile(fileNames, IMAGES_SAVE_PATH);
-				}
-				throw new PostSaveException("게시글 저장에 실패했습니다.");
-			}
-		} catch (UsernameNotFoundException e) {
-			// 사용자를 찾지 못한 경우
-			// 서버에 저장된 사진이 있을경우 삭제
+			postRepository.save(post);
+			// 게시글 저장이 무사히 완료되고 사진이 서버에 저장되어 있다면 데이터베이스에 해당 정보 입력
 			if (fileNames != null) {
-				fileManagementService.deleteFile(fileNames, IMAGES_SAVE_PATH);
+				saveImages(fileNames, post);
+				imageVariantService.generate(fileNames);
 			}
-			throw e;
+			searchIndexService.indexPost(post);
+			searchResultCacheService.evict(SearchTarget.POST);
+			postFeedCacheService.evict(post.getPostCategory());
+			userActivityService.increase(user, UserActivityType.POST);
+			return post.getId();
+		} catch (Exception e) {
+			// 롤백되면 첨부하며 증가시킨 참조 수도 되돌리고, 첨부되지 않은 사진은 나중에 정리된다.
+			log.error("게시글 저장 실패 {}", e.getMessage());
+			throw new PostSaveException("게시글 저장에 실패했습니다.");
 		}
 	}
 
 	/**
-	 * 서버에 저장된 파일들을 데이터베이스에 저장하는 메서드
+	 * 서버에 저장된 파일들을 데이터베이스에 저장하고 파일 참조 수를 증가시키는 메서드
 	 *
 	 * @param fileNames 서버에 저장된 파일명 리스트
 	 * @param post      게시글 정보
 	 */
 	private void saveImages(List<String> fileNames, Post post) {
-		fileNames.forEach(fileName -> {
-			PostImage image = mackPostImage(post, fileName);
-			postImageRepository.save(image);
-		});
+		postImageRepository.saveAllInBatch(fileNames.stream()
+				.map(fileName -> mackPostImage(post, fileName))
+				.toList());
+		// 대기 시간이 지나 이미 정리된 사진이라면 실패
+		if (!fileManagementService.acquire(fileNames, IMAGES_SAVE_PATH)) {
+			throw new FileSaveException("사진 정보를 찾을 수 없습니다.");
+		}
+	}
+
+	/**
+	 * 사진 정보를 데이터베이스에서 삭제하고 커밋된 후에 파일 참조 수를 줄이는 메서드
+	 * 이 요청이 실제로 삭제한 행만큼만 줄이도록 다른 요청이 먼저 삭제한 행이 있다면 실패한다.
+	 *
+	 * @param images 삭제할 사진 정보
+	 * @return 모두 삭제했다면 true
+	 */
+	private boolean deleteImages(List<PostImage> images) {
+		if (images.isEmpty()) {
+			return true;
+		}
+		if (postImageRepository.deleteAllByIdIn(images.stream().map(PostImage::getId).toList()) != images.size()) {
+			return false;
+		}
+		postImageCleanupService.deleteImages(images.stream().map(PostImage::getFileName).toList());
+		return true;
 	}
 
 	/**
@@ -262,8 +345,10 @@ public class PostService {
 	 * @param postId      게시글 id
 	 * @param postRequest 게시글 수정요청
 	 */
+	@Transactional // 사진 정보 수정과 게시글 수정을 하나의 트랜잭션으로 묶음
 	public void updatePost(Long postId, PostRequest postRequest) {
 		Post post = commonCommunityService.findPost(postId);
+		PostCategory beforeCategory = post.getPostCategory();
 		UserAccount user = commonService.findUserAccount(postRequest.getUserId(), true);
 		// 작성자와 수정자가 다르다면 실패
 		if (!post.getUserAccount().getUserId().equals(user.getUserId())) {
@@ -277,6 +362,13 @@ public class PostService {
 
 		Post updatedPost = commonCommunityService.postRequestToPostForUpdate(post, postRequest, user);
 		postRepository.save(updatedPost);
+		searchIndexService.indexPost(updatedPost);
+		searchResultCacheService.evict(SearchTarget.POST);
+		// 카테고리가 바뀌었다면 이전 카테고리의 목록도 무효화
+		if (beforeCategory != postRequest.getPostCategory()) {
+			postFeedCacheService.evict(beforeCategory);
+		}
+		postFeedCacheService.evict(postRequest.getPostCategory());
 	}
 
 	/**
@@ -285,6 +377,7 @@ public class PostService {
 	 * @param postId 게시글 id
 	 * @param userId 삭제 요청자
 	 */
+	@Transactional // 게시글과 좋아요, 댓글, 사진, 공모전 정보 삭제를 하나의 트랜잭션으로 묶음
 	public void deletePost(Long postId, String userId) {
 		UserAccount user = commonService.findUserAccount(userId, true);
 		Post post = commonCommunityService.findPost(postId);
@@ -292,39 +385,56 @@ public class PostService {
 		if (!post.getUserAccount().getUserId().equals(user.getUserId())) {
 			throw new PostDeleteException("게시글 삭제에 실패했습니다.");
 		}
-		postRepository.deleteById(postId);
-
-		List<PostImage> fileNames = postImageRepository.findAllByPost(post);
-		// 저장된 사진 파일이 존재한다면 게시글 삭제하면서 사진도 삭제
-		if (!fileNames.isEmpty()) {
-			fileManagementService.deleteFile(fileNames.stream().map(PostImage::getFileName).toList(), IMAGES_SAVE_PATH);
+		// 사진 정보를 먼저 삭제하고, 실제 파일은 커밋된 후에 백그라운드에서 삭제
+		if (!deleteImages(postImageRepository.findAllByPost(post))) {
+			throw new PostDeleteException("게시글 삭제에 실패했습니다.");
 		}
+		// 공모전 게시글이라면 공모전 정보도 함께 삭제되므로 공모전 색인과 검색결과 캐시에서도 제거
+		Optional<Long> contestId = contestRepository.findByPostId(postId).map(Contest::getId);
+		List<Long> affectedUserIds = postRepository.deleteCascade(postId);
+		userActivityService.recount(affectedUserIds);
+		searchIndexService.removePost(postId);
+		searchResultCacheService.evict(SearchTarget.POST);
+		contestId.ifPresent(id -> {
+			contestIndexService.removeContest(id);
+			searchResultCacheService.evict(SearchTarget.CONTEST);
+		});
+		postFeedCacheService.evict(post.getPostCategory());
+		trendingPostService.remove(post);
+		viewHistoryService.deletePostHistory(postId);
 	}
 
 	/**
-	 * 새롭게 전달된 사진 정보를 바탕으로 삭제될 파일을 서버와 데이터베이스에서 제거하고 새로운 내용 데이터베이스에 추가하는 메서드
+	 * 새롭게 전달된 사진 정보를 바탕으로 삭제될 파일을 데이터베이스에서 제거하고 새로운 내용 데이터베이스에 추가하는 메서드
+	 * (서버의 파일은 커밋된 후에 백그라운드에서 삭제하므로 수정이 롤백되면 파일도 그대로 남는다.)
+	 * 새로 추가하는 사진은 작성자가 올린 사진이어야 한다.
 	 *
 	 * @param images 업데이트된 사진정보
 	 * @param post   게시글 정보
 	 */
 	public void updateImages(List<String> images, Post post) {
-		// 서버에서 삭제할 파일명 찾기
-		List<String> fileNamesToDelete = postImageRepository.findAllByPost(post).stream()
+		List<PostImage> savedImages = postImageRepository.findAllByPost(post);
+		List<String> savedFileNames = savedImages.stream()
 				.map(PostImage::getFileName)
-				.filter(fileName -> !images.contains(fileName)).toList();
-
-		// 서버에서 먼저 파일들 삭제
-		fileManagementService.deleteFile(fileNamesToDelete, IMAGES_SAVE_PATH);
-		// 삭제한 파일들 데이터베이스에서 삭제
-		fileNamesToDelete.forEach(postImageRepository::deleteByFileName);
-
-		// 새로 추가된 파일명들만 데이터베이스에 저장
-		images.stream()
-				.filter(fileName -> !postImageRepository.existsByFileName(fileName))
-				.forEach(fileName -> {
-					PostImage image = mackPostImage(post, fileName);
-					postImageRepository.save(image);
-				});
+				.toList();
+		// 새로 추가된 파일명들 (같은 내용의 사진은 다른 게시글과 파일명이 같을 수 있으므로 이 게시글의 사진과 비교한다.)
+		List<String> addedFileNames = images.stream()
+				.filter(fileName -> !savedFileNames.contains(fileName))
+				.toList();
+		if (!fileManagementService.isUploadedBy(post.getUserAccount().getUserId(), addedFileNames)) {
+			throw new PostUpdateException("게시글 수정에 실패했습니다.");
+		}
+
+		// 삭제할 사진들 데이터베이스에서 한번에 삭제하고, 실제 파일은 커밋된 후에 삭제
+		List<PostImage> imagesToDelete = savedImages.stream()
+				.filter(image -> !images.contains(image.getFileName()))
+				.toList();
+		if (!deleteImages(imagesToDelete)) {
+			throw new PostUpdateException("게시글 수정에 실패했습니다.");
+		}
+
+		saveImages(addedFileNames, post);
+		imageVariantService.generate(addedFileNames);
 	}
 
 	/**
@@ -340,16 +450,4 @@ public class PostService {
 				.fileName(fileName)
 				.build();
 	}
-
-	/**
-	 * 조회수 객체를 만드는 메서드
-	 *
-	 * @param postId 게시글 정보
-	 * @param name   UUID값
-	 * @return 조회수 객체
-	 */
-	public PostViewCheck mackPostViewCheck(Long postId,
-			String name) {
-		return new PostViewCheck(name, postId);
-	}
 }
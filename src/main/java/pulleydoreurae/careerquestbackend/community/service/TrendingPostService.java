@@ -0,0 +1,213 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+
+/**
+ * 인기 게시글 점수를 관리하는 Service
+ * <p>
+ * 조회, 좋아요, 댓글이 발생할 때마다 Redis sorted set(전체, 카테고리별)의 게시글 점수를 올리고 인기 목록은 ZREVRANGE 한번으로 조회한다.
+ * 점수는 반감기마다 절반으로 줄어드는 값이지만 모든 점수를 매번 줄이는 대신 기준 시각 이후 지난 시간만큼 가중치를 키워서 더한다.
+ * (점수의 순서는 같으므로 정렬에는 영향이 없다.)
+ * 가중치가 너무 커지지 않도록 주기적으로 기준 시각을 옮기며 전체 점수를 한번에 줄이고, 이때 점수가 낮거나 순위 밖인 게시글은 제거한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingPostService {
+
+	static final String GLOBAL_KEY = "trending:posts";
+	private static final String EPOCH_KEY = "trending:posts:epoch"; // 점수 가중치의 기준 시각
+	static final long HALF_LIFE_MILLIS = Duration.ofHours(12).toMillis(); // 12시간마다 점수가 절반이 된다.
+	private static final long REBASE_MILLIS = Duration.ofDays(1).toMillis(); // 하루가 지나면 기준 시각을 옮긴다.
+	private static final double MIN_SCORE = 0.5; // 현재 시각 기준 점수가 이보다 낮다면 제거
+	private static final int MAX_ENTRIES = 1000; // 목록마다 유지할 최대 게시글 수
+
+	static final double VIEW_WEIGHT = 1;
+	static final double COMMENT_WEIGHT = 3;
+	static final double LIKE_WEIGHT = 5;
+
+	/**
+	 * KEYS[1] 기준 시각, KEYS[2..] 목록 (전체, 카테고리)
+	 * ARGV[1] 게시글 id, ARGV[2] 가중치, ARGV[3] 현재 시각, ARGV[4] 반감기
+	 * 기준 시각 이후 지난 시간만큼 가중치를 키워서 각 목록에 더한다.
+	 */
+	private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+			local now = tonumber(ARGV[3])
+			local epoch = tonumber(redis.call('GET', KEYS[1]))
+			if not epoch then
+				epoch = now
+				redis.call('SET', KEYS[1], ARGV[3])
+			end
+			local increment = tonumber(ARGV[2]) * math.pow(2, (now - epoch) / tonumber(ARGV[4]))
+			for i = 2, #KEYS do
+				redis.call('ZINCRBY', KEYS[i], increment, ARGV[1])
+			end
+			return 1
+			""", Long.class);
+
+	/**
+	 * KEYS[1] 기준 시각, KEYS[2..] 목록
+	 * ARGV[1] 현재 시각, ARGV[2] 반감기, ARGV[3] 기준 시각을 옮길 간격, ARGV[4] 최소 점수, ARGV[5] 최대 게시글 수
+	 * 기준 시각을 옮겨야 한다면 모든 점수에 지난 시간만큼의 감소율을 곱하고, 점수가 낮거나 순위 밖인 게시글을 제거한다.
+	 * 제거한 게시글 수를 반환한다.
+	 */
+	private static final RedisScript<Long> PRUNE_SCRIPT = new DefaultRedisScript<>("""
+			local now = tonumber(ARGV[1])
+			local epoch = tonumber(redis.call('GET', KEYS[1]))
+			if not epoch then return 0 end
+			local halfLife = tonumber(ARGV[2])
+			local factor = 1
+			if now - epoch >= tonumber(ARGV[3]) then
+				factor = math.pow(2, (epoch - now) / halfLife)
+				redis.call('SET', KEYS[1], ARGV[1])
+				epoch = now
+			end
+			local threshold = tonumber(ARGV[4]) * math.pow(2, (now - epoch) / halfLife)
+			local removed = 0
+			for i = 2, #KEYS do
+				if factor ~= 1 and redis.call('EXISTS', KEYS[i]) == 1 then
+					redis.call('ZUNIONSTORE', KEYS[i], 1, KEYS[i], 'WEIGHTS', factor)
+				end
+				removed = removed + redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', '(' .. threshold)
+				removed = removed + redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[5]) + 1))
+			end
+			return removed
+			""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 게시글 조회를 점수에 반영하는 메서드
+	 *
+	 * @param post 게시글
+	 */
+	public void recordView(Post post) {
+		record(post, VIEW_WEIGHT);
+	}
+
+	/**
+	 * 댓글 작성을 점수에 반영하는 메서드
+	 *
+	 * @param post 게시글
+	 */
+	public void recordComment(Post post) {
+		record(post, COMMENT_WEIGHT);
+	}
+
+	/**
+	 * 좋아요 변경을 점수에 반영하는 메서드
+	 *
+	 * @param post  게시글
+	 * @param liked true 라면 좋아요, false 라면 좋아요 취소
+	 *              (좋아요 취소는 반영하지 않는다. 현재 시각의 가중치로 빼면 오래전에 누른 좋아요보다 더 크게 빠져 점수가 음수가 될 수 있다.)
+	 */
+	public void recordLike(Post post, boolean liked) {
+		if (!liked) {
+			return;
+		}
+		record(post, LIKE_WEIGHT);
+	}
+
+	/**
+	 * 삭제된 게시글을 인기 목록에서 제거하는 메서드
+	 *
+	 * @param post 게시글
+	 */
+	public void remove(Post post) {
+		TransactionUtils.afterCommit(() -> {
+			try {
+				String postId = String.valueOf(post.getId());
+				redisTemplate.opsForZSet().remove(GLOBAL_KEY, postId);
+				if (post.getPostCategory() != null) {
+					redisTemplate.opsForZSet().remove(key(post.getPostCategory()), postId);
+				}
+			} catch (RuntimeException e) {
+				log.warn("인기 게시글 제거 실패 {}", e.getMessage());
+			}
+		});
+	}
+
+	/**
+	 * 점수가 높은 순서로 게시글 id 를 반환하는 메서드
+	 *
+	 * @param postCategory 카테고리 (null 이라면 전체)
+	 * @param pageable     페이지
+	 * @return 게시글 id 리스트 (Redis 를 사용할 수 없다면 빈 리스트)
+	 */
+	public List<Long> findTrendingPostIds(PostCategory postCategory, Pageable pageable) {
+		try {
+			Set<String> ids = redisTemplate.opsForZSet().reverseRange(key(postCategory), pageable.getOffset(),
+					pageable.getOffset() + pageable.getPageSize() - 1);
+			if (ids == null) {
+				return List.of();
+			}
+			return ids.stream().map(Long::valueOf).toList();
+		} catch (RuntimeException e) {
+			log.warn("인기 게시글 조회 실패 {}", e.getMessage());
+			return List.of();
+		}
+	}
+
+	/**
+	 * 기준 시각을 옮기고 오래된 게시글을 제거하는 메서드 (10분 간격으로 실행)
+	 */
+	@Scheduled(fixedDelay = 1000 * 60 * 10)
+	public void prune() {
+		List<String> keys = new ArrayList<>();
+		keys.add(EPOCH_KEY);
+		keys.add(GLOBAL_KEY);
+		for (PostCategory postCategory : PostCategory.values()) {
+			keys.add(key(postCategory));
+		}
+		try {
+			Long removed = redisTemplate.execute(PRUNE_SCRIPT, keys, String.valueOf(System.currentTimeMillis()),
+					String.valueOf(HALF_LIFE_MILLIS), String.valueOf(REBASE_MILLIS), String.valueOf(MIN_SCORE),
+					String.valueOf(MAX_ENTRIES));
+			if (removed != null && removed > 0) {
+				log.info("인기 게시글 {}건 정리", removed);
+			}
+		} catch (RuntimeException e) {
+			log.warn("인기 게시글 정리 실패 {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 점수를 더하는 메서드 (트랜잭션 안에서 호출되었다면 커밋된 후에 반영하며, 실패해도 요청은 계속 처리한다.)
+	 */
+	private void record(Post post, double weight) {
+		TransactionUtils.afterCommit(() -> {
+			try {
+				List<String> keys = post.getPostCategory() == null ? List.of(EPOCH_KEY, GLOBAL_KEY)
+						: List.of(EPOCH_KEY, GLOBAL_KEY, key(post.getPostCategory()));
+				redisTemplate.execute(RECORD_SCRIPT, keys,
+						String.valueOf(post.getId()), String.valueOf(weight), String.valueOf(System.currentTimeMillis()),
+						String.valueOf(HALF_LIFE_MILLIS));
+			} catch (RuntimeException e) {
+				log.warn("인기 게시글 점수 반영 실패 {}", e.getMessage());
+			}
+		});
+	}
+
+	private String key(PostCategory postCategory) {
+		return postCategory == null ? GLOBAL_KEY : GLOBAL_KEY + ":" + postCategory.name();
+	}
+}
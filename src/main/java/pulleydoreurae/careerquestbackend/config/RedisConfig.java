@@ -18,6 +18,8 @@ import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSeriali
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import pulleydoreurae.careerquestbackend.chat.RedisSubscriber;
+import pulleydoreurae.careerquestbackend.common.service.IndexSyncService;
+import pulleydoreurae.careerquestbackend.community.service.PostEventService;
 
 /**
  * Redis 설정 파일
@@ -137,4 +139,40 @@ public class RedisConfig {
 	public MessageListenerAdapter listenerAdapterChatRoomList(RedisSubscriber subscriber) {
 		return new MessageListenerAdapter(subscriber, "sendRoomList");
 	}
+
+	/**
+	 * 게시글 이벤트(댓글, 좋아요 수 변경)를 모든 서버의 게시글 구독자에게 전달하기 위한 리스너 설정
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerPostEvent(
+		MessageListenerAdapter listenerAdapterPostEvent
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		container.addMessageListener(listenerAdapterPostEvent, new ChannelTopic(PostEventService.CHANNEL));
+		return container;
+	}
+
+	@Bean
+	public MessageListenerAdapter listenerAdapterPostEvent(PostEventService postEventService) {
+		return new MessageListenerAdapter(postEventService, "sendToSubscribers");
+	}
+
+	/**
+	 * 서버 메모리에 유지하는 색인의 변경을 모든 서버에 반영하기 위한 리스너 설정
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerIndexSync(
+		MessageListenerAdapter listenerAdapterIndexSync
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		container.addMessageListener(listenerAdapterIndexSync, new ChannelTopic(IndexSyncService.CHANNEL));
+		return container;
+	}
+
+	@Bean
+	public MessageListenerAdapter listenerAdapterIndexSync(IndexSyncService indexSyncService) {
+		return new MessageListenerAdapter(indexSyncService, "receive");
+	}
 }
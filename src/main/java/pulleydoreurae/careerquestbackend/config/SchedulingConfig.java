@@ -0,0 +1,15 @@
+package pulleydoreurae.careerquestbackend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행되는 작업(@Scheduled)을 활성화하기 위한 설정클래스
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
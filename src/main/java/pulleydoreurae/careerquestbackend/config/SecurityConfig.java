@@ -101,7 +101,9 @@ public class SecurityConfig {
 								"/api/posts/user/**", "/api/posts/search/**", "/api/posts/**", "/api/contests/**",
 								"/api/posts/images/**", "/api/contests/join/**", "/api/posts/likes/**",
 								"/api/search/keyword/**", "/api/search/ranking/**", "/api/search/update/**",
-								"/api/teams/history/**", "/api/teams/**", "/api/teams-details/**", "/api/portfolio/**")
+								"/api/search/autocomplete/**",
+								"/api/teams/history/**", "/api/teams/**", "/api/teams-details/**", "/api/portfolio/**",
+								"/api/users/activity/**")
 						.permitAll()
 						.requestMatchers(HttpMethod.POST, "/api/certifications/pass-rate/**", "/api/posts/search/**", "/api/portfolio/**")
 						.permitAll()
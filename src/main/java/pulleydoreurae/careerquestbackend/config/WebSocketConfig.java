@@ -10,7 +10,7 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * 채팅 서버 연결에 사용하는 WebSocket 설정 클래스
- *
+ * (게시글 구독(/sub/posts/{postId})도 같은 broker 를 사용한다.)
  *
  */
 @Configuration
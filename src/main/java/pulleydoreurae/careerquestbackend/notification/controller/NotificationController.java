@@ -0,0 +1,104 @@
+package pulleydoreurae.careerquestbackend.notification.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
+import pulleydoreurae.careerquestbackend.common.dto.response.SimpleResponse;
+import pulleydoreurae.careerquestbackend.notification.domain.dto.response.NotificationCountResponse;
+import pulleydoreurae.careerquestbackend.notification.domain.dto.response.NotificationResponse;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
+
+/**
+ * 알림 Controller
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequestMapping("/api")
+@RestController
+@RequiredArgsConstructor
+public class NotificationController {
+
+	private final NotificationService notificationService;
+
+	/**
+	 * 알림 목록 조회 (커서 기반, 최신순)
+	 *
+	 * @param userId 회원 아이디
+	 * @param cursor 이전 응답의 nextCursor (첫 요청이라면 생략)
+	 * @param limit  조회할 개수
+	 * @return 알림 리스트와 다음 커서
+	 */
+	@GetMapping("/notifications/{userId}")
+	public ResponseEntity<CursorResponse<NotificationResponse>> findNotifications(@PathVariable String userId,
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = "15") int limit) {
+
+		CursorResponse<NotificationResponse> notifications = notificationService.findNotifications(userId, cursor,
+				limit);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(notifications);
+	}
+
+	/**
+	 * 읽지 않은 알림 수 조회
+	 *
+	 * @param userId 회원 아이디
+	 * @return 읽지 않은 알림 수
+	 */
+	@GetMapping("/notifications/{userId}/unread-count")
+	public ResponseEntity<NotificationCountResponse> countUnread(@PathVariable String userId) {
+
+		Long count = notificationService.countUnread(userId);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(NotificationCountResponse.builder()
+						.unreadCount(count)
+						.build());
+	}
+
+	/**
+	 * 모든 알림 읽음 처리
+	 *
+	 * @param userId 회원 아이디
+	 * @return 처리 결과
+	 */
+	@PatchMapping("/notifications/{userId}/read")
+	public ResponseEntity<SimpleResponse> markAllAsRead(@PathVariable String userId) {
+
+		notificationService.markAllAsRead(userId);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(SimpleResponse.builder()
+						.msg("모든 알림을 읽음 처리했습니다.")
+						.build());
+	}
+
+	/**
+	 * 알림 읽음 처리
+	 *
+	 * @param userId         회원 아이디
+	 * @param notificationId 알림 id
+	 * @return 처리 결과
+	 */
+	@PatchMapping("/notifications/{userId}/{notificationId}/read")
+	public ResponseEntity<SimpleResponse> markAsRead(@PathVariable String userId,
+			@PathVariable Long notificationId) {
+
+		notificationService.markAsRead(userId, notificationId);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(SimpleResponse.builder()
+						.msg("알림을 읽음 처리했습니다.")
+						.build());
+	}
+}
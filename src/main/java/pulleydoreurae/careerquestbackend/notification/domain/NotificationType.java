@@ -0,0 +1,37 @@
+package pulleydoreurae.careerquestbackend.notification.domain;
+
+import lombok.Getter;
+
+/**
+ * 알림 종류 (같은 대상의 같은 종류 알림은 읽기 전까지 하나로 합친다.)
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+public enum NotificationType {
+	COMMENT("게시글에 댓글을 남겼습니다."), // 대상은 게시글
+	POST_LIKE("게시글에 좋아요를 눌렀습니다."), // 대상은 게시글
+	REVIEW_LIKE("후기에 좋아요를 눌렀습니다."), // 대상은 후기
+	TEAM_JOIN("팀에 참여했습니다."); // 대상은 팀
+
+	private final String description;
+
+	NotificationType(String description) {
+		this.description = description;
+	}
+
+	/**
+	 * 알림 메시지를 만드는 메서드
+	 *
+	 * @param lastActorId 마지막으로 알림을 발생시킨 회원 아이디
+	 * @param actorCount  알림을 발생시킨 회원 수 (같은 회원은 한번만 센다.)
+	 * @return "testId 님 외 2명이 게시글에 좋아요를 눌렀습니다." 형태의 메시지
+	 */
+	public String message(String lastActorId, long actorCount) {
+		if (actorCount <= 1) {
+			return lastActorId + " 님이 " + description;
+		}
+		return lastActorId + " 님 외 " + (actorCount - 1) + "명이 " + description;
+	}
+}
@@ -0,0 +1,21 @@
+package pulleydoreurae.careerquestbackend.notification.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 읽지 않은 알림 수 Response
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCountResponse {
+
+	private Long unreadCount; // 읽지 않은 알림 수
+}
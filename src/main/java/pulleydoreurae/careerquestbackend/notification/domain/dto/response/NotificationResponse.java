@@ -0,0 +1,32 @@
+package pulleydoreurae.careerquestbackend.notification.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+
+/**
+ * 알림 Response
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class NotificationResponse {
+
+	private Long notificationId; // 알림 id
+	private NotificationType type; // 알림 종류
+	private Long targetId; // 게시글, 후기, 팀 id
+	private Long actorCount; // 합쳐진 알림 횟수
+	private String lastActorId; // 마지막으로 알림을 발생시킨 회원 아이디
+	private String message; // 알림 메시지
+	private Boolean isRead; // 읽음 여부
+	private String createdAt; // 처음 발생한 시간
+	private String modifiedAt; // 마지막으로 발생한 시간
+}
@@ -0,0 +1,53 @@
+package pulleydoreurae.careerquestbackend.notification.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.common.entity.BaseEntity;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+
+/**
+ * 알림 Entity
+ * <p>
+ * 읽지 않은 알림은 (받는 회원, 종류, 대상) 마다 하나만 유지하고 같은 알림이 다시 발생하면 회원 수와 마지막 회원만 바꾼다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Notification extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private UserAccount userAccount; // 알림을 받는 회원
+
+	@Enumerated(EnumType.STRING)
+	private NotificationType type;
+
+	private Long targetId; // 게시글, 후기, 팀 id
+
+	private Long actorCount; // 읽기 전까지 알림을 발생시킨 회원 수 (NotificationActor 의 행 수)
+
+	private String lastActorId; // 마지막으로 알림을 발생시킨 회원 아이디
+
+	private boolean isRead;
+}
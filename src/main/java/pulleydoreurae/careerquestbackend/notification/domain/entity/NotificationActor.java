@@ -0,0 +1,41 @@
+package pulleydoreurae.careerquestbackend.notification.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림을 발생시킨 회원 Entity
+ * <p>
+ * 같은 회원이 좋아요를 취소했다 다시 누르거나 댓글을 여러번 남겨도 한명으로 세도록 합쳐진 알림마다 회원을 한번씩만 남긴다.
+ * 알림의 actorCount 는 이 테이블의 행 수이며, 알림을 읽으면 더이상 합치지 않으므로 삭제한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"notification_id", "actor_id"}))
+public class NotificationActor {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "notification_id", nullable = false)
+	private Long notificationId; // Notification 의 id
+
+	@Column(name = "actor_id", nullable = false)
+	private String actorId; // 알림을 발생시킨 회원 아이디
+}
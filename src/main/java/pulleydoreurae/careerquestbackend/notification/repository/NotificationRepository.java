@@ -0,0 +1,40 @@
+package pulleydoreurae.careerquestbackend.notification.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import pulleydoreurae.careerquestbackend.notification.domain.entity.Notification;
+
+/**
+ * 알림 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
+
+	Slice<Notification> findAllByUserAccountIdAndIdLessThanOrderByIdDesc(Long userAccountId, Long beforeId,
+			Pageable pageable);
+
+	long countByUserAccountIdAndIsReadFalse(Long userAccountId);
+
+	@Modifying
+	@Query("UPDATE Notification n SET n.isRead = true WHERE n.userAccount.id = :userAccountId AND n.isRead = false")
+	int markAllAsRead(@Param("userAccountId") Long userAccountId);
+
+	@Modifying
+	@Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.userAccount.id = :userAccountId")
+	int markAsRead(@Param("id") Long id, @Param("userAccountId") Long userAccountId);
+
+	/**
+	 * 읽은 알림은 더이상 합치지 않으므로 알림을 발생시킨 회원 정보를 삭제한다.
+	 */
+	@Modifying
+	@Query("DELETE FROM NotificationActor a WHERE a.notificationId IN "
+			+ "(SELECT n.id FROM Notification n WHERE n.userAccount.id = :userAccountId AND n.isRead = true)")
+	int deleteActorsOfRead(@Param("userAccountId") Long userAccountId);
+}
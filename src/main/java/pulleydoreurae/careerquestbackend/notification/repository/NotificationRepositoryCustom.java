@@ -0,0 +1,29 @@
+package pulleydoreurae.careerquestbackend.notification.repository;
+
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+
+/**
+ * 모아둔 알림을 JDBC 로 일괄 반영하기 위한 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface NotificationRepositoryCustom {
+
+	@Transactional
+	List<Event> applyEvents(List<Event> events);
+
+	/**
+	 * 모아둔 알림 (같은 받는 회원, 종류, 대상의 알림은 하나로 합쳐져 있다.)
+	 *
+	 * @param userAccountId 받는 회원 id
+	 * @param actorIds      알림을 발생시킨 회원 아이디 (중복 없음)
+	 * @param lastActorId   마지막으로 알림을 발생시킨 회원 아이디
+	 */
+	record Event(Long userAccountId, NotificationType type, Long targetId, List<String> actorIds, String lastActorId) {
+	}
+}
@@ -0,0 +1,85 @@
+package pulleydoreurae.careerquestbackend.notification.repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 JDBC 일괄 반영 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 모아둔 알림을 batch 로 반영하는 메서드
+	 * 읽지 않은 같은 알림이 있다면 마지막 회원만 바꾸고, 없는 알림만 새로 넣는다. (이미 탈퇴한 회원의 알림은 넣지 않는다.)
+	 * 알림을 발생시킨 회원은 알림마다 한번씩만 남기고, 남은 회원 수로 actor_count 를 다시 센다.
+	 *
+	 * @param events 모아둔 알림
+	 * @return 새로 넣은 알림 (읽지 않은 알림 수를 다시 셀 때 사용한다.)
+	 */
+	@Override
+	public List<Event> applyEvents(List<Event> events) {
+		if (events.isEmpty()) {
+			return List.of();
+		}
+		String now = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy.MM.dd HH:mm"));
+
+		int[] updated = jdbcTemplate.batchUpdate("UPDATE notification SET last_actor_id = ?, modified_at = ? "
+						+ "WHERE user_id = ? AND type = ? AND target_id = ? AND is_read = false",
+				events.stream()
+						.map(event -> new Object[] {event.lastActorId(), now,
+								event.userAccountId(), event.type().name(), event.targetId()})
+						.toList());
+		List<Event> missing = new ArrayList<>();
+		for (int i = 0; i < events.size(); i++) {
+			if (updated[i] == 0) {
+				missing.add(events.get(i));
+			}
+		}
+
+		List<Event> result = new ArrayList<>();
+		if (!missing.isEmpty()) {
+			int[] inserted = jdbcTemplate.batchUpdate("INSERT INTO notification "
+							+ "(user_id, type, target_id, actor_count, last_actor_id, is_read, created_at, modified_at) "
+							+ "SELECT u.id, ?, ?, 0, ?, false, ?, ? FROM user_account u WHERE u.id = ?",
+					missing.stream()
+							.map(event -> new Object[] {event.type().name(), event.targetId(),
+									event.lastActorId(), now, now, event.userAccountId()})
+							.toList());
+			for (int i = 0; i < missing.size(); i++) {
+				if (inserted[i] != 0) {
+					result.add(missing.get(i));
+				}
+			}
+		}
+
+		// 이미 남아있는 회원은 다시 넣지 않는다.
+		List<Object[]> actors = new ArrayList<>();
+		events.forEach(event -> event.actorIds().forEach(actorId -> actors.add(new Object[] {actorId,
+				event.userAccountId(), event.type().name(), event.targetId(), actorId})));
+		jdbcTemplate.batchUpdate("INSERT INTO notification_actor (notification_id, actor_id) "
+				+ "SELECT n.id, ? FROM notification n "
+				+ "WHERE n.user_id = ? AND n.type = ? AND n.target_id = ? AND n.is_read = false "
+				+ "AND NOT EXISTS (SELECT 1 FROM notification_actor a WHERE a.notification_id = n.id AND a.actor_id = ?)",
+				actors);
+
+		jdbcTemplate.batchUpdate("UPDATE notification SET actor_count = "
+						+ "(SELECT COUNT(*) FROM notification_actor a WHERE a.notification_id = notification.id) "
+						+ "WHERE user_id = ? AND type = ? AND target_id = ? AND is_read = false",
+				events.stream()
+						.map(event -> new Object[] {event.userAccountId(), event.type().name(), event.targetId()})
+						.toList());
+		return result;
+	}
+}
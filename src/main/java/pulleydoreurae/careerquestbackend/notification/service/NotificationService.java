@@ -0,0 +1,282 @@
+package pulleydoreurae.careerquestbackend.notification.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
+import pulleydoreurae.careerquestbackend.common.service.CommonService;
+import pulleydoreurae.careerquestbackend.common.utils.RedisLockUtils;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.domain.dto.response.NotificationResponse;
+import pulleydoreurae.careerquestbackend.notification.domain.entity.Notification;
+import pulleydoreurae.careerquestbackend.notification.repository.NotificationRepository;
+import pulleydoreurae.careerquestbackend.notification.repository.NotificationRepositoryCustom.Event;
+
+/**
+ * 알림 Service
+ * <p>
+ * 댓글, 좋아요, 팀 참여가 발생하면 Redis hash 에 (받는 회원, 종류, 대상) 별 회원과 마지막 회원만 남기고,
+ * 백그라운드 작업이 이를 모아 batch 로 데이터베이스에 반영한다. 인기 게시글처럼 짧은 시간에 좋아요가 몰려도 알림은 한 행만 바뀐다.
+ * 같은 회원이 여러번 발생시킨 알림은 한명으로 센다. ("12명이 좋아요를 눌렀습니다.")
+ * 읽지 않은 알림 수는 Redis 카운터로 유지하며 카운터가 없다면 데이터베이스에서 다시 센다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+	static final String PENDING_KEY = "notifications:pending"; // 반영 대기 알림 (필드는 받는 회원 id:종류:대상 id:회원 아이디)
+	static final String PENDING_ACTOR_KEY = "notifications:pending:actor"; // 반영 대기 알림의 마지막 회원 아이디
+	static final String FLUSHING_KEY = "notifications:flushing";
+	static final String FLUSHING_ACTOR_KEY = "notifications:flushing:actor";
+	private static final String FLUSH_LOCK_KEY = "notifications:flush-lock"; // 여러 서버가 동시에 반영하지 않도록 잠근다.
+	private static final Duration FLUSH_LOCK_TTL = Duration.ofSeconds(30);
+	private static final Duration UNREAD_TTL = Duration.ofDays(1); // 카운터가 어긋나더라도 하루가 지나면 다시 센다.
+
+	/**
+	 * KEYS[1] 반영 대기 회원 hash, KEYS[2] 반영 대기 마지막 회원 hash
+	 * ARGV[1] 받는 회원 id:종류:대상 id, ARGV[2] 알림을 발생시킨 회원 아이디
+	 * 같은 회원은 한번만 남기고, 새로 남겼다면 1 을 반환한다.
+	 */
+	private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+			redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+			return redis.call('HSETNX', KEYS[1], ARGV[1] .. ':' .. ARGV[2], 1)
+			""", Long.class);
+
+	/**
+	 * KEYS[1] 반영중 회원 hash, KEYS[2] 반영중 마지막 회원 hash, KEYS[3] 반영 대기 회원 hash, KEYS[4] 반영 대기 마지막 회원 hash
+	 * 반영 대기 hash 를 반영중 hash 로 옮기고 반영할 알림이 있다면 1 을 반환한다.
+	 * (이전 반영에 실패해 반영중 hash 가 남아있다면 그것부터 반영한다.)
+	 */
+	private static final RedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>("""
+			if redis.call('EXISTS', KEYS[1]) == 1 then return 1 end
+			if redis.call('EXISTS', KEYS[3]) == 0 then return 0 end
+			redis.call('RENAME', KEYS[3], KEYS[1])
+			if redis.call('EXISTS', KEYS[4]) == 1 then
+				redis.call('RENAME', KEYS[4], KEYS[2])
+			end
+			return 1
+			""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final NotificationRepository notificationRepository;
+	private final CommonService commonService;
+
+	/**
+	 * 알림을 남기는 메서드 (트랜잭션 안에서 호출되었다면 커밋된 후에 남기며, 실패해도 요청은 계속 처리한다.)
+	 *
+	 * @param recipientId 알림을 받는 회원 id (자기 자신이 발생시킨 알림은 남기지 않는다.)
+	 * @param type        알림 종류
+	 * @param targetId    게시글, 후기, 팀 id
+	 * @param actor       알림을 발생시킨 회원
+	 */
+	public void notify(Long recipientId, NotificationType type, Long targetId, UserAccount actor) {
+		if (recipientId == null || recipientId.equals(actor.getId())) {
+			return;
+		}
+		TransactionUtils.afterCommit(() -> {
+			try {
+				redisTemplate.execute(RECORD_SCRIPT, List.of(PENDING_KEY, PENDING_ACTOR_KEY),
+						field(recipientId, type, targetId), actor.getUserId());
+			} catch (RuntimeException e) { // Redis 를 사용할 수 없다면 바로 데이터베이스에 남긴다.
+				log.warn("알림 저장 실패, 데이터베이스에 바로 저장합니다. {}", e.getMessage());
+				List<Event> inserted;
+				try {
+					inserted = notificationRepository.applyEvents(List.of(new Event(recipientId, type, targetId,
+							List.of(actor.getUserId()), actor.getUserId())));
+				} catch (RuntimeException ex) {
+					log.error("알림 저장 실패 {}", ex.getMessage());
+					return;
+				}
+				// 반영 경로와 같이 새 알림이 생겼다면 카운터를 지워서 다음 조회에서 다시 세게 한다.
+				try {
+					deleteUnread(inserted.stream().map(Event::userAccountId).distinct().toList());
+				} catch (RuntimeException ex) {
+					log.warn("읽지 않은 알림 수 초기화 실패 {}", ex.getMessage());
+				}
+			}
+		});
+	}
+
+	/**
+	 * 알림 목록을 최신순으로 불러오는 메서드
+	 *
+	 * @param userId 회원 아이디
+	 * @param cursor 이전 요청에서 전달받은 커서 (첫 요청이라면 null)
+	 * @param limit  조회할 개수
+	 * @return 알림 리스트와 다음 커서
+	 */
+	public CursorResponse<NotificationResponse> findNotifications(String userId, String cursor, int limit) {
+		UserAccount user = commonService.findUserAccount(userId, true);
+		Slice<Notification> notifications = notificationRepository.findAllByUserAccountIdAndIdLessThanOrderByIdDesc(
+				user.getId(), CursorResponse.decode(cursor), CursorResponse.limit(limit));
+
+		List<NotificationResponse> content = notifications.getContent().stream()
+				.map(notification -> NotificationResponse.builder()
+						.notificationId(notification.getId())
+						.type(notification.getType())
+						.targetId(notification.getTargetId())
+						.actorCount(notification.getActorCount())
+						.lastActorId(notification.getLastActorId())
+						.message(notification.getType()
+								.message(notification.getLastActorId(), notification.getActorCount()))
+						.isRead(notification.isRead())
+						.createdAt(notification.getCreatedAt())
+						.modifiedAt(notification.getModifiedAt())
+						.build())
+				.toList();
+		return CursorResponse.of(content, notifications, Notification::getId);
+	}
+
+	/**
+	 * 읽지 않은 알림 수를 반환하는 메서드 (Redis 카운터가 없다면 데이터베이스에서 세어 다시 만든다.)
+	 *
+	 * @param userId 회원 아이디
+	 * @return 읽지 않은 알림 수
+	 */
+	public Long countUnread(String userId) {
+		UserAccount user = commonService.findUserAccount(userId, true);
+		String key = unreadKey(user.getId());
+		try {
+			String count = redisTemplate.opsForValue().get(key);
+			if (count != null) {
+				return Long.valueOf(count);
+			}
+		} catch (RuntimeException e) {
+			log.warn("읽지 않은 알림 수 조회 실패, 데이터베이스에서 확인합니다. {}", e.getMessage());
+			return notificationRepository.countByUserAccountIdAndIsReadFalse(user.getId());
+		}
+
+		long count = notificationRepository.countByUserAccountIdAndIsReadFalse(user.getId());
+		try {
+			redisTemplate.opsForValue().set(key, String.valueOf(count), UNREAD_TTL);
+		} catch (RuntimeException e) {
+			log.warn("읽지 않은 알림 수 저장 실패 {}", e.getMessage());
+		}
+		return count;
+	}
+
+	/**
+	 * 모든 알림을 읽음으로 바꾸는 메서드
+	 *
+	 * @param userId 회원 아이디
+	 */
+	@Transactional
+	public void markAllAsRead(String userId) {
+		UserAccount user = commonService.findUserAccount(userId, true);
+		notificationRepository.markAllAsRead(user.getId());
+		notificationRepository.deleteActorsOfRead(user.getId());
+		resetUnread(user.getId());
+	}
+
+	/**
+	 * 알림 하나를 읽음으로 바꾸는 메서드
+	 *
+	 * @param userId         회원 아이디
+	 * @param notificationId 알림 id
+	 */
+	@Transactional
+	public void markAsRead(String userId, Long notificationId) {
+		UserAccount user = commonService.findUserAccount(userId, true);
+		if (notificationRepository.markAsRead(notificationId, user.getId()) == 0) {
+			throw new IllegalArgumentException("알림 정보를 찾을 수 없습니다.");
+		}
+		notificationRepository.deleteActorsOfRead(user.getId());
+		resetUnread(user.getId());
+	}
+
+	/**
+	 * 모아둔 알림을 데이터베이스에 반영하는 메서드 (5초 간격으로 실행)
+	 */
+	@Scheduled(fixedDelay = 5000)
+	public void flush() {
+		try {
+			String token = RedisLockUtils.tryLock(redisTemplate, FLUSH_LOCK_KEY, FLUSH_LOCK_TTL);
+			if (token == null) {
+				return;
+			}
+			try {
+				flushPending();
+			} finally {
+				RedisLockUtils.unlock(redisTemplate, FLUSH_LOCK_KEY, token);
+			}
+		} catch (RuntimeException e) {
+			log.error("알림 반영 실패, 다음 주기에 다시 시도합니다. {}", e.getMessage());
+		}
+	}
+
+	private void flushPending() {
+		Long taken = redisTemplate.execute(TAKE_SCRIPT,
+				List.of(FLUSHING_KEY, FLUSHING_ACTOR_KEY, PENDING_KEY, PENDING_ACTOR_KEY));
+		if (taken == null || taken != 1L) {
+			return;
+		}
+
+		Map<String, String> lastActors = redisTemplate.<String, String>opsForHash().entries(FLUSHING_ACTOR_KEY);
+		// 받는 회원 id:종류:대상 id 별로 회원을 모은다. (회원 아이디에 ':' 가 있을 수 있으므로 네 부분으로만 나눈다.)
+		Map<String, List<String>> actors = new LinkedHashMap<>();
+		redisTemplate.<String, String>opsForHash().keys(FLUSHING_KEY).forEach(field -> {
+			String[] parts = field.split(":", 4);
+			actors.computeIfAbsent(parts[0] + ":" + parts[1] + ":" + parts[2], key -> new ArrayList<>()).add(parts[3]);
+		});
+		List<Event> events = new ArrayList<>();
+		actors.forEach((field, actorIds) -> {
+			String[] parts = field.split(":");
+			events.add(new Event(Long.valueOf(parts[0]), NotificationType.valueOf(parts[1]), Long.valueOf(parts[2]),
+					actorIds, lastActors.getOrDefault(field, actorIds.get(actorIds.size() - 1))));
+		});
+
+		// 실패하면 반영중 hash 를 남겨두고 다음 주기에 다시 반영한다.
+		List<Event> inserted = notificationRepository.applyEvents(events);
+		redisTemplate.delete(List.of(FLUSHING_KEY, FLUSHING_ACTOR_KEY));
+
+		// 반영 직전에 데이터베이스에서 센 카운터가 남아있을 수 있으므로 늘리지 않고 지워서 다음 조회에서 다시 세게 한다.
+		deleteUnread(inserted.stream().map(Event::userAccountId).distinct().toList());
+		log.info("알림 {}건 반영 (새 알림 {}건)", events.size(), inserted.size());
+	}
+
+	/**
+	 * 읽지 않은 알림 수 카운터를 지우는 메서드 (다음 조회에서 데이터베이스 기준으로 다시 센다.)
+	 */
+	private void resetUnread(Long userAccountId) {
+		TransactionUtils.afterCommit(() -> {
+			try {
+				redisTemplate.delete(unreadKey(userAccountId));
+			} catch (RuntimeException e) {
+				log.warn("읽지 않은 알림 수 초기화 실패 {}", e.getMessage());
+			}
+		});
+	}
+
+	private void deleteUnread(List<Long> userAccountIds) {
+		if (!userAccountIds.isEmpty()) {
+			redisTemplate.delete(userAccountIds.stream().map(this::unreadKey).toList());
+		}
+	}
+
+	private String field(Long recipientId, NotificationType type, Long targetId) {
+		return recipientId + ":" + type.name() + ":" + targetId;
+	}
+
+	private String unreadKey(Long userAccountId) {
+		return "notifications:unread:" + userAccountId;
+	}
+}
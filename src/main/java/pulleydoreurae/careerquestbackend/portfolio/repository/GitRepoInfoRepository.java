@@ -3,14 +3,20 @@ package pulleydoreurae.careerquestbackend.portfolio.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.portfolio.domain.entity.GitRepoInfo;
 
-public interface GitRepoInfoRepository extends JpaRepository<GitRepoInfo, Long> {
+public interface GitRepoInfoRepository extends JpaRepository<GitRepoInfo, Long>, GitRepoInfoRepositoryCustom {
 
 	boolean existsByUserAccount(UserAccount userAccount);
-	void deleteAllByUserAccount(UserAccount userAccount);
+
+	@Modifying
+	@Query("delete from GitRepoInfo g where g.userAccount = :userAccount")
+	void deleteAllByUserAccount(@Param("userAccount") UserAccount userAccount);
 
 	List<GitRepoInfo> findAllByUserAccount(UserAccount user);
 }
@@ -0,0 +1,16 @@
+package pulleydoreurae.careerquestbackend.portfolio.repository;
+
+import java.util.List;
+
+import pulleydoreurae.careerquestbackend.portfolio.domain.entity.GitRepoInfo;
+
+/**
+ * 깃허브 리포지토리 정보를 JDBC 로 일괄 저장하기 위한 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface GitRepoInfoRepositoryCustom {
+
+	void saveAllInBatch(List<GitRepoInfo> repositories);
+}
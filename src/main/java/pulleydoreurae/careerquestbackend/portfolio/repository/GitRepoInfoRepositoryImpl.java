@@ -0,0 +1,36 @@
+package pulleydoreurae.careerquestbackend.portfolio.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.portfolio.domain.entity.GitRepoInfo;
+
+/**
+ * 깃허브 리포지토리 정보 JDBC 일괄 저장 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class GitRepoInfoRepositoryImpl implements GitRepoInfoRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 깃허브 리포지토리 정보를 한번의 batch insert 로 저장하는 메서드
+	 *
+	 * @param repositories 저장할 깃허브 리포지토리 정보
+	 */
+	@Override
+	public void saveAllInBatch(List<GitRepoInfo> repositories) {
+		if (repositories.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO git_repo_info (name, project_url, user_id) VALUES (?, ?, ?)",
+				repositories.stream()
+						.map(repo -> new Object[] {repo.getName(), repo.getProject_url(), repo.getUserAccount().getId()})
+						.toList());
+	}
+}
@@ -3,12 +3,17 @@ package pulleydoreurae.careerquestbackend.portfolio.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.portfolio.domain.entity.GitRepoLanguage;
 
-public interface GitRepoLanguageRepository extends JpaRepository<GitRepoLanguage, Long> {
+public interface GitRepoLanguageRepository extends JpaRepository<GitRepoLanguage, Long>, GitRepoLanguageRepositoryCustom {
 	boolean existsByUserAccount(UserAccount userAccount);
-	void deleteAllByUserAccount(UserAccount userAccount);
+	@Modifying
+	@Query("delete from GitRepoLanguage g where g.userAccount = :userAccount")
+	void deleteAllByUserAccount(@Param("userAccount") UserAccount userAccount);
 	List<GitRepoLanguage> findAllByUserAccount(UserAccount user);
 }
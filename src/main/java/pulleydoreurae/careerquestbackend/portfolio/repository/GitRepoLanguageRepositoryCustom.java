@@ -0,0 +1,16 @@
+package pulleydoreurae.careerquestbackend.portfolio.repository;
+
+import java.util.List;
+
+import pulleydoreurae.careerquestbackend.portfolio.domain.entity.GitRepoLanguage;
+
+/**
+ * 깃허브 언어 정보를 JDBC 로 일괄 저장하기 위한 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface GitRepoLanguageRepositoryCustom {
+
+	void saveAllInBatch(List<GitRepoLanguage> languages);
+}
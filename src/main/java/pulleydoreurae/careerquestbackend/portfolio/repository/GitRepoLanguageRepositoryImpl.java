@@ -0,0 +1,36 @@
+package pulleydoreurae.careerquestbackend.portfolio.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.portfolio.domain.entity.GitRepoLanguage;
+
+/**
+ * 깃허브 언어 정보 JDBC 일괄 저장 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class GitRepoLanguageRepositoryImpl implements GitRepoLanguageRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 깃허브 언어 정보를 한번의 batch insert 로 저장하는 메서드
+	 *
+	 * @param languages 저장할 깃허브 언어 정보
+	 */
+	@Override
+	public void saveAllInBatch(List<GitRepoLanguage> languages) {
+		if (languages.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO git_repo_language (name, count, user_id) VALUES (?, ?, ?)",
+				languages.stream()
+						.map(language -> new Object[] {language.getName(), language.getCount(), language.getUserAccount().getId()})
+						.toList());
+	}
+}
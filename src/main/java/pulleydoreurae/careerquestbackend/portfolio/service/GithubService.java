@@ -200,13 +200,9 @@ public class GithubService {
 	public void saveRepoLists(String userId, FinalResponse response) {
 		UserAccount user = userAccountService.findUserByUserId(userId);
 
-		if (gitRepoInfoRepository.existsByUserAccount(user)) {
-			gitRepoInfoRepository.deleteAllByUserAccount(user);
-		}
-
-		if (gitRepoLanguageRepository.existsByUserAccount(user)) {
-			gitRepoLanguageRepository.deleteAllByUserAccount(user);
-		}
+		// 기존 정보는 한번의 delete 문으로 삭제 (없다면 아무것도 삭제되지 않는다.)
+		gitRepoInfoRepository.deleteAllByUserAccount(user);
+		gitRepoLanguageRepository.deleteAllByUserAccount(user);
 
 		List<GitRepoInfo> repositories = response.getGitRepoInfoList().stream().map(repoInfo -> {
 			GitRepoInfo repo = GitRepoInfo.builder()
@@ -218,7 +214,7 @@ public class GithubService {
 		}).collect(Collectors.toList());
 
 		// 리포지토리 저장
-		gitRepoInfoRepository.saveAll(repositories);
+		gitRepoInfoRepository.saveAllInBatch(repositories);
 
 		// 저장할 언어 목록
 		List<GitRepoLanguage> languages = response.getLanguages().entrySet().stream().map(entry -> {
@@ -231,7 +227,7 @@ public class GithubService {
 		}).collect(Collectors.toList());
 
 		// 언어 저장
-		gitRepoLanguageRepository.saveAll(languages);
+		gitRepoLanguageRepository.saveAllInBatch(languages);
 
 	}
 }
@@ -14,8 +14,10 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.AllArgsConstructor;
 import pulleydoreurae.careerquestbackend.common.dto.response.SimpleResponse;
+import pulleydoreurae.careerquestbackend.search.domain.response.AutocompleteResponse;
 import pulleydoreurae.careerquestbackend.search.domain.response.SearchRankResponse;
 import pulleydoreurae.careerquestbackend.search.domain.response.SearchResultResponse;
+import pulleydoreurae.careerquestbackend.search.service.AutocompleteService;
 import pulleydoreurae.careerquestbackend.search.service.SearchService;
 
 @RequestMapping("/api")
@@ -24,6 +26,7 @@ import pulleydoreurae.careerquestbackend.search.service.SearchService;
 public class SearchController {
 
 	private final SearchService searchService;
+	private final AutocompleteService autocompleteService;
 
 	@GetMapping("/search/ranking")
 	public ResponseEntity<?> getRanking(){
@@ -37,6 +40,13 @@ public class SearchController {
 		return ResponseEntity.status(HttpStatus.OK).body(searchService.findAllByKeyword(keyword, pageable));
 	}
 
+	@GetMapping("/search/autocomplete")
+	public ResponseEntity<List<AutocompleteResponse>> autocomplete(@RequestParam("keyword") String keyword,
+		@RequestParam(value = "limit", defaultValue = "10") int limit){
+
+		return ResponseEntity.status(HttpStatus.OK).body(autocompleteService.suggest(keyword, limit));
+	}
+
 	@GetMapping("/search/update")
 	public ResponseEntity<SimpleResponse> updateKeyword(){
 		searchService.updateRankings();
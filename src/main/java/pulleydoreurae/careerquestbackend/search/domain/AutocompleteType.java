@@ -0,0 +1,14 @@
+package pulleydoreurae.careerquestbackend.search.domain;
+
+/**
+ * 자동완성 검색어의 출처
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public enum AutocompleteType {
+	KEYWORD, // 실시간 인기 검색어
+	CERTIFICATION, // 자격증 이름
+	TECH_STACK, // 기술 스택 이름
+	TEAM // 팀 이름
+}
@@ -0,0 +1,14 @@
+package pulleydoreurae.careerquestbackend.search.domain;
+
+/**
+ * 통합검색 결과에 포함되는 대상 (대상마다 검색결과 캐시의 버전을 따로 관리한다.)
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public enum SearchTarget {
+	CERTIFICATION, // 자격증
+	CONTEST, // 공모전
+	POST, // 커뮤니티 게시글
+	TEAM // 스터디, 팀
+}
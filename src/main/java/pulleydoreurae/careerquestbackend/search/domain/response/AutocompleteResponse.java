@@ -0,0 +1,23 @@
+package pulleydoreurae.careerquestbackend.search.domain.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import pulleydoreurae.careerquestbackend.search.domain.AutocompleteType;
+
+/**
+ * 자동완성 검색어 Response
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AutocompleteResponse {
+
+	private String keyword; // 검색어
+	private AutocompleteType type; // 검색어 출처
+}
@@ -0,0 +1,370 @@
+package pulleydoreurae.careerquestbackend.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리에 유지하는 자동완성 색인 (접두어 trie)
+ * <p>
+ * 정규화한 검색어마다 전체 문자열과 띄어쓰기 뒤의 단어로 시작하는 문자열을 trie 에 넣고,
+ * 각 노드에 그 아래 검색어 중 인기 점수가 높은 상위 검색어를 미리 정렬해 둔다.
+ * 조회는 접두어 길이만큼 노드를 따라간 뒤 저장된 상위 검색어를 반환하므로 전체 검색어 수와 상관없이 일정한 시간이 걸린다.
+ * 검색어가 추가, 삭제되거나 점수가 바뀌면 해당 검색어가 지나는 노드의 상위 검색어만 다시 계산한다.
+ * 같은 검색어가 여러 출처(자격증, 팀 등)에서 들어오면 하나로 합친다.
+ * 조회는 동시에, 수정은 하나씩 처리한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public class AutocompleteIndex {
+
+	public static final int MAX_SUGGESTIONS = 10; // 노드마다 유지하는 상위 검색어 수 (한번에 조회할 수 있는 최대 개수)
+	private static final int MAX_WORDS = 5; // 단어 단위로 넣을 최대 단어 수
+	private static final int MAX_INCREMENTAL_CHANGES = 100; // 점수나 검색어가 바뀐 출처가 이보다 많다면 전체를 다시 계산한다.
+	private static final Entry[] EMPTY = new Entry[0];
+	private static final Comparator<Entry> ORDER = Comparator.comparingDouble((Entry entry) -> entry.score)
+			.reversed()
+			.thenComparingInt(entry -> entry.key.length())
+			.thenComparing(entry -> entry.key);
+
+	private final Node root = new Node();
+	private final Map<String, Entry> entries = new HashMap<>(); // 정규화한 검색어 -> 검색어
+	private final Map<String, String> sourceKeys = new HashMap<>(); // 출처 id -> 정규화한 검색어
+	private final Map<String, Double> scores = new HashMap<>(); // 정규화한 검색어 -> 인기 점수
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 검색어를 색인하는 메서드 (같은 출처로 이미 색인된 검색어가 있다면 교체한다.)
+	 *
+	 * @param sourceId 출처 id (TEAM:1 처럼 출처 종류와 id 로 만든 값)
+	 * @param type     출처 종류
+	 * @param key      정규화한 검색어
+	 * @param display  보여줄 검색어
+	 */
+	public void put(String sourceId, String type, String key, String display) {
+		if (key == null || key.isEmpty()) {
+			remove(sourceId);
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			putSource(sourceId, type, key, display, false);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 출처의 검색어를 색인에서 제거하는 메서드 (다른 출처가 남아있다면 검색어는 유지한다.)
+	 *
+	 * @param sourceId 출처 id
+	 */
+	public void remove(String sourceId) {
+		lock.writeLock().lock();
+		try {
+			removeSource(sourceId, false);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 출처 종류의 검색어를 한번에 교체하는 메서드 (목록에 없는 출처는 제거한다.)
+	 * <p>
+	 * 검색어가 바뀐 출처의 경로만 다시 계산하며, 바뀐 출처가 많다면 모두 반영한 뒤 전체를 한번 다시 계산한다.
+	 *
+	 * @param type     출처 종류
+	 * @param prefix   출처 id 의 접두어
+	 * @param keys     출처 id -> 정규화한 검색어
+	 * @param displays 출처 id -> 보여줄 검색어
+	 * @return 추가, 제거되거나 검색어가 바뀐 출처 수
+	 */
+	public int replaceAll(String type, String prefix, Map<String, String> keys, Map<String, String> displays) {
+		lock.writeLock().lock();
+		try {
+			List<String> removed = sourceKeys.keySet().stream()
+					.filter(sourceId -> sourceId.startsWith(prefix) && !keys.containsKey(sourceId))
+					.toList();
+			long changed = keys.entrySet().stream()
+					.filter(key -> !Objects.equals(key.getValue(), sourceKeys.get(key.getKey())))
+					.count();
+			int changes = removed.size() + (int)changed;
+			// 바뀐 출처가 많다면 경로마다 다시 계산하는 것보다 전체를 한번 다시 계산하는 편이 빠르다.
+			boolean deferred = changes > MAX_INCREMENTAL_CHANGES;
+
+			removed.forEach(sourceId -> removeSource(sourceId, deferred));
+			keys.forEach((sourceId, key) -> {
+				if (key == null || key.isEmpty()) {
+					removeSource(sourceId, deferred);
+				} else {
+					putSource(sourceId, type, key, displays.get(sourceId), deferred); // 검색어가 같다면 보여줄 검색어만 바꾼다.
+				}
+			});
+			if (deferred) {
+				recompute(root);
+			}
+			return changes;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 인기 점수를 교체하는 메서드 (점수가 바뀐 검색어의 순위만 다시 계산한다.)
+	 *
+	 * @param newScores 정규화한 검색어 -> 인기 점수 (없는 검색어는 0점)
+	 * @return 점수가 바뀐 검색어 수
+	 */
+	public int updateScores(Map<String, Double> newScores) {
+		lock.writeLock().lock();
+		try {
+			scores.clear();
+			scores.putAll(newScores);
+			List<Entry> changed = new ArrayList<>();
+			for (Entry entry : entries.values()) {
+				double score = scores.getOrDefault(entry.key, 0.0);
+				if (entry.score != score) {
+					entry.score = score;
+					changed.add(entry);
+				}
+			}
+			// 바뀐 검색어가 많다면 경로마다 다시 계산하는 것보다 전체를 한번 다시 계산하는 편이 빠르다.
+			if (changed.size() > MAX_INCREMENTAL_CHANGES) {
+				recompute(root);
+			} else {
+				changed.forEach(this::relink);
+			}
+			return changed.size();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 접두어로 시작하는 검색어를 인기 점수 순으로 찾는 메서드
+	 *
+	 * @param prefix 정규화한 접두어
+	 * @param limit  최대 개수 (MAX_SUGGESTIONS 를 넘을 수 없다.)
+	 * @return 검색어 리스트 (점수가 같다면 짧은 검색어 먼저)
+	 */
+	public List<Suggestion> search(String prefix, int limit) {
+		if (prefix == null || prefix.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		lock.readLock().lock();
+		try {
+			Node node = find(prefix);
+			if (node == null) {
+				return List.of();
+			}
+			int size = Math.min(Math.min(limit, MAX_SUGGESTIONS), node.top.length);
+			List<Suggestion> result = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				Entry entry = node.top[i];
+				Source source = entry.sources.values().iterator().next();
+				result.add(new Suggestion(source.display(), source.type(), entry.score));
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @param deferred true 라면 경로의 상위 검색어를 다시 계산하지 않는다. (호출한 쪽에서 전체를 다시 계산해야 한다.)
+	 */
+	private void putSource(String sourceId, String type, String key, String display, boolean deferred) {
+		if (key.equals(sourceKeys.get(sourceId))) {
+			entries.get(key).sources.put(sourceId, new Source(type, display));
+			return;
+		}
+		removeSource(sourceId, deferred);
+		sourceKeys.put(sourceId, key);
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			entry = new Entry(key, scores.getOrDefault(key, 0.0));
+			entries.put(key, entry);
+			entry.sources.put(sourceId, new Source(type, display));
+			link(entry, deferred);
+		} else {
+			entry.sources.put(sourceId, new Source(type, display));
+		}
+	}
+
+	private void removeSource(String sourceId, boolean deferred) {
+		String key = sourceKeys.remove(sourceId);
+		if (key == null) {
+			return;
+		}
+		Entry entry = entries.get(key);
+		entry.sources.remove(sourceId);
+		if (entry.sources.isEmpty()) {
+			entries.remove(key);
+			unlink(entry, deferred);
+		}
+	}
+
+	/**
+	 * 검색어를 전체 문자열과 단어로 시작하는 문자열의 경로에 연결하고 경로의 상위 검색어를 다시 계산한다.
+	 */
+	private void link(Entry entry, boolean deferred) {
+		for (String path : paths(entry.key)) {
+			List<Node> nodes = new ArrayList<>(path.length() + 1);
+			Node node = root;
+			nodes.add(node);
+			for (int i = 0; i < path.length(); i++) {
+				node = node.children.computeIfAbsent(path.charAt(i), c -> new Node());
+				nodes.add(node);
+			}
+			node.ends.add(entry);
+			if (!deferred) {
+				recompute(nodes, path);
+			}
+		}
+	}
+
+	private void unlink(Entry entry, boolean deferred) {
+		for (String path : paths(entry.key)) {
+			List<Node> nodes = nodes(path);
+			if (nodes == null) {
+				continue;
+			}
+			nodes.get(nodes.size() - 1).ends.remove(entry);
+			if (!deferred) {
+				recompute(nodes, path);
+			}
+		}
+	}
+
+	private void relink(Entry entry) {
+		for (String path : paths(entry.key)) {
+			List<Node> nodes = nodes(path);
+			if (nodes != null) {
+				recompute(nodes, path);
+			}
+		}
+	}
+
+	/**
+	 * 경로의 아래쪽 노드부터 자신의 검색어와 자식 노드의 상위 검색어를 합쳐 상위 검색어를 다시 계산한다.
+	 * 검색어도 자식도 없는 노드는 제거한다.
+	 */
+	private void recompute(List<Node> nodes, String path) {
+		for (int i = nodes.size() - 1; i >= 0; i--) {
+			Node node = nodes.get(i);
+			if (i > 0 && node.ends.isEmpty() && node.children.isEmpty()) {
+				nodes.get(i - 1).children.remove(path.charAt(i - 1));
+				continue;
+			}
+			node.top = top(node);
+		}
+	}
+
+	/**
+	 * 노드 아래 전체의 상위 검색어를 다시 계산한다. (아래쪽 노드부터 계산하며 검색어도 자식도 없는 노드는 제거한다.)
+	 */
+	private void recompute(Node node) {
+		node.children.values().removeIf(child -> {
+			recompute(child);
+			return child.ends.isEmpty() && child.children.isEmpty();
+		});
+		node.top = top(node);
+	}
+
+	/**
+	 * 자신의 검색어와 자식 노드의 상위 검색어를 합쳐 상위 검색어를 구한다. (자식 노드의 상위 검색어는 이미 계산되어 있어야 한다.)
+	 */
+	private Entry[] top(Node node) {
+		Set<Entry> candidates = new HashSet<>(node.ends);
+		node.children.values().forEach(child -> candidates.addAll(Arrays.asList(child.top)));
+		return candidates.stream()
+				.sorted(ORDER)
+				.limit(MAX_SUGGESTIONS)
+				.toArray(Entry[]::new);
+	}
+
+	private Node find(String prefix) {
+		Node node = root;
+		for (int i = 0; i < prefix.length() && node != null; i++) {
+			node = node.children.get(prefix.charAt(i));
+		}
+		return node;
+	}
+
+	private List<Node> nodes(String path) {
+		List<Node> nodes = new ArrayList<>(path.length() + 1);
+		Node node = root;
+		nodes.add(node);
+		for (int i = 0; i < path.length(); i++) {
+			node = node.children.get(path.charAt(i));
+			if (node == null) {
+				return null;
+			}
+			nodes.add(node);
+		}
+		return nodes;
+	}
+
+	/**
+	 * 검색어의 전체 문자열과 띄어쓰기 뒤의 단어로 시작하는 문자열 ("spring boot" -> "spring boot", "boot")
+	 */
+	private static List<String> paths(String key) {
+		List<String> paths = new ArrayList<>();
+		paths.add(key);
+		for (int i = 1; i < key.length() && paths.size() < MAX_WORDS; i++) {
+			if (key.charAt(i - 1) == ' ' && key.charAt(i) != ' ') {
+				paths.add(key.substring(i));
+			}
+		}
+		return paths;
+	}
+
+	/**
+	 * 자동완성 결과
+	 *
+	 * @param keyword 보여줄 검색어
+	 * @param type    출처 종류 (여러 출처라면 처음 색인된 출처)
+	 * @param score   인기 점수
+	 */
+	public record Suggestion(String keyword, String type, double score) {
+	}
+
+	private record Source(String type, String display) {
+	}
+
+	private static class Entry {
+		private final String key;
+		private final Map<String, Source> sources = new LinkedHashMap<>();
+		private double score;
+
+		private Entry(String key, double score) {
+			this.key = key;
+			this.score = score;
+		}
+	}
+
+	private static class Node {
+		private final Map<Character, Node> children = new HashMap<>();
+		private final List<Entry> ends = new ArrayList<>(1);
+		private Entry[] top = EMPTY;
+	}
+}
@@ -0,0 +1,199 @@
+package pulleydoreurae.careerquestbackend.search.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 메모리에 유지하는 역색인 (토큰 -> 문서 id -> 빈도)
+ * <p>
+ * 검색어의 모든 토큰을 포함한 문서만 찾고, 제목에 가중치를 둔 tf-idf 점수 순으로 정렬한다. (점수가 같다면 최신 문서 먼저)
+ * 조회는 동시에, 수정은 하나씩 처리한다.
+ * 주기적으로 전체 문서를 다시 색인하므로 내용이 바뀌지 않은 문서는 다시 토큰으로 나누지 않는다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public class InvertedIndex {
+
+	private static final int TITLE_WEIGHT = 3; // 제목에 나온 토큰은 내용보다 3배 중요하게 본다.
+
+	private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+	private final Map<Long, Document> documents = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * 문서를 색인하는 메서드 (이미 색인된 문서라면 교체한다.)
+	 *
+	 * @param id      문서 id
+	 * @param filter  검색시 함께 거를 값 (게시글 카테고리, 후기 자격증명 등)
+	 * @param title   제목
+	 * @param content 내용
+	 */
+	public void put(Long id, String filter, String title, String content) {
+		int signature = Objects.hash(filter, title, content);
+		lock.readLock().lock();
+		try {
+			Document indexed = documents.get(id);
+			if (indexed != null && indexed.signature() == signature) {
+				return;
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		Map<String, Integer> terms = new HashMap<>();
+		NgramTokenizer.tokenize(title).forEach(term -> terms.merge(term, TITLE_WEIGHT, Integer::sum));
+		NgramTokenizer.tokenize(content).forEach(term -> terms.merge(term, 1, Integer::sum));
+		int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+			documents.put(id, new Document(filter, terms.keySet(), Math.max(length, 1), signature));
+			terms.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 문서를 색인에서 제거하는 메서드
+	 *
+	 * @param id 문서 id
+	 */
+	public void remove(Long id) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색어로 문서 id 를 찾는 메서드
+	 *
+	 * @param keyword  검색어
+	 * @param filter   null 이라면 전체, 값이 있다면 색인할 때 지정한 값이 같은 문서만 찾는다.
+	 * @param pageable 페이지
+	 * @return 점수 순으로 정렬한 문서 id 페이지
+	 */
+	public Page<Long> search(String keyword, String filter, Pageable pageable) {
+		Set<String> queryTerms = new HashSet<>(NgramTokenizer.tokenizeQuery(keyword));
+		if (queryTerms.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		List<Long> ranked;
+		lock.readLock().lock();
+		try {
+			List<Map<Long, Integer>> matches = new ArrayList<>();
+			for (String term : queryTerms) {
+				Map<Long, Integer> posting = postings.get(term);
+				if (posting == null) { // 하나라도 없는 토큰이 있다면 결과가 없다.
+					return Page.empty(pageable);
+				}
+				matches.add(posting);
+			}
+			// 가장 짧은 목록부터 확인해 비교 횟수를 줄인다.
+			matches.sort(Comparator.comparingInt(Map::size));
+			ranked = rank(matches, filter);
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(ranked);
+		}
+		int from = (int)Math.min(pageable.getOffset(), ranked.size());
+		int to = Math.min(from + pageable.getPageSize(), ranked.size());
+		return new PageImpl<>(ranked.subList(from, to), pageable, ranked.size());
+	}
+
+	/**
+	 * 색인된 문서 id
+	 *
+	 * @return 호출한 시점의 문서 id (복사본)
+	 */
+	public Set<Long> ids() {
+		lock.readLock().lock();
+		try {
+			return new HashSet<>(documents.keySet());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 색인된 문서 수
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private List<Long> rank(List<Map<Long, Integer>> matches, String filter) {
+		Map<Long, Double> scores = new HashMap<>();
+		for (Long id : matches.get(0).keySet()) {
+			Document document = documents.get(id);
+			if (filter != null && !filter.equals(document.filter())) {
+				continue;
+			}
+
+			double score = 0;
+			boolean matchAll = true;
+			for (Map<Long, Integer> posting : matches) {
+				Integer frequency = posting.get(id);
+				if (frequency == null) {
+					matchAll = false;
+					break;
+				}
+				score += frequency * Math.log(1 + (double)documents.size() / posting.size());
+			}
+			if (matchAll) {
+				scores.put(id, score / Math.sqrt(document.length())); // 긴 문서가 유리하지 않도록 길이로 나눈다.
+			}
+		}
+
+		return scores.entrySet().stream()
+				.sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+						.thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())))
+				.map(Map.Entry::getKey)
+				.toList();
+	}
+
+	private void removeDocument(Long id) {
+		Document document = documents.remove(id);
+		if (document == null) {
+			return;
+		}
+		document.terms().forEach(term -> {
+			Map<Long, Integer> posting = postings.get(term);
+			if (posting != null) {
+				posting.remove(id);
+				if (posting.isEmpty()) {
+					postings.remove(term);
+				}
+			}
+		});
+	}
+
+	private record Document(String filter, Set<String> terms, int length, int signature) {
+	}
+}
@@ -0,0 +1,87 @@
+package pulleydoreurae.careerquestbackend.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인에 사용할 n-gram 토크나이저
+ * <p>
+ * 한국어는 조사가 붙고 띄어쓰기가 일정하지 않아 형태소 분석 대신 음절 단위 bigram 을 사용한다.
+ * ("자격증을" 은 "자격", "격증", "증을" 이 되므로 "자격증" 으로 검색해도 찾을 수 있다.)
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public final class NgramTokenizer {
+
+	private NgramTokenizer() {
+	}
+
+	/**
+	 * 색인할 문서를 토큰으로 나누는 메서드 (단어마다 unigram 과 bigram 을 모두 만든다.)
+	 *
+	 * @param text 문서 내용
+	 * @return 토큰 리스트 (중복 포함)
+	 */
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		for (String word : words(text)) {
+			for (int i = 0; i < word.length(); i++) {
+				tokens.add(word.substring(i, i + 1));
+				if (i + 1 < word.length()) {
+					tokens.add(word.substring(i, i + 2));
+				}
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * 검색어를 토큰으로 나누는 메서드 (한 글자 단어는 unigram, 나머지는 bigram 으로 찾는다.)
+	 *
+	 * @param keyword 검색어
+	 * @return 토큰 리스트 (중복 포함)
+	 */
+	public static List<String> tokenizeQuery(String keyword) {
+		List<String> tokens = new ArrayList<>();
+		for (String word : words(keyword)) {
+			if (word.length() == 1) {
+				tokens.add(word);
+				continue;
+			}
+			for (int i = 0; i + 1 < word.length(); i++) {
+				tokens.add(word.substring(i, i + 2));
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * 문자와 숫자로 이루어진 단어만 꺼낸다.
+	 * NFKC 정규화로 자모가 분리된 한글은 음절로 합치고 전각 문자는 반각으로 바꾼 뒤 소문자로 맞춘다.
+	 */
+	private static List<String> words(String text) {
+		List<String> words = new ArrayList<>();
+		if (text == null || text.isBlank()) {
+			return words;
+		}
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		StringBuilder word = new StringBuilder();
+		for (int i = 0; i < normalized.length(); i++) {
+			char c = normalized.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				word.append(c);
+			} else if (!word.isEmpty()) {
+				words.add(word.toString());
+				word.setLength(0);
+			}
+		}
+		if (!word.isEmpty()) {
+			words.add(word.toString());
+		}
+		return words;
+	}
+}
@@ -0,0 +1,232 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.TechnologyStack;
+import pulleydoreurae.careerquestbackend.auth.repository.TechnologyStackRepository;
+import pulleydoreurae.careerquestbackend.certification.domain.entity.Certification;
+import pulleydoreurae.careerquestbackend.certification.repository.CertificationRepository;
+import pulleydoreurae.careerquestbackend.certification.service.CertificationIndexService;
+import pulleydoreurae.careerquestbackend.common.service.IndexSyncService;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.search.domain.AutocompleteType;
+import pulleydoreurae.careerquestbackend.search.domain.response.AutocompleteResponse;
+import pulleydoreurae.careerquestbackend.search.index.AutocompleteIndex;
+import pulleydoreurae.careerquestbackend.team.domain.entity.Team;
+import pulleydoreurae.careerquestbackend.team.repository.TeamRepository;
+
+/**
+ * 검색어 자동완성을 담당하는 Service
+ * <p>
+ * 입력할 때마다 LIKE 검색을 하는 대신 자격증 이름, 기술 스택 이름, 팀 이름, 실시간 인기 검색어를 메모리의 접두어 색인으로 유지한다.
+ * 순위는 최근 검색 횟수(hitRanking, 인기 검색어 집계 구간의 합계)로 정한 인기 점수 순이다.
+ * 서버가 시작할 때 색인을 만들고 팀은 생성, 수정, 삭제가 커밋된 후에 반영하며 다른 서버에도 알린다.
+ * 자격증, 기술 스택, 팀과 인기 검색어, 인기 점수는 주기적으로 다시 불러와 바뀐 부분만 반영한다.
+ * (알림을 놓친 서버도 다음 주기에는 데이터베이스와 같아진다.)
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+	static final String HIT_RANKING_KEY = SearchService.HIT_RANKING_KEY;
+	static final String SHOW_RANKING_KEY = SearchService.SHOW_RANKING_KEY;
+	private static final int REBUILD_PAGE_SIZE = 500;
+	private static final int SCORED_KEYWORDS = 1000; // 인기 점수로 사용할 검색 횟수 상위 키워드 수
+	private static final int SHOWN_KEYWORDS = 10; // 자동완성에 포함할 실시간 인기 검색어 수
+	static final String TEAM_TARGET = "TEAM";
+
+	private final CertificationRepository certificationRepository;
+	private final TechnologyStackRepository technologyStackRepository;
+	private final TeamRepository teamRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final CertificationIndexService certificationIndexService;
+	private final IndexSyncService indexSyncService;
+
+	private final AutocompleteIndex index = new AutocompleteIndex();
+
+	/**
+	 * 다른 서버에서 변경된 팀을 반영하도록 등록한다.
+	 */
+	@PostConstruct
+	public void registerSync() {
+		indexSyncService.register(TEAM_TARGET, this::syncTeam);
+	}
+
+	/**
+	 * 서버가 시작되면 색인을 만드는 메서드
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		long start = System.currentTimeMillis();
+		refresh();
+		log.info("자동완성 색인 생성 완료 (검색어 {}건, {}ms)", index.size(), System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * 자격증, 기술 스택, 팀, 실시간 인기 검색어와 인기 점수를 다시 불러오는 메서드 (10분 간격으로 실행)
+	 */
+	@Scheduled(initialDelay = 1000 * 60 * 10, fixedDelay = 1000 * 60 * 10)
+	public void refresh() {
+		try {
+			replaceAll(AutocompleteType.CERTIFICATION,
+					toNames(certificationRepository.findAll(), Certification::getId, Certification::getCertificationName));
+			replaceAll(AutocompleteType.TECH_STACK,
+					toNames(technologyStackRepository.findAll(), TechnologyStack::getId, TechnologyStack::getStackName));
+			replaceAll(AutocompleteType.TEAM, loadTeamNames());
+		} catch (RuntimeException e) {
+			log.warn("자동완성 검색어 갱신 실패 {}", e.getMessage());
+		}
+
+		try { // Redis 를 사용할 수 없다면 이전 인기 검색어와 점수를 유지한다.
+			Set<String> keywords = redisTemplate.opsForZSet().reverseRange(SHOW_RANKING_KEY, 0, SHOWN_KEYWORDS - 1);
+			Set<ZSetOperations.TypedTuple<String>> hits =
+					redisTemplate.opsForZSet().reverseRangeWithScores(HIT_RANKING_KEY, 0, SCORED_KEYWORDS - 1);
+
+			Map<String, String> keywordKeys = new HashMap<>();
+			Map<String, String> keywordDisplays = new HashMap<>();
+			if (keywords != null) {
+				keywords.forEach(keyword -> {
+					String key = SearchResultCacheService.normalize(keyword);
+					keywordKeys.put(sourceId(AutocompleteType.KEYWORD, key), key);
+					keywordDisplays.put(sourceId(AutocompleteType.KEYWORD, key), keyword);
+				});
+			}
+			index.replaceAll(AutocompleteType.KEYWORD.name(), prefix(AutocompleteType.KEYWORD), keywordKeys,
+					keywordDisplays);
+
+			// 검색 횟수는 검색한 그대로의 키워드로 쌓이므로 정규화한 검색어로 합친다.
+			Map<String, Double> scores = new HashMap<>();
+			if (hits != null) {
+				hits.forEach(hit -> {
+					if (hit.getValue() != null && hit.getScore() != null) {
+						scores.merge(SearchResultCacheService.normalize(hit.getValue()), hit.getScore(), Double::sum);
+					}
+				});
+			}
+			index.updateScores(scores);
+		} catch (RuntimeException e) {
+			log.warn("자동완성 인기 점수 갱신 실패 {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 팀 이름을 색인하는 메서드 (생성, 수정시 호출)
+	 *
+	 * @param team 팀
+	 */
+	public void indexTeam(Team team) {
+		String teamName = team.getTeamName();
+		TransactionUtils.afterCommit(() -> putTeam(team.getId(), teamName));
+		indexSyncService.publish(TEAM_TARGET, team.getId());
+	}
+
+	/**
+	 * 팀 이름을 색인에서 제거하는 메서드 (삭제시 호출)
+	 *
+	 * @param teamId 팀 id
+	 */
+	public void removeTeam(Long teamId) {
+		TransactionUtils.afterCommit(() -> index.remove(sourceId(AutocompleteType.TEAM, String.valueOf(teamId))));
+		indexSyncService.publish(TEAM_TARGET, teamId);
+	}
+
+	/**
+	 * 다른 서버에서 변경된 팀을 데이터베이스에서 다시 불러와 색인에 반영하는 메서드 (삭제된 팀이라면 색인에서 제거한다.)
+	 *
+	 * @param teamId 팀 id
+	 */
+	public void syncTeam(Long teamId) {
+		teamRepository.findById(teamId)
+				.filter(team -> !team.isDeleted())
+				.ifPresentOrElse(team -> putTeam(team.getId(), team.getTeamName()),
+						() -> index.remove(sourceId(AutocompleteType.TEAM, String.valueOf(teamId))));
+	}
+
+	/**
+	 * 입력한 검색어로 시작하는 검색어를 인기 순으로 찾는 메서드
+	 * (찾지 못했다면 초성이나 오타가 섞인 검색어일 수 있으므로 자격증 이름 색인에서 다시 찾는다.)
+	 *
+	 * @param keyword 입력한 검색어
+	 * @param limit   최대 개수
+	 * @return 자동완성 검색어 리스트
+	 */
+	public List<AutocompleteResponse> suggest(String keyword, int limit) {
+		List<AutocompleteResponse> suggestions = index.search(SearchResultCacheService.normalize(keyword), limit)
+				.stream()
+				.map(suggestion -> AutocompleteResponse.builder()
+						.keyword(suggestion.keyword())
+						.type(AutocompleteType.valueOf(suggestion.type()))
+						.build())
+				.toList();
+		if (!suggestions.isEmpty() || limit <= 0) {
+			return suggestions;
+		}
+		return certificationIndexService.searchNames(keyword).stream()
+				.limit(Math.min(limit, AutocompleteIndex.MAX_SUGGESTIONS))
+				.map(name -> AutocompleteResponse.builder()
+						.keyword(name)
+						.type(AutocompleteType.CERTIFICATION)
+						.build())
+				.toList();
+	}
+
+	private void putTeam(Long teamId, String teamName) {
+		index.put(sourceId(AutocompleteType.TEAM, String.valueOf(teamId)), AutocompleteType.TEAM.name(),
+				SearchResultCacheService.normalize(teamName), teamName);
+	}
+
+	private Map<Long, String> loadTeamNames() {
+		Map<Long, String> teamNames = new HashMap<>();
+		Page<Team> page;
+		int number = 0;
+		do {
+			page = teamRepository.findAllByOrderByIdDesc(PageRequest.of(number++, REBUILD_PAGE_SIZE));
+			page.forEach(team -> teamNames.put(team.getId(), team.getTeamName()));
+		} while (page.hasNext());
+		return teamNames;
+	}
+
+	private void replaceAll(AutocompleteType type, Map<Long, String> names) {
+		Map<String, String> keys = new HashMap<>();
+		Map<String, String> displays = new HashMap<>();
+		names.forEach((id, name) -> {
+			keys.put(sourceId(type, String.valueOf(id)), SearchResultCacheService.normalize(name));
+			displays.put(sourceId(type, String.valueOf(id)), name);
+		});
+		index.replaceAll(type.name(), prefix(type), keys, displays);
+	}
+
+	private <T> Map<Long, String> toNames(List<T> entities, Function<T, Long> idGetter, Function<T, String> nameGetter) {
+		Map<Long, String> names = new HashMap<>();
+		entities.forEach(entity -> names.put(idGetter.apply(entity), nameGetter.apply(entity)));
+		return names;
+	}
+
+	private String sourceId(AutocompleteType type, String id) {
+		return prefix(type) + id;
+	}
+
+	private String prefix(AutocompleteType type) {
+		return type.name() + ":";
+	}
+}
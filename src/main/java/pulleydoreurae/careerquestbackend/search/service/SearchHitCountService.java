@@ -0,0 +1,155 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.CountBuffer;
+
+/**
+ * 키워드 검색 횟수를 서버 메모리에 모아두었다가 주기적으로 Redis 에 반영하는 Service
+ * 검색할 때마다 요청 스레드에서 같은 키에 ZINCRBY 를 보내는 대신 시간별 검색 횟수(hitRanking:yyyyMMddHH)를 모아서
+ * 한번의 파이프라인으로 반영한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchHitCountService {
+
+	static final String HIT_BUCKET_KEY_PREFIX = "hitRanking:";
+	private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+	private static final int DEFAULT_WINDOW_HOURS = 24;
+	private static final long LAG_WARN_MILLIS = 1000 * 60; // 이 시간 이상 반영하지 못했다면 경고
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${search.ranking.window-hours:24}")
+	private int windowHours = DEFAULT_WINDOW_HOURS; // 인기 검색어 집계 구간 (시간)
+
+	private final CountBuffer<Hit> hits = new CountBuffer<>();
+	private volatile long lastFlushedAt = System.currentTimeMillis();
+
+	/**
+	 * 현재 시간 구간의 검색 횟수를 1 증가시키는 메서드
+	 *
+	 * @param keyword 검색한 키워드
+	 */
+	public void increase(String keyword) {
+		hits.increase(new Hit(bucketKey(LocalDateTime.now()), keyword));
+	}
+
+	/**
+	 * 집계 구간에 포함되는 시간별 검색 횟수 키 (최근 시간부터)
+	 *
+	 * @param now 기준 시간
+	 * @return 키 리스트
+	 */
+	public List<String> bucketKeys(LocalDateTime now) {
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < Math.max(1, windowHours); i++) {
+			keys.add(bucketKey(now.minusHours(i)));
+		}
+		return keys;
+	}
+
+	/**
+	 * 모아둔 검색 횟수를 Redis 에 반영하는 메서드 (3초 간격으로 실행)
+	 */
+	@Scheduled(fixedDelay = 3000)
+	public void flush() {
+		flush(false);
+	}
+
+	/**
+	 * 서버가 종료될 때 남은 검색 횟수를 모두 반영한다.
+	 */
+	@PreDestroy
+	public void flushAll() {
+		flush(true);
+	}
+
+	/**
+	 * 마지막으로 반영에 성공한 후 지난 시간 (반영할 검색 횟수가 없다면 0)
+	 *
+	 * @return 밀리초
+	 */
+	public long getFlushLagMillis() {
+		return hits.isEmpty() ? 0 : System.currentTimeMillis() - lastFlushedAt;
+	}
+
+	/**
+	 * 주기적으로 반영 지연 시간을 기록하는 메서드
+	 */
+	@Scheduled(fixedDelay = 1000 * 60)
+	public void logFlushLag() {
+		long lag = getFlushLagMillis();
+		if (lag >= LAG_WARN_MILLIS) {
+			log.warn("검색 횟수 반영 지연 {}ms", lag);
+		}
+	}
+
+	private void flush(boolean all) {
+		Map<Hit, Long> counts = hits.drain(all);
+		if (counts.isEmpty()) {
+			lastFlushedAt = System.currentTimeMillis();
+			return;
+		}
+		try {
+			write(counts);
+			lastFlushedAt = System.currentTimeMillis();
+		} catch (Exception e) {
+			// 파이프라인 중간에 실패했다면 일부는 두번 반영될 수 있지만 인기 순위 용도이므로 유실보다 낫다.
+			log.error("검색 횟수 반영 실패, 다음 주기에 다시 시도합니다. {}", e.getMessage());
+			hits.restore(counts);
+		} finally {
+			hits.flushed();
+		}
+	}
+
+	private void write(Map<Hit, Long> counts) {
+		Set<String> bucketKeys = new HashSet<>();
+		counts.keySet().forEach(hit -> bucketKeys.add(hit.bucketKey()));
+		Duration ttl = Duration.ofHours(windowHours + 1L);
+
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> stringOperations = (RedisOperations<String, String>)operations;
+				counts.forEach((hit, count) ->
+						stringOperations.opsForZSet().incrementScore(hit.bucketKey(), hit.keyword(), count));
+				bucketKeys.forEach(key -> stringOperations.expire(key, ttl));
+				return null;
+			}
+		});
+	}
+
+	private String bucketKey(LocalDateTime time) {
+		return HIT_BUCKET_KEY_PREFIX + time.format(BUCKET_FORMAT);
+	}
+
+	/**
+	 * 검색 횟수를 모으는 단위 (시간 구간 + 키워드)
+	 */
+	record Hit(String bucketKey, String keyword) {
+	}
+}
@@ -0,0 +1,227 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
+import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
+import pulleydoreurae.careerquestbackend.common.service.IndexSyncService;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.search.index.InvertedIndex;
+
+/**
+ * 게시글, 후기의 검색 색인을 관리하는 Service
+ * <p>
+ * LIKE 검색은 매번 전체 테이블을 읽어야 하므로 제목과 내용을 역색인으로 유지하고 검색 결과 id 만 데이터베이스에서 불러온다.
+ * 색인은 저장, 수정, 삭제가 커밋된 후에 반영하며 서버가 시작할 때 데이터베이스로부터 다시 만든다.
+ * 색인은 서버마다 따로 가지고 있으므로 변경된 id 를 다른 서버에도 알려 데이터베이스에서 다시 불러오도록 한다.
+ * 알림을 놓친 서버도 있을 수 있으므로 주기적으로 데이터베이스와 비교해 바뀐 문서를 반영하고 삭제된 문서를 제거한다.
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+	private static final int REBUILD_PAGE_SIZE = 500;
+	static final String POST_TARGET = "POST";
+	static final String REVIEW_TARGET = "REVIEW";
+
+	private final PostRepository postRepository;
+	private final ReviewRepository reviewRepository;
+	private final IndexSyncService indexSyncService;
+
+	private final InvertedIndex postIndex = new InvertedIndex();
+	private final InvertedIndex reviewIndex = new InvertedIndex();
+
+	/**
+	 * 다른 서버에서 변경된 게시글, 후기를 반영하도록 등록한다.
+	 */
+	@PostConstruct
+	public void registerSync() {
+		indexSyncService.register(POST_TARGET, this::syncPost);
+		indexSyncService.register(REVIEW_TARGET, this::syncReview);
+	}
+
+	/**
+	 * 서버가 시작되면 데이터베이스의 게시글, 후기로 색인을 만드는 메서드
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		long start = System.currentTimeMillis();
+		reconcile();
+		log.info("검색 색인 생성 완료 (게시글 {}건, 후기 {}건, {}ms)", postIndex.size(), reviewIndex.size(),
+				System.currentTimeMillis() - start);
+	}
+
+	/**
+	 * 색인을 데이터베이스와 맞추는 메서드 (10분 간격으로 실행)
+	 * 저장, 수정된 문서는 다시 색인하고 데이터베이스에 없는 문서는 색인에서 제거한다.
+	 */
+	@Scheduled(initialDelay = 1000 * 60 * 10, fixedDelay = 1000 * 60 * 10)
+	public void reconcile() {
+		try {
+			reconcile(postIndex, lastId -> postRepository.findAllByIdGreaterThanOrderByIdAsc(lastId,
+					PageRequest.of(0, REBUILD_PAGE_SIZE)), Post::getId, this::putPost);
+			reconcile(reviewIndex, lastId -> reviewRepository.findAllByIdGreaterThanOrderByIdAsc(lastId,
+					PageRequest.of(0, REBUILD_PAGE_SIZE)), Review::getId, this::putReview);
+		} catch (RuntimeException e) { // 실패하면 다음 주기에 다시 맞춘다.
+			log.warn("검색 색인 갱신 실패 {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 게시글을 색인하는 메서드 (저장, 수정시 호출)
+	 *
+	 * @param post 게시글
+	 */
+	public void indexPost(Post post) {
+		TransactionUtils.afterCommit(() -> putPost(post));
+		indexSyncService.publish(POST_TARGET, post.getId());
+	}
+
+	/**
+	 * 게시글을 색인에서 제거하는 메서드 (삭제시 호출)
+	 *
+	 * @param postId 게시글 id
+	 */
+	public void removePost(Long postId) {
+		TransactionUtils.afterCommit(() -> postIndex.remove(postId));
+		indexSyncService.publish(POST_TARGET, postId);
+	}
+
+	/**
+	 * 후기를 색인하는 메서드 (저장, 수정시 호출)
+	 *
+	 * @param review 후기
+	 */
+	public void indexReview(Review review) {
+		TransactionUtils.afterCommit(() -> putReview(review));
+		indexSyncService.publish(REVIEW_TARGET, review.getId());
+	}
+
+	/**
+	 * 후기를 색인에서 제거하는 메서드 (삭제시 호출)
+	 *
+	 * @param reviewId 후기 id
+	 */
+	public void removeReview(Long reviewId) {
+		TransactionUtils.afterCommit(() -> reviewIndex.remove(reviewId));
+		indexSyncService.publish(REVIEW_TARGET, reviewId);
+	}
+
+	/**
+	 * 다른 서버에서 변경된 게시글을 데이터베이스에서 다시 불러와 색인에 반영하는 메서드 (삭제되었다면 색인에서 제거한다.)
+	 *
+	 * @param postId 게시글 id
+	 */
+	public void syncPost(Long postId) {
+		postRepository.findById(postId).ifPresentOrElse(this::putPost, () -> postIndex.remove(postId));
+	}
+
+	/**
+	 * 다른 서버에서 변경된 후기를 데이터베이스에서 다시 불러와 색인에 반영하는 메서드 (삭제되었다면 색인에서 제거한다.)
+	 *
+	 * @param reviewId 후기 id
+	 */
+	public void syncReview(Long reviewId) {
+		reviewRepository.findById(reviewId).ifPresentOrElse(this::putReview, () -> reviewIndex.remove(reviewId));
+	}
+
+	/**
+	 * 게시글 검색
+	 *
+	 * @param keyword      검색어
+	 * @param postCategory 카테고리 (null 이라면 전체 검색)
+	 * @param pageable     페이지
+	 * @return 관련도 순으로 정렬한 게시글 페이지
+	 */
+	public Page<Post> searchPosts(String keyword, PostCategory postCategory, Pageable pageable) {
+		Page<Long> ids = postIndex.search(keyword, postCategory == null ? null : postCategory.name(), pageable);
+		return load(ids, postRepository::findAllByIdIn, Post::getId);
+	}
+
+	/**
+	 * 후기 검색
+	 *
+	 * @param keyword           검색어
+	 * @param certificationName 자격증명 (null 이라면 전체 검색)
+	 * @param pageable          페이지
+	 * @return 관련도 순으로 정렬한 후기 페이지
+	 */
+	public Page<Review> searchReviews(String keyword, String certificationName, Pageable pageable) {
+		Page<Long> ids = reviewIndex.search(keyword, certificationName, pageable);
+		return load(ids, reviewRepository::findAllByIdIn, Review::getId);
+	}
+
+	private void putPost(Post post) {
+		postIndex.put(post.getId(), post.getPostCategory().name(), post.getTitle(), post.getContent());
+	}
+
+	private void putReview(Review review) {
+		reviewIndex.put(review.getId(), review.getCertificationName(), review.getTitle(), review.getContent());
+	}
+
+	/**
+	 * id 순으로 이어서 불러오며 다시 색인하고, 시작할 때 색인에 있었지만 불러오지 못한 문서는 제거한다.
+	 * (시작할 때 색인에 있던 문서는 이미 커밋된 문서이므로 불러오지 못했다면 그 사이에 삭제된 것이다.)
+	 */
+	private <T> void reconcile(InvertedIndex index, Function<Long, List<T>> pageLoader, Function<T, Long> idGetter,
+			Consumer<T> indexer) {
+		Set<Long> removed = index.ids();
+		List<T> page;
+		long lastId = 0L;
+		do {
+			page = pageLoader.apply(lastId);
+			for (T entity : page) {
+				indexer.accept(entity);
+				removed.remove(idGetter.apply(entity));
+			}
+			if (!page.isEmpty()) {
+				lastId = idGetter.apply(page.get(page.size() - 1));
+			}
+		} while (page.size() == REBUILD_PAGE_SIZE);
+		removed.forEach(index::remove);
+	}
+
+	/**
+	 * 색인에서 찾은 id 로 엔티티를 한번에 불러와 색인의 순서대로 정렬한다.
+	 * 색인에는 남아있지만 이미 삭제된 엔티티는 결과에서 빠진다.
+	 */
+	private <T> Page<T> load(Page<Long> ids, Function<List<Long>, List<T>> loader, Function<T, Long> idGetter) {
+		if (ids.isEmpty()) {
+			return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+		}
+
+		Map<Long, Integer> order = new HashMap<>();
+		for (Long id : ids.getContent()) {
+			order.put(id, order.size());
+		}
+		List<T> entities = loader.apply(ids.getContent()).stream()
+				.sorted(Comparator.comparing(entity -> order.get(idGetter.apply(entity))))
+				.toList();
+		return new PageImpl<>(entities, ids.getPageable(), ids.getTotalElements());
+	}
+}
@@ -0,0 +1,209 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import pulleydoreurae.careerquestbackend.common.utils.TransactionUtils;
+import pulleydoreurae.careerquestbackend.search.domain.SearchTarget;
+import pulleydoreurae.careerquestbackend.search.domain.response.SearchResultResponse;
+
+/**
+ * 통합검색 결과를 캐시하는 Service
+ * <p>
+ * 검색 요청은 소수의 인기 키워드에 몰리므로 정규화한 키워드와 페이지 별로 검색결과를 Redis 에 짧게 저장한다.
+ * 키에는 검색 대상(자격증, 공모전, 게시글, 팀)마다 증가하는 버전을 모두 포함하여, 어느 대상이든 작성, 수정, 삭제되면 해당 대상의 버전만 올려 한번에 무효화한다.
+ * 같은 키의 캐시가 비어있을 때 동시에 들어온 요청은 먼저 들어온 요청 하나만 데이터베이스를 조회하고 나머지는 그 결과를 기다려 사용한다. (서버 단위)
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchResultCacheService {
+
+	static final int CACHED_PAGES = 3; // 0 ~ 2 페이지만 캐시
+	static final int MAX_KEYWORD_LENGTH = 50; // 이보다 긴 키워드는 다시 검색될 가능성이 낮으므로 캐시하지 않는다.
+	private static final Duration TTL = Duration.ofSeconds(30);
+	private static final long WAIT_TIMEOUT_MILLIS = 3000; // 먼저 조회중인 요청을 기다리는 최대 시간
+	private static final List<String> VERSION_KEYS = Arrays.stream(SearchTarget.values())
+			.map(SearchResultCacheService::versionKey)
+			.toList();
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final Map<String, CompletableFuture<SearchResultResponse>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder shared = new LongAdder();
+
+	/**
+	 * 캐시 키로 사용할 수 있도록 키워드를 정규화하는 메서드
+	 * <p>
+	 * 한글 자모가 분리되어 들어온 경우를 합치고(NFC), 앞뒤 공백 제거, 연속된 공백을 하나로 합친 뒤 소문자로 바꾼다.
+	 *
+	 * @param keyword 검색한 키워드
+	 * @return 정규화한 키워드
+	 */
+	public static String normalize(String keyword) {
+		if (keyword == null) {
+			return "";
+		}
+		return Normalizer.normalize(keyword, Normalizer.Form.NFC)
+				.strip()
+				.replaceAll("\\s+", " ")
+				.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 캐시된 검색결과를 반환하고 없다면 불러와서 캐시하는 메서드
+	 *
+	 * @param keyword  정규화한 키워드
+	 * @param pageable 페이지
+	 * @param loader   캐시에 없을 때 검색결과를 불러오는 메서드
+	 * @return 검색결과
+	 */
+	public SearchResultResponse getResult(String keyword, Pageable pageable, Supplier<SearchResultResponse> loader) {
+		if (pageable.getPageNumber() >= CACHED_PAGES || keyword.length() > MAX_KEYWORD_LENGTH) {
+			return loader.get();
+		}
+
+		String key;
+		try {
+			key = resultKey(keyword, pageable);
+			String cached = redisTemplate.opsForValue().get(key);
+			if (cached != null) {
+				hits.increment();
+				return objectMapper.readValue(cached, SearchResultResponse.class);
+			}
+		} catch (Exception e) { // 캐시에 문제가 생겨도 검색결과는 데이터베이스에서 불러온다.
+			log.warn("검색결과 캐시 조회 실패 {}", e.getMessage());
+			return loader.get();
+		}
+
+		CompletableFuture<SearchResultResponse> flight = new CompletableFuture<>();
+		CompletableFuture<SearchResultResponse> running = inFlight.putIfAbsent(key, flight);
+		if (running != null) {
+			shared.increment();
+			return await(running, loader);
+		}
+
+		misses.increment();
+		try {
+			SearchResultResponse result = loader.get();
+			store(key, result);
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException e) {
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	/**
+	 * 검색 대상의 검색결과 캐시를 무효화하는 메서드 (트랜잭션이 커밋된 후에 반영한다.)
+	 *
+	 * @param target 변경된 검색 대상
+	 */
+	public void evict(SearchTarget target) {
+		TransactionUtils.afterCommit(() -> {
+			try {
+				redisTemplate.opsForValue().increment(versionKey(target));
+			} catch (RuntimeException e) {
+				log.warn("검색결과 캐시 무효화 실패 {}", e.getMessage());
+			}
+		});
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public long getSharedCount() {
+		return shared.sum();
+	}
+
+	/**
+	 * 주기적으로 서버가 시작된 후의 캐시 적중률을 기록하는 메서드
+	 */
+	@Scheduled(fixedDelay = 1000 * 60 * 10)
+	public void logHitRate() {
+		long hit = hits.sum();
+		long miss = misses.sum();
+		if (hit + miss > 0) {
+			log.info("검색결과 캐시 적중률 {}% (hit {}, miss {}, 조회 대기 {})", hit * 100 / (hit + miss), hit, miss,
+					shared.sum());
+		}
+	}
+
+	/**
+	 * 먼저 조회중인 요청의 결과를 기다리는 메서드 (실패하거나 너무 오래 걸린다면 직접 불러온다.)
+	 */
+	private SearchResultResponse await(CompletableFuture<SearchResultResponse> running,
+			Supplier<SearchResultResponse> loader) {
+		try {
+			return running.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return loader.get();
+		} catch (ExecutionException | TimeoutException e) {
+			return loader.get();
+		}
+	}
+
+	private void store(String key, SearchResultResponse result) {
+		try {
+			redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(result), TTL);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("검색결과 캐시 저장 실패 {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 검색 대상별 버전을 한번에 조회해 키를 만든다. (search:{버전들}:{페이지}:{크기}:{키워드})
+	 */
+	private String resultKey(String keyword, Pageable pageable) {
+		List<String> versions = redisTemplate.opsForValue().multiGet(VERSION_KEYS);
+		StringBuilder key = new StringBuilder("search:");
+		for (int i = 0; i < VERSION_KEYS.size(); i++) {
+			String version = versions == null ? null : versions.get(i);
+			key.append(i == 0 ? "v" : ".").append(version == null ? "0" : version);
+		}
+		return key.append(":").append(pageable.getPageNumber())
+				.append(":").append(pageable.getPageSize())
+				.append(":").append(keyword)
+				.toString();
+	}
+
+	private static String versionKey(SearchTarget target) {
+		return "search:version:" + target.name();
+	}
+}
@@ -1,29 +1,36 @@
 package pulleydoreurae.careerquestbackend.search.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import pulleydoreurae.careerquestbackend.certification.domain.dto.response.CertificationResponse;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Certification;
-import pulleydoreurae.careerquestbackend.certification.repository.CertificationRepository;
+import pulleydoreurae.careerquestbackend.certification.service.CertificationIndexService;
 import pulleydoreurae.careerquestbackend.certification.service.CertificationService;
+import pulleydoreurae.careerquestbackend.common.utils.RedisLockUtils;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.community.repository.ContestRepository;
-import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
 import pulleydoreurae.careerquestbackend.community.service.CommonCommunityService;
 import pulleydoreurae.careerquestbackend.community.service.ContestService;
 import pulleydoreurae.careerquestbackend.search.domain.response.SearchRankResponse;
@@ -39,21 +46,53 @@ import pulleydoreurae.careerquestbackend.team.service.TeamService;
 @RequiredArgsConstructor
 public class SearchService {
 
-	private final CertificationRepository certificationRepository;
+	static final String HIT_RANKING_KEY = "hitRanking"; // 집계 구간의 검색 횟수 (자동완성 인기 점수로도 사용)
+	static final String SHOW_RANKING_KEY = "showRanking";
+	static final String RANK_CHANGES_KEY = "showRankingRankChanges";
+	private static final String NEXT_SUFFIX = ":next";
+	private static final int TOP_N = 10;
+	private static final String RANKING_LOCK_KEY = "showRanking:update-lock"; // 여러 서버가 같은 주기에 순위를 다시 만들지 않도록 잠근다.
+	private static final Duration RANKING_LOCK_TTL = Duration.ofMinutes(30); // 갱신 주기(1시간)보다 짧아야 한다.
+
+	private final CertificationIndexService certificationIndexService;
 	private final ContestRepository contestRepository;
-	private final PostRepository postRepository;
 	private final TeamRepository teamRepository;
+	private final SearchIndexService searchIndexService;
+	private final SearchResultCacheService searchResultCacheService;
+	private final SearchHitCountService searchHitCountService;
 
 	private final CommonCommunityService commonCommunityService;
 
-	@Autowired
-	private RedisTemplate<String, String> redisTemplate;
+	private final StringRedisTemplate redisTemplate;
 
-	@Transactional(readOnly = true)
 	public SearchResultResponse findAllByKeyword(String keyword, Pageable pageable){
 
-		// 자격증 조회
-		Page<Certification> certifications = certificationRepository.searchByKeyword(keyword, pageable);
+		// 같은 키워드는 대소문자, 공백 차이와 상관없이 같은 결과를 사용하도록 정규화한 키워드로 검색한다.
+		String normalized = SearchResultCacheService.normalize(keyword);
+		SearchResultResponse result = searchResultCacheService.getResult(normalized, pageable,
+			() -> search(normalized, pageable));
+
+		if (!result.getCertificationList().isEmpty() || !result.getContestList().isEmpty()
+			|| !result.getPostList().isEmpty() || !result.getTeamList().getTeamResponse().isEmpty()) {
+			incrementSearchCount(keyword);
+		}
+
+		return SearchResultResponse.builder()
+			.certificationList(result.getCertificationList())
+			.contestList(result.getContestList())
+			.postList(result.getPostList())
+			.teamList(result.getTeamList())
+			.msg("검색한 키워드 : " + keyword)
+			.build();
+	}
+
+	/**
+	 * 자격증, 공모전, 게시글, 팀을 데이터베이스(게시글은 검색 색인)에서 검색하는 메서드 (캐시에 없을 때만 호출된다.)
+	 */
+	private SearchResultResponse search(String keyword, Pageable pageable) {
+
+		// 자격증 조회 (초성 검색, 오타 보정 포함)
+		Page<Certification> certifications = certificationIndexService.search(keyword, pageable);
 		List<CertificationResponse> certificationResponses = new ArrayList<>();
 		certifications.forEach(certification -> {
 			certificationResponses.add(CertificationResponse.builder()
@@ -85,7 +124,7 @@ public class SearchService {
 		});
 
 		// 커뮤니티 조회
-		Page<Post> posts = postRepository.searchByKeyword(keyword, pageable);
+		Page<Post> posts = searchIndexService.searchPosts(keyword, null, pageable);
 		List<PostResponse> postResponses = commonCommunityService.postListToPostResponseList(posts);
 
 		// 스터디 조회
@@ -105,68 +144,124 @@ public class SearchService {
 			teamResponses.getTeamResponse().add(detail);
 		});
 
-		if( !certifications.isEmpty() || !contests.isEmpty() || !posts.isEmpty() || !teams.isEmpty() ) incrementSearchCount(keyword);
-
 		return SearchResultResponse.builder()
 			.certificationList(certificationResponses)
 			.contestList(contestResponses)
 			.postList(postResponses)
 			.teamList(teamResponses)
-			.msg("검색한 키워드 : " + keyword)
 			.build();
 	}
 
+	/**
+	 * 현재 시간 구간의 검색 횟수를 1 증가시키는 메서드 (서버 메모리에 모아두었다가 주기적으로 반영한다.)
+	 *
+	 * @param keyword 검색한 키워드
+	 */
 	private void incrementSearchCount(String keyword) {
-		redisTemplate.opsForZSet().incrementScore("hitRanking", keyword, 1);
+		searchHitCountService.increase(keyword);
 	}
 
 	private Set<String> getTopKeywords(String key) {
-		int topN = 9;
-		return redisTemplate.opsForZSet().reverseRange(key, 0, topN);
+		return redisTemplate.opsForZSet().reverseRange(key, 0, TOP_N - 1);
 	}
 
 	public List<SearchRankResponse> getShowRanking() {
-		Set<String> currentShowRankings = getTopKeywords("showRanking");
+		List<String> keywords = new ArrayList<>(getTopKeywords(SHOW_RANKING_KEY));
 		List<SearchRankResponse> responses = new ArrayList<>();
+		if (keywords.isEmpty()) {
+			return responses;
+		}
 
-		int rank = 1;
-		for (String keyword : currentShowRankings) {
-			String rankChange = (String) redisTemplate.opsForHash().get("showRankingRankChanges", keyword);
-			responses.add(new SearchRankResponse(keyword, rankChange, rank));
-			rank++;
+		// 순위 변동은 한번에 불러온다. (키워드를 읽은 직후 순위가 교체되었다면 변동은 null 일 수 있다.)
+		List<String> rankChanges = redisTemplate.<String, String>opsForHash().multiGet(RANK_CHANGES_KEY, keywords);
+		for (int i = 0; i < keywords.size(); i++) {
+			responses.add(new SearchRankResponse(keywords.get(i), rankChanges.get(i), i + 1));
 		}
 
 		return responses;
 	}
 
-	private void updateShowRanking(List<String> keywords, List<String> rankChanges) {
-		redisTemplate.delete("showRanking");
-		redisTemplate.delete("showRankingRankChanges");
-
-		for (int i = 0; i < keywords.size(); i++) {
-			// 각 키워드의 점수를 유지하면서 추가
-			redisTemplate.opsForZSet().add("showRanking", keywords.get(i), keywords.size() - i);
-			redisTemplate.opsForHash().put("showRankingRankChanges", keywords.get(i), rankChanges.get(i));
+	/**
+	 * 집계 구간의 검색 횟수를 합쳐 인기 검색어 순위를 다시 만드는 메서드 (1시간 간격으로 실행)
+	 * <p>
+	 * 새 순위는 임시 키에 만든 뒤 RENAME 으로 한번에 교체하므로 순위를 만드는 동안에도 이전 순위를 조회할 수 있다.
+	 * 모든 서버가 같은 시각에 실행하므로 잠금을 얻은 서버만 갱신한다.
+	 * 늦게 실행된 서버가 이미 갱신된 순위와 다시 비교하면 순위 변동이 모두 0 이 되므로,
+	 * 갱신에 성공하면 잠금을 해제하지 않고 만료될 때까지 두어 같은 주기에 다시 갱신하지 않도록 한다. (실패했다면 바로 해제한다.)
+	 */
+	@Scheduled(cron = "0 0 0/1 * * *")
+	public void updateRankings() {
+		String token = RedisLockUtils.tryLock(redisTemplate, RANKING_LOCK_KEY, RANKING_LOCK_TTL);
+		if (token == null) {
+			return;
+		}
+		try {
+			rebuildRankings();
+		} catch (RuntimeException e) {
+			RedisLockUtils.unlock(redisTemplate, RANKING_LOCK_KEY, token);
+			throw e;
 		}
 	}
 
-	@Scheduled(cron = "0 0 0/1 * * *")
-	public void updateRankings() {
-		Set<String> topHitKeywords = getTopKeywords("hitRanking");
-		Set<String> currentShowRankings = getTopKeywords("showRanking");
+	private void rebuildRankings() {
+		// 집계 구간의 시간별 검색 횟수를 합친다. (없는 구간은 비어있는 것으로 본다.)
+		List<String> bucketKeys = searchHitCountService.bucketKeys(LocalDateTime.now());
+		String nextHitKey = HIT_RANKING_KEY + NEXT_SUFFIX;
+		redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), nextHitKey);
 
-		List<String> topHitList = new ArrayList<>(topHitKeywords);
-		List<String> currentShowList = new ArrayList<>(currentShowRankings);
-		List<String> rankChanges = new ArrayList<>();
+		List<String> topHitList = new ArrayList<>(getTopKeywords(nextHitKey));
+		List<String> currentShowList = new ArrayList<>(getTopKeywords(SHOW_RANKING_KEY));
 
+		Set<ZSetOperations.TypedTuple<String>> showRanking = new HashSet<>();
+		Map<String, String> rankChanges = new HashMap<>();
 		for (int i = 0; i < topHitList.size(); i++) {
 			String keyword = topHitList.get(i);
 			int currentIndex = currentShowList.indexOf(keyword);
 			String change = (currentIndex == -1) ? "N" : String.valueOf(currentIndex - i);
-			rankChanges.add(change);
+			showRanking.add(new DefaultTypedTuple<>(keyword, (double)(topHitList.size() - i)));
+			rankChanges.put(keyword, change);
+		}
+
+		String nextShowKey = SHOW_RANKING_KEY + NEXT_SUFFIX;
+		String nextRankChangesKey = RANK_CHANGES_KEY + NEXT_SUFFIX;
+		redisTemplate.delete(List.of(nextShowKey, nextRankChangesKey)); // 이전에 실패해서 남은 임시 키 제거
+		if (!topHitList.isEmpty()) {
+			redisTemplate.opsForZSet().add(nextShowKey, showRanking);
+			redisTemplate.opsForHash().putAll(nextRankChangesKey, rankChanges);
 		}
 
-		updateShowRanking(topHitList, rankChanges);
+		publish(Map.of(
+			nextHitKey, HIT_RANKING_KEY,
+			nextShowKey, SHOW_RANKING_KEY,
+			nextRankChangesKey, RANK_CHANGES_KEY));
+		log.info("인기 검색어 순위 갱신 완료 (최근 {}시간, {}건)", bucketKeys.size(), topHitList.size());
 	}
 
+	/**
+	 * 임시 키를 하나의 트랜잭션(MULTI/EXEC)에서 RENAME 해서 모든 순위를 동시에 교체하는 메서드
+	 * (임시 키가 없다면 집계 구간에 검색 기록이 없는 것이므로 기존 키를 삭제한다.)
+	 *
+	 * @param keys 임시 키 -> 교체할 키
+	 */
+	private void publish(Map<String, String> keys) {
+		Map<String, Boolean> exists = new HashMap<>();
+		keys.keySet().forEach(nextKey -> exists.put(nextKey, Boolean.TRUE.equals(redisTemplate.hasKey(nextKey))));
+
+		redisTemplate.execute(new SessionCallback<List<Object>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> stringOperations = (RedisOperations<String, String>)operations;
+				stringOperations.multi();
+				keys.forEach((nextKey, key) -> {
+					if (exists.get(nextKey)) {
+						stringOperations.rename(nextKey, key);
+					} else {
+						stringOperations.delete(key);
+					}
+				});
+				return stringOperations.exec();
+			}
+		});
+	}
 }
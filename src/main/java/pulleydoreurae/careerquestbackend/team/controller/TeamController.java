@@ -14,10 +14,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.dto.response.SimpleResponse;
 import pulleydoreurae.careerquestbackend.team.domain.TeamType;
 import pulleydoreurae.careerquestbackend.team.domain.dto.request.KickRequest;
@@ -26,6 +28,7 @@ import pulleydoreurae.careerquestbackend.team.domain.dto.request.TeamMemberReque
 import pulleydoreurae.careerquestbackend.team.domain.dto.request.TeamRequest;
 import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamDetailResponse;
 import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamMemberHistoryResponse;
+import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamResponse;
 import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamResponseWithPageInfo;
 import pulleydoreurae.careerquestbackend.team.service.TeamService;
 
@@ -58,6 +61,16 @@ public class TeamController {
 				.body(response);
 	}
 
+	@GetMapping("/teams/cursor")
+	public ResponseEntity<CursorResponse<TeamResponse>> findAllByCursor(
+			@RequestParam(name = "cursor", required = false) String cursor,
+			@RequestParam(name = "limit", defaultValue = "15") int limit) {
+		CursorResponse<TeamResponse> response = teamService.findAllByCursor(cursor, limit);
+
+		return ResponseEntity.status(HttpStatus.OK)
+				.body(response);
+	}
+
 	@GetMapping("/teams/{teamType}")
 	public ResponseEntity<TeamResponseWithPageInfo> findAllByTeamType(@PathVariable TeamType teamType,
 			@PageableDefault(size = 15) Pageable pageable) {
@@ -3,6 +3,7 @@ package pulleydoreurae.careerquestbackend.team.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,7 +15,7 @@ import pulleydoreurae.careerquestbackend.team.domain.entity.EmptyTeamMember;
  * @author : parkjihyeok
  * @since : 2024/05/31
  */
-public interface EmptyTeamMemberRepository extends JpaRepository<EmptyTeamMember, Long> {
+public interface EmptyTeamMemberRepository extends JpaRepository<EmptyTeamMember, Long>, EmptyTeamMemberRepositoryCustom {
 
 	@Query("select etm from EmptyTeamMember etm where etm.team.id = :teamId")
 	List<EmptyTeamMember> findAllByTeamId(Long teamId);
@@ -22,4 +23,8 @@ public interface EmptyTeamMemberRepository extends JpaRepository<EmptyTeamMember
 	@Query("select etm from EmptyTeamMember etm where etm.team.id = :teamId and etm.position = :position")
 	List<EmptyTeamMember> findAllByTeamIdAndPosition(@Param("teamId") Long teamId,
 			@Param("position") String position);
+
+	@Modifying
+	@Query("delete from EmptyTeamMember etm where etm.team.id = :teamId")
+	void deleteAllByTeamId(@Param("teamId") Long teamId);
 }
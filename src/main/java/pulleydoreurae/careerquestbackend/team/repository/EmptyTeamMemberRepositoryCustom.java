@@ -0,0 +1,16 @@
+package pulleydoreurae.careerquestbackend.team.repository;
+
+import java.util.List;
+
+import pulleydoreurae.careerquestbackend.team.domain.entity.EmptyTeamMember;
+
+/**
+ * 팀의 빈자리를 JDBC 로 일괄 저장하기 위한 Repository
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+public interface EmptyTeamMemberRepositoryCustom {
+
+	void saveAllInBatch(List<EmptyTeamMember> emptyTeamMembers);
+}
@@ -0,0 +1,36 @@
+package pulleydoreurae.careerquestbackend.team.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+import pulleydoreurae.careerquestbackend.team.domain.entity.EmptyTeamMember;
+
+/**
+ * 팀의 빈자리 JDBC 일괄 저장 구현체
+ *
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@RequiredArgsConstructor
+public class EmptyTeamMemberRepositoryImpl implements EmptyTeamMemberRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 빈자리 정보를 한번의 batch insert 로 저장하는 메서드
+	 *
+	 * @param emptyTeamMembers 저장할 빈자리 정보 (팀은 이미 저장된 상태여야 한다.)
+	 */
+	@Override
+	public void saveAllInBatch(List<EmptyTeamMember> emptyTeamMembers) {
+		if (emptyTeamMembers.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO empty_team_member (team_id, position) VALUES (?, ?)",
+				emptyTeamMembers.stream()
+						.map(member -> new Object[] {member.getTeam().getId(), member.getPosition()})
+						.toList());
+	}
+}
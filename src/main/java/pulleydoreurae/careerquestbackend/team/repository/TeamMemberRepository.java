@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamMemberHistoryResponse;
 import pulleydoreurae.careerquestbackend.team.domain.entity.TeamMember;
 
 /**
@@ -26,9 +27,16 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 			+ "order by tm.id desc")
 	Optional<TeamMember> findByUserIdAndTeamId(@Param("userId") String userId, @Param("teamId") Long teamId);
 
-	@Query("select tm from TeamMember tm "
-			+ "join fetch tm.team t "
-			+ "where tm.userAccount.userId = :userId "
+	@Query("select tm.userAccount.id from TeamMember tm where tm.team.id = :teamId and tm.isTeamLeader = true")
+	Optional<Long> findTeamLeaderIdByTeamId(@Param("teamId") Long teamId);
+
+	// 목록 조회용 projection (팀, 회원 엔티티를 만들지 않는다.)
+	@Query("select new pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamMemberHistoryResponse("
+			+ "ua.userId, tm.isTeamLeader, tm.position, t.id, t.teamName, t.teamType) "
+			+ "from TeamMember tm "
+			+ "join tm.team t "
+			+ "join tm.userAccount ua "
+			+ "where ua.userId = :userId "
 			+ "order by tm.id desc")
-	List<TeamMember> findByUserId(String userId);
+	List<TeamMemberHistoryResponse> findHistoryByUserId(@Param("userId") String userId);
 }
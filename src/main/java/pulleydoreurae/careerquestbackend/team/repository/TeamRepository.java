@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +24,11 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 			+ "order by t.id desc ")
 	Page<Team> findAllByOrderByIdDesc(Pageable pageable);
 
+	// 커서 기반 조회 (count 쿼리 없이 limit + 1 개를 조회해 다음 내용 존재 여부를 확인한다.)
+	@Query("select t from Team t where t.isDeleted = false and t.id < :beforeId "
+			+ "order by t.id desc")
+	Slice<Team> findAllByIdLessThanOrderByIdDesc(@Param("beforeId") Long beforeId, Pageable pageable);
+
 	@Query("select t from Team t where t.isDeleted = false and t.teamType = :teamType "
 			+ "order by t.id desc")
 	Page<Team> findAllByTeamTypeOrderByIdDesc(TeamType teamType, Pageable pageable);
@@ -6,13 +6,20 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
+import pulleydoreurae.careerquestbackend.search.domain.SearchTarget;
+import pulleydoreurae.careerquestbackend.search.service.AutocompleteService;
+import pulleydoreurae.careerquestbackend.search.service.SearchResultCacheService;
 import pulleydoreurae.careerquestbackend.team.domain.TeamType;
 import pulleydoreurae.careerquestbackend.team.domain.dto.request.KickRequest;
 import pulleydoreurae.careerquestbackend.team.domain.dto.request.TeamDeleteRequest;
@@ -47,6 +54,9 @@ public class TeamService {
 	private final EmptyTeamMemberRepository emptyTeamMemberRepository;
 	private final TeamMemberRepository teamMemberRepository;
 	private final CommonService commonService;
+	private final NotificationService notificationService;
+	private final SearchResultCacheService searchResultCacheService;
+	private final AutocompleteService autocompleteService;
 
 	/**
 	 * 한 회원이 팀에 참여했던 정보를 전달하는 메서드
@@ -56,18 +66,7 @@ public class TeamService {
 	 */
 	@Transactional(readOnly = true)
 	public List<TeamMemberHistoryResponse> findMemberHistory(String userId) {
-		return teamMemberRepository.findByUserId(userId)
-				.stream()
-				.map(teamMember ->
-						TeamMemberHistoryResponse.builder()
-								.userId(userId)
-								.isTeamLeader(teamMember.isTeamLeader())
-								.position(teamMember.getPosition())
-								.teamId(teamMember.getTeam().getId())
-								.teamName(teamMember.getTeam().getTeamName())
-								.teamType(teamMember.getTeam().getTeamType())
-								.build()
-				).toList();
+		return teamMemberRepository.findHistoryByUserId(userId);
 	}
 
 	/**
@@ -83,6 +82,20 @@ public class TeamService {
 		return makeTeamResponse(allByOrderByIdDesc);
 	}
 
+	/**
+	 * 전체 팀을 커서 기반으로 반환하는 메서드 (count 쿼리를 실행하지 않는다.)
+	 *
+	 * @param cursor 이전 요청에서 전달받은 커서 (첫 요청이라면 null)
+	 * @param limit  조회할 개수
+	 * @return 팀 리스트와 다음 커서
+	 */
+	@Transactional(readOnly = true)
+	public CursorResponse<TeamResponse> findAllByCursor(String cursor, int limit) {
+		Slice<Team> teams = teamRepository.findAllByIdLessThanOrderByIdDesc(CursorResponse.decode(cursor),
+				CursorResponse.limit(limit));
+		return CursorResponse.of(teams.map(this::teamToTeamResponse).getContent(), teams, Team::getId);
+	}
+
 	/**
 	 * 팀 타입에 맞는 팀들을 반환하는 메서드
 	 *
@@ -133,6 +146,8 @@ public class TeamService {
 				.build();
 
 		teamRepository.save(team);
+		searchResultCacheService.evict(SearchTarget.TEAM);
+		autocompleteService.indexTeam(team);
 
 		savePositions(makeRequest.getPositions(), team); // 선호 포지션 저장
 		saveTeamMember(user, team, makeRequest.getPosition(), true); // 팀장의 정보 팀원에 저장
@@ -158,9 +173,10 @@ public class TeamService {
 				.build();
 
 		teamRepository.save(newTeam); // 팀 정보 업데이트
+		searchResultCacheService.evict(SearchTarget.TEAM);
+		autocompleteService.indexTeam(newTeam);
 
-		List<EmptyTeamMember> emptyTeamMembers = emptyTeamMemberRepository.findAllByTeamId(team.getId());
-		emptyTeamMemberRepository.deleteAll(emptyTeamMembers); // 선호했던 팀원의 포지션 전체 삭제
+		emptyTeamMemberRepository.deleteAllByTeamId(team.getId()); // 선호했던 팀원의 포지션 전체 삭제
 		savePositions(updateRequest.getPositions(), team); // 선호 포지션 저장
 	}
 
@@ -178,6 +194,8 @@ public class TeamService {
 		// 팀을 제거하더라도 팀에 대한 정보는 남아있어야 한다.
 		team.changeStatus(false);
 		team.delete();
+		searchResultCacheService.evict(SearchTarget.TEAM);
+		autocompleteService.removeTeam(team.getId());
 	}
 
 	/**
@@ -197,6 +215,8 @@ public class TeamService {
 
 		deleteEmptyTeamMember(request, team); // 선호 팀원 포지션에서 새로 참여할 팀원의 포지션 제거
 		saveTeamMember(user, team, request.getPosition(), false); // 새로운 팀원 저장
+		teamMemberRepository.findTeamLeaderIdByTeamId(team.getId()) // 팀장에게 알림
+				.ifPresent(leaderId -> notificationService.notify(leaderId, NotificationType.TEAM_JOIN, team.getId(), user));
 	}
 
 	/**
@@ -337,7 +357,9 @@ public class TeamService {
 	 */
 	private void savePositions(List<String> positions, Team team) {
 		// 선호 포지션 저장
-		positions.forEach(position -> saveEmptyTeamMember(team, position));
+		emptyTeamMemberRepository.saveAllInBatch(positions.stream()
+				.map(position -> EmptyTeamMember.builder().team(team).position(position).build())
+				.toList());
 	}
 
 	/**
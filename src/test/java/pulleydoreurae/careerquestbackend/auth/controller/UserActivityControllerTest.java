@@ -0,0 +1,99 @@
+package pulleydoreurae.careerquestbackend.auth.controller;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import pulleydoreurae.careerquestbackend.auth.domain.dto.response.UserActivityResponse;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@WebMvcTest(UserActivityController.class)
+@AutoConfigureRestDocs
+class UserActivityControllerTest {
+
+	@Autowired
+	MockMvc mockMvc;
+	@MockBean
+	UserActivityService userActivityService;
+
+	@Test
+	@DisplayName("회원 활동 수 조회 테스트")
+	@WithMockUser
+	void findActivityTest() throws Exception {
+		// Given
+		UserActivityResponse response = UserActivityResponse.builder()
+				.userId("testId").postCount(3L).commentCount(10L).likeGivenCount(7L).likeReceivedCount(12L)
+				.reviewCount(1L).joinedContestCount(2L).build();
+		given(userActivityService.findActivity("testId")).willReturn(response);
+
+		// When
+		mockMvc.perform(
+						get("/api/users/activity/{userId}", "testId")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.postCount").value(3L))
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters(
+								parameterWithName("userId").description("조회할 회원 아이디")
+						),
+						responseFields(
+								fieldWithPath("userId").description("회원 아이디"),
+								fieldWithPath("postCount").description("작성한 게시글 수"),
+								fieldWithPath("commentCount").description("작성한 댓글 수"),
+								fieldWithPath("likeGivenCount").description("누른 좋아요 수"),
+								fieldWithPath("likeReceivedCount").description("작성한 게시글이 받은 좋아요 수"),
+								fieldWithPath("reviewCount").description("작성한 후기 수"),
+								fieldWithPath("joinedContestCount").description("참여한 공모전 수")
+						)));
+
+		// Then
+		verify(userActivityService).findActivity("testId");
+	}
+
+	@Test
+	@DisplayName("회원 활동 수 조회 실패 테스트 (회원정보를 찾을 수 없음)")
+	@WithMockUser
+	void findActivityFailTest() throws Exception {
+		// Given
+		given(userActivityService.findActivity("testId"))
+				.willThrow(new UsernameNotFoundException("요청한 회원 정보를 찾을 수 없습니다."));
+
+		// When
+		mockMvc.perform(
+						get("/api/users/activity/{userId}", "testId")
+								.with(csrf()))
+				.andExpect(status().isBadRequest())
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters(
+								parameterWithName("userId").description("조회할 회원 아이디")
+						)));
+
+		// Then
+	}
+}
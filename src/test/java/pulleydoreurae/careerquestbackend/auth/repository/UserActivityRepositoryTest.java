@@ -0,0 +1,164 @@
+package pulleydoreurae.careerquestbackend.auth.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManager;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserActivity;
+import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+import pulleydoreurae.careerquestbackend.community.domain.entity.PostLike;
+import pulleydoreurae.careerquestbackend.community.repository.CommentRepository;
+import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepository;
+import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepositoryCustom.Change;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.config.QueryDSLConfig;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@DataJpaTest
+@DisplayName("회원 활동 카운터 Repository 테스트")
+@Import(QueryDSLConfig.class)
+class UserActivityRepositoryTest {
+
+	@Autowired
+	UserActivityRepository userActivityRepository;
+	@Autowired
+	UserAccountRepository userAccountRepository;
+	@Autowired
+	PostRepository postRepository;
+	@Autowired
+	CommentRepository commentRepository;
+	@Autowired
+	PostLikeRepository postLikeRepository;
+	@Autowired
+	EntityManager em;
+
+	@Test
+	@DisplayName("실제 데이터로 세어 카운터를 만드는지 테스트")
+	void insertCountedTest() {
+		// Given
+		UserAccount user = userAccountRepository.save(UserAccount.builder().userId("testId").build());
+		UserAccount user2 = userAccountRepository.save(UserAccount.builder().userId("testId2").build());
+		Post post = postRepository.save(Post.builder().userAccount(user).title("제목").content("내용")
+				.postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		postRepository.save(Post.builder().userAccount(user).title("제목2").content("내용2")
+				.postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		commentRepository.save(Comment.builder().userAccount(user).post(post).content("댓글").build());
+		postLikeRepository.save(PostLike.builder().userAccount(user2).post(post).build());
+		em.flush();
+
+		// When
+		userActivityRepository.insertCounted(user.getId());
+		em.clear();
+
+		// Then
+		UserActivity result = userActivityRepository.findById(user.getId()).get();
+		assertAll(
+				() -> assertEquals(2L, result.getPostCount()),
+				() -> assertEquals(1L, result.getCommentCount()),
+				() -> assertEquals(0L, result.getLikeGivenCount()),
+				() -> assertEquals(1L, result.getLikeReceivedCount()),
+				() -> assertEquals(0L, result.getReviewCount()),
+				() -> assertEquals(0L, result.getJoinedContestCount())
+		);
+	}
+
+	@Test
+	@DisplayName("카운터를 증감하고 0 보다 작아지지 않는지 테스트")
+	void increaseTest() {
+		// Given
+		UserAccount user = userAccountRepository.save(UserAccount.builder().userId("testId").build());
+		userActivityRepository.save(UserActivity.builder().userAccountId(user.getId()).build());
+		em.flush();
+
+		// When
+		userActivityRepository.increase(user.getId(), UserActivityType.POST, 1);
+		userActivityRepository.increase(user.getId(), UserActivityType.POST, 1);
+		userActivityRepository.increase(user.getId(), UserActivityType.COMMENT, -1); // 0 보다 작아지지 않아야 함
+		em.clear();
+
+		// Then
+		UserActivity result = userActivityRepository.findById(user.getId()).get();
+		assertEquals(2L, result.getPostCount());
+		assertEquals(0L, result.getCommentCount());
+	}
+
+	@Test
+	@DisplayName("좋아요를 반영하면 누른 회원과 작성자의 좋아요 수를 다시 세는지 테스트")
+	void applyChangesTest() {
+		// Given
+		UserAccount user = userAccountRepository.save(UserAccount.builder().userId("testId").build());
+		UserAccount user2 = userAccountRepository.save(UserAccount.builder().userId("testId2").build());
+		Post post = postRepository.save(Post.builder().userAccount(user).title("제목").content("내용")
+				.postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		userActivityRepository.save(UserActivity.builder().userAccountId(user.getId()).build());
+		userActivityRepository.save(UserActivity.builder().userAccountId(user2.getId()).build());
+		em.flush();
+
+		// When
+		postLikeRepository.applyChanges(List.of(new Change(post.getId(), user2.getId(), true)));
+		em.clear();
+
+		// Then
+		assertEquals(1L, userActivityRepository.findById(user.getId()).get().getLikeReceivedCount());
+		assertEquals(1L, userActivityRepository.findById(user2.getId()).get().getLikeGivenCount());
+	}
+
+	@Test
+	@DisplayName("어긋난 카운터를 실제 데이터로 보정하는지 테스트")
+	void syncCountsTest() {
+		// Given
+		UserAccount user = userAccountRepository.save(UserAccount.builder().userId("testId").build());
+		UserAccount user2 = userAccountRepository.save(UserAccount.builder().userId("testId2").build());
+		postRepository.save(Post.builder().userAccount(user).title("제목").content("내용")
+				.postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		userActivityRepository.save(UserActivity.builder().userAccountId(user.getId()).commentCount(3L).build());
+		userActivityRepository.save(UserActivity.builder().userAccountId(user2.getId()).build());
+		em.flush();
+
+		// When
+		int result = userActivityRepository.syncCounts();
+		em.clear();
+
+		// Then
+		assertEquals(1, result); // 어긋나지 않은 카운터는 수정하지 않는다.
+		UserActivity activity = userActivityRepository.findById(user.getId()).get();
+		assertEquals(1L, activity.getPostCount());
+		assertEquals(0L, activity.getCommentCount());
+	}
+
+	@Test
+	@DisplayName("여러 회원의 카운터를 한번에 다시 세는지 테스트")
+	void recountTest() {
+		// Given
+		UserAccount user = userAccountRepository.save(UserAccount.builder().userId("testId").build());
+		UserAccount user2 = userAccountRepository.save(UserAccount.builder().userId("testId2").build());
+		Post post = postRepository.save(Post.builder().userAccount(user).title("제목").content("내용")
+				.postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		commentRepository.save(Comment.builder().userAccount(user2).post(post).content("댓글").build());
+		userActivityRepository.save(UserActivity.builder().userAccountId(user.getId()).postCount(5L).build());
+		userActivityRepository.save(UserActivity.builder().userAccountId(user2.getId()).commentCount(3L).build());
+		em.flush();
+
+		// When
+		userActivityRepository.recount(List.of(user.getId(), user2.getId()));
+		em.clear();
+
+		// Then
+		assertEquals(1L, userActivityRepository.findById(user.getId()).get().getPostCount());
+		assertEquals(1L, userActivityRepository.findById(user2.getId()).get().getCommentCount());
+	}
+}
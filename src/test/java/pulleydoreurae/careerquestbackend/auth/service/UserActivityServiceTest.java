@@ -0,0 +1,102 @@
+package pulleydoreurae.careerquestbackend.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
+import pulleydoreurae.careerquestbackend.auth.domain.dto.response.UserActivityResponse;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserActivity;
+import pulleydoreurae.careerquestbackend.auth.repository.UserAccountRepository;
+import pulleydoreurae.careerquestbackend.auth.repository.UserActivityRepository;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("회원 활동 카운터 Service 테스트")
+class UserActivityServiceTest {
+
+	@InjectMocks
+	UserActivityService userActivityService;
+	@Mock
+	UserActivityRepository userActivityRepository;
+	@Mock
+	UserAccountRepository userAccountRepository;
+
+	@Test
+	@DisplayName("카운터를 증감하는지 테스트")
+	void increaseTest() {
+		// Given
+		UserAccount user = UserAccount.builder().id(1L).userId("testId").build();
+
+		// When
+		userActivityService.increase(user, UserActivityType.POST);
+		userActivityService.decrease(user, UserActivityType.COMMENT);
+
+		// Then
+		verify(userActivityRepository).increase(1L, UserActivityType.POST, 1);
+		verify(userActivityRepository).increase(1L, UserActivityType.COMMENT, -1);
+	}
+
+	@Test
+	@DisplayName("만들어진 카운터를 그대로 반환하는지 테스트")
+	void findActivityTest() {
+		// Given
+		given(userAccountRepository.findIdByUserId("testId")).willReturn(Optional.of(1L));
+		given(userActivityRepository.findById(1L)).willReturn(Optional.of(
+				UserActivity.builder().userAccountId(1L).postCount(3L).likeReceivedCount(5L).build()));
+
+		// When
+		UserActivityResponse result = userActivityService.findActivity("testId");
+
+		// Then
+		assertEquals("testId", result.getUserId());
+		assertEquals(3L, result.getPostCount());
+		assertEquals(5L, result.getLikeReceivedCount());
+		assertEquals(0L, result.getCommentCount());
+		verify(userActivityRepository, never()).insertCounted(any());
+	}
+
+	@Test
+	@DisplayName("카운터가 없다면 실제 데이터로 세어 만드는지 테스트")
+	void findActivityCreateTest() {
+		// Given
+		given(userAccountRepository.findIdByUserId("testId")).willReturn(Optional.of(1L));
+		given(userActivityRepository.findById(1L)).willReturn(Optional.empty(),
+				Optional.of(UserActivity.builder().userAccountId(1L).postCount(2L).build()));
+		willThrow(new DataIntegrityViolationException("이미 만들어짐")).given(userActivityRepository).insertCounted(1L);
+
+		// When
+		UserActivityResponse result = userActivityService.findActivity("testId");
+
+		// Then
+		assertEquals(2L, result.getPostCount());
+		verify(userActivityRepository).insertCounted(1L);
+	}
+
+	@Test
+	@DisplayName("회원정보를 찾을 수 없다면 예외를 던지는지 테스트")
+	void findActivityFailTest() {
+		// Given
+		given(userAccountRepository.findIdByUserId("testId")).willReturn(Optional.empty());
+
+		// When
+
+		// Then
+		assertThrows(UsernameNotFoundException.class, () -> userActivityService.findActivity("testId"));
+		verify(userActivityRepository, never()).findById(any());
+	}
+}
@@ -107,7 +107,7 @@ class ReviewControllerTest {
 								fieldWithPath("[].certificationName").description("자격증이름"),
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
@@ -178,7 +178,7 @@ class ReviewControllerTest {
 								fieldWithPath("[].certificationName").description("자격증이름"),
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
@@ -450,7 +450,7 @@ class ReviewControllerTest {
 								fieldWithPath("[].certificationName").description("자격증이름"),
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
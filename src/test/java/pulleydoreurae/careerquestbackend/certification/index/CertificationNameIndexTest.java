@@ -0,0 +1,90 @@
+package pulleydoreurae.careerquestbackend.certification.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@DisplayName("자격증 이름 색인 테스트")
+class CertificationNameIndexTest {
+
+	CertificationNameIndex index = CertificationNameIndex.of(
+			List.of("정보처리기사", "정보처리산업기사", "정보보안기사", "정보보안산업기사", "정보처리기능사", "SQLD"));
+
+	@Test
+	@DisplayName("초성과 초성이 섞인 검색어로 찾는지 테스트")
+	void searchChosungTest() {
+		// Given
+		List<String> expected = List.of("정보처리기사", "정보처리기능사", "정보처리산업기사");
+
+		// When
+		List<String> chosung = index.search("ㅈㅂㅊㄹ");
+		List<String> mixed = index.search("정보ㅊㄹ");
+
+		// Then
+		assertEquals(expected, chosung);
+		assertEquals(expected, mixed);
+	}
+
+	@Test
+	@DisplayName("앞에서부터 일치하는 이름을 먼저 반환하는지 테스트")
+	void searchOrderTest() {
+		// When
+		List<String> result = index.search("산업");
+
+		// Then
+		assertEquals(List.of("정보보안산업기사", "정보처리산업기사"), result);
+		assertEquals(List.of("정보보안기사", "정보보안산업기사"), index.search("정보 보안"));
+	}
+
+	@Test
+	@DisplayName("띄어쓰기, 대소문자, 초성, 오타를 보정해서 이름을 찾는지 테스트")
+	void findBestTest() {
+		// When
+
+		// Then
+		assertEquals(Optional.of("정보처리기사"), index.findBest("정보 처리 기사"));
+		assertEquals(Optional.of("SQLD"), index.findBest("sqld"));
+		assertEquals(Optional.of("정보처리기사"), index.findBest("ㅈㅂㅊㄹㄱㅅ"));
+		assertEquals(Optional.of("정보처리기사"), index.findBest("정보처리기서"));
+		assertEquals(Optional.of("정보보안산업기사"), index.findBest("정보보완산업기사"));
+	}
+
+	@Test
+	@DisplayName("짧은 검색어나 거리가 먼 검색어는 보정하지 않는지 테스트")
+	void noCorrectionTest() {
+		// When
+
+		// Then
+		assertTrue(index.findBest("정부").isEmpty());
+		assertTrue(index.search("정부").isEmpty());
+		assertTrue(index.findBest("전기공사기사").isEmpty());
+		assertTrue(index.findBest("   ").isEmpty());
+	}
+
+	@Test
+	@DisplayName("부분 일치가 없으면 오타 허용 범위 안의 이름을 가까운 순서로 반환하는지 테스트")
+	void searchTypoTest() {
+		// When
+		List<String> result = index.search("정보처리기서");
+
+		// Then
+		assertEquals(List.of("정보처리기사", "정보처리기능사"), result);
+	}
+
+	@Test
+	@DisplayName("편집거리와 초성 변환 테스트")
+	void distanceAndChosungTest() {
+		assertEquals(3, CertificationNameIndex.distance("kitten", "sitting"));
+		assertEquals(0, CertificationNameIndex.distance("정보", "정보"));
+		assertEquals("ㅈㅂㅊㄹㄱㅅsqld", CertificationNameIndex.chosung("정보처리기사sqld"));
+		assertEquals("정보처리기사", CertificationNameIndex.normalize(" 정보 처리\t기사 "));
+	}
+}
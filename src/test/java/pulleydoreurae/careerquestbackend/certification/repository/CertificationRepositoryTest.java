@@ -2,6 +2,8 @@ package pulleydoreurae.careerquestbackend.certification.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -87,4 +89,19 @@ class CertificationRepositoryTest {
 		// Then
 		assertEquals(1L, result.getCertificationCode());
 	}
+
+	@Test
+	@DisplayName("자격증 이름 목록과 여러 이름의 자격증 정보를 한번에 불러오기")
+	void findAllNamesAndByNames() {
+		// Given
+
+		// When
+		List<String> names = certificationRepository.findAllCertificationNames();
+		List<Certification> result = certificationRepository.findAllByCertificationNameIn(List.of("정보처리기사", "정보보안기사"));
+
+		// Then
+		assertEquals(5, names.size());
+		assertTrue(names.contains("정보처리기능사"));
+		assertEquals(2, result.size());
+	}
 }
@@ -2,6 +2,7 @@ package pulleydoreurae.careerquestbackend.certification.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
@@ -206,4 +207,20 @@ class ReviewLikeRepositoryTest {
 				() -> assertTrue(result4)
 		);
 	}
+
+	@Test
+	@DisplayName("여러 후기 중 좋아요를 누른 후기 id 를 한번에 찾는지 테스트")
+	void findLikedReviewIdsTest() {
+		// Given
+		UserAccount user = userAccountRepository.findByUserId("testId").get();
+		Review review1 = reviewRepository.save(Review.builder().userAccount(user).title("제목1").content("내용1").certificationName("정보처리기사").view(0L).build());
+		Review review2 = reviewRepository.save(Review.builder().userAccount(user).title("제목2").content("내용2").certificationName("정보처리기사").view(0L).build());
+		reviewLikeRepository.save(ReviewLike.builder().review(review2).userAccount(user).build());
+
+		// When
+		List<Long> result = reviewLikeRepository.findLikedReviewIds(user.getId(), List.of(review1.getId(), review2.getId()));
+
+		// Then
+		assertEquals(List.of(review2.getId()), result);
+	}
 }
@@ -3,6 +3,7 @@ package pulleydoreurae.careerquestbackend.certification.repository;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 
 import pulleydoreurae.careerquestbackend.auth.domain.UserRole;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
@@ -348,13 +347,13 @@ public class ReviewRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("검색어로 검색한 리스트를 정상적으로 불러오는지 테스트")
-	void searchByKeywordTest() {
+	@DisplayName("검색 색인에서 찾은 id 로 후기를 한번에 불러오는지 테스트")
+	void findAllByIdInTest() {
 		// Given
 		UserAccount user = userAccountRepository.findByUserId("testId").get();
 		Review review1 = Review.builder()
 				.userAccount(user)
-				.title("검검색어어")
+				.title("제목1")
 				.content("내용1")
 				.certificationName("정보처리기사")
 				.view(0L)
@@ -362,134 +361,18 @@ public class ReviewRepositoryTest {
 		Review review2 = Review.builder()
 				.userAccount(user)
 				.title("제목2")
-				.content("검검색어어")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
-		Review review3 = Review.builder()
-				.userAccount(user)
-				.title("검색어어어")
-				.content("내용3")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
-		Review review4 = Review.builder()
-				.userAccount(user)
-				.title("제목4")
-				.content("검검검색어어")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
-		Review review5 = Review.builder()
-				.userAccount(user)
-				.title("제목5")
-				.content("내용5")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
-		Review review6 = Review.builder()
-				.userAccount(user)
-				.title("제목6")
-				.content("내용6")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
-		Review review7 = Review.builder()
-				.userAccount(user)
-				.title("제목7")
-				.content("내용7")
-				.certificationName("정보처리기사")
+				.content("내용2")
+				.certificationName("정보보안기사")
 				.view(0L)
 				.build();
-
-		// When
 		reviewRepository.save(review1);
 		reviewRepository.save(review2);
-		reviewRepository.save(review3);
-		reviewRepository.save(review4);
-		reviewRepository.save(review5);
-		reviewRepository.save(review6);
-		reviewRepository.save(review7);
-		Pageable pageable = PageRequest.of(0, 3, Sort.by("id").descending());
-
-		// Then
-		Page<Review> result = reviewRepository.searchByKeyword("검색어", pageable);
-		assertEquals(2, result.getTotalPages());
-		assertEquals(4, result.getTotalElements());
-		assertEquals(3, result.getSize());
-		assertThat(result).contains(review2, review3, review4); // 3개씩 자른다면 맨 뒤에 입력된 3개가 출력되어야 함
-	}
-
-	@Test
-	@DisplayName("검색어와 자격증명으로 검색한 리스트를 정상적으로 불러오는지 테스트")
-	void searchByKeywordAndCertificationNameTest() {
-		// Given
-		UserAccount user = userAccountRepository.findByUserId("testId").get();
-		Review review1 = Review.builder()
-				.userAccount(user)
-				.title("검검색어어")
-				.content("내용1")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
-		Review review2 = Review.builder()
-				.userAccount(user)
-				.title("제목2")
-				.content("검검색어어")
-				.certificationName("정보보안기사")
-				.view(0L)
-				.build();
-		Review review3 = Review.builder()
-				.userAccount(user)
-				.title("검색어어어")
-				.content("내용3")
-				.certificationName("정보보안기사")
-				.view(0L)
-				.build();
-		Review review4 = Review.builder()
-				.userAccount(user)
-				.title("제목4")
-				.content("검검검색어어")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
-		Review review5 = Review.builder()
-				.userAccount(user)
-				.title("검색어")
-				.content("내용5")
-				.certificationName("정보보안기사")
-				.view(0L)
-				.build();
-		Review review6 = Review.builder()
-				.userAccount(user)
-				.title("검색어")
-				.content("검색어")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
-		Review review7 = Review.builder()
-				.userAccount(user)
-				.title("제목7")
-				.content("검색어")
-				.certificationName("정보처리기사")
-				.view(0L)
-				.build();
 
 		// When
-		reviewRepository.save(review1);
-		reviewRepository.save(review2);
-		reviewRepository.save(review3);
-		reviewRepository.save(review4);
-		reviewRepository.save(review5);
-		reviewRepository.save(review6);
-		reviewRepository.save(review7);
-		Pageable pageable = PageRequest.of(0, 3, Sort.by("id").descending());
+		List<Review> result = reviewRepository.findAllByIdIn(List.of(review2.getId(), 999L));
 
 		// Then
-		Page<Review> result = reviewRepository.searchByKeywordAndCertificationName("검색어", "정보처리기사", pageable);
-		assertEquals(2, result.getTotalPages());
-		assertEquals(4, result.getTotalElements());
-		assertEquals(3, result.getSize());
-		assertThat(result).contains(review4, review6, review7); // 3개씩 자른다면 맨 뒤에 입력된 3개가 출력되어야 함
+		assertEquals(1, result.size());
+		assertThat(result).contains(review2);
 	}
 }
@@ -0,0 +1,57 @@
+package pulleydoreurae.careerquestbackend.certification.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import pulleydoreurae.careerquestbackend.certification.domain.entity.Certification;
+import pulleydoreurae.careerquestbackend.certification.repository.CertificationRepository;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("자격증 이름 색인 Service 테스트")
+class CertificationIndexServiceTest {
+
+	@InjectMocks
+	CertificationIndexService certificationIndexService;
+	@Mock
+	CertificationRepository certificationRepository;
+
+	@Test
+	@DisplayName("같은 이름의 자격증이 여러건이라도 이름마다 한건만 색인 순서대로 반환하는지 테스트")
+	void searchDuplicateNameTest() {
+		// Given
+		given(certificationRepository.findAllCertificationNames())
+				.willReturn(List.of("정보처리기사", "정보처리기사", "정보보안기사"));
+		Certification certification1 = Certification.builder().id(1L).certificationName("정보처리기사").build();
+		Certification certification2 = Certification.builder().id(2L).certificationName("정보처리기사").build();
+		Certification certification3 = Certification.builder().id(3L).certificationName("정보보안기사").build();
+		given(certificationRepository.findAllByCertificationNameIn(anyCollection()))
+				.willReturn(List.of(certification2, certification3, certification1));
+		certificationIndexService.rebuild();
+
+		// When
+		Page<Certification> result = certificationIndexService.search("정보", PageRequest.of(0, 2));
+
+		// Then
+		assertEquals(2, result.getContent().size());
+		assertEquals(2, result.getTotalElements());
+		assertEquals(certificationIndexService.searchNames("정보"),
+				result.getContent().stream().map(Certification::getCertificationName).toList());
+		assertTrue(result.getContent().contains(certification1));
+		assertFalse(result.getContent().contains(certification2));
+	}
+}
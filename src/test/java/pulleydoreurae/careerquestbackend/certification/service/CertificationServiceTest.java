@@ -36,6 +36,7 @@ class CertificationServiceTest {
 	@Mock CertificationRepository certificationRepository;
 	@Mock CertificationExamDateRepository certificationExamDateRepository;
 	@Mock CertificationRegistrationPeriodRepository certificationRegistrationPeriodRepository;
+	@Mock CertificationIndexService certificationIndexService;
 
 	@Test
 	@DisplayName("자격증 이름으로 자격증정보 가져오기 -실패")
@@ -90,4 +91,23 @@ class CertificationServiceTest {
 		assertEquals(4, result.getPeriodResponse().size());
 		assertEquals(12, result.getExamDateResponses().size());
 	}
+
+	@Test
+	@DisplayName("자격증 이름으로 자격증정보 가져오기 -오타, 초성 보정 성공")
+	void findByNameTest3() {
+		// Given
+		Certification certification = Certification.builder().certificationCode(10L).certificationName("정보처리기사").aiSummary("정보처리기사에 대한 AI 요약입니다.").build();
+		given(certificationRepository.findByCertificationName("정보처리기서")).willReturn(Optional.empty());
+		given(certificationIndexService.resolveName("정보처리기서")).willReturn(Optional.of("정보처리기사"));
+		given(certificationRepository.findByCertificationName("정보처리기사")).willReturn(Optional.of(certification));
+		given(certificationExamDateRepository.findAllByName("정보처리기사")).willReturn(List.of());
+		given(certificationRegistrationPeriodRepository.findAllByName("정보처리기사")).willReturn(List.of());
+
+		// When
+		CertificationResponse result = certificationService.findByName("정보처리기서");
+
+		// Then
+		assertEquals("정보처리기사", result.getCertificationName());
+		verify(certificationExamDateRepository).findAllByName("정보처리기사");
+	}
 }
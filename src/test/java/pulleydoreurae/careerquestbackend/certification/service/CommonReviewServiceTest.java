@@ -21,10 +21,8 @@ import pulleydoreurae.careerquestbackend.certification.domain.dto.request.Review
 import pulleydoreurae.careerquestbackend.certification.domain.dto.response.ReviewResponse;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.ReviewLike;
-import pulleydoreurae.careerquestbackend.certification.domain.entity.ReviewViewCheck;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewLikeRepository;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
-import pulleydoreurae.careerquestbackend.certification.repository.ReviewViewCheckRepository;
 import pulleydoreurae.careerquestbackend.community.exception.PostLikeNotFoundException;
 import pulleydoreurae.careerquestbackend.community.exception.PostNotFoundException;
 
@@ -42,24 +40,13 @@ class CommonReviewServiceTest {
 	ReviewRepository reviewRepository;
 	@Mock
 	ReviewLikeRepository reviewLikeRepository;
-	@Mock
-	ReviewViewCheckRepository reviewViewCheckRepository;
 
 	@Test
 	@DisplayName("후기 Entity -> 후기 Response 변환 메서드 테스트")
 	void reviewToReviewResponseTest() {
 		// Given
 		UserAccount user = UserAccount.builder().userId("testId").build();
-		Review review = Review.builder().userAccount(user).id(100L).title("제목1").content("내용1").certificationName("정보처리기사").view(0L).build();
-		given(reviewRepository.findById(100L)).willReturn(Optional.of(review));
-
-		ReviewLike reviewLike1 = ReviewLike.builder().userAccount(user).review(review).build();
-		ReviewLike reviewLike2 = ReviewLike.builder().userAccount(user).review(review).build();
-		ReviewLike reviewLike3 = ReviewLike.builder().userAccount(user).review(review).build();
-		ReviewLike reviewLike4 = ReviewLike.builder().userAccount(user).review(review).build();
-		ReviewLike reviewLike5 = ReviewLike.builder().userAccount(user).review(review).build();
-		List<ReviewLike> reviewLikes = List.of(reviewLike1, reviewLike2, reviewLike3, reviewLike4, reviewLike5);
-		given(reviewLikeRepository.findAllByReview(review)).willReturn(reviewLikes);
+		Review review = Review.builder().userAccount(user).id(100L).title("제목1").content("내용1").certificationName("정보처리기사").view(0L).postLikeCount(5L).build();
 
 		// When
 		ReviewResponse expect = ReviewResponse.builder()
@@ -67,7 +54,7 @@ class CommonReviewServiceTest {
 				.title(review.getTitle())
 				.content(review.getContent())
 				.view(review.getView())
-				.postLikeCount(commonReviewService.countReviewLike(review.getId()))
+				.postLikeCount(5L)
 				.certificationName(review.getCertificationName())
 				.isLiked(false)
 				.createdAt(review.getCreatedAt())
@@ -145,37 +132,6 @@ class CommonReviewServiceTest {
 	}
 
 
-	@Test
-	@DisplayName("조회수 중복이 아닌 경우")
-	void findReviewViewCheckNullTest() {
-		// Given
-		given(reviewViewCheckRepository.findById(anyString())).willReturn(Optional.empty());
-
-		// When
-		ReviewViewCheck result = commonReviewService.findReviewViewCheck("testId");
-
-		// Then
-		assertNull(result);
-	}
-
-	@Test
-	@DisplayName("조회수 중복인 경우")
-	void findReviewViewCheckNotNullTest() {
-		// Given
-		ReviewViewCheck postViewCheck = new ReviewViewCheck("testId", 100L);
-		given(reviewViewCheckRepository.findById("testId")).willReturn(Optional.of(postViewCheck));
-
-		// When
-		ReviewViewCheck result = commonReviewService.findReviewViewCheck("testId");
-
-		// Then
-		assertAll(
-				() -> assertEquals(postViewCheck.getReviewId(), result.getReviewId()),
-				() -> assertEquals(postViewCheck.getUserId(), result.getUserId())
-
-		);
-	}
-
 	@Test
 	@DisplayName("후기 Request -> 후기 Entity 변환 테스트")
 	void reviewRequestToReviewTest() {
@@ -219,24 +175,16 @@ class CommonReviewServiceTest {
 	}
 
 	@Test
-	@DisplayName("후기 좋아요 수 테스트")
-	void countReviewLikeTest() {
+	@DisplayName("후기 좋아요 수 보정 테스트")
+	void syncCountsTest() {
 		// Given
-		Review review = Review.builder().userAccount(new UserAccount()).id(100L).title("제목1").content("내용1").certificationName("정보처리기사").view(0L).build();
-		ReviewLike reviewLike1 = ReviewLike.builder().review(review).userAccount(new UserAccount()).build();
-		ReviewLike reviewLike2 = ReviewLike.builder().review(review).userAccount(new UserAccount()).build();
-		ReviewLike reviewLike3 = ReviewLike.builder().review(review).userAccount(new UserAccount()).build();
-		ReviewLike reviewLike4 = ReviewLike.builder().review(review).userAccount(new UserAccount()).build();
-		ReviewLike reviewLike5 = ReviewLike.builder().review(review).userAccount(new UserAccount()).build();
-		given(reviewRepository.findById(100L)).willReturn(Optional.of(review));
-		given(reviewLikeRepository.findAllByReview(any()))
-				.willReturn(List.of(reviewLike1, reviewLike2, reviewLike3, reviewLike4, reviewLike5));
+		given(reviewRepository.syncCounts()).willReturn(3);
 
 		// When
-		Long result = commonReviewService.countReviewLike(100L);
+		commonReviewService.syncCounts();
 
 		// Then
-		assertEquals(5, result);
+		verify(reviewRepository).syncCounts();
 	}
 
 	@Test
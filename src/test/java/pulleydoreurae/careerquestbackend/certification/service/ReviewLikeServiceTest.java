@@ -24,8 +24,11 @@ import pulleydoreurae.careerquestbackend.certification.domain.dto.response.Revie
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.ReviewLike;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewLikeRepository;
+import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
 import pulleydoreurae.careerquestbackend.community.exception.PostNotFoundException;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
 
 /**
  * @author : parkjihyeok
@@ -40,9 +43,13 @@ class ReviewLikeServiceTest {
 	@Mock
 	ReviewLikeRepository reviewLikeRepository;
 	@Mock
+	ReviewRepository reviewRepository;
+	@Mock
 	CommonReviewService commonReviewService;
 	@Mock
 	CommonService commonService;
+	@Mock
+	NotificationService notificationService;
 
 	@Test
 	@DisplayName("좋아요 증가 테스트 (실패 - 회원정보를 찾을 수 없음)")
@@ -98,7 +105,9 @@ class ReviewLikeServiceTest {
 		reviewLikeService.changeReviewLike(request);
 
 		verify(reviewLikeRepository).save(any());
+		verify(reviewRepository).increasePostLikeCount(10000L);
 		verify(reviewLikeRepository, never()).delete(any());
+		verify(notificationService).notify(user.getId(), NotificationType.REVIEW_LIKE, 10000L, user);
 	}
 
 	@Test
@@ -157,6 +166,7 @@ class ReviewLikeServiceTest {
 
 		verify(reviewLikeRepository, never()).save(any());
 		verify(reviewLikeRepository).delete(any());
+		verify(reviewRepository).decreasePostLikeCount(10000L);
 	}
 
 	@Test
@@ -3,12 +3,18 @@ package pulleydoreurae.careerquestbackend.certification.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -20,16 +26,19 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
 import pulleydoreurae.careerquestbackend.certification.domain.dto.request.ReviewRequest;
 import pulleydoreurae.careerquestbackend.certification.domain.dto.response.ReviewResponse;
 import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
-import pulleydoreurae.careerquestbackend.certification.domain.entity.ReviewViewCheck;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewLikeRepository;
 import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
-import pulleydoreurae.careerquestbackend.certification.repository.ReviewViewCheckRepository;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
+import pulleydoreurae.careerquestbackend.common.service.ViewCountService;
+import pulleydoreurae.careerquestbackend.common.service.ViewHistoryService;
 import pulleydoreurae.careerquestbackend.community.exception.PostNotFoundException;
+import pulleydoreurae.careerquestbackend.search.service.SearchIndexService;
 
 /**
  * @author : parkjihyeok
@@ -46,11 +55,17 @@ class ReviewServiceTest {
 	@Mock
 	ReviewLikeRepository reviewLikeRepository;
 	@Mock
-	ReviewViewCheckRepository reviewViewCheckRepository;
-	@Mock
 	CommonReviewService commonReviewService;
 	@Mock
 	CommonService commonService;
+	@Mock
+	ViewCountService viewCountService;
+	@Mock
+	ViewHistoryService viewHistoryService;
+	@Mock
+	SearchIndexService searchIndexService;
+	@Mock
+	UserActivityService userActivityService;
 
 	@Test
 	@DisplayName("후기 불러오기 실패")
@@ -76,13 +91,15 @@ class ReviewServiceTest {
 		Review review = Review.builder().title("제목").content("내용").view(1L).certificationName("정보처리기사").build();
 		given(commonReviewService.findReview(any())).willReturn(review);
 		given(commonReviewService.reviewToReviewResponse(review, false)).willReturn(
-				new ReviewResponse(100L, "A", "A", "A","정보처리기사", 1L, 1L, false, "A", "A"));
+				new ReviewResponse(100L, "A", "A", "A","정보처리기사", 1L, null, 1L, false, "A", "A"));
+		given(viewHistoryService.countReviewViewers(100L)).willReturn(3L);
 
 		// When
 		ReviewResponse result = reviewService.findByReviewId(request, response, 100L);
 
 		// Then
 		assertNotNull(result);
+		assertEquals(3L, result.getUniqueViewers());
 		verify(commonReviewService).reviewToReviewResponse(review, false);
 	}
 
@@ -101,15 +118,14 @@ class ReviewServiceTest {
 		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
 		securityContext.setAuthentication(authentication);
 		SecurityContextHolder.setContext(securityContext);
-		given(commonReviewService.findReviewViewCheck("testId")).willReturn(null);
+		given(viewHistoryService.checkReviewView(100L, "testId")).willReturn(true);
 
 		// When
 		String result = reviewService.checkView(request, response, 100L, review);
 
 		// Then
 		assertEquals("testId", result);
-		assertEquals(2, review.getView());
-		verify(reviewViewCheckRepository).save(any());
+		verify(viewCountService).increaseReviewView(100L);
 	}
 
 	@Test
@@ -127,16 +143,14 @@ class ReviewServiceTest {
 		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
 		securityContext.setAuthentication(authentication);
 		SecurityContextHolder.setContext(securityContext);
-		ReviewViewCheck reviewViewCheck = new ReviewViewCheck("testId", 100L);
-		given(commonReviewService.findReviewViewCheck("testId")).willReturn(reviewViewCheck);
+		given(viewHistoryService.checkReviewView(100L, "testId")).willReturn(false);
 
 		// When
 		String result = reviewService.checkView(request, response, 100L, review);
 
 		// Then
 		assertEquals("testId", result);
-		assertEquals(1, review.getView());
-		verify(reviewViewCheckRepository, never()).save(any());
+		verify(viewCountService, never()).increaseReviewView(any());
 	}
 
 	@Test
@@ -258,6 +272,7 @@ class ReviewServiceTest {
 		assertTrue(result);
 		verify(commonReviewService).reviewRequestToReviewForUpdate(any(), any(), any());
 		verify(reviewRepository).save(any());
+		verify(searchIndexService).indexReview(any());
 	}
 
 	@Test
@@ -321,5 +336,32 @@ class ReviewServiceTest {
 		// Then
 		assertTrue(result);
 		verify(reviewRepository).deleteById(100L);
+		verify(searchIndexService).removeReview(100L);
+		verify(viewHistoryService).deleteReviewHistory(100L);
+		verify(userActivityService).decrease(user, UserActivityType.REVIEW);
+	}
+
+	@Test
+	@DisplayName("로그인한 회원이라면 후기 리스트의 좋아요 상태를 한번에 채우는지 테스트")
+	void getReviewResponseListIsLikedTest() {
+		// Given
+		Pageable pageable = PageRequest.of(0, 15);
+		Review review1 = Review.builder().id(101L).title("제목").content("내용").view(1L).certificationName("정보처리기사").build();
+		Review review2 = Review.builder().id(100L).title("제목").content("내용").view(1L).certificationName("정보처리기사").build();
+		PageImpl<Review> reviews = new PageImpl<>(List.of(review1, review2), pageable, 2);
+		given(reviewRepository.findAllByCertificationNameOrderByIdDesc("정보처리기사", pageable)).willReturn(reviews);
+		given(commonReviewService.reviewListToReviewResponseList(reviews)).willReturn(List.of(
+				ReviewResponse.builder().reviewId(101L).isLiked(false).build(),
+				ReviewResponse.builder().reviewId(100L).isLiked(false).build()));
+		given(commonService.findAuthenticatedUserAccountId()).willReturn(Optional.of(1L));
+		given(reviewLikeRepository.findLikedReviewIds(1L, List.of(101L, 100L))).willReturn(List.of(101L));
+
+		// When
+		List<ReviewResponse> result = reviewService.getReviewResponseListByCertificationName("정보처리기사", pageable);
+
+		// Then
+		assertTrue(result.get(0).getIsLiked());
+		assertFalse(result.get(1).getIsLiked());
+		verify(reviewLikeRepository, never()).existsByReviewAndUserAccount(any(), any());
 	}
 }
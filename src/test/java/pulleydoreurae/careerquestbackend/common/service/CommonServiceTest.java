@@ -3,6 +3,7 @@ package pulleydoreurae.careerquestbackend.common.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,8 +13,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -95,4 +98,35 @@ class CommonServiceTest {
 		// Then
 		assertDoesNotThrow(() -> commonService.checkAuth("testId"));
 	}
+
+	@Test
+	@DisplayName("로그인한 회원의 id 찾기 테스트")
+	void findAuthenticatedUserAccountIdTest() {
+		// Given
+		given(securityContext.getAuthentication()).willReturn(authentication);
+		given(authentication.isAuthenticated()).willReturn(true);
+		given(authentication.getName()).willReturn("testId");
+		given(userAccountRepository.findIdByUserId("testId")).willReturn(Optional.of(1L));
+
+		// When
+		Optional<Long> result = commonService.findAuthenticatedUserAccountId();
+
+		// Then
+		assertEquals(Optional.of(1L), result);
+	}
+
+	@Test
+	@DisplayName("로그인하지 않았다면 회원 id 를 찾지 않는지 테스트")
+	void findAuthenticatedUserAccountIdAnonymousTest() {
+		// Given
+		given(securityContext.getAuthentication()).willReturn(new AnonymousAuthenticationToken("key", "anonymousUser",
+				List.of(new SimpleGrantedAuthority("ROLE_ANONYMOUS"))));
+
+		// When
+		Optional<Long> result = commonService.findAuthenticatedUserAccountId();
+
+		// Then
+		assertTrue(result.isEmpty());
+		verify(userAccountRepository, never()).findIdByUserId(any());
+	}
 }
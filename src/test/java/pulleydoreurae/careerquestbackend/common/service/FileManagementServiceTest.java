@@ -1,6 +1,7 @@
 package pulleydoreurae.careerquestbackend.common.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
 
 import java.io.File;
 import java.io.IOException;
@@ -9,10 +10,21 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * @author : parkjihyeok
@@ -21,9 +33,86 @@ import org.springframework.mock.web.MockMultipartFile;
 @DisplayName("파일 입출력 테스트")
 class FileManagementServiceTest {
 
-	String IMAGE_PATH = "";
+	@TempDir
+	Path dir;
+	String IMAGE_PATH;
 
-	FileManagementService fileManagementService = new FileManagementService();
+	StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+	@SuppressWarnings("unchecked")
+	SetOperations<String, String> setOperations = mock(SetOperations.class);
+	Map<Object, Long> references = new ConcurrentHashMap<>(); // Redis 에 저장되는 참조 수
+	Map<Object, Long> pending = new ConcurrentHashMap<>(); // Redis 에 저장되는 업로드 대기 목록 (파일명 -> 업로드 시간)
+
+	FileManagementService fileManagementService = new FileManagementService(redisTemplate);
+
+	@BeforeEach
+	void setUp() {
+		IMAGE_PATH = dir.toString() + File.separator;
+		List<String> keys = List.of(FileManagementService.REFERENCE_KEY, FileManagementService.PENDING_KEY);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(redisTemplate.opsForSet()).willReturn(setOperations);
+		given(zSetOperations.add(eq(FileManagementService.PENDING_KEY), anyString(), anyDouble()))
+				.willAnswer(invocation -> {
+					pending.put(invocation.getArgument(1), (long)(double)invocation.getArgument(2));
+					return true;
+				});
+		given(zSetOperations.rangeByScore(eq(FileManagementService.PENDING_KEY), anyDouble(), anyDouble()))
+				.willAnswer(invocation -> pending.entrySet().stream()
+						.filter(entry -> entry.getValue() <= (double)invocation.getArgument(2))
+						.map(entry -> (String)entry.getKey())
+						.collect(Collectors.toSet()));
+		given(redisTemplate.execute(eq(FileManagementService.ACQUIRE_SCRIPT), eq(keys), any(Object[].class)))
+				.willAnswer(invocation -> {
+					Object[] arguments = invocation.getArguments();
+					for (int i = 2; i < arguments.length; i++) {
+						if (!references.containsKey(arguments[i]) && !pending.containsKey(arguments[i])) {
+							return 0L;
+						}
+					}
+					for (int i = 2; i < arguments.length; i++) {
+						references.merge(arguments[i], 1L, Long::sum);
+					}
+					return 1L;
+				});
+		given(redisTemplate.execute(eq(FileManagementService.RELEASE_SCRIPT), eq(keys), any()))
+				.willAnswer(invocation -> {
+					Object fileName = invocation.getArgument(2);
+					Long result = references.merge(fileName, -1L, Long::sum);
+					if (result <= 0) {
+						references.remove(fileName);
+						if (pending.containsKey(fileName)) {
+							return 1L;
+						}
+					}
+					return result;
+				});
+		given(redisTemplate.execute(eq(FileManagementService.EXPIRE_SCRIPT),
+				eq(List.of(FileManagementService.PENDING_KEY, FileManagementService.REFERENCE_KEY)), any(), any()))
+				.willAnswer(invocation -> {
+					long expiredBefore = Long.parseLong(invocation.getArgument(2));
+					Object fileName = invocation.getArgument(3);
+					Long uploadedAt = pending.get(fileName);
+					if (uploadedAt == null || uploadedAt > expiredBefore) {
+						return 0L;
+					}
+					pending.remove(fileName);
+					return references.getOrDefault(fileName, 0L) > 0 ? 0L : 1L;
+				});
+	}
+
+	/**
+	 * 대기 시간이 지난 업로드로 만든다.
+	 */
+	void expire(String fileName) {
+		pending.put(fileName, System.currentTimeMillis() - FileManagementService.PENDING_TTL.toMillis() - 1000);
+	}
+
+	@AfterEach
+	void tearDown() {
+		fileManagementService.shutdown();
+	}
 
 	@Test
 	@DisplayName("파일 저장 테스트")
@@ -41,26 +130,172 @@ class FileManagementServiceTest {
 		assertAll(
 				() -> assertArrayEquals(file.getBytes(), Files.readAllBytes(result)),
 				() -> assertEquals(fileName, saved.getName()),
+				() -> assertTrue(fileName.endsWith(".png")),
 				() -> assertTrue(saved.exists()),
-				() -> assertTrue(saved.canRead())
+				() -> assertTrue(saved.canRead()),
+				() -> assertTrue(pending.containsKey(fileName)), // 첨부될 때까지 대기 목록에 남는다.
+				() -> assertTrue(references.isEmpty()) // 참조 수는 첨부할 때 증가한다.
 		);
-
-		saved.delete(); // 파일 삭제
 	}
 
 	@Test
-	@DisplayName("파일 삭제 테스트")
+	@DisplayName("파일 삭제 테스트 (첨부가 모두 삭제되어도 대기 중인 업로드가 있다면 남긴다.)")
 	void deleteFailTest() throws IOException {
 		// Given
 		MockMultipartFile file = new MockMultipartFile("test", "Test.png", "image/png", "사진내용".getBytes());
 		String fileName = fileManagementService.saveFile(file, IMAGE_PATH);
+		fileManagementService.acquire(List.of(fileName), IMAGE_PATH);
 
 		// When
 		fileManagementService.deleteFile(List.of(fileName), IMAGE_PATH);
 
 		// Then
+		assertTrue(new File(IMAGE_PATH + fileName).exists());
+		assertFalse(references.containsKey(fileName));
+
+		// 대기 시간이 지나면 삭제된다.
+		expire(fileName);
+		assertEquals(List.of(fileName), fileManagementService.deleteExpiredUploads(IMAGE_PATH));
 		Path result = Paths.get(IMAGE_PATH + fileName);
 		// 파일이 존재하지 않으므로 NoSuchFileException 예외를 던져야한다.
 		assertThrows(NoSuchFileException.class, () -> Files.readAllBytes(result));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("같은 내용의 파일은 한번만 저장하고 모든 첨부가 삭제될 때 파일을 삭제하는지 테스트")
+	void saveDuplicateFileTest() throws IOException {
+		// Given
+		MockMultipartFile file1 = new MockMultipartFile("test1", "Test1.png", "image/png", "사진내용".getBytes());
+		MockMultipartFile file2 = new MockMultipartFile("test2", "Test2.png", "image/png", "사진내용".getBytes());
+
+		// When
+		String fileName1 = fileManagementService.saveFile(file1, IMAGE_PATH);
+		String fileName2 = fileManagementService.saveFile(file2, IMAGE_PATH);
+		fileManagementService.acquire(List.of(fileName1), IMAGE_PATH);
+		fileManagementService.acquire(List.of(fileName2), IMAGE_PATH);
+
+		// Then
+		assertEquals(fileName1, fileName2);
+		assertEquals(2, references.get(fileName1));
+		try (var files = Files.list(dir)) {
+			assertEquals(1, files.count()); // 임시파일도 남지 않는다.
+		}
+
+		expire(fileName1);
+		assertEquals(List.of(), fileManagementService.deleteExpiredUploads(IMAGE_PATH)); // 첨부된 파일은 남긴다.
+		fileManagementService.deleteFile(List.of(fileName1), IMAGE_PATH);
+		assertTrue(new File(IMAGE_PATH + fileName1).exists());
+		fileManagementService.deleteFile(List.of(fileName2), IMAGE_PATH);
+		assertFalse(new File(IMAGE_PATH + fileName1).exists());
+		assertFalse(references.containsKey(fileName1));
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 참조하는 파일이라도 이 서버에 없다면 저장하는지 테스트")
+	void saveFileMissingLocallyTest() throws IOException {
+		// Given
+		MockMultipartFile file = new MockMultipartFile("test", "Test.png", "image/png", "사진내용".getBytes());
+		String fileName = fileManagementService.saveFile(file, IMAGE_PATH);
+		Files.delete(Paths.get(IMAGE_PATH + fileName)); // 다른 서버에만 저장된 상태
+
+		// When
+		String result = fileManagementService.saveFile(file, IMAGE_PATH);
+
+		// Then
+		assertEquals(fileName, result);
+		assertArrayEquals(file.getBytes(), Files.readAllBytes(Paths.get(IMAGE_PATH + fileName)));
+	}
+
+	@Test
+	@DisplayName("여러 파일을 병렬로 저장하고 요청한 순서대로 파일명을 반환하는지 테스트")
+	void saveFilesTest() throws IOException {
+		// Given
+		List<MultipartFile> files = List.of(
+				new MockMultipartFile("test1", "Test1.png", "image/png", "사진1".getBytes()),
+				new MockMultipartFile("test2", "Test2.jpg", "image/jpeg", "사진2".getBytes()),
+				new MockMultipartFile("test3", "Test3.gif", "image/gif", "사진3".getBytes()));
+
+		// When
+		List<String> fileNames = fileManagementService.saveFiles(files, IMAGE_PATH, "testId");
+
+		// Then
+		assertEquals(3, fileNames.size());
+		for (int i = 0; i < files.size(); i++) {
+			assertArrayEquals(files.get(i).getBytes(), Files.readAllBytes(Paths.get(IMAGE_PATH + fileNames.get(i))));
+		}
+		verify(setOperations).add(FileManagementService.UPLOADS_KEY_PREFIX + "testId",
+				fileNames.toArray(String[]::new));
+		verify(redisTemplate).expire(FileManagementService.UPLOADS_KEY_PREFIX + "testId",
+				FileManagementService.PENDING_TTL);
+	}
+
+	@Test
+	@DisplayName("한 파일이라도 저장에 실패하면 업로드 목록에 남기지 않는지 테스트")
+	void saveFilesFailTest() throws IOException {
+		// Given
+		MultipartFile broken = mock(MultipartFile.class);
+		given(broken.getInputStream()).willThrow(new IOException("읽기 실패"));
+		List<MultipartFile> files = List.of(
+				new MockMultipartFile("test1", "Test1.png", "image/png", "사진1".getBytes()),
+				broken,
+				new MockMultipartFile("test3", "Test3.png", "image/png", "사진3".getBytes()));
+
+		// When
+		List<String> fileNames = fileManagementService.saveFiles(files, IMAGE_PATH, "testId");
+
+		// Then
+		assertNull(fileNames);
+		assertTrue(references.isEmpty());
+		verify(setOperations, never()).add(anyString(), any(String[].class));
+		try (var saved = Files.list(dir)) {
+			assertEquals(2, saved.count()); // 저장된 파일은 첨부되지 않으므로 대기 시간이 지나면 정리된다.
+		}
+		pending.keySet().forEach(fileName -> expire((String)fileName));
+		assertEquals(2, fileManagementService.deleteExpiredUploads(IMAGE_PATH).size());
+		try (var saved = Files.list(dir)) {
+			assertEquals(0, saved.count());
+		}
+	}
+
+	@Test
+	@DisplayName("업로드 대기 중이거나 이미 참조되는 파일만 참조 수를 증가시키는지 테스트")
+	void acquireTest() {
+		// Given
+		MockMultipartFile file = new MockMultipartFile("test", "Test.png", "image/png", "사진내용".getBytes());
+		String fileName = fileManagementService.saveFile(file, IMAGE_PATH);
+
+		// When
+		boolean acquired = fileManagementService.acquire(List.of(fileName, fileName), IMAGE_PATH);
+		boolean unknown = fileManagementService.acquire(List.of(fileName, "unknown.png"), IMAGE_PATH);
+
+		// Then
+		assertTrue(acquired);
+		assertFalse(unknown);
+		assertEquals(2, references.get(fileName)); // 같은 파일명을 두번 첨부했다면 두번 증가, 실패하면 증가시키지 않는다.
+		assertFalse(references.containsKey("unknown.png"));
+	}
+
+	@Test
+	@DisplayName("회원이 올린 파일인지 확인하는 테스트")
+	void isUploadedByTest() {
+		// Given
+		given(setOperations.members(FileManagementService.UPLOADS_KEY_PREFIX + "testId"))
+				.willReturn(Set.of("a.png", "b.png"));
+
+		// When
+
+		// Then
+		assertTrue(fileManagementService.isUploadedBy("testId", List.of("a.png", "b.png")));
+		assertFalse(fileManagementService.isUploadedBy("testId", List.of("a.png", "others.png")));
+		assertTrue(fileManagementService.isUploadedBy("testId", List.of()));
+	}
+
+	@Test
+	@DisplayName("원본 파일명에서 확장자를 가져오는 테스트")
+	void extensionTest() {
+		assertEquals(".png", FileManagementService.extension("사진.PNG"));
+		assertEquals("", FileManagementService.extension("사진"));
+		assertEquals("", FileManagementService.extension("사진.p/g"));
+		assertEquals("", FileManagementService.extension(null));
+	}
+}
@@ -0,0 +1,76 @@
+package pulleydoreurae.careerquestbackend.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("색인 변경 알림 Service 테스트")
+class IndexSyncServiceTest {
+
+	@InjectMocks
+	IndexSyncService indexSyncService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Test
+	@DisplayName("다른 서버가 보낸 변경을 등록된 작업으로 반영하는지 테스트")
+	void receiveTest() {
+		// Given
+		List<Long> synced = new ArrayList<>();
+		indexSyncService.register("POST", synced::add);
+
+		// When
+		indexSyncService.receive("other-node:POST:10");
+		indexSyncService.receive("other-node:REVIEW:20");
+		indexSyncService.receive("잘못된 메시지");
+
+		// Then
+		assertEquals(List.of(10L), synced);
+	}
+
+	@Test
+	@DisplayName("자신이 보낸 변경은 다시 반영하지 않는지 테스트")
+	void receiveOwnMessageTest() {
+		// Given
+		List<Long> synced = new ArrayList<>();
+		indexSyncService.register("POST", synced::add);
+		indexSyncService.publish("POST", 10L);
+		ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq(IndexSyncService.CHANNEL), message.capture());
+
+		// When
+		indexSyncService.receive(message.getValue());
+
+		// Then
+		assertTrue(message.getValue().endsWith(":POST:10"));
+		assertTrue(synced.isEmpty());
+	}
+
+	@Test
+	@DisplayName("Redis 에 발행하지 못해도 예외가 전파되지 않는지 테스트")
+	void publishFailTest() {
+		// Given
+		given(redisTemplate.convertAndSend(anyString(), anyString()))
+				.willThrow(new RedisConnectionFailureException("연결 실패"));
+
+		// When & Then
+		assertDoesNotThrow(() -> indexSyncService.publish("POST", 10L));
+	}
+}
@@ -0,0 +1,104 @@
+package pulleydoreurae.careerquestbackend.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("조회수 모아서 반영하기 테스트")
+class ViewCountServiceTest {
+
+	@InjectMocks
+	ViewCountService viewCountService;
+	@Mock
+	PostRepository postRepository;
+	@Mock
+	ReviewRepository reviewRepository;
+
+	@Test
+	@DisplayName("반영되지 않은 조회수가 조회 결과에 더해지는지 테스트")
+	void getPostViewTest() {
+		// Given
+		viewCountService.increasePostView(100L);
+		viewCountService.increasePostView(100L);
+		viewCountService.increasePostView(101L);
+
+		// When
+
+		// Then
+		assertEquals(12L, viewCountService.getPostView(100L, 10L));
+		assertEquals(11L, viewCountService.getPostView(101L, 10L));
+		assertEquals(10L, viewCountService.getReviewView(100L, 10L));
+	}
+
+	@Test
+	@DisplayName("한 주기 전에 모은 조회수를 한번에 반영하는지 테스트")
+	void flushTest() {
+		// Given
+		viewCountService.increasePostView(100L);
+		viewCountService.increasePostView(100L);
+		viewCountService.increaseReviewView(200L);
+
+		// When
+		viewCountService.flush(); // 현재 모은 값은 다음 주기에 반영된다.
+		verify(postRepository, never()).increaseViews(any());
+		viewCountService.flush();
+
+		// Then
+		verify(postRepository).increaseViews(Map.of(100L, 2L));
+		verify(reviewRepository).increaseViews(Map.of(200L, 1L));
+		assertEquals(10L, viewCountService.getPostView(100L, 10L));
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 다음 주기에 다시 반영하는지 테스트")
+	void flushFailTest() {
+		// Given
+		viewCountService.increasePostView(100L);
+		willThrow(new RuntimeException("DB 오류")).willDoNothing().given(postRepository).increaseViews(any());
+
+		// When
+		viewCountService.flushAll(); // 실패
+		viewCountService.flushAll(); // 재시도
+
+		// Then
+		verify(postRepository, times(2)).increaseViews(Map.of(100L, 1L));
+		assertEquals(0L, viewCountService.getPostView(100L, 0L));
+	}
+
+	@Test
+	@DisplayName("동시에 조회해도 조회수가 유실되지 않는지 테스트")
+	void concurrentIncreaseTest() throws InterruptedException {
+		// Given
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// When
+		for (int i = 0; i < 1000; i++) {
+			executor.submit(() -> viewCountService.increasePostView(100L));
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+		viewCountService.flushAll();
+
+		// Then
+		verify(postRepository).increaseViews(Map.of(100L, 1000L));
+	}
+}
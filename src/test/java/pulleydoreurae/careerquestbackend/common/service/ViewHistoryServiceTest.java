@@ -0,0 +1,115 @@
+package pulleydoreurae.careerquestbackend.common.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@SpringBootTest
+@DisplayName("조회수 중복을 방지하기 위한 Service 테스트")
+class ViewHistoryServiceTest {
+
+	@Autowired
+	ViewHistoryService viewHistoryService;
+
+	@Test
+	@DisplayName("1. 처음 조회한 경우에만 true 를 반환하는지 테스트")
+	void checkPostViewTest() {
+		// Given
+		String name = "testId";
+
+		// When
+		boolean first = viewHistoryService.checkPostView(1L, name);
+		boolean second = viewHistoryService.checkPostView(1L, name);
+
+		// Then
+		assertAll(
+				() -> assertTrue(first),
+				() -> assertFalse(second)
+		);
+	}
+
+	@Test
+	@DisplayName("2. 두 게시글을 번갈아 조회해도 중복으로 확인하는지 테스트")
+	void checkPostViewAlternateTest() {
+		// Given
+		String name = "testId";
+
+		// When
+		boolean first = viewHistoryService.checkPostView(2L, name);
+		boolean other = viewHistoryService.checkPostView(3L, name);
+		boolean again = viewHistoryService.checkPostView(2L, name);
+
+		// Then
+		assertAll(
+				() -> assertTrue(first),
+				() -> assertTrue(other),
+				() -> assertFalse(again)
+		);
+	}
+
+	@Test
+	@DisplayName("3. 게시글과 후기의 조회 기록은 따로 저장되는지 테스트")
+	void checkReviewViewTest() {
+		// Given
+		String name = "testId";
+		viewHistoryService.checkPostView(4L, name);
+
+		// When
+		boolean result = viewHistoryService.checkReviewView(4L, name);
+
+		// Then
+		assertTrue(result);
+	}
+
+	@Test
+	@DisplayName("4. 방문자 수를 세는지 테스트")
+	void countPostViewersTest() {
+		// Given
+		viewHistoryService.checkPostView(5L, "A");
+		viewHistoryService.checkPostView(5L, "B");
+		viewHistoryService.checkPostView(5L, "A");
+
+		// When
+		Long result = viewHistoryService.countPostViewers(5L);
+
+		// Then
+		assertEquals(2L, result);
+	}
+
+	@Test
+	@DisplayName("5. 방문자의 비트 위치가 범위 안에서 고정되는지 테스트")
+	void offsetsTest() {
+		// When
+		long[] result = ViewHistoryService.offsets("testId");
+
+		// Then
+		assertArrayEquals(result, ViewHistoryService.offsets("testId"));
+		for (long offset : result) {
+			assertTrue(0 <= offset && offset < (1 << 17));
+		}
+	}
+
+	@Test
+	@DisplayName("6. 게시글이 삭제되면 방문 기록과 방문자 수도 삭제하는지 테스트")
+	void deletePostHistoryTest() {
+		// Given
+		viewHistoryService.checkPostView(6L, "A");
+		viewHistoryService.checkPostView(6L, "B");
+
+		// When
+		viewHistoryService.deletePostHistory(6L);
+
+		// Then
+		assertAll(
+				() -> assertEquals(0L, viewHistoryService.countPostViewers(6L)),
+				() -> assertTrue(viewHistoryService.checkPostView(6L, "A"))
+		);
+	}
+}
@@ -25,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import com.google.gson.Gson;
 
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.CommentRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.CommentResponse;
 import pulleydoreurae.careerquestbackend.community.service.CommentService;
@@ -473,4 +474,52 @@ class CommentControllerTest {
 						)));
 		// Then
 	}
+
+	@Test
+	@DisplayName("9. 게시글로 댓글리스트 불러오기 (커서 기반)")
+	@WithMockUser
+	void findAllByPostIdWithCursorTest() throws Exception {
+		// Given
+		CommentResponse comment1 = CommentResponse.builder().commentId(104L).userId("testId").postId(10000L).content("내용5")
+				.createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37")
+				.build();
+		CommentResponse comment2 = CommentResponse.builder().commentId(103L).userId("testId").postId(10000L).content("내용4")
+				.createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37")
+				.build();
+
+		given(commentService.findListByPostIdWithCursor(10000L, "MTA1", 2)).willReturn(
+				new CursorResponse<>(List.of(comment1, comment2), "MTAz", true));
+
+		// When
+		mockMvc.perform(
+						get("/api/posts/{postId}/comments/cursor", 10000L)
+								.queryParam("cursor", "MTA1")
+								.queryParam("limit", "2")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.nextCursor").value("MTAz"))
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters(
+								parameterWithName("postId").description("게시글 id")
+						),
+						queryParameters(
+								parameterWithName("cursor").description("이전 응답의 nextCursor (첫 요청이라면 생략)"),
+								parameterWithName("limit").description("조회할 개수 (기본값 30, 최대 100)")
+						),
+						responseFields(
+								fieldWithPath("content[].commentId").description("댓글 id"),
+								fieldWithPath("content[].userId").description("댓글 작성자"),
+								fieldWithPath("content[].postId").description("게시글 id"),
+								fieldWithPath("content[].content").description("댓글 내용"),
+								fieldWithPath("content[].createdAt").description("작성일"),
+								fieldWithPath("content[].modifiedAt").description("수정일"),
+								fieldWithPath("nextCursor").description("다음 요청에 사용할 커서 (더 없다면 null)"),
+								fieldWithPath("hasNext").description("다음 내용 존재 여부")
+						)));
+
+		// Then
+	}
 }
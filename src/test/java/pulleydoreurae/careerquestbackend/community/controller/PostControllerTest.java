@@ -14,6 +14,7 @@ import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +23,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.UrlResource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
@@ -39,7 +39,9 @@ import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.community.domain.ContestCategory;
+import pulleydoreurae.careerquestbackend.community.domain.ImageVariant;
 import pulleydoreurae.careerquestbackend.community.domain.Organizer;
 import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
 import pulleydoreurae.careerquestbackend.community.domain.Region;
@@ -49,12 +51,14 @@ import pulleydoreurae.careerquestbackend.community.domain.dto.request.ContestSea
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.JoinContestRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.PostAndContestRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.PostRequest;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestFacetResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.JoinContestResponse;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
 import pulleydoreurae.careerquestbackend.community.exception.PostDeleteException;
 import pulleydoreurae.careerquestbackend.community.exception.PostUpdateException;
 import pulleydoreurae.careerquestbackend.community.service.ContestService;
+import pulleydoreurae.careerquestbackend.community.service.ImageServingService;
 import pulleydoreurae.careerquestbackend.community.service.PostService;
 
 /**
@@ -71,6 +75,8 @@ class PostControllerTest {
 	PostService postService;
 	@MockBean
 	ContestService contestService;
+	@MockBean
+	ImageServingService imageServingService;
 
 	/**
 	 * Gson으로 LocalDate를 전송하기 위한 직렬화
@@ -129,7 +135,7 @@ class PostControllerTest {
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].commentCount").description("댓글 수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
@@ -142,7 +148,7 @@ class PostControllerTest {
 	@WithMockUser
 	void getPostTest() throws Exception {
 		// Given
-		PostResponse post = PostResponse.builder().postId(100L).userId("testId").title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).commentCount(0L).postLikeCount(0L).isLiked(false).createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37").build();
+		PostResponse post = PostResponse.builder().postId(100L).userId("testId").title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).uniqueViewers(0L).commentCount(0L).postLikeCount(0L).isLiked(false).createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37").build();
 		given(postService.findByPostId(any(), any(), any())).willReturn(post);
 
 		// When
@@ -154,6 +160,7 @@ class PostControllerTest {
 				.andExpect(jsonPath("$.title").exists())
 				.andExpect(jsonPath("$.content").exists())
 				.andExpect(jsonPath("$.view").exists())
+				.andExpect(jsonPath("$.uniqueViewers").exists())
 				.andExpect(jsonPath("$.commentCount").exists())
 				.andExpect(jsonPath("$.postLikeCount").exists())
 				.andExpect(jsonPath("$.postCategory").exists())
@@ -175,6 +182,7 @@ class PostControllerTest {
 								fieldWithPath("images").description("사진 리스트"),
 								fieldWithPath("postCategory").description("카테고리"),
 								fieldWithPath("view").description("조회수"),
+								fieldWithPath("uniqueViewers").description("방문자 수 (근사치)"),
 								fieldWithPath("commentCount").description("댓글 수"),
 								fieldWithPath("postLikeCount").description("좋아요 수"),
 								fieldWithPath("isLiked").description("좋아요 상태"),
@@ -449,7 +457,116 @@ class PostControllerTest {
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].commentCount").description("댓글 수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
+								fieldWithPath("[].createdAt").description("작성일자"),
+								fieldWithPath("[].modifiedAt").description("수정일자")
+						)));
+
+		// Then
+	}
+
+	@Test
+	@DisplayName("인기 게시글 리스트 조회 테스트")
+	@WithMockUser
+	void getTrendingPostsTest() throws Exception {
+		// Given
+		PostResponse post1 = PostResponse.builder()
+				.postId(102L)
+				.userId("testId").title("제목3").content("내용3").postCategory(PostCategory.FREE_BOARD).view(30L)
+				.commentCount(5L).postLikeCount(10L)
+				.isLiked(false).createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37")
+				.build();
+
+		PostResponse post2 = PostResponse.builder()
+				.postId(100L)
+				.userId("testId").title("제목1").content("내용1").postCategory(PostCategory.QNA_BOARD).view(20L)
+				.commentCount(2L).postLikeCount(3L)
+				.isLiked(false).createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37")
+				.build();
+
+		Pageable pageable = PageRequest.of(0, 15);
+		given(postService.getTrendingPosts(null, pageable)).willReturn(List.of(post1, post2));
+
+		// When
+		mockMvc.perform(
+						get("/api/posts/trending")
+								.queryParam("page", "0")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						queryParameters(
+								parameterWithName("page").description("요청하는 페이지 (0부터 시작, 15개씩 자름)")
+						),
+						responseFields(
+								fieldWithPath("[].postId").description("게시글 id"),
+								fieldWithPath("[].userId").description("게시글 작성자"),
+								fieldWithPath("[].title").description("제목"),
+								fieldWithPath("[].content").description("내용"),
+								fieldWithPath("[].images").description("사진 리스트"),
+								fieldWithPath("[].postCategory").description("카테고리"),
+								fieldWithPath("[].view").description("조회수"),
+								fieldWithPath("[].commentCount").description("댓글 수"),
+								fieldWithPath("[].postLikeCount").description("좋아요 수"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
+								fieldWithPath("[].createdAt").description("작성일자"),
+								fieldWithPath("[].modifiedAt").description("수정일자")
+						)));
+
+		// Then
+	}
+
+	@Test
+	@DisplayName("카테고리별 인기 게시글 리스트 조회 테스트")
+	@WithMockUser
+	void getTrendingPostsByCategoryTest() throws Exception {
+		// Given
+		PostResponse post1 = PostResponse.builder()
+				.postId(102L)
+				.userId("testId").title("제목3").content("내용3").postCategory(PostCategory.FREE_BOARD).view(30L)
+				.commentCount(5L).postLikeCount(10L)
+				.isLiked(false).createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37")
+				.build();
+
+		PostResponse post2 = PostResponse.builder()
+				.postId(101L)
+				.userId("testId").title("제목2").content("내용2").postCategory(PostCategory.FREE_BOARD).view(10L)
+				.commentCount(1L).postLikeCount(2L)
+				.isLiked(false).createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37")
+				.build();
+
+		Pageable pageable = PageRequest.of(0, 15);
+		given(postService.getTrendingPosts(PostCategory.FREE_BOARD, pageable)).willReturn(List.of(post1, post2));
+
+		// When
+		mockMvc.perform(
+						get("/api/posts/trending/{postCategory}", "free-board")
+								.queryParam("page", "0")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters(
+								parameterWithName("postCategory").description("카테고리 정보")
+						),
+						queryParameters(
+								parameterWithName("page").description("요청하는 페이지 (0부터 시작, 15개씩 자름)")
+						),
+						responseFields(
+								fieldWithPath("[].postId").description("게시글 id"),
+								fieldWithPath("[].userId").description("게시글 작성자"),
+								fieldWithPath("[].title").description("제목"),
+								fieldWithPath("[].content").description("내용"),
+								fieldWithPath("[].images").description("사진 리스트"),
+								fieldWithPath("[].postCategory").description("카테고리"),
+								fieldWithPath("[].view").description("조회수"),
+								fieldWithPath("[].commentCount").description("댓글 수"),
+								fieldWithPath("[].postLikeCount").description("좋아요 수"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
@@ -494,7 +611,7 @@ class PostControllerTest {
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].commentCount").description("댓글 수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
@@ -541,7 +658,7 @@ class PostControllerTest {
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].commentCount").description("댓글 수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
@@ -600,7 +717,7 @@ class PostControllerTest {
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].commentCount").description("댓글 수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
@@ -1156,7 +1273,7 @@ class PostControllerTest {
 								fieldWithPath("[].view").description("조회수"),
 								fieldWithPath("[].commentCount").description("댓글 수"),
 								fieldWithPath("[].postLikeCount").description("좋아요 수"),
-								fieldWithPath("[].isLiked").description("좋아요 상태 (리스트에선 상관 X)"),
+								fieldWithPath("[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
 								fieldWithPath("[].createdAt").description("작성일자"),
 								fieldWithPath("[].modifiedAt").description("수정일자")
 						)));
@@ -1170,7 +1287,6 @@ class PostControllerTest {
 	void getImageResourceTest() throws Exception {
 		// Given
 		String fileName = "testImage.png";
-		given(postService.getImageResource(fileName)).willReturn(mock(UrlResource.class));
 
 		// When
 		mockMvc.perform(
@@ -1185,6 +1301,34 @@ class PostControllerTest {
 								parameterWithName("fileName").description("요청할 파일명")
 						)));
 		// Then
+		verify(imageServingService).serve(eq(fileName), isNull(), any(), any());
+	}
+
+	@Test
+	@DisplayName("크기별 변형 이미지 요청 테스트")
+	@WithMockUser
+	void getImageVariantTest() throws Exception {
+		// Given
+		String fileName = "testImage.png";
+
+		// When
+		mockMvc.perform(
+						get("/api/posts/images/{fileName}", fileName)
+								.queryParam("variant", "thumbnail")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters( // PathVariable 방식
+								parameterWithName("fileName").description("요청할 파일명")
+						),
+						queryParameters( // 쿼리파라미터
+								parameterWithName("variant").description("크기별 변형 (thumbnail, medium / 아직 만들어지지 않았다면 원본을 전송)")
+						)));
+		// Then
+		verify(imageServingService).serve(eq(fileName), eq(ImageVariant.THUMBNAIL), any(), any());
 	}
 
 	@Test
@@ -1232,6 +1376,49 @@ class PostControllerTest {
 	    // Then
 	}
 
+	@Test
+	@DisplayName("공모전 검색조건별 개수 조회 테스트")
+	@WithMockUser
+	void searchContestFacetsTest() throws Exception {
+		// Given
+		ContestSearchRequest request = ContestSearchRequest.builder().contestCategory(ContestCategory.ARCHITECTURE).target(Target.UNIVERSITY).build();
+		ContestFacetResponse response = ContestFacetResponse.builder()
+				.total(3L)
+				.contestCategory(Map.of(ContestCategory.ARCHITECTURE, 3L, ContestCategory.ART, 2L))
+				.target(Map.of(Target.UNIVERSITY, 3L, Target.EVERYONE, 1L))
+				.region(Map.of(Region.BUSAN, 2L, Region.SEOUL, 1L))
+				.organizer(Map.of(Organizer.LOCAL_GOVERNMENT, 3L))
+				.build();
+
+		given(contestService.countBySearchRequest(any())).willReturn(response);
+
+		// When
+		mockMvc.perform(
+						post("/api/contests/search/facets")
+								.with(csrf())
+								.contentType(MediaType.APPLICATION_JSON)
+								.content(gson.toJson(request)))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						requestFields(
+								fieldWithPath("contestCategory").description("공모전 분야"),
+								fieldWithPath("target").description("대상")
+						),
+						responseFields(
+								fieldWithPath("total").description("검색조건에 맞는 전체 공모전 수"),
+								subsectionWithPath("contestCategory").description("공모전 분야별 개수 (분야 조건은 제외하고 셈)"),
+								subsectionWithPath("target").description("대상별 개수 (대상 조건은 제외하고 셈)"),
+								subsectionWithPath("region").description("개최지역별 개수 (지역 조건은 제외하고 셈)"),
+								subsectionWithPath("organizer").description("주관처별 개수 (주관처 조건은 제외하고 셈)")
+						)));
+
+		// Then
+		verify(contestService).countBySearchRequest(any());
+	}
+
 	@Test
 	@DisplayName("공모전 정보 조회 테스트")
 	@WithMockUser
@@ -1479,4 +1666,50 @@ class PostControllerTest {
 		// Then
 		verify(contestService).removeFromJoinContest(any());
 	}
+
+	@Test
+	@DisplayName("게시글 리스트 조회 테스트 (커서 기반)")
+	@WithMockUser
+	void getPostListByCursorTest() throws Exception {
+		// Given
+		PostResponse post1 = PostResponse.builder().postId(104L).userId("testId").title("제목5").content("내용5").images(List.of()).postCategory(PostCategory.FREE_BOARD).view(0L).commentCount(0L).postLikeCount(0L).isLiked(false).createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37").build();
+		PostResponse post2 = PostResponse.builder().postId(103L).userId("testId").title("제목4").content("내용4").images(List.of()).postCategory(PostCategory.FREE_BOARD).view(0L).commentCount(0L).postLikeCount(0L).isLiked(false).createdAt("2024.04.01 15:37").modifiedAt("2024.04.01 15:37").build();
+
+		given(postService.getPostResponseListByCursor(null, 2)).willReturn(
+				new CursorResponse<>(List.of(post1, post2), "MTAz", true));
+
+		// When
+		mockMvc.perform(
+						get("/api/posts/cursor")
+								.queryParam("limit", "2")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].postId").value(104))
+				.andExpect(jsonPath("$.hasNext").value(true))
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						queryParameters(
+								parameterWithName("limit").description("조회할 개수 (기본값 15, 최대 100)")
+						),
+						responseFields(
+								fieldWithPath("content[].postId").description("게시글 id"),
+								fieldWithPath("content[].userId").description("게시글 작성자"),
+								fieldWithPath("content[].title").description("제목"),
+								fieldWithPath("content[].content").description("내용"),
+								fieldWithPath("content[].images").description("사진 리스트"),
+								fieldWithPath("content[].postCategory").description("카테고리"),
+								fieldWithPath("content[].view").description("조회수"),
+								fieldWithPath("content[].commentCount").description("댓글 수"),
+								fieldWithPath("content[].postLikeCount").description("좋아요 수"),
+								fieldWithPath("content[].isLiked").description("좋아요 상태 (로그인한 회원 기준, 로그인하지 않았다면 false)"),
+								fieldWithPath("content[].createdAt").description("작성일자"),
+								fieldWithPath("content[].modifiedAt").description("수정일자"),
+								fieldWithPath("nextCursor").description("다음 요청에 사용할 커서 (cursor 파라미터로 전달, 더 없다면 null)"),
+								fieldWithPath("hasNext").description("다음 내용 존재 여부")
+						)));
+
+		// Then
+	}
 }
@@ -0,0 +1,122 @@
+package pulleydoreurae.careerquestbackend.community.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import pulleydoreurae.careerquestbackend.community.domain.ContestCategory;
+import pulleydoreurae.careerquestbackend.community.domain.Organizer;
+import pulleydoreurae.careerquestbackend.community.domain.Region;
+import pulleydoreurae.careerquestbackend.community.domain.Target;
+import pulleydoreurae.careerquestbackend.community.domain.dto.request.ContestSearchRequest;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@DisplayName("공모전 비트맵 색인 테스트")
+class ContestBitmapIndexTest {
+
+	ContestBitmapIndex index = new ContestBitmapIndex();
+
+	@BeforeEach
+	void setUp() {
+		index.put(new Contest(1L, null, ContestCategory.CONTEST, Target.UNIVERSITY, Region.SEOUL, Organizer.GOVERNMENT,
+				100000L, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 3, 10)));
+		index.put(new Contest(2L, null, ContestCategory.ART, Target.UNIVERSITY, Region.BUSAN, Organizer.GOVERNMENT,
+				500000L, LocalDate.of(2024, 4, 10), LocalDate.of(2024, 5, 10)));
+		index.put(new Contest(3L, null, ContestCategory.CONTEST, Target.HIGH_SCHOOL, Region.SEOUL,
+				Organizer.LOCAL_GOVERNMENT, 1000000L, LocalDate.of(2024, 6, 10), LocalDate.of(2024, 7, 10)));
+	}
+
+	@Test
+	@DisplayName("여러 검색조건을 and 로 검색하는지 테스트")
+	void searchTest() {
+		// Given
+		ContestSearchRequest request = ContestSearchRequest.builder()
+				.contestCategory(ContestCategory.CONTEST).region(Region.SEOUL).build();
+
+		// When
+		Page<Long> result = index.search(request, PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(List.of(3L, 1L), result.getContent());
+		assertEquals(2, result.getTotalElements());
+	}
+
+	@Test
+	@DisplayName("총상금, 기간으로 검색하는지 테스트")
+	void searchRangeTest() {
+		// Given
+		ContestSearchRequest prizeRequest = ContestSearchRequest.builder().totalPrize(500000L).build();
+		ContestSearchRequest dateRequest = ContestSearchRequest.builder()
+				.startDate(LocalDate.of(2024, 3, 1)).endDate(LocalDate.of(2024, 4, 30)).build();
+
+		// When
+		Page<Long> prizeResult = index.search(prizeRequest, PageRequest.of(0, 10));
+		Page<Long> dateResult = index.search(dateRequest, PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(List.of(3L, 2L), prizeResult.getContent());
+		assertEquals(List.of(2L, 1L), dateResult.getContent());
+	}
+
+	@Test
+	@DisplayName("페이지 단위로 최신순 id 를 반환하는지 테스트")
+	void searchPageTest() {
+		// Given
+		ContestSearchRequest request = ContestSearchRequest.builder().build();
+
+		// When
+		Page<Long> result = index.search(request, PageRequest.of(1, 2));
+
+		// Then
+		assertEquals(List.of(1L), result.getContent());
+		assertEquals(3, result.getTotalElements());
+	}
+
+	@Test
+	@DisplayName("수정, 삭제가 색인에 반영되는지 테스트")
+	void putAndRemoveTest() {
+		// Given
+		index.put(new Contest(1L, null, ContestCategory.ART, Target.UNIVERSITY, Region.SEOUL, Organizer.GOVERNMENT,
+				100000L, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 3, 10)));
+		index.remove(2L);
+
+		// When
+		Page<Long> result = index.search(
+				ContestSearchRequest.builder().contestCategory(ContestCategory.ART).build(), PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(List.of(1L), result.getContent());
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	@DisplayName("facet 자신의 검색조건은 제외하고 값별 개수를 세는지 테스트")
+	void countByTest() {
+		// Given
+		ContestSearchRequest request = ContestSearchRequest.builder()
+				.contestCategory(ContestCategory.CONTEST).target(Target.UNIVERSITY).build();
+
+		// When
+		Map<ContestCategory, Long> categories = index.countBy(request, ContestCategory.class);
+		Map<Region, Long> regions = index.countBy(request, Region.class);
+
+		// Then
+		assertEquals(1L, categories.get(ContestCategory.CONTEST));
+		assertEquals(1L, categories.get(ContestCategory.ART));
+		assertEquals(1L, regions.get(Region.SEOUL));
+		assertEquals(0L, regions.get(Region.BUSAN));
+		assertEquals(Region.values().length, regions.size());
+	}
+}
@@ -3,6 +3,7 @@ package pulleydoreurae.careerquestbackend.community.repository;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
@@ -12,7 +13,6 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
@@ -20,6 +20,7 @@ import pulleydoreurae.careerquestbackend.auth.domain.UserRole;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.auth.repository.UserAccountRepository;
 import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.CommentResponse;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.config.QueryDSLConfig;
@@ -131,66 +132,30 @@ class CommentRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("4. 한 게시글의 댓글들을 불러오는 테스트")
-	void findListByPostTest() {
+	@DisplayName("댓글 리스트를 응답 형태로 불러오는 테스트")
+	void findResponsesTest() {
 		// Given
 		UserAccount user = userAccountRepository.findByUserId("testId").get();
-
 		Post post = Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
 		postRepository.save(post);
-
 		Comment comment1 = Comment.builder().userAccount(user).post(post).content("댓글 내용1").build();
 		Comment comment2 = Comment.builder().userAccount(user).post(post).content("댓글 내용2").build();
 		Comment comment3 = Comment.builder().userAccount(user).post(post).content("댓글 내용3").build();
-		Comment comment4 = Comment.builder().userAccount(user).post(post).content("댓글 내용4").build();
-		Comment comment5 = Comment.builder().userAccount(user).post(post).content("댓글 내용5").build();
-
-		commentRepository.save(comment1);
-		commentRepository.save(comment2);
-		commentRepository.save(comment3);
-		commentRepository.save(comment4);
-		commentRepository.save(comment5);
-
-		// When
-		Pageable pageable = PageRequest.of(0, 3);
-		Page<Comment> result = commentRepository.findAllByPostOrderByIdDesc(post, pageable);
-
-		// Then
-		assertEquals(2, result.getTotalPages());
-		assertEquals(5, result.getTotalElements());
-		assertEquals(3, result.getSize());
-		assertThat(result).contains(comment3, comment4, comment5);
-	}
-
-	@Test
-	@DisplayName("5. 한 사용자가 작성한 댓글들을 불러오는 테스트")
-	void findListByUserAccountTest() {
-		// Given
-		UserAccount user = userAccountRepository.findByUserId("testId").get();
-
-		Post post = Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		postRepository.save(post);
-
-		Comment comment1 = Comment.builder().userAccount(user).post(post).content("댓글 내용1").build();
-		Comment comment2 = Comment.builder().userAccount(user).post(post).content("댓글 내용2").build();
-		Comment comment3 = Comment.builder().userAccount(user).post(post).content("댓글 내용3").build();
-		Comment comment4 = Comment.builder().userAccount(user).post(post).content("댓글 내용4").build();
-		Comment comment5 = Comment.builder().userAccount(user).post(post).content("댓글 내용5").build();
-
 		commentRepository.save(comment1);
 		commentRepository.save(comment2);
 		commentRepository.save(comment3);
-		commentRepository.save(comment4);
-		commentRepository.save(comment5);
 
 		// When
-		Pageable pageable = PageRequest.of(0, 3);
-		Page<Comment> result = commentRepository.findAllByUserAccountOrderByIdDesc(user, pageable);
+		Pageable pageable = PageRequest.of(0, 2);
+		List<CommentResponse> byPost = commentRepository.findResponsesByPostId(post.getId(), pageable);
+		List<CommentResponse> byUser = commentRepository.findResponsesByUserId("testId", PageRequest.of(1, 2));
 
 		// Then
-		assertEquals(3, result.getSize());
-		assertEquals(2, result.getTotalPages());
-		assertEquals(5, result.getTotalElements());
-		assertThat(result).contains(comment3, comment4, comment5);
+		assertEquals(2, byPost.size());
+		assertEquals(CommentResponse.builder().commentId(comment3.getId()).userId("testId").postId(post.getId())
+				.content("댓글 내용3").createdAt(comment3.getCreatedAt()).modifiedAt(comment3.getModifiedAt()).build(), byPost.get(0));
+		assertEquals(comment2.getId(), byPost.get(1).getCommentId());
+		assertEquals(1, byUser.size());
+		assertEquals(comment1.getId(), byUser.get(0).getCommentId());
 	}
 }
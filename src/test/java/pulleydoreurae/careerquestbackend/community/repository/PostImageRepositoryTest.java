@@ -1,7 +1,10 @@
 package pulleydoreurae.careerquestbackend.community.repository;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -120,4 +123,89 @@ class PostImageRepositoryTest {
 		// Then
 		assertEquals(0, postImageRepository.findAllByPost(post).size());
 	}
+
+	@Test
+	@DisplayName("id 로 사진 정보를 삭제하고 실제로 삭제한 행 수를 반환하는지 테스트")
+	void deleteAllByIdInTest() {
+		// Given
+		UserAccount user = UserAccount.builder().userId("test").password("test!").build();
+		userAccountRepository.save(user);
+
+		Post post1 = Post.builder()
+				.title("제목1").content("내용").userAccount(user).view(0L).postCategory(PostCategory.FREE_BOARD).build();
+		Post post2 = Post.builder()
+				.title("제목2").content("내용").userAccount(user).view(0L).postCategory(PostCategory.FREE_BOARD).build();
+		postRepository.save(post1);
+		postRepository.save(post2);
+
+		PostImage image = postImageRepository.save(PostImage.builder().post(post1).fileName("파일_저장명.txt").build());
+		postImageRepository.save(PostImage.builder().post(post1).fileName("남길_파일명.txt").build());
+		postImageRepository.save(PostImage.builder().post(post2).fileName("파일_저장명.txt").build());
+
+		// When
+		int deleted = postImageRepository.deleteAllByIdIn(List.of(image.getId()));
+		int deletedAgain = postImageRepository.deleteAllByIdIn(List.of(image.getId()));
+
+		// Then
+		List<PostImage> result = postImageRepository.findAllByPost(post1);
+		assertEquals(1, deleted);
+		assertEquals(0, deletedAgain);
+		assertEquals(1, result.size());
+		assertEquals("남길_파일명.txt", result.get(0).getFileName());
+		assertEquals(1, postImageRepository.findAllByPost(post2).size());
+	}
+
+	@Test
+	@DisplayName("사진 정보를 한번에 저장하는 테스트")
+	void saveAllInBatchTest() {
+		// Given
+		UserAccount user = UserAccount.builder().userId("test").password("test!").build();
+		userAccountRepository.save(user);
+
+		Post post = Post.builder()
+				.title("제목").content("내용").userAccount(user).view(0L).postCategory(PostCategory.FREE_BOARD).build();
+		postRepository.save(post);
+
+		// When
+		postImageRepository.saveAllInBatch(List.of(
+				PostImage.builder().post(post).fileName("파일1.png").build(),
+				PostImage.builder().post(post).fileName("파일2.png").build()));
+
+		// Then
+		List<PostImage> result = postImageRepository.findAllByPost(post);
+		assertEquals(2, result.size());
+		assertEquals(List.of("파일1.png", "파일2.png"), result.stream().map(PostImage::getFileName).toList());
+		assertNotNull(result.get(0).getCreatedAt());
+	}
+
+	@Test
+	@DisplayName("여러 게시글의 사진을 한번에 조회하는 테스트")
+	void findAllByPostInTest() {
+		// Given
+		UserAccount user = UserAccount.builder().userId("test").password("test!").build();
+		userAccountRepository.save(user);
+
+		Post post1 = Post.builder()
+				.title("제목1").content("내용1").userAccount(user).view(0L).postCategory(PostCategory.FREE_BOARD).build();
+		Post post2 = Post.builder()
+				.title("제목2").content("내용2").userAccount(user).view(0L).postCategory(PostCategory.FREE_BOARD).build();
+		Post post3 = Post.builder()
+				.title("제목3").content("내용3").userAccount(user).view(0L).postCategory(PostCategory.FREE_BOARD).build();
+		postRepository.save(post1);
+		postRepository.save(post2);
+		postRepository.save(post3);
+
+		postImageRepository.save(PostImage.builder().post(post1).fileName("파일_저장명1.txt").build());
+		postImageRepository.save(PostImage.builder().post(post1).fileName("파일_저장명2.txt").build());
+		postImageRepository.save(PostImage.builder().post(post2).fileName("파일_저장명3.txt").build());
+		postImageRepository.save(PostImage.builder().post(post3).fileName("파일_저장명4.txt").build());
+
+		// When
+		List<PostImage> result = postImageRepository.findAllByPostIn(List.of(post1, post2));
+
+		// Then
+		assertEquals(3, result.size());
+		assertThat(result).extracting(PostImage::getFileName)
+				.containsExactlyInAnyOrder("파일_저장명1.txt", "파일_저장명2.txt", "파일_저장명3.txt");
+	}
 }
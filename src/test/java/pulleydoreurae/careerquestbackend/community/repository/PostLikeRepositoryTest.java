@@ -2,6 +2,7 @@ package pulleydoreurae.careerquestbackend.community.repository;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
@@ -207,4 +208,42 @@ class PostLikeRepositoryTest {
 				() -> assertTrue(result4)
 		);
 	}
+
+	@Test
+	@DisplayName("모아둔 좋아요 변경을 한번에 반영하는 테스트")
+	void applyChangesTest() {
+		// Given
+		UserAccount user = userAccountRepository.findByUserId("testId").get();
+		UserAccount user2 = userAccountRepository.save(UserAccount.builder().userId("testId2").build());
+		Post post = Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		postRepository.save(post);
+		postLikeRepository.save(PostLike.builder().post(post).userAccount(user).build());
+
+		// When
+		postLikeRepository.applyChanges(List.of(
+				new PostLikeRepositoryCustom.Change(post.getId(), user.getId(), false),
+				new PostLikeRepositoryCustom.Change(post.getId(), user2.getId(), true),
+				new PostLikeRepositoryCustom.Change(post.getId(), -1L, true)));
+
+		// Then
+		assertEquals(List.of(user2.getId()), postLikeRepository.findUserIdsByPostId(post.getId()));
+	}
+
+	@Test
+	@DisplayName("여러 게시글 중 좋아요를 누른 게시글 id 를 한번에 찾는지 테스트")
+	void findLikedPostIdsTest() {
+		// Given
+		UserAccount user = userAccountRepository.findByUserId("testId").get();
+		Post post1 = postRepository.save(Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		Post post2 = postRepository.save(Post.builder().userAccount(user).title("제목2").content("내용2").postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		Post post3 = postRepository.save(Post.builder().userAccount(user).title("제목3").content("내용3").postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		postLikeRepository.save(PostLike.builder().post(post1).userAccount(user).build());
+		postLikeRepository.save(PostLike.builder().post(post3).userAccount(user).build());
+
+		// When
+		List<Long> result = postLikeRepository.findLikedPostIds(user.getId(), List.of(post1.getId(), post2.getId()));
+
+		// Then
+		assertEquals(List.of(post1.getId()), result);
+	}
 }
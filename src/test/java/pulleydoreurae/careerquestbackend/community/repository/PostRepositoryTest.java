@@ -3,6 +3,8 @@ package pulleydoreurae.careerquestbackend.community.repository;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.AfterEach;
@@ -12,16 +14,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+
+import jakarta.persistence.EntityManager;
 
 import pulleydoreurae.careerquestbackend.auth.domain.UserRole;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.auth.repository.UserAccountRepository;
 import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
+import pulleydoreurae.careerquestbackend.community.domain.entity.JoinedContest;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+import pulleydoreurae.careerquestbackend.community.domain.entity.PostImage;
+import pulleydoreurae.careerquestbackend.community.domain.entity.PostLike;
 import pulleydoreurae.careerquestbackend.config.QueryDSLConfig;
 
 /**
@@ -37,6 +45,18 @@ class PostRepositoryTest {
 	PostRepository postRepository;
 	@Autowired
 	UserAccountRepository userAccountRepository;
+	@Autowired
+	CommentRepository commentRepository;
+	@Autowired
+	PostLikeRepository postLikeRepository;
+	@Autowired
+	PostImageRepository postImageRepository;
+	@Autowired
+	ContestRepository contestRepository;
+	@Autowired
+	JoinedContestRepository joinedContestRepository;
+	@Autowired
+	EntityManager em;
 
 	@BeforeEach
 	void beforeEach() {
@@ -47,6 +67,7 @@ class PostRepositoryTest {
 
 	@AfterEach
 	void afterEach() {
+		commentRepository.deleteAll();
 		postRepository.deleteAll();
 		userAccountRepository.deleteAll();
 	}
@@ -221,64 +242,144 @@ class PostRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("검색어로 검색한 리스트를 정상적으로 불러오는지 테스트")
-	void searchByKeywordTest() {
+	@DisplayName("검색 색인에서 찾은 id 로 게시글을 한번에 불러오는지 테스트")
+	void findAllByIdInTest() {
 		// Given
 		UserAccount user = userAccountRepository.findByUserId("testId").get();
-		Post post1 = Post.builder().userAccount(user).title("검검색어어").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Post post2 = Post.builder().userAccount(user).title("제목2").content("검검색어어").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Post post3 = Post.builder().userAccount(user).title("검색어어어").content("내용3").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Post post4 = Post.builder().userAccount(user).title("제목4").content("검검검색어어").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Post post5 = Post.builder().userAccount(user).title("제목5").content("내용5").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Post post6 = Post.builder().userAccount(user).title("제목6").content("내용6").postCategory(PostCategory.QNA_BOARD).view(0L).build();
-		Post post7 = Post.builder().userAccount(user).title("제목7").content("내용7").postCategory(PostCategory.QNA_BOARD).view(0L).build();
+		Post post1 = Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		Post post2 = Post.builder().userAccount(user).title("제목2").content("내용2").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		Post post3 = Post.builder().userAccount(user).title("제목3").content("내용3").postCategory(PostCategory.QNA_BOARD).view(0L).build();
+		postRepository.save(post1);
+		postRepository.save(post2);
+		postRepository.save(post3);
+
+		// When
+		List<Post> result = postRepository.findAllByIdIn(List.of(post1.getId(), post3.getId(), 999L));
+
+		// Then
+		assertEquals(2, result.size());
+		assertThat(result).contains(post1, post3);
+	}
+
+	@Test
+	@DisplayName("댓글 수, 좋아요 수 카운터가 정상적으로 증감하는지 테스트")
+	void increaseAndDecreaseCountTest() {
+		// Given
+		UserAccount user = userAccountRepository.findByUserId("testId").get();
+		Post post = Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		postRepository.save(post);
 
 		// When
+		postRepository.increaseCommentCount(post.getId());
+		postRepository.increaseCommentCount(post.getId());
+		postRepository.decreaseCommentCount(post.getId());
+		postRepository.decreasePostLikeCount(post.getId()); // 0 보다 작아지지 않아야 함
+		postRepository.increasePostLikeCount(post.getId());
+		em.clear();
+
+		// Then
+		Post result = postRepository.findById(post.getId()).get();
+		assertEquals(1L, result.getCommentCount());
+		assertEquals(1L, result.getPostLikeCount());
+	}
+
+	@Test
+	@DisplayName("어긋난 카운터를 실제 데이터로 보정하는지 테스트")
+	void syncCountsTest() {
+		// Given
+		UserAccount user = userAccountRepository.findByUserId("testId").get();
+		Post post1 = Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		Post post2 = Post.builder().userAccount(user).title("제목2").content("내용2").postCategory(PostCategory.FREE_BOARD).view(0L).build();
 		postRepository.save(post1);
 		postRepository.save(post2);
-		postRepository.save(post3);
-		postRepository.save(post4);
-		postRepository.save(post5);
-		postRepository.save(post6);
-		postRepository.save(post7);
-		Pageable pageable = PageRequest.of(0, 3, Sort.by("id").descending());
+		commentRepository.save(Comment.builder().userAccount(user).post(post1).content("댓글1").build());
+		commentRepository.save(Comment.builder().userAccount(user).post(post1).content("댓글2").build());
+		postRepository.increaseCommentCount(post2.getId()); // 댓글이 없는데 카운터만 증가한 상태
+
+		// When
+		int updated = postRepository.syncCounts();
+		em.clear();
 
 		// Then
-		Page<Post> result = postRepository.searchByKeyword("검색어", pageable);
-		assertEquals(2, result.getTotalPages());
-		assertEquals(4, result.getTotalElements());
-		assertEquals(3, result.getSize());
-		assertThat(result).contains(post2, post3, post4); // 3개씩 자른다면 맨 뒤에 입력된 3개가 출력되어야 함
+		assertEquals(2, updated);
+		assertEquals(2L, postRepository.findById(post1.getId()).get().getCommentCount());
+		assertEquals(0L, postRepository.findById(post2.getId()).get().getCommentCount());
 	}
 
 	@Test
-	@DisplayName("검색어와 카테고리로 검색한 리스트를 정상적으로 불러오는지 테스트")
-	void searchByKeywordAndCategoryTest() {
+	@DisplayName("모아둔 조회수를 일괄 반영하는지 테스트")
+	void increaseViewsTest() {
 		// Given
 		UserAccount user = userAccountRepository.findByUserId("testId").get();
-		Post post1 = Post.builder().userAccount(user).title("검검색어어").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Post post2 = Post.builder().userAccount(user).title("제목2").content("검검색어어").postCategory(PostCategory.QNA_BOARD).view(0L).build();
-		Post post3 = Post.builder().userAccount(user).title("검색어어어").content("내용3").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Post post4 = Post.builder().userAccount(user).title("제목4").content("검검검색어어").postCategory(PostCategory.QNA_BOARD).view(0L).build();
-		Post post5 = Post.builder().userAccount(user).title("검색어").content("내용5").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Post post6 = Post.builder().userAccount(user).title("검색어").content("검색어").postCategory(PostCategory.QNA_BOARD).view(0L).build();
-		Post post7 = Post.builder().userAccount(user).title("제목7").content("검색어").postCategory(PostCategory.QNA_BOARD).view(0L).build();
+		Post post1 = Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		Post post2 = Post.builder().userAccount(user).title("제목2").content("내용2").postCategory(PostCategory.FREE_BOARD).view(5L).build();
+		postRepository.save(post1);
+		postRepository.save(post2);
 
 		// When
+		postRepository.increaseViews(Map.of(post1.getId(), 3L, post2.getId(), 10L));
+		em.clear();
+
+		// Then
+		assertEquals(3L, postRepository.findById(post1.getId()).get().getView());
+		assertEquals(15L, postRepository.findById(post2.getId()).get().getView());
+	}
+
+	@Test
+	@DisplayName("커서 기반으로 게시글 리스트를 불러오는지 테스트")
+	void findAllByIdLessThanOrderByIdDescTest() {
+		// Given
+		UserAccount user = userAccountRepository.findByUserId("testId").get();
+		Post post1 = Post.builder().userAccount(user).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		Post post2 = Post.builder().userAccount(user).title("제목2").content("내용2").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		Post post3 = Post.builder().userAccount(user).title("제목3").content("내용3").postCategory(PostCategory.FREE_BOARD).view(0L).build();
 		postRepository.save(post1);
 		postRepository.save(post2);
 		postRepository.save(post3);
-		postRepository.save(post4);
-		postRepository.save(post5);
-		postRepository.save(post6);
-		postRepository.save(post7);
-		Pageable pageable = PageRequest.of(0, 3, Sort.by("id").descending());
+
+		// When
+		Slice<Post> first = postRepository.findAllByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, 2));
+		Slice<Post> second = postRepository.findAllByIdLessThanOrderByIdDesc(post2.getId(), PageRequest.of(0, 2));
+
+		// Then
+		assertThat(first.getContent()).containsExactly(post3, post2);
+		assertTrue(first.hasNext());
+		assertThat(second.getContent()).containsExactly(post1);
+		assertFalse(second.hasNext());
+	}
+
+	@Test
+	@DisplayName("게시글과 좋아요, 댓글, 사진, 공모전 정보를 함께 삭제하는지 테스트")
+	void deleteCascadeTest() {
+		// Given
+		UserAccount user = userAccountRepository.findByUserId("testId").get();
+		UserAccount user2 = userAccountRepository.save(UserAccount.builder().userId("testId2").build());
+		Post post = postRepository.save(Post.builder().userAccount(user).title("제목1").content("내용1")
+				.postCategory(PostCategory.CONTEST).view(0L).build());
+		Post other = postRepository.save(Post.builder().userAccount(user).title("제목2").content("내용2")
+				.postCategory(PostCategory.FREE_BOARD).view(0L).build());
+		commentRepository.save(Comment.builder().userAccount(user2).post(post).content("댓글1").build());
+		commentRepository.save(Comment.builder().userAccount(user2).post(other).content("댓글2").build());
+		postLikeRepository.save(PostLike.builder().userAccount(user2).post(post).build());
+		postImageRepository.save(PostImage.builder().post(post).fileName("image.png").build());
+		Contest contest = contestRepository.save(Contest.builder().post(post).build());
+		joinedContestRepository.save(JoinedContest.builder().contest(contest).userAccount(user2).build());
+		em.flush();
+
+		// When
+		List<Long> result = postRepository.deleteCascade(post.getId());
+		em.clear();
 
 		// Then
-		Page<Post> result = postRepository.searchByKeywordAndCategory("검색어", PostCategory.QNA_BOARD, pageable);
-		assertEquals(2, result.getTotalPages());
-		assertEquals(4, result.getTotalElements());
-		assertEquals(3, result.getSize());
-		assertThat(result).contains(post4, post6, post7); // 3개씩 자른다면 맨 뒤에 입력된 3개가 출력되어야 함
+		assertThat(result).containsExactlyInAnyOrder(user.getId(), user2.getId());
+		assertAll(
+				() -> assertTrue(postRepository.findById(post.getId()).isEmpty()),
+				() -> assertTrue(postRepository.findById(other.getId()).isPresent()),
+				() -> assertEquals(1L, commentRepository.count()), // 다른 게시글의 댓글은 남아있어야 함
+				() -> assertEquals(0L, postLikeRepository.count()),
+				() -> assertEquals(0L, postImageRepository.count()),
+				() -> assertEquals(0L, contestRepository.count()),
+				() -> assertEquals(0L, joinedContestRepository.count())
+		);
 	}
 }
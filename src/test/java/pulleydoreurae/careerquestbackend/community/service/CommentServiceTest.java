@@ -13,13 +13,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.CommentRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.CommentResponse;
@@ -28,6 +28,9 @@ import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.community.exception.CommentNotFoundException;
 import pulleydoreurae.careerquestbackend.community.exception.PostNotFoundException;
 import pulleydoreurae.careerquestbackend.community.repository.CommentRepository;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
 
 /**
  * @author : parkjihyeok
@@ -41,9 +44,21 @@ class CommentServiceTest {
 	@Mock
 	CommentRepository commentRepository;
 	@Mock
+	PostRepository postRepository;
+	@Mock
 	CommonCommunityService commonCommunityService;
 	@Mock
 	CommonService commonService;
+	@Mock
+	PostFeedCacheService postFeedCacheService;
+	@Mock
+	TrendingPostService trendingPostService;
+	@Mock
+	UserActivityService userActivityService;
+	@Mock
+	PostEventService postEventService;
+	@Mock
+	NotificationService notificationService;
 
 	@Test
 	@DisplayName("1. 댓글 저장 테스트 (실패 - 회원정보를 찾을 수 없음)")
@@ -105,6 +120,12 @@ class CommentServiceTest {
 		// Then
 		assertDoesNotThrow(() -> commentService.saveComment(request));
 		verify(commentRepository).save(any()); // 해당 메서드가 호출되었는지 확인
+		verify(postRepository).increaseCommentCount(post.getId()); // 댓글 수가 증가했는지 확인
+		verify(postFeedCacheService).evict(post.getPostCategory()); // 목록 캐시를 무효화했는지 확인
+		verify(trendingPostService).recordComment(post); // 인기 게시글 점수에 반영했는지 확인
+		verify(userActivityService).increase(user, UserActivityType.COMMENT); // 회원 활동 카운터가 증가했는지 확인
+		verify(postEventService).publishCommentAdded(any()); // 게시글 구독자에게 전송했는지 확인
+		verify(notificationService).notify(user.getId(), NotificationType.COMMENT, post.getId(), user); // 작성자에게 알림을 남겼는지 확인
 	}
 
 	@Test
@@ -364,83 +385,77 @@ class CommentServiceTest {
 		// Then
 		assertTrue(result);
 		verify(commentRepository).deleteById(any());
+		verify(postRepository).decreaseCommentCount(post.getId());
+		verify(postFeedCacheService).evict(post.getPostCategory());
+		verify(userActivityService).decrease(user, UserActivityType.COMMENT);
+		verify(postEventService).publishCommentRemoved(post.getId(), comment.getId());
 	}
 
 	@Test
 	@DisplayName("16. 한 게시글에 작성된 댓글리스트 테스트")
 	void findListByPostIdTest() {
 		// Given
-		UserAccount user = UserAccount.builder().userId("testId").build();
-		Post post = Post.builder().id(10000L).userAccount(user).title("제목1").build();
-		Comment comment1 = Comment.builder().userAccount(user).post(post).content("댓글 내용1").build();
-		Comment comment2 = Comment.builder().userAccount(user).post(post).content("댓글 내용2").build();
-		Comment comment3 = Comment.builder().userAccount(user).post(post).content("댓글 내용3").build();
-		Comment comment4 = Comment.builder().userAccount(user).post(post).content("댓글 내용4").build();
-		Comment comment5 = Comment.builder().userAccount(user).post(post).content("댓글 내용5").build();
-
 		Pageable pageable = PageRequest.of(0, 3); // 한 페이지에 3개씩 자르기
-		// 3개씩 자른다면 마지막 3개가 반환되어야 함
-		Page<Comment> pageList = new PageImpl<>(
-				List.of(comment3, comment4, comment5), pageable, 3);
+		CommentResponse response1 = CommentResponse.builder().commentId(105L).userId("testId").postId(10000L).content("댓글 내용5").build();
+		CommentResponse response2 = CommentResponse.builder().commentId(104L).userId("testId").postId(10000L).content("댓글 내용4").build();
+		CommentResponse response3 = CommentResponse.builder().commentId(103L).userId("testId").postId(10000L).content("댓글 내용3").build();
 
-		given(commonCommunityService.findPost(post.getId())).willReturn(post);
-		given(commentRepository.findAllByPostOrderByIdDesc(post, pageable)).willReturn(pageList);
+		given(commentRepository.findResponsesByPostId(10000L, pageable)).willReturn(List.of(response1, response2, response3));
 
 		// When
-		Page<Comment> list = commentRepository.findAllByPostOrderByIdDesc(
-				post, pageable);
-		List<CommentResponse> result = commentService.findListByPostId(post.getId(), pageable);
+		List<CommentResponse> result = commentService.findListByPostId(10000L, pageable);
 
 		// Then
 		assertEquals(3, result.size());
-		assertThat(result).contains(
-				commentToCommentResponse(list.getContent().get(0)),
-				commentToCommentResponse(list.getContent().get(1)),
-				commentToCommentResponse(list.getContent().get(2))
-		);
+		assertThat(result).containsExactly(response1, response2, response3);
+		verify(commonCommunityService, never()).findPost(any()); // 댓글이 있다면 게시글을 따로 조회하지 않음
+	}
+
+	@Test
+	@DisplayName("16-1. 한 게시글에 작성된 댓글리스트 테스트 (실패 - 게시글을 찾을 수 없음)")
+	void findListByPostIdFailTest() {
+		// Given
+		Pageable pageable = PageRequest.of(0, 3);
+		given(commentRepository.findResponsesByPostId(10000L, pageable)).willReturn(List.of());
+		given(commonCommunityService.findPost(10000L)).willThrow(PostNotFoundException.class);
+
+		// When
+
+		// Then
+		assertThrows(PostNotFoundException.class, () -> commentService.findListByPostId(10000L, pageable));
 	}
 
 	@Test
 	@DisplayName("17. 한 사용자가 작성한 댓글리스트 테스트")
 	void findListByUserAccountTest() {
 		// Given
-		UserAccount user = UserAccount.builder().userId("testId").build();
-		Post post = Post.builder().id(10000L).userAccount(user).title("제목1").build();
-		Comment comment1 = Comment.builder().userAccount(user).post(post).content("댓글 내용1").build();
-		Comment comment2 = Comment.builder().userAccount(user).post(post).content("댓글 내용2").build();
-		Comment comment3 = Comment.builder().userAccount(user).post(post).content("댓글 내용3").build();
-		Comment comment4 = Comment.builder().userAccount(user).post(post).content("댓글 내용4").build();
-		Comment comment5 = Comment.builder().userAccount(user).post(post).content("댓글 내용5").build();
-
 		Pageable pageable = PageRequest.of(0, 3); // 한 페이지에 3개씩 자르기
-		// 3개씩 자른다면 마지막 3개가 반환되어야 함
-		Page<Comment> pageList = new PageImpl<>(
-				List.of(comment3, comment4, comment5), pageable, 3);
+		CommentResponse response1 = CommentResponse.builder().commentId(105L).userId("testId").postId(10000L).content("댓글 내용5").build();
+		CommentResponse response2 = CommentResponse.builder().commentId(104L).userId("testId").postId(10001L).content("댓글 내용4").build();
+		CommentResponse response3 = CommentResponse.builder().commentId(103L).userId("testId").postId(10002L).content("댓글 내용3").build();
 
-		given(commonService.findUserAccount(user.getUserId(), false)).willReturn(user);
-		given(commentRepository.findAllByUserAccountOrderByIdDesc(user, pageable)).willReturn(pageList);
+		given(commentRepository.findResponsesByUserId("testId", pageable)).willReturn(List.of(response1, response2, response3));
 
 		// When
-		Page<Comment> list = commentRepository.findAllByUserAccountOrderByIdDesc(
-				user, pageable);
-		List<CommentResponse> result = commentService.findListByUserAccount(user.getUserId(), pageable);
+		List<CommentResponse> result = commentService.findListByUserAccount("testId", pageable);
 
 		// Then
 		assertEquals(3, result.size());
-		assertThat(result).contains(
-				commentToCommentResponse(list.getContent().get(0)),
-				commentToCommentResponse(list.getContent().get(1)),
-				commentToCommentResponse(list.getContent().get(2))
-		);
+		assertThat(result).containsExactly(response1, response2, response3);
+		verify(commonService, never()).findUserAccount(any(), anyBoolean()); // 댓글이 있다면 회원을 따로 조회하지 않음
 	}
 
-	CommentResponse commentToCommentResponse(Comment comment) {
-		return CommentResponse.builder()
-				.userId(comment.getUserAccount().getUserId())
-				.postId(comment.getPost().getId())
-				.content(comment.getContent())
-				.createdAt(comment.getCreatedAt())
-				.modifiedAt(comment.getModifiedAt())
-				.build();
+	@Test
+	@DisplayName("17-1. 한 사용자가 작성한 댓글리스트 테스트 (실패 - 회원정보를 찾을 수 없음)")
+	void findListByUserAccountFailTest() {
+		// Given
+		Pageable pageable = PageRequest.of(0, 3);
+		given(commentRepository.findResponsesByUserId("testId", pageable)).willReturn(List.of());
+		given(commonService.findUserAccount("testId", false)).willThrow(UsernameNotFoundException.class);
+
+		// When
+
+		// Then
+		assertThrows(UsernameNotFoundException.class, () -> commentService.findListByUserAccount("testId", pageable));
 	}
 }
@@ -14,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -28,7 +29,6 @@ import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.community.domain.entity.PostImage;
 import pulleydoreurae.careerquestbackend.community.domain.entity.PostLike;
-import pulleydoreurae.careerquestbackend.community.domain.entity.PostViewCheck;
 import pulleydoreurae.careerquestbackend.community.exception.CommentNotFoundException;
 import pulleydoreurae.careerquestbackend.community.exception.PostLikeNotFoundException;
 import pulleydoreurae.careerquestbackend.community.exception.PostNotFoundException;
@@ -36,7 +36,6 @@ import pulleydoreurae.careerquestbackend.community.repository.CommentRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostImageRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
-import pulleydoreurae.careerquestbackend.community.repository.PostViewCheckRepository;
 
 /**
  * @author : parkjihyeok
@@ -62,8 +61,6 @@ class CommonCommunityServiceTest {
 	@Mock
 	PostImageRepository postImageRepository;
 	@Mock
-	PostViewCheckRepository postViewCheckRepository;
-	@Mock
 	CommonService commonService;
 
 	@Test
@@ -71,8 +68,7 @@ class CommonCommunityServiceTest {
 	void postToPostResponseTest() {
 		// Given
 		UserAccount user = UserAccount.builder().userId("testId").build();
-		Post post = Post.builder().userAccount(user).id(100L).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		given(postRepository.findById(100L)).willReturn(Optional.of(post));
+		Post post = Post.builder().userAccount(user).id(100L).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).commentCount(5L).postLikeCount(5L).build();
 
 		PostImage postImage1 = PostImage.builder().post(new Post()).fileName("image1.png").build();
 		PostImage postImage2 = PostImage.builder().post(new Post()).fileName("image2.png").build();
@@ -82,22 +78,6 @@ class CommonCommunityServiceTest {
 		List<PostImage> postImages = List.of(postImage1, postImage2, postImage3, postImage4, postImage5);
 		given(postImageRepository.findAllByPost(post)).willReturn(postImages);
 
-		Comment comment1 = Comment.builder().userAccount(user).post(post).content("댓글 내용").build();
-		Comment comment2 = Comment.builder().userAccount(user).post(post).content("댓글 내용").build();
-		Comment comment3 = Comment.builder().userAccount(user).post(post).content("댓글 내용").build();
-		Comment comment4 = Comment.builder().userAccount(user).post(post).content("댓글 내용").build();
-		Comment comment5 = Comment.builder().userAccount(user).post(post).content("댓글 내용").build();
-		List<Comment> comments = List.of(comment1, comment2, comment3, comment4, comment5);
-		given(commentRepository.findAllByPost(post)).willReturn(comments);
-
-		PostLike postLike1 = PostLike.builder().userAccount(user).post(post).build();
-		PostLike postLike2 = PostLike.builder().userAccount(user).post(post).build();
-		PostLike postLike3 = PostLike.builder().userAccount(user).post(post).build();
-		PostLike postLike4 = PostLike.builder().userAccount(user).post(post).build();
-		PostLike postLike5 = PostLike.builder().userAccount(user).post(post).build();
-		List<PostLike> postLikes = List.of(postLike1, postLike2, postLike3, postLike4, postLike5);
-		given(postLikeRepository.findAllByPost(post)).willReturn(postLikes);
-
 		// When
 		PostResponse expect = PostResponse.builder()
 				.userId(post.getUserAccount().getUserId())
@@ -105,8 +85,8 @@ class CommonCommunityServiceTest {
 				.content(post.getContent())
 				.images(commonCommunityService.postImageToStringList(post))
 				.view(post.getView())
-				.commentCount(commonCommunityService.countComment(post.getId()))
-				.postLikeCount(commonCommunityService.countPostLike(post.getId()))
+				.commentCount(5L)
+				.postLikeCount(5L)
 				.postCategory(post.getPostCategory())
 				.isLiked(false)
 				.createdAt(post.getCreatedAt())
@@ -130,6 +110,37 @@ class CommonCommunityServiceTest {
 		);
 	}
 
+	@Test
+	@DisplayName("게시글 리스트 변환시 사진 정보를 한번에 조회하는지 테스트")
+	void postListToPostResponseListTest() {
+		// Given
+		UserAccount user = UserAccount.builder().userId("testId").build();
+		Post post1 = Post.builder().userAccount(user).id(100L).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).commentCount(2L).postLikeCount(3L).build();
+		Post post2 = Post.builder().userAccount(user).id(101L).title("제목2").content("내용2").postCategory(PostCategory.FREE_BOARD).view(0L).build();
+		PostImage postImage1 = PostImage.builder().post(post1).fileName("image1.png").build();
+		PostImage postImage2 = PostImage.builder().post(post1).fileName("image2.png").build();
+		given(postImageRepository.findAllByPostIn(List.of(post1, post2))).willReturn(List.of(postImage1, postImage2));
+
+		// When
+		List<PostResponse> result = commonCommunityService.postListToPostResponseList(new PageImpl<>(List.of(post1, post2)));
+
+		// Then
+		assertEquals(2, result.size());
+		assertAll(
+				() -> assertEquals(List.of(IMAGES_PATH + "image1.png", IMAGES_PATH + "image2.png"), result.get(0).getImages()),
+				() -> assertEquals(List.of(IMAGES_PATH + "image1.png?variant=thumbnail", IMAGES_PATH + "image2.png?variant=thumbnail"),
+						result.get(0).getThumbnails()),
+				() -> assertEquals(List.of(IMAGES_PATH + "image1.png?variant=medium", IMAGES_PATH + "image2.png?variant=medium"),
+						result.get(0).getMediums()),
+				() -> assertEquals(2L, result.get(0).getCommentCount()),
+				() -> assertEquals(3L, result.get(0).getPostLikeCount()),
+				() -> assertEquals(List.of(), result.get(1).getImages()),
+				() -> assertFalse(result.get(1).getIsLiked())
+		);
+		verify(postImageRepository).findAllByPostIn(List.of(post1, post2));
+		verify(postImageRepository, never()).findAllByPost(any());
+	}
+
 	@Test
 	@DisplayName("UUID 값이 정상적으로 생성되는지 테스트")
 	public void testGetUUIDWithNoExistingCookie() {
@@ -214,40 +225,6 @@ class CommonCommunityServiceTest {
 		assertEquals(comment, result);
 	}
 
-	@Test
-	@DisplayName("조회수 중복이 아닌 경우")
-	void findPostViewCheckNullTest() {
-		// Given
-		given(postViewCheckRepository.findById(anyString())).willReturn(Optional.empty());
-
-		// When
-		PostViewCheck result = commonCommunityService.findPostViewCheck(
-				"testId");
-
-		// Then
-		assertNull(result);
-	}
-
-	@Test
-	@DisplayName("조회수 중복인 경우")
-	void findPostViewCheckNotNullTest() {
-		// Given
-		PostViewCheck postViewCheck = new PostViewCheck(
-				"testId", 100L);
-		given(postViewCheckRepository.findById("testId")).willReturn(Optional.of(postViewCheck));
-
-		// When
-		PostViewCheck result = commonCommunityService.findPostViewCheck(
-				"testId");
-
-		// Then
-		assertAll(
-				() -> assertEquals(postViewCheck.getPostId(), result.getPostId()),
-				() -> assertEquals(postViewCheck.getUserId(), result.getUserId())
-
-		);
-	}
-
 	@Test
 	@DisplayName("게시글 Request -> 게시글 Entity 변환 테스트")
 	void postRequestToPostTest() {
@@ -285,6 +262,8 @@ class CommonCommunityServiceTest {
 				() -> assertEquals(postRequest.getPostCategory(), result.getPostCategory()),
 				() -> assertEquals(post.getUserAccount(), result.getUserAccount()),
 				() -> assertEquals(post.getView(), result.getView()),
+				() -> assertEquals(post.getCommentCount(), result.getCommentCount()),
+				() -> assertEquals(post.getPostLikeCount(), result.getPostLikeCount()),
 				() -> assertEquals(post.getUserAccount(), result.getUserAccount()),
 				() -> assertEquals(post.getComments(), result.getComments()),
 				() -> assertEquals(post.getPostLikes(), result.getPostLikes())
@@ -292,46 +271,16 @@ class CommonCommunityServiceTest {
 	}
 
 	@Test
-	@DisplayName("게시글 댓글 수 테스트")
-	void countCommentTest() {
+	@DisplayName("게시글 댓글 수, 좋아요 수 보정 테스트")
+	void syncCountsTest() {
 		// Given
-		Post post = Post.builder()
-				.userAccount(new UserAccount()).id(100L).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		Comment comment1 = Comment.builder().content("내용").post(post).userAccount(new UserAccount()).build();
-		Comment comment2 = Comment.builder().content("내용").post(post).userAccount(new UserAccount()).build();
-		Comment comment3 = Comment.builder().content("내용").post(post).userAccount(new UserAccount()).build();
-		Comment comment4 = Comment.builder().content("내용").post(post).userAccount(new UserAccount()).build();
-		Comment comment5 = Comment.builder().content("내용").post(post).userAccount(new UserAccount()).build();
-		given(postRepository.findById(100L)).willReturn(Optional.of(post));
-		given(commentRepository.findAllByPost(any()))
-				.willReturn(List.of(comment1, comment2, comment3, comment4, comment5));
-
-		// When
-		Long result = commonCommunityService.countComment(100L);
-
-		// Then
-		assertEquals(5, result);
-	}
-
-	@Test
-	@DisplayName("게시글 좋아요 수 테스트")
-	void countPostLikeTest() {
-		// Given
-		Post post = Post.builder().userAccount(new UserAccount()).id(100L).title("제목1").content("내용1").postCategory(PostCategory.FREE_BOARD).view(0L).build();
-		PostLike postLike1 = PostLike.builder().post(post).userAccount(new UserAccount()).build();
-		PostLike postLike2 = PostLike.builder().post(post).userAccount(new UserAccount()).build();
-		PostLike postLike3 = PostLike.builder().post(post).userAccount(new UserAccount()).build();
-		PostLike postLike4 = PostLike.builder().post(post).userAccount(new UserAccount()).build();
-		PostLike postLike5 = PostLike.builder().post(post).userAccount(new UserAccount()).build();
-		given(postRepository.findById(100L)).willReturn(Optional.of(post));
-		given(postLikeRepository.findAllByPost(any()))
-				.willReturn(List.of(postLike1, postLike2, postLike3, postLike4, postLike5));
+		given(postRepository.syncCounts()).willReturn(3);
 
 		// When
-		Long result = commonCommunityService.countPostLike(100L);
+		commonCommunityService.syncCounts();
 
 		// Then
-		assertEquals(5, result);
+		verify(postRepository).syncCounts();
 	}
 
 	@Test
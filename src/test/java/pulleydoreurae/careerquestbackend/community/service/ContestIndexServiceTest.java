@@ -0,0 +1,131 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import pulleydoreurae.careerquestbackend.common.service.IndexSyncService;
+import pulleydoreurae.careerquestbackend.community.domain.ContestCategory;
+import pulleydoreurae.careerquestbackend.community.domain.Organizer;
+import pulleydoreurae.careerquestbackend.community.domain.Region;
+import pulleydoreurae.careerquestbackend.community.domain.Target;
+import pulleydoreurae.careerquestbackend.community.domain.dto.request.ContestSearchRequest;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestFacetResponse;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
+import pulleydoreurae.careerquestbackend.community.repository.ContestRepository;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("공모전 색인 Service 테스트")
+class ContestIndexServiceTest {
+
+	@InjectMocks
+	ContestIndexService contestIndexService;
+	@Mock
+	ContestRepository contestRepository;
+	@Mock
+	IndexSyncService indexSyncService;
+
+	@Test
+	@DisplayName("서버 시작시 데이터베이스의 공모전으로 색인을 만들고 검색 결과를 색인 순서대로 불러오는지 테스트")
+	void rebuildAndSearchTest() {
+		// Given
+		Contest contest1 = Contest.builder().id(1L).contestCategory(ContestCategory.ART).target(Target.UNIVERSITY).build();
+		Contest contest2 = Contest.builder().id(2L).contestCategory(ContestCategory.ART).target(Target.EVERYONE).build();
+		given(contestRepository.findAll(any(PageRequest.class))).willReturn(new PageImpl<>(List.of(contest1, contest2)));
+		given(contestRepository.findAllByIdIn(List.of(2L, 1L))).willReturn(List.of(contest1, contest2));
+		ContestSearchRequest request = ContestSearchRequest.builder().contestCategory(ContestCategory.ART).build();
+
+		// When
+		contestIndexService.rebuild();
+		Page<Contest> result = contestIndexService.search(request, PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(List.of(contest2, contest1), result.getContent());
+		assertEquals(2, result.getTotalElements());
+	}
+
+	@Test
+	@DisplayName("검색 결과가 없다면 데이터베이스를 조회하지 않는지 테스트")
+	void searchEmptyTest() {
+		// Given
+		ContestSearchRequest request = ContestSearchRequest.builder().region(Region.SEOUL).build();
+
+		// When
+		Page<Contest> result = contestIndexService.search(request, PageRequest.of(0, 10));
+
+		// Then
+		assertTrue(result.isEmpty());
+		verify(contestRepository, never()).findAllByIdIn(any());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖에서는 바로 색인에 반영하고 검색조건별 개수를 세는지 테스트")
+	void countFacetsTest() {
+		// Given
+		contestIndexService.indexContest(Contest.builder().id(1L).contestCategory(ContestCategory.ART)
+				.organizer(Organizer.GOVERNMENT).build());
+		contestIndexService.indexContest(Contest.builder().id(2L).contestCategory(ContestCategory.CONTEST)
+				.organizer(Organizer.GOVERNMENT).build());
+		contestIndexService.removeContest(2L);
+
+		// When
+		ContestFacetResponse result = contestIndexService.countFacets(ContestSearchRequest.builder().build());
+
+		// Then
+		assertEquals(1L, result.getTotal());
+		assertEquals(1L, result.getContestCategory().get(ContestCategory.ART));
+		assertEquals(0L, result.getContestCategory().get(ContestCategory.CONTEST));
+		assertEquals(1L, result.getOrganizer().get(Organizer.GOVERNMENT));
+	}
+
+	@Test
+	@DisplayName("공모전 변경을 다른 서버에 알리는지 테스트")
+	void publishContestTest() {
+		// Given
+		Contest contest = Contest.builder().id(1L).contestCategory(ContestCategory.ART).build();
+
+		// When
+		contestIndexService.indexContest(contest);
+		contestIndexService.removeContest(1L);
+
+		// Then
+		verify(indexSyncService, times(2)).publish(ContestIndexService.CONTEST_TARGET, 1L);
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 변경, 삭제된 공모전을 데이터베이스 기준으로 반영하는지 테스트")
+	void syncContestTest() {
+		// Given
+		contestIndexService.indexContest(Contest.builder().id(1L).contestCategory(ContestCategory.ART).build());
+		contestIndexService.indexContest(Contest.builder().id(2L).contestCategory(ContestCategory.ART).build());
+		given(contestRepository.findById(1L))
+				.willReturn(Optional.of(Contest.builder().id(1L).contestCategory(ContestCategory.CONTEST).build()));
+		given(contestRepository.findById(2L)).willReturn(Optional.empty());
+
+		// When
+		contestIndexService.syncContest(1L);
+		contestIndexService.syncContest(2L);
+		ContestFacetResponse result = contestIndexService.countFacets(ContestSearchRequest.builder().build());
+
+		// Then
+		assertEquals(1L, result.getTotal());
+		assertEquals(0L, result.getContestCategory().get(ContestCategory.ART));
+		assertEquals(1L, result.getContestCategory().get(ContestCategory.CONTEST));
+	}
+}
@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.*;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,7 +20,9 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
 import pulleydoreurae.careerquestbackend.community.domain.ContestCategory;
 import pulleydoreurae.careerquestbackend.community.domain.Organizer;
@@ -42,6 +45,7 @@ import pulleydoreurae.careerquestbackend.community.exception.PostUpdateException
 import pulleydoreurae.careerquestbackend.community.repository.ContestRepository;
 import pulleydoreurae.careerquestbackend.community.repository.JoinedContestRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.search.service.SearchResultCacheService;
 
 /**
  * @author : parkjihyeok
@@ -58,6 +62,9 @@ class ContestServiceTest {
 	@Mock CommonCommunityService commonCommunityService;
 	@Mock JoinedContestRepository joinedContestRepository;
 	@Mock CommonService commonService;
+	@Mock ContestIndexService contestIndexService;
+	@Mock UserActivityService userActivityService;
+	@Mock SearchResultCacheService searchResultCacheService;
 
 	@Test
 	@DisplayName("게시글 + 공모전 저장 테스트 -실패")
@@ -91,6 +98,7 @@ class ContestServiceTest {
 		assertDoesNotThrow(() -> contestService.save(postRequest, contestRequest));
 		verify(postRepository).findById(any());
 		verify(contestRepository).save(any());
+		verify(contestIndexService).indexContest(any());
 	}
 
 	@Test
@@ -138,6 +146,7 @@ class ContestServiceTest {
 		assertDoesNotThrow(() -> contestService.update(1L, postRequest, contestRequest));
 		verify(contestRepository).findByPostId(1L);
 		verify(contestRepository).save(any());
+		verify(contestIndexService).indexContest(any());
 	}
 
 	@Test
@@ -151,6 +160,8 @@ class ContestServiceTest {
 	    // Then
 		assertThrows(PostDeleteException.class, () -> contestService.delete(1L, "testId"));
 		verify(contestRepository, never()).deleteByPostId(1L);
+		verify(contestIndexService, never()).removeContest(any());
+		verify(searchResultCacheService, never()).evict(any());
 	}
 
 	@Test
@@ -162,8 +173,9 @@ class ContestServiceTest {
 
 		// Then
 		assertDoesNotThrow(() -> contestService.delete(1L, "testId"));
+		// 공모전 정보, 색인, 검색결과 캐시는 게시글 삭제에서 함께 정리된다.
 		verify(postService).deletePost(1L, "testId");
-		verify(contestRepository).deleteByPostId(1L);
+		verify(contestRepository, never()).deleteByPostId(1L);
 	}
 
 	@Test
@@ -216,7 +228,7 @@ class ContestServiceTest {
 
 		ContestSearchRequest request = ContestSearchRequest.builder().build();
 
-		given(contestRepository.findAllBySearchRequest(request, pageable)).willReturn(list);
+		given(contestIndexService.search(request, pageable)).willReturn(list);
 
 		// When
 		List<ContestResponse> result = contestService.findBySearchRequest(request, pageable);
@@ -245,6 +257,7 @@ class ContestServiceTest {
 	    // Then
 		verify(commonService).findUserAccount(any(), anyBoolean());
 		verify(joinedContestRepository).save(any());
+		verify(userActivityService).increase(any(), eq(UserActivityType.JOINED_CONTEST));
 	}
 
 	@Test
@@ -271,12 +284,14 @@ class ContestServiceTest {
 		Contest contest = new Contest(100L, post, ContestCategory.CONTEST, Target.HIGH_SCHOOL, Region.SEOUL, Organizer.GOVERNMENT, 100000L, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 3, 10));
 		JoinContestRequest request = new JoinContestRequest(100L, "testId");
 		given(contestRepository.findById(request.getContestId())).willReturn(Optional.of(contest));
+		given(joinedContestRepository.deleteByContestIdAndUserAccount(any(), any())).willReturn(1L);
 
 	    // When
 		assertDoesNotThrow(() -> contestService.removeFromJoinContest(request));
 
 	    // Then
 		verify(joinedContestRepository).deleteByContestIdAndUserAccount(any(), any());
+		verify(userActivityService).decrease(any(), eq(UserActivityType.JOINED_CONTEST));
 	}
 
 	@Test
@@ -287,7 +302,8 @@ class ContestServiceTest {
 		JoinedContest jc2 = JoinedContest.builder().contest(Contest.builder().post(Post.builder().title("공모전2").build()).build()).userAccount(UserAccount.builder().userId("testId").build()).build();
 		JoinedContest jc3 = JoinedContest.builder().contest(Contest.builder().post(Post.builder().title("공모전3").build()).build()).userAccount(UserAccount.builder().userId("testId").build()).build();
 		JoinedContest jc4 = JoinedContest.builder().contest(Contest.builder().post(Post.builder().title("공모전4").build()).build()).userAccount(UserAccount.builder().userId("testId").build()).build();
-		given(joinedContestRepository.findByUserId("testId")).willReturn(List.of(jc1, jc2, jc3, jc4));
+		given(joinedContestRepository.findResponsesByUserId("testId")).willReturn(
+				Stream.of(jc1, jc2, jc3, jc4).map(this::joinContestToResponse).toList());
 
 	    // When
 		List<JoinContestResponse> result = contestService.findJoinContest("testId");
@@ -0,0 +1,233 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import pulleydoreurae.careerquestbackend.community.domain.ImageVariant;
+import pulleydoreurae.careerquestbackend.community.repository.PostImageRepository;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사진 전송 Service 테스트")
+class ImageServingServiceTest {
+
+	static final String HASH = "a".repeat(64);
+	static final String FILE_NAME = HASH + ".png";
+
+	@InjectMocks
+	ImageServingService imageServingService;
+	@Mock
+	PostImageRepository postImageRepository;
+
+	@TempDir
+	Path dir;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		imageServingService.IMAGES_SAVE_PATH = dir.toString() + File.separator;
+		Files.write(dir.resolve(FILE_NAME), "0123456789".getBytes());
+	}
+
+	@Test
+	@DisplayName("게시글에 등록되지 않은 사진은 전송하지 않는지 테스트")
+	void serveNotFoundTest() {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(false);
+
+		// When
+
+		// Then
+		assertThrows(MalformedURLException.class, () -> imageServingService.serve(FILE_NAME, null,
+				new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse()));
+	}
+
+	@Test
+	@DisplayName("사진 전체 전송과 캐시 헤더 테스트 (두번째 요청부터는 데이터베이스를 조회하지 않음)")
+	void serveTest() throws Exception {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true);
+		MockHttpServletResponse first = new MockHttpServletResponse();
+		MockHttpServletResponse second = new MockHttpServletResponse();
+
+		// When
+		imageServingService.serve(FILE_NAME, null, new MockHttpServletRequest("GET", "/"), first);
+		imageServingService.serve(FILE_NAME, null, new MockHttpServletRequest("GET", "/"), second);
+
+		// Then
+		assertEquals(200, first.getStatus());
+		assertEquals("0123456789", first.getContentAsString());
+		assertEquals("\"" + HASH + "\"", first.getHeader("ETag"));
+		assertNotNull(first.getHeader("Last-Modified"));
+		assertEquals("image/png", first.getContentType());
+		assertEquals("public, max-age=31536000, immutable", first.getHeader("Cache-Control"));
+		assertEquals("0123456789", second.getContentAsString());
+		verify(postImageRepository, times(1)).existsByFileName(FILE_NAME);
+	}
+
+	@Test
+	@DisplayName("ETag 가 같다면 304 로 응답하는지 테스트")
+	void serveNotModifiedTest() throws Exception {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader("If-None-Match", "\"" + HASH + "\"");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// When
+		imageServingService.serve(FILE_NAME, null, request, response);
+
+		// Then
+		assertEquals(304, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	@DisplayName("Range 요청시 요청한 부분만 전송하는지 테스트")
+	void serveRangeTest() throws Exception {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader("Range", "bytes=2-5");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// When
+		imageServingService.serve(FILE_NAME, null, request, response);
+
+		// Then
+		assertEquals(206, response.getStatus());
+		assertEquals("2345", response.getContentAsString());
+		assertEquals("bytes 2-5/10", response.getHeader("Content-Range"));
+		assertEquals(4, response.getContentLengthLong());
+	}
+
+	@Test
+	@DisplayName("범위를 벗어난 Range 요청은 416 으로 응답하는지 테스트")
+	void serveRangeNotSatisfiableTest() throws Exception {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader("Range", "bytes=20-30");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// When
+		imageServingService.serve(FILE_NAME, null, request, response);
+
+		// Then
+		assertEquals(416, response.getStatus());
+		assertEquals("bytes */10", response.getHeader("Content-Range"));
+	}
+
+	@Test
+	@DisplayName("여러 구간이나 해석할 수 없는 Range 요청은 무시하고 전체를 전송하는지 테스트")
+	void serveRangeIgnoredTest() throws Exception {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true);
+
+		for (String range : List.of("bytes=0-1,4-5", "bytes=5-2", "items=0-1")) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+			request.addHeader("Range", range);
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			// When
+			imageServingService.serve(FILE_NAME, null, request, response);
+
+			// Then
+			assertEquals(200, response.getStatus());
+			assertEquals("0123456789", response.getContentAsString());
+			assertNull(response.getHeader("Content-Range"));
+		}
+	}
+
+	@Test
+	@DisplayName("sendfile 을 지원한다면 파일 정보만 넘기는지 테스트")
+	void serveSendfileTest() throws Exception {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// When
+		imageServingService.serve(FILE_NAME, null, request, response);
+
+		// Then
+		assertEquals(0, response.getContentAsByteArray().length);
+		assertEquals(dir.resolve(FILE_NAME).toAbsolutePath().toString(),
+				request.getAttribute("org.apache.tomcat.sendfile.filename"));
+		assertEquals(0L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+		assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+	}
+
+	@Test
+	@DisplayName("변형이 만들어지기 전에는 원본을 짧은 캐시 시간으로 전송하는지 테스트")
+	void serveVariantFallbackTest() throws Exception {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true);
+		MockHttpServletResponse before = new MockHttpServletResponse();
+		MockHttpServletResponse after = new MockHttpServletResponse();
+
+		// When
+		imageServingService.serve(FILE_NAME, ImageVariant.THUMBNAIL, new MockHttpServletRequest("GET", "/"), before);
+		Files.write(dir.resolve(ImageVariant.THUMBNAIL.fileNameOf(FILE_NAME)), "thumb".getBytes());
+		imageServingService.serve(FILE_NAME, ImageVariant.THUMBNAIL, new MockHttpServletRequest("GET", "/"), after);
+
+		// Then
+		assertEquals("0123456789", before.getContentAsString());
+		assertEquals("public, max-age=60", before.getHeader("Cache-Control"));
+		assertEquals("thumb", after.getContentAsString());
+		assertEquals("\"" + HASH + "_thumbnail\"", after.getHeader("ETag"));
+		assertEquals("public, max-age=31536000, immutable", after.getHeader("Cache-Control"));
+	}
+
+	@Test
+	@DisplayName("캐시에서 제거하면 다시 데이터베이스를 확인하는지 테스트")
+	void evictTest() throws Exception {
+		// Given
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true, false);
+		imageServingService.serve(FILE_NAME, null, new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+
+		// When
+		imageServingService.evict(List.of(FILE_NAME));
+
+		// Then
+		assertThrows(MalformedURLException.class, () -> imageServingService.serve(FILE_NAME, null,
+				new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse()));
+	}
+
+	@Test
+	@DisplayName("캐시 시간이 지나면 다시 데이터베이스를 확인하는지 테스트 (다른 서버에서 삭제된 사진)")
+	void cacheExpiredTest() throws Exception {
+		// Given
+		imageServingService.cacheTtlSeconds = 0;
+		given(postImageRepository.existsByFileName(FILE_NAME)).willReturn(true, false);
+		imageServingService.serve(FILE_NAME, null, new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse());
+
+		// When
+
+		// Then
+		assertThrows(MalformedURLException.class, () -> imageServingService.serve(FILE_NAME, null,
+				new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse()));
+		verify(postImageRepository, times(2)).existsByFileName(FILE_NAME);
+	}
+}
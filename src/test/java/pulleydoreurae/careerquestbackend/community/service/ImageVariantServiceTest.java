@@ -0,0 +1,122 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import pulleydoreurae.careerquestbackend.community.domain.ImageVariant;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@DisplayName("사진 변형 Service 테스트")
+class ImageVariantServiceTest {
+
+	ImageVariantService imageVariantService = new ImageVariantService();
+
+	@TempDir
+	Path dir;
+
+	@BeforeEach
+	void setUp() {
+		imageVariantService.IMAGES_SAVE_PATH = dir.toString() + File.separator;
+	}
+
+	@AfterEach
+	void tearDown() {
+		imageVariantService.shutdown();
+	}
+
+	@Test
+	@DisplayName("비율을 유지하며 크기별 변형을 만드는지 테스트")
+	void createVariantsTest() throws IOException {
+		// Given
+		ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "jpg", dir.resolve("image.jpg").toFile());
+
+		// When
+		imageVariantService.createVariants("image.jpg");
+
+		// Then
+		BufferedImage thumbnail = ImageIO.read(dir.resolve("image_thumbnail.jpg").toFile());
+		BufferedImage medium = ImageIO.read(dir.resolve("image_medium.jpg").toFile());
+		assertEquals(320, thumbnail.getWidth());
+		assertEquals(160, thumbnail.getHeight());
+		assertEquals(1024, medium.getWidth());
+		assertEquals(512, medium.getHeight());
+	}
+
+	@Test
+	@DisplayName("원본이 더 작다면 원본 크기를 유지하는지 테스트")
+	void createVariantsSmallImageTest() throws IOException {
+		// Given
+		ImageIO.write(new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB), "png", dir.resolve("image.png").toFile());
+
+		// When
+		imageVariantService.createVariants("image.png");
+
+		// Then
+		BufferedImage thumbnail = ImageIO.read(dir.resolve("image_thumbnail.png").toFile());
+		assertEquals(100, thumbnail.getWidth());
+		assertEquals(50, thumbnail.getHeight());
+	}
+
+	@Test
+	@DisplayName("사진이 아닌 파일은 변형을 만들지 않는지 테스트")
+	void createVariantsNotImageTest() throws IOException {
+		// Given
+		Files.write(dir.resolve("text.png"), "사진이 아님".getBytes());
+
+		// When
+		imageVariantService.createVariants("text.png");
+
+		// Then
+		assertFalse(Files.exists(dir.resolve(ImageVariant.THUMBNAIL.fileNameOf("text.png"))));
+	}
+
+	@Test
+	@DisplayName("움직이는 사진일 수 있는 gif 는 변형을 만들지 않고 원본 경로를 사용하는지 테스트")
+	void createVariantsGifTest() throws IOException {
+		// Given
+		ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "gif", dir.resolve("image.gif").toFile());
+
+		// When
+		imageVariantService.createVariants("image.gif");
+
+		// Then
+		for (ImageVariant variant : ImageVariant.values()) {
+			assertFalse(Files.exists(dir.resolve(variant.fileNameOf("image.gif"))));
+		}
+		assertEquals("/images/image.gif", ImageVariant.THUMBNAIL.urlOf("/images/image.gif"));
+		assertEquals("/images/image.png?variant=medium", ImageVariant.MEDIUM.urlOf("/images/image.png"));
+	}
+
+	@Test
+	@DisplayName("원본이 삭제된 사진의 변형만 삭제하는지 테스트")
+	void deleteOrphansTest() throws IOException {
+		// Given
+		Files.write(dir.resolve("keep.png"), new byte[] {1});
+		Files.write(dir.resolve("keep_thumbnail.png"), new byte[] {1});
+		Files.write(dir.resolve("gone_thumbnail.png"), new byte[] {1});
+
+		// When
+		imageVariantService.deleteOrphans(List.of("keep.png", "gone.png"));
+
+		// Then
+		assertTrue(Files.exists(dir.resolve("keep_thumbnail.png")));
+		assertFalse(Files.exists(dir.resolve("gone_thumbnail.png")));
+	}
+}
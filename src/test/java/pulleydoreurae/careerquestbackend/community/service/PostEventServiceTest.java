@@ -0,0 +1,98 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.community.domain.PostEventType;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostEventResponse;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Comment;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("게시글 이벤트 Service 테스트")
+class PostEventServiceTest {
+
+	@InjectMocks
+	PostEventService postEventService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	SimpMessageSendingOperations messagingTemplate;
+	@Spy
+	ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("댓글 작성 이벤트를 Redis 채널에 발행하는지 테스트")
+	void publishCommentAddedTest() throws Exception {
+		// Given
+		UserAccount user = UserAccount.builder().userId("testId").build();
+		Post post = Post.builder().id(100L).userAccount(user).build();
+		Comment comment = Comment.builder().id(10L).userAccount(user).post(post).content("댓글 내용").build();
+		PostEventResponse expected = PostEventResponse.builder()
+				.type(PostEventType.COMMENT_ADDED).postId(100L).commentId(10L).userId("testId").content("댓글 내용")
+				.build();
+
+		// When
+		postEventService.publishCommentAdded(comment);
+
+		// Then
+		verify(redisTemplate).convertAndSend(PostEventService.CHANNEL, objectMapper.writeValueAsString(expected));
+	}
+
+	@Test
+	@DisplayName("발행에 실패해도 예외를 던지지 않는지 테스트")
+	void publishFailTest() {
+		// Given
+		given(redisTemplate.convertAndSend(anyString(), anyString()))
+				.willThrow(new RedisConnectionFailureException("연결 실패"));
+
+		// When
+
+		// Then
+		assertDoesNotThrow(() -> postEventService.publishLikeChanged(100L, 3L));
+	}
+
+	@Test
+	@DisplayName("받은 이벤트를 게시글 구독자에게 전송하는지 테스트")
+	void sendToSubscribersTest() throws Exception {
+		// Given
+		PostEventResponse event = PostEventResponse.builder()
+				.type(PostEventType.LIKE_CHANGED).postId(100L).postLikeCount(3L).build();
+
+		// When
+		postEventService.sendToSubscribers(objectMapper.writeValueAsString(event));
+
+		// Then
+		verify(messagingTemplate).convertAndSend("/sub/posts/100", event);
+	}
+
+	@Test
+	@DisplayName("잘못된 이벤트는 전송하지 않는지 테스트")
+	void sendToSubscribersFailTest() {
+		// Given
+
+		// When
+		postEventService.sendToSubscribers("잘못된 메시지");
+
+		// Then
+		verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+	}
+}
@@ -0,0 +1,128 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("게시글 목록 캐시 Service 테스트")
+class PostFeedCacheServiceTest {
+
+	@InjectMocks
+	PostFeedCacheService postFeedCacheService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+	@Spy
+	ObjectMapper objectMapper = new ObjectMapper();
+	@Mock
+	Supplier<List<PostResponse>> loader;
+
+	List<PostResponse> posts = List.of(
+			PostResponse.builder().postId(1L).userId("testId").title("제목").postCategory(PostCategory.FREE_BOARD).build());
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("캐시에 없다면 불러와서 현재 버전의 키로 저장하는지 테스트")
+	void getPageMissTest() throws Exception {
+		// Given
+		given(valueOperations.get("feed:FREE_BOARD:version")).willReturn("3");
+		given(loader.get()).willReturn(posts);
+
+		// When
+		List<PostResponse> result = postFeedCacheService.getPage(PostCategory.FREE_BOARD, PageRequest.of(0, 15), loader);
+
+		// Then
+		assertEquals(posts, result);
+		verify(valueOperations).set("feed:FREE_BOARD:v3:0:15", objectMapper.writeValueAsString(posts),
+				Duration.ofSeconds(60));
+		assertEquals(1, postFeedCacheService.getMissCount());
+	}
+
+	@Test
+	@DisplayName("캐시에 있다면 데이터베이스에서 불러오지 않는지 테스트")
+	void getPageHitTest() throws Exception {
+		// Given
+		given(valueOperations.get("feed:ALL:version")).willReturn(null);
+		given(valueOperations.get("feed:ALL:v0:0:15")).willReturn(objectMapper.writeValueAsString(posts));
+
+		// When
+		List<PostResponse> result = postFeedCacheService.getPage(null, PageRequest.of(0, 15), loader);
+
+		// Then
+		assertEquals(posts, result);
+		verify(loader, never()).get();
+		assertEquals(1, postFeedCacheService.getHitCount());
+	}
+
+	@Test
+	@DisplayName("앞쪽 페이지가 아니라면 캐시를 사용하지 않는지 테스트")
+	void getPageNotCachedTest() {
+		// Given
+		given(loader.get()).willReturn(posts);
+
+		// When
+		List<PostResponse> result = postFeedCacheService.getPage(null, PageRequest.of(PostFeedCacheService.CACHED_PAGES, 15),
+				loader);
+
+		// Then
+		assertEquals(posts, result);
+		verify(redisTemplate, never()).opsForValue();
+	}
+
+	@Test
+	@DisplayName("Redis 에 문제가 생겨도 목록을 불러오는지 테스트")
+	void getPageRedisFailTest() {
+		// Given
+		given(valueOperations.get(any())).willThrow(new IllegalStateException("연결 실패"));
+		given(loader.get()).willReturn(posts);
+
+		// When
+		List<PostResponse> result = postFeedCacheService.getPage(null, PageRequest.of(0, 15), loader);
+
+		// Then
+		assertEquals(posts, result);
+	}
+
+	@Test
+	@DisplayName("무효화시 카테고리와 전체 목록의 버전을 올리는지 테스트")
+	void evictTest() {
+		// Given
+
+		// When
+		postFeedCacheService.evict(PostCategory.QNA_BOARD);
+
+		// Then
+		verify(valueOperations).increment("feed:ALL:version");
+		verify(valueOperations).increment("feed:QNA_BOARD:version");
+	}
+}
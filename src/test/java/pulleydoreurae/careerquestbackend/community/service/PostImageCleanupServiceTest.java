@@ -0,0 +1,120 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pulleydoreurae.careerquestbackend.common.service.FileManagementService;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("게시글 사진 정리 Service 테스트")
+class PostImageCleanupServiceTest {
+
+	@InjectMocks
+	PostImageCleanupService postImageCleanupService;
+	@Mock
+	FileManagementService fileManagementService;
+	@Mock
+	ImageVariantService imageVariantService;
+	@Mock
+	ImageServingService imageServingService;
+
+	@BeforeEach
+	void setUp() {
+		postImageCleanupService.IMAGES_SAVE_PATH = "/images/";
+	}
+
+	@AfterEach
+	void tearDown() {
+		postImageCleanupService.shutdown();
+	}
+
+	@Test
+	@DisplayName("첨부되지 않은 채 대기 시간이 지난 사진의 변형과 캐시도 제거하는지 테스트")
+	void deleteExpiredUploadsTest() {
+		// Given
+		given(fileManagementService.deleteExpiredUploads("/images/")).willReturn(List.of("image1.png"));
+
+		// When
+		postImageCleanupService.deleteExpiredUploads();
+
+		// Then
+		verify(imageVariantService).deleteOrphans(List.of("image1.png"));
+		verify(imageServingService).evict(List.of("image1.png"));
+	}
+
+	@Test
+	@DisplayName("백그라운드에서 파일과 변형을 삭제하고 캐시에서 제거하는지 테스트")
+	void deleteImagesTest() {
+		// Given
+		List<String> fileNames = List.of("image1.png", "image2.png");
+
+		// When
+		postImageCleanupService.deleteImages(fileNames);
+
+		// Then
+		verify(fileManagementService, timeout(1000)).deleteFile(fileNames, "/images/");
+		verify(imageVariantService, timeout(1000)).deleteOrphans(fileNames);
+		verify(imageServingService, timeout(1000)).evict(fileNames);
+	}
+
+	@Test
+	@DisplayName("삭제할 사진이 없다면 작업을 만들지 않는지 테스트")
+	void deleteImagesEmptyTest() {
+		// Given
+
+		// When
+		postImageCleanupService.deleteImages(List.of());
+
+		// Then
+		verify(fileManagementService, never()).deleteFile(anyList(), anyString());
+	}
+
+	@Test
+	@DisplayName("파일 삭제에 실패해도 예외를 던지지 않는지 테스트")
+	void deleteFailTest() {
+		// Given
+		willThrow(new IllegalStateException("Redis 연결 실패"))
+				.given(fileManagementService).deleteFile(anyList(), anyString());
+
+		// When
+
+		// Then
+		assertDoesNotThrow(() -> postImageCleanupService.delete(List.of("image.png")));
+		verify(imageServingService, never()).evict(anyList());
+	}
+
+	@Test
+	@DisplayName("종료할 때 큐에 남은 작업을 모두 처리하는지 테스트")
+	void shutdownTest() {
+		// Given
+		willAnswer(invocation -> {
+			Thread.sleep(50);
+			return null;
+		}).given(fileManagementService).deleteFile(anyList(), anyString());
+		postImageCleanupService.deleteImages(List.of("image1.png"));
+		postImageCleanupService.deleteImages(List.of("image2.png"));
+		postImageCleanupService.deleteImages(List.of("image3.png"));
+
+		// When
+		postImageCleanupService.shutdown();
+
+		// Then
+		verify(fileManagementService, times(3)).deleteFile(anyList(), anyString());
+		verify(imageServingService).evict(List.of("image3.png"));
+	}
+}
@@ -0,0 +1,210 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepository;
+import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepositoryCustom.Change;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좋아요 Redis 저장 Service 테스트")
+class PostLikeCacheServiceTest {
+
+	@InjectMocks
+	PostLikeCacheService postLikeCacheService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	PostLikeRepository postLikeRepository;
+	@Mock
+	PostRepository postRepository;
+	@Mock
+	PostFeedCacheService postFeedCacheService;
+	@Mock
+	TrendingPostService trendingPostService;
+	@Mock
+	PostEventService postEventService;
+	@Mock
+	NotificationService notificationService;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+	@Mock
+	SetOperations<String, String> setOperations;
+	@Mock
+	HashOperations<String, Object, Object> hashOperations;
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없다면 데이터베이스에서 좋아요 상태를 확인하는지 테스트")
+	void isLikedFallbackTest() {
+		// Given
+		UserAccount user = UserAccount.builder().id(1L).userId("testId").build();
+		Post post = Post.builder().id(100L).userAccount(user).build();
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+				.willThrow(new RedisConnectionFailureException("연결 실패"));
+		given(postLikeRepository.existsByPostAndUserAccount(post, user)).willReturn(true);
+
+		// When
+		boolean result = postLikeCacheService.isLiked(post, user);
+
+		// Then
+		assertTrue(result);
+		verify(postLikeRepository).existsByPostAndUserAccount(post, user);
+	}
+
+	@Test
+	@DisplayName("좋아요 상태가 실제로 바뀐 경우만 인기 게시글 점수에 반영하고 구독자, 작성자에게 전송하는지 테스트")
+	void changeLikeTest() {
+		// Given
+		UserAccount user = UserAccount.builder().id(1L).userId("testId").build();
+		Post post = Post.builder().id(100L).userAccount(user).build();
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+				.willReturn(List.of(3L, 1L), List.of(3L, 0L));
+
+		// When
+		Long first = postLikeCacheService.changeLike(post, user, true);
+		Long second = postLikeCacheService.changeLike(post, user, true);
+
+		// Then
+		assertEquals(3L, first);
+		assertEquals(3L, second);
+		verify(trendingPostService, times(1)).recordLike(post, true);
+		verify(postEventService, times(1)).publishLikeChanged(100L, 3L);
+		verify(notificationService, times(1)).notify(1L, NotificationType.POST_LIKE, 100L, user);
+		verify(postLikeRepository, never()).findUserIdsByPostId(any());
+	}
+
+	@Test
+	@DisplayName("이전 반영에 실패해 남은 반영중 hash 부터 다시 반영하고 성공한 후에만 반영할 게시글에서 제거하는지 테스트")
+	void flushRetryTest() {
+		// Given
+		Post post = Post.builder().id(100L).postCategory(PostCategory.FREE_BOARD).build();
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(redisTemplate.opsForSet()).willReturn(setOperations);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+		given(setOperations.members(PostLikeCacheService.DIRTY_KEY)).willReturn(Set.of("100"));
+		given(redisTemplate.hasKey("likes:post:100:flushing")).willReturn(true);
+		given(redisTemplate.hasKey("likes:post:100:pending")).willReturn(true);
+		given(hashOperations.entries("likes:post:100:flushing")).willReturn(Map.of("1", "0"));
+		given(postLikeRepository.findUserIdsByPostId(100L)).willReturn(List.of());
+		given(postRepository.findAllByIdIn(List.of(100L))).willReturn(List.of(post));
+
+		// When
+		postLikeCacheService.flush();
+
+		// Then
+		verify(redisTemplate, never()).rename(anyString(), anyString());
+		InOrder inOrder = inOrder(postLikeRepository, redisTemplate, setOperations);
+		inOrder.verify(postLikeRepository).applyChanges(List.of(new Change(100L, 1L, false)));
+		inOrder.verify(redisTemplate).delete("likes:post:100:flushing");
+		inOrder.verify(setOperations).remove(PostLikeCacheService.DIRTY_KEY, "100");
+		inOrder.verify(setOperations).add(PostLikeCacheService.DIRTY_KEY, "100"); // 그 사이에 새로 생긴 변경은 다음 주기에 반영
+		verify(postFeedCacheService).evict(PostCategory.FREE_BOARD);
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 다음 주기에 다시 반영하도록 남겨두는지 테스트")
+	void flushFailTest() {
+		// Given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(redisTemplate.opsForSet()).willReturn(setOperations);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+		given(setOperations.members(PostLikeCacheService.DIRTY_KEY)).willReturn(Set.of("100"));
+		given(redisTemplate.hasKey("likes:post:100:flushing")).willReturn(false);
+		given(redisTemplate.hasKey("likes:post:100:pending")).willReturn(true);
+		given(hashOperations.entries("likes:post:100:flushing")).willReturn(Map.of("1", "1"));
+		willThrow(new IllegalStateException("반영 실패")).given(postLikeRepository).applyChanges(any());
+
+		// When
+		postLikeCacheService.flush();
+
+		// Then
+		verify(redisTemplate).rename("likes:post:100:pending", "likes:post:100:flushing");
+		verify(postLikeRepository).applyChanges(List.of(new Change(100L, 1L, true)));
+		verify(setOperations, never()).remove(PostLikeCacheService.DIRTY_KEY, "100");
+		verify(redisTemplate, never()).delete("likes:post:100:flushing");
+		ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations).setIfAbsent(eq("likes:post:flush-lock"), token.capture(), any(Duration.class));
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("likes:post:flush-lock")), eq(token.getValue()));
+		verify(redisTemplate, never()).delete("likes:post:flush-lock");
+		verify(postFeedCacheService, never()).evict(any());
+	}
+
+	@Test
+	@DisplayName("다른 서버가 반영중이라면 반영하지 않는지 테스트")
+	void flushLockedTest() {
+		// Given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+		// When
+		postLikeCacheService.flush();
+
+		// Then
+		verify(postLikeRepository, never()).applyChanges(any());
+		verify(redisTemplate, never()).delete(anyString());
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+	}
+
+	@Test
+	@DisplayName("Redis 로 알 수 없는 게시글만 데이터베이스에서 한번에 확인하는지 테스트")
+	void findLikedPostIdsTest() {
+		// Given
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+				.willReturn(List.of(1L, 0L, -1L, -1L));
+		given(postLikeRepository.findLikedPostIds(1L, List.of(102L, 103L))).willReturn(List.of(103L));
+
+		// When
+		Set<Long> result = postLikeCacheService.findLikedPostIds(1L, List.of(100L, 101L, 102L, 103L));
+
+		// Then
+		assertEquals(Set.of(100L, 103L), result);
+		verify(postLikeRepository, times(1)).findLikedPostIds(any(), any());
+	}
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없다면 데이터베이스에서 한번에 확인하는지 테스트")
+	void findLikedPostIdsFallbackTest() {
+		// Given
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+				.willThrow(new RedisConnectionFailureException("연결 실패"));
+		given(postLikeRepository.findLikedPostIds(1L, List.of(100L, 101L))).willReturn(List.of(101L));
+
+		// When
+		Set<Long> result = postLikeCacheService.findLikedPostIds(1L, List.of(100L, 101L));
+
+		// Then
+		assertEquals(Set.of(101L), result);
+	}
+}
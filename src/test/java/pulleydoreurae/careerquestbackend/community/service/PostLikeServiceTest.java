@@ -43,6 +43,8 @@ class PostLikeServiceTest {
 	CommonCommunityService commonCommunityService;
 	@Mock
 	CommonService commonService;
+	@Mock
+	PostLikeCacheService postLikeCacheService;
 
 	@Test
 	@DisplayName("1. 좋아요 증가 테스트 (실패 - 회원정보를 찾을 수 없음)")
@@ -58,8 +60,7 @@ class PostLikeServiceTest {
 
 		// Then
 		assertThrows(UsernameNotFoundException.class, () -> postLikeService.changePostLike(request));
-		verify(postLikeRepository, never()).save(any());
-		verify(postLikeRepository, never()).delete(any());
+		verify(postLikeCacheService, never()).changeLike(any(), any(), anyBoolean());
 	}
 
 	@Test
@@ -77,8 +78,7 @@ class PostLikeServiceTest {
 
 		// Then
 		assertThrows(PostNotFoundException.class, () -> postLikeService.changePostLike(request));
-		verify(postLikeRepository, never()).save(any());
-		verify(postLikeRepository, never()).delete(any());
+		verify(postLikeCacheService, never()).changeLike(any(), any(), anyBoolean());
 	}
 
 	@Test
@@ -90,15 +90,16 @@ class PostLikeServiceTest {
 
 		given(commonService.findUserAccount("testId", true)).willReturn(user);
 		given(commonCommunityService.findPost(10000L)).willReturn(post);
+		given(postLikeCacheService.changeLike(post, user, true)).willReturn(1L);
 
 		// When
 		PostLikeRequest request = PostLikeRequest.builder().postId(10000L).userId("testId").isLiked(false).build();
 
 		// Then
-		postLikeService.changePostLike(request);
+		assertEquals(1L, postLikeService.changePostLike(request));
 
-		verify(postLikeRepository).save(any());
-		verify(postLikeRepository, never()).delete(any());
+		// 데이터베이스에는 바로 저장하지 않음
+		verify(postLikeRepository, never()).save(any());
 	}
 
 	@Test
@@ -115,8 +116,7 @@ class PostLikeServiceTest {
 
 		// Then
 		assertThrows(UsernameNotFoundException.class, () -> postLikeService.changePostLike(request));
-		verify(postLikeRepository, never()).save(any());
-		verify(postLikeRepository, never()).delete(any());
+		verify(postLikeCacheService, never()).changeLike(any(), any(), anyBoolean());
 	}
 
 	@Test
@@ -134,7 +134,7 @@ class PostLikeServiceTest {
 
 		// Then
 		assertThrows(PostNotFoundException.class, () -> postLikeService.changePostLike(request));
-		verify(postLikeRepository, never()).save(any());
+		verify(postLikeCacheService, never()).changeLike(any(), any(), anyBoolean());
 	}
 
 	@Test
@@ -143,20 +143,19 @@ class PostLikeServiceTest {
 		// Given
 		UserAccount user = UserAccount.builder().userId("testId").build();
 		Post post = Post.builder().userAccount(user).id(10000L).title("제목1").build();
-		PostLike postLike = PostLike.builder().userAccount(user).post(post).build();
 
 		given(commonService.findUserAccount("testId", true)).willReturn(user);
 		given(commonCommunityService.findPost(10000L)).willReturn(post);
-		given(commonCommunityService.findPostLike(post, user)).willReturn(postLike);
+		given(postLikeCacheService.changeLike(post, user, false)).willReturn(0L);
 
 		// When
 		PostLikeRequest request = PostLikeRequest.builder().postId(10000L).userId("testId").isLiked(true).build();
 
 		// Then
-		postLikeService.changePostLike(request);
+		assertEquals(0L, postLikeService.changePostLike(request));
 
-		verify(postLikeRepository, never()).save(any());
-		verify(postLikeRepository).delete(any());
+		// 데이터베이스에서 바로 삭제하지 않음
+		verify(postLikeRepository, never()).delete(any());
 	}
 
 	@Test
@@ -180,9 +179,8 @@ class PostLikeServiceTest {
 				List.of(postLike3, postLike4, postLike5), pageable, 3); // 3개씩 자른다면 마지막 3개가 반환되어야 함
 
 		given(commonService.findUserAccount("testId", false)).willReturn(user);
-		given(commonCommunityService.postToPostResponse(post3, false)).willReturn(postToPostResponse(post3));
-		given(commonCommunityService.postToPostResponse(post4, false)).willReturn(postToPostResponse(post4));
-		given(commonCommunityService.postToPostResponse(post5, false)).willReturn(postToPostResponse(post5));
+		given(commonCommunityService.postListToPostResponseList(List.of(post3, post4, post5)))
+				.willReturn(List.of(postToPostResponse(post3), postToPostResponse(post4), postToPostResponse(post5)));
 		given(postLikeRepository.findAllByUserAccountOrderByIdDesc(user, pageable))
 				.willReturn(list);
 
@@ -198,9 +196,7 @@ class PostLikeServiceTest {
 				postToPostResponse(post5)
 		);
 		verify(postLikeRepository).findAllByUserAccountOrderByIdDesc(user, pageable);
-		verify(commonCommunityService).postToPostResponse(post3, false);
-		verify(commonCommunityService).postToPostResponse(post4, false);
-		verify(commonCommunityService).postToPostResponse(post5, false);
+		verify(commonCommunityService).postListToPostResponseList(List.of(post3, post4, post5));
 	}
 
 	// Post -> PostResponse 변환 메서드
@@ -3,8 +3,9 @@ package pulleydoreurae.careerquestbackend.community.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
-import java.net.MalformedURLException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
@@ -26,22 +28,30 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import pulleydoreurae.careerquestbackend.auth.domain.UserActivityType;
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.service.UserActivityService;
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
 import pulleydoreurae.careerquestbackend.common.service.FileManagementService;
+import pulleydoreurae.careerquestbackend.common.service.ViewCountService;
+import pulleydoreurae.careerquestbackend.common.service.ViewHistoryService;
 import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
 import pulleydoreurae.careerquestbackend.community.domain.dto.request.PostRequest;
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
 import pulleydoreurae.careerquestbackend.community.domain.entity.PostImage;
-import pulleydoreurae.careerquestbackend.community.domain.entity.PostViewCheck;
 import pulleydoreurae.careerquestbackend.community.exception.PostDeleteException;
 import pulleydoreurae.careerquestbackend.community.exception.PostNotFoundException;
+import pulleydoreurae.careerquestbackend.community.exception.PostSaveException;
 import pulleydoreurae.careerquestbackend.community.exception.PostUpdateException;
+import pulleydoreurae.careerquestbackend.community.repository.ContestRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostImageRepository;
-import pulleydoreurae.careerquestbackend.community.repository.PostLikeRepository;
 import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
-import pulleydoreurae.careerquestbackend.community.repository.PostViewCheckRepository;
+import pulleydoreurae.careerquestbackend.search.domain.SearchTarget;
+import pulleydoreurae.careerquestbackend.search.service.SearchIndexService;
+import pulleydoreurae.careerquestbackend.search.service.SearchResultCacheService;
 
 /**
  * @author : parkjihyeok
@@ -50,17 +60,12 @@ import pulleydoreurae.careerquestbackend.community.repository.PostViewCheckRepos
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
 
-	@Value("${IMAGES_PATH}")
-	String IMAGES_PATH;
-
 	@InjectMocks
 	PostService postService;
 	@Mock
 	PostRepository postRepository;
 	@Mock
-	PostLikeRepository postLikeRepository;
-	@Mock
-	PostViewCheckRepository postViewCheckRepository;
+	PostLikeCacheService postLikeCacheService;
 	@Mock
 	PostImageRepository postImageRepository;
 	@Mock
@@ -69,6 +74,30 @@ class PostServiceTest {
 	CommonCommunityService commonCommunityService;
 	@Mock
 	CommonService commonService;
+	@Mock
+	ViewCountService viewCountService;
+	@Mock
+	ViewHistoryService viewHistoryService;
+	@Mock
+	SearchIndexService searchIndexService;
+	@Mock
+	SearchResultCacheService searchResultCacheService;
+	@Mock
+	PostFeedCacheService postFeedCacheService;
+	@Mock
+	ImageServingService imageServingService;
+	@Mock
+	ImageVariantService imageVariantService;
+	@Mock
+	PostImageCleanupService postImageCleanupService;
+	@Mock
+	TrendingPostService trendingPostService;
+	@Mock
+	UserActivityService userActivityService;
+	@Mock
+	ContestRepository contestRepository;
+	@Mock
+	ContestIndexService contestIndexService;
 
 	@Test
 	@DisplayName("게시글 불러오기 실패")
@@ -94,13 +123,15 @@ class PostServiceTest {
 		Post post = Post.builder().title("제목").content("내용").view(1L).postCategory(PostCategory.FREE_BOARD).build();
 		given(commonCommunityService.findPost(any())).willReturn(post);
 		given(commonCommunityService.postToPostResponse(post, false)).willReturn(
-				new PostResponse(100L, "A", "A", "A", List.of(), 1L, 1L, 1L, PostCategory.FREE_BOARD, false,"A", "A"));
+				new PostResponse(100L, "A", "A", "A", List.of(), List.of(), List.of(), 1L, null, 1L, 1L, PostCategory.FREE_BOARD, false,"A", "A"));
+		given(viewHistoryService.countPostViewers(100L)).willReturn(3L);
 
 		// When
 		PostResponse result = postService.findByPostId(request, response, 100L);
 
 		// Then
 		assertNotNull(result);
+		assertEquals(3L, result.getUniqueViewers());
 		verify(commonCommunityService).postToPostResponse(post, false);
 	}
 
@@ -119,15 +150,15 @@ class PostServiceTest {
 		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
 		securityContext.setAuthentication(authentication);
 		SecurityContextHolder.setContext(securityContext);
-		given(commonCommunityService.findPostViewCheck("testId")).willReturn(null);
+		given(viewHistoryService.checkPostView(100L, "testId")).willReturn(true);
 
 		// When
 		String result = postService.checkView(request, response, 100L, post);
 
 		// Then
 		assertEquals("testId", result);
-		assertEquals(2, post.getView());
-		verify(postViewCheckRepository).save(any());
+		verify(viewCountService).increasePostView(100L);
+		verify(trendingPostService).recordView(post);
 	}
 
 	@Test
@@ -145,36 +176,37 @@ class PostServiceTest {
 		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
 		securityContext.setAuthentication(authentication);
 		SecurityContextHolder.setContext(securityContext);
-		PostViewCheck postViewCheck = new PostViewCheck("testId", 100L);
-		given(commonCommunityService.findPostViewCheck("testId")).willReturn(postViewCheck);
+		given(viewHistoryService.checkPostView(100L, "testId")).willReturn(false);
 
 		// When
 		String result = postService.checkView(request, response, 100L, post);
 
 		// Then
 		assertEquals("testId", result);
-		assertEquals(1, post.getView());
-		verify(postViewCheckRepository, never()).save(any());
+		verify(viewCountService, never()).increasePostView(any());
+		verify(trendingPostService, never()).recordView(any());
 	}
 
 	@Test
-	@DisplayName("좋아요 상태 false")
+	@DisplayName("좋아요 상태 false (회원 정보가 없음)")
 	void getIsLikedTest1() {
 		// Given
-		given(postLikeRepository.existsByPostAndUserAccount(any(), any())).willReturn(false);
+		given(commonService.findUserAccount("testId", false)).willReturn(null);
 
 		// When
 		Boolean result = postService.getIsLiked("testId", new Post());
 
 		// Then
 		assertFalse(result);
+		verify(postLikeCacheService, never()).isLiked(any(), any());
 	}
 
 	@Test
 	@DisplayName("좋아요 상태 true")
 	void getIsLikedTest2() {
 		// Given
-		given(postLikeRepository.existsByPostAndUserAccount(any(), any())).willReturn(true);
+		given(commonService.findUserAccount("testId", false)).willReturn(UserAccount.builder().userId("testId").build());
+		given(postLikeCacheService.isLiked(any(), any())).willReturn(true);
 
 		// When
 		Boolean result = postService.getIsLiked("testId", new Post());
@@ -187,7 +219,13 @@ class PostServiceTest {
 	@DisplayName("사진 서버 저장 테스트 (성공)")
 	void saveImageSuccessTest() {
 		// Given
-		given(fileManagementService.saveFile(any(), any())).willReturn("anyString()");
+		Authentication authentication = new UsernamePasswordAuthenticationToken("testId", null,
+				AuthorityUtils.createAuthorityList("ROLE_USER"));
+		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+		securityContext.setAuthentication(authentication);
+		SecurityContextHolder.setContext(securityContext);
+		given(fileManagementService.saveFiles(anyList(), any(), eq("testId")))
+				.willReturn(List.of("1.png", "2.png", "3.png", "4.png"));
 
 		// When
 		MockMultipartFile file1 = new MockMultipartFile("test1", "Test1.png", "image/png", "사진내용".getBytes());
@@ -203,7 +241,12 @@ class PostServiceTest {
 	@DisplayName("사진 서버 저장 테스트 (실패)")
 	void saveImageFailTest() {
 		// Given
-		given(fileManagementService.saveFile(any(), any())).willReturn(null);
+		Authentication authentication = new UsernamePasswordAuthenticationToken("testId", null,
+				AuthorityUtils.createAuthorityList("ROLE_USER"));
+		SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+		securityContext.setAuthentication(authentication);
+		SecurityContextHolder.setContext(securityContext);
+		given(fileManagementService.saveFiles(anyList(), any(), eq("testId"))).willReturn(null);
 
 		// When
 		MockMultipartFile file1 = new MockMultipartFile("test1", "Test1.png", "image/png", "사진내용".getBytes());
@@ -227,6 +270,7 @@ class PostServiceTest {
 		// Then
 		assertDoesNotThrow(
 				() -> postService.savePost(new PostRequest("testId", "제목", "내용", PostCategory.FREE_BOARD, null)));
+		verify(userActivityService).increase(user, UserActivityType.POST);
 	}
 
 	@Test
@@ -255,12 +299,57 @@ class PostServiceTest {
 		UserAccount user = UserAccount.builder().userId("testId").build();
 		given(commonService.findUserAccount("testId", true)).willReturn(user);
 		given(commonCommunityService.postRequestToPost(any(), any())).willReturn(new Post());
+		given(fileManagementService.isUploadedBy("testId", images)).willReturn(true);
+		given(fileManagementService.acquire(eq(images), any())).willReturn(true);
 
 		// When
 
 		// Then
 		assertDoesNotThrow(() -> postService.savePost(
 				new PostRequest("testId", "제목", "내용", PostCategory.FREE_BOARD, images)));
+		verify(postImageRepository).saveAllInBatch(argThat(saved -> saved.size() == 5));
+		verify(fileManagementService).acquire(eq(images), any()); // 첨부한 사진만큼 참조 수 증가
+		verify(imageVariantService).generate(images);
+	}
+
+	@Test
+	@DisplayName("게시글 사진과 함께 등록 테스트 (실패, 다른 회원이 올린 사진)")
+	void savePostWithOthersImageFailTest() {
+		// Given
+		List<String> images = List.of("image1.png", "others.png");
+		UserAccount user = UserAccount.builder().userId("testId").build();
+		given(commonService.findUserAccount("testId", true)).willReturn(user);
+		given(fileManagementService.isUploadedBy("testId", images)).willReturn(false);
+
+		// When
+
+		// Then
+		assertThrows(PostSaveException.class, () ->
+				postService.savePost(new PostRequest("testId", "제목", "내용", PostCategory.FREE_BOARD, images)));
+		verify(postRepository, never()).save(any());
+		verify(postImageRepository, never()).saveAllInBatch(anyList());
+		verify(fileManagementService, never()).acquire(anyList(), any());
+		verify(fileManagementService, never()).deleteFile(anyList(), any());
+	}
+
+	@Test
+	@DisplayName("게시글 사진과 함께 등록 테스트 (실패, 이미 정리된 사진)")
+	void savePostWithExpiredImageFailTest() {
+		// Given
+		List<String> images = List.of("image1.png");
+		UserAccount user = UserAccount.builder().userId("testId").build();
+		given(commonService.findUserAccount("testId", true)).willReturn(user);
+		given(commonCommunityService.postRequestToPost(any(), any())).willReturn(new Post());
+		given(fileManagementService.isUploadedBy("testId", images)).willReturn(true);
+		given(fileManagementService.acquire(eq(images), any())).willReturn(false);
+
+		// When
+
+		// Then
+		assertThrows(PostSaveException.class, () ->
+				postService.savePost(new PostRequest("testId", "제목", "내용", PostCategory.FREE_BOARD, images)));
+		verify(searchIndexService, never()).indexPost(any());
+		verify(fileManagementService, never()).deleteFile(anyList(), any());
 	}
 
 	@Test
@@ -280,8 +369,9 @@ class PostServiceTest {
 		// Then
 		assertThrows(UsernameNotFoundException.class, () ->
 				postService.savePost(new PostRequest("testId", "제목", "내용", PostCategory.FREE_BOARD, images)));
-		// 저장된 이미지를 삭제하는 메서드가 동작했는지 검증
-		verify(fileManagementService).deleteFile(anyList(), any());
+		// 첨부하지 않았으므로 참조 수를 건드리지 않는다. (업로드한 사진은 나중에 정리된다.)
+		verify(fileManagementService, never()).acquire(anyList(), any());
+		verify(fileManagementService, never()).deleteFile(anyList(), any());
 	}
 
 	@Test
@@ -353,37 +443,98 @@ class PostServiceTest {
 		assertDoesNotThrow(() -> postService.updatePost(100L, new PostRequest("testId", "제목", "내용", PostCategory.FREE_BOARD, null)));
 		verify(commonCommunityService).postRequestToPostForUpdate(any(), any(), any());
 		verify(postRepository).save(any());
+		verify(searchIndexService).indexPost(any());
+		verify(postFeedCacheService).evict(PostCategory.FREE_BOARD);
+	}
+
+	@Test
+	@DisplayName("게시글 카테고리 수정시 이전 카테고리의 목록 캐시도 무효화")
+	void updatePostCategoryTest() {
+		// Given
+		UserAccount user = UserAccount.builder().userId("testId").build();
+		Post post = Post.builder().title("제목").content("내용").userAccount(user).view(1L).postCategory(PostCategory.FREE_BOARD).build();
+		given(commonCommunityService.findPost(any())).willReturn(post);
+		given(commonService.findUserAccount(any(), anyBoolean())).willReturn(user);
+
+		// When
+		postService.updatePost(100L, new PostRequest("testId", "제목", "내용", PostCategory.QNA_BOARD, null));
+
+		// Then
+		verify(postFeedCacheService).evict(PostCategory.FREE_BOARD);
+		verify(postFeedCacheService).evict(PostCategory.QNA_BOARD);
 	}
 
 	@Test
 	@DisplayName("이미지 수정 테스트")
 	void updateImagesTest() {
 		// Given
-		PostImage postImage1 = PostImage.builder().post(new Post()).fileName("image1.png").build();
-		PostImage postImage2 = PostImage.builder().post(new Post()).fileName("image2.png").build();
-		PostImage postImage3 = PostImage.builder().post(new Post()).fileName("image3.png").build();
-		PostImage postImage4 = PostImage.builder().post(new Post()).fileName("image4.png").build();
-		PostImage postImage5 = PostImage.builder().post(new Post()).fileName("image5.png").build();
+		Post post = Post.builder().userAccount(UserAccount.builder().userId("testId").build()).build();
+		PostImage postImage1 = PostImage.builder().id(1L).post(post).fileName("image1.png").build();
+		PostImage postImage2 = PostImage.builder().id(2L).post(post).fileName("image2.png").build();
+		PostImage postImage3 = PostImage.builder().id(3L).post(post).fileName("image3.png").build();
+		PostImage postImage4 = PostImage.builder().id(4L).post(post).fileName("image4.png").build();
+		PostImage postImage5 = PostImage.builder().id(5L).post(post).fileName("image5.png").build();
 		List<PostImage> images = List.of(postImage1, postImage2, postImage3, postImage4, postImage5);
 		given(postImageRepository.findAllByPost(any())).willReturn(images);
-		given(postImageRepository.existsByFileName("image2.png")).willReturn(true);
-		given(postImageRepository.existsByFileName("image3.png")).willReturn(true);
+		given(postImageRepository.deleteAllByIdIn(List.of(1L, 4L, 5L))).willReturn(3);
+		given(fileManagementService.isUploadedBy("testId", List.of("image6.png"))).willReturn(true);
+		given(fileManagementService.acquire(eq(List.of("image6.png")), any())).willReturn(true);
 
 		String image2 = "image2.png";
 		String image3 = "image3.png";
 		String image6 = "image6.png";
 		List<String> input = List.of(image2, image3, image6);
 		// When
-		postService.updateImages(input, new Post());
+		postService.updateImages(input, post);
 
 		// Then
-		verify(fileManagementService).deleteFile(anyList(), any());
-		// 2, 3 을 제외한 1, 4, 5 가 삭제됨
-		verify(postImageRepository, times(3)).deleteByFileName(any());
-		// 2, 3, 6이 데이터베이스에 있는지 각각 확인
-		verify(postImageRepository, times(3)).existsByFileName(any());
-		// 데이터베이스에 없는 6만 저장하므로 1번만 실행
-		verify(postImageRepository).save(any());
+		// 파일은 커밋된 후에 백그라운드에서 삭제
+		verify(postImageCleanupService).deleteImages(List.of("image1.png", "image4.png", "image5.png"));
+		verify(fileManagementService, never()).deleteFile(anyList(), any());
+		verify(imageVariantService).generate(List.of("image6.png"));
+		// 2, 3 을 제외한 1, 4, 5 가 한번에 삭제됨
+		verify(postImageRepository).deleteAllByIdIn(List.of(1L, 4L, 5L));
+		// 다른 게시글의 사진과는 비교하지 않음
+		verify(postImageRepository, never()).existsByFileName(any());
+		// 게시글에 없던 6만 한번에 저장하고 참조 수 증가
+		verify(postImageRepository).saveAllInBatch(argThat(saved -> saved.size() == 1
+				&& saved.get(0).getFileName().equals("image6.png")));
+		verify(fileManagementService).acquire(eq(List.of("image6.png")), any());
+		verify(postImageRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("이미지 수정 실패 (다른 회원이 올린 사진)")
+	void updateImagesWithOthersImageFailTest() {
+		// Given
+		Post post = Post.builder().userAccount(UserAccount.builder().userId("testId").build()).build();
+		given(postImageRepository.findAllByPost(any()))
+				.willReturn(List.of(PostImage.builder().id(1L).post(post).fileName("image1.png").build()));
+		given(fileManagementService.isUploadedBy("testId", List.of("others.png"))).willReturn(false);
+
+		// When
+
+		// Then
+		assertThrows(PostUpdateException.class, () -> postService.updateImages(List.of("others.png"), post));
+		verify(postImageRepository, never()).deleteAllByIdIn(anyList());
+		verify(postImageCleanupService, never()).deleteImages(anyList());
+		verify(fileManagementService, never()).acquire(anyList(), any());
+	}
+
+	@Test
+	@DisplayName("이미지 수정 실패 (다른 요청이 먼저 사진 정보를 삭제)")
+	void updateImagesConcurrentlyDeletedFailTest() {
+		// Given
+		Post post = Post.builder().userAccount(UserAccount.builder().userId("testId").build()).build();
+		given(postImageRepository.findAllByPost(any()))
+				.willReturn(List.of(PostImage.builder().id(1L).post(post).fileName("image1.png").build()));
+		given(postImageRepository.deleteAllByIdIn(List.of(1L))).willReturn(0);
+
+		// When
+
+		// Then
+		assertThrows(PostUpdateException.class, () -> postService.updateImages(List.of(), post));
+		verify(postImageCleanupService, never()).deleteImages(anyList());
 	}
 
 	@Test
@@ -396,7 +547,7 @@ class PostServiceTest {
 
 		// Then
 		assertThrows(PostNotFoundException.class, () -> postService.deletePost(100L, "testId"));
-		verify(postRepository, never()).deleteById(100L);
+		verify(postRepository, never()).deleteCascade(100L);
 		verify(postImageRepository, never()).findAllByPost(any());
 		verify(fileManagementService, never()).deleteFile(anyList(), anyString());
 	}
@@ -412,7 +563,7 @@ class PostServiceTest {
 
 		// Then
 		assertThrows(UsernameNotFoundException.class, () -> postService.deletePost(100L, "testId"));
-		verify(postRepository, never()).deleteById(100L);
+		verify(postRepository, never()).deleteCascade(100L);
 		verify(postImageRepository, never()).findAllByPost(any());
 		verify(fileManagementService, never()).deleteFile(anyList(), anyString());
 	}
@@ -431,7 +582,7 @@ class PostServiceTest {
 
 		// Then
 		assertThrows(PostDeleteException.class, () -> postService.deletePost(100L, "testId1"));
-		verify(postRepository, never()).deleteById(100L);
+		verify(postRepository, never()).deleteCascade(100L);
 		verify(postImageRepository, never()).findAllByPost(any());
 		verify(fileManagementService, never()).deleteFile(anyList(), anyString());
 	}
@@ -445,58 +596,175 @@ class PostServiceTest {
 		given(commonCommunityService.findPost(any())).willReturn(post);
 		given(commonService.findUserAccount("testId", true)).willReturn(user);
 		given(postImageRepository.findAllByPost(any())).willReturn(List.of());
+		given(postRepository.deleteCascade(100L)).willReturn(List.of(1L, 2L));
 
 		// When
 
 		// Then
 		assertDoesNotThrow(() -> postService.deletePost(100L, "testId"));
-		verify(postRepository).deleteById(100L);
+		verify(postRepository).deleteCascade(100L); // 좋아요, 댓글, 사진, 공모전 정보를 함께 삭제했는지 확인
+		verify(postRepository, never()).deleteById(any());
+		verify(searchIndexService).removePost(100L);
+		verify(postFeedCacheService).evict(PostCategory.FREE_BOARD);
+		verify(trendingPostService).remove(post);
+		verify(viewHistoryService).deletePostHistory(100L);
+		verify(userActivityService).recount(List.of(1L, 2L)); // 작성자와 좋아요, 댓글 작성자의 카운터를 다시 세는지 확인
 		verify(postImageRepository).findAllByPost(post);
+		verify(postImageCleanupService, never()).deleteImages(anyList());
 		verify(fileManagementService, never()).deleteFile(anyList(), any());
+		verify(contestIndexService, never()).removeContest(any());
+		verify(searchResultCacheService, never()).evict(SearchTarget.CONTEST);
+	}
+
+	@Test
+	@DisplayName("공모전 게시글 삭제시 공모전 색인과 검색결과 캐시에서도 제거하는지 테스트")
+	void deleteContestPostTest() {
+		// Given
+		UserAccount user = UserAccount.builder().userId("testId").build();
+		Post post = Post.builder().title("제목").content("내용").userAccount(user).view(1L).postCategory(PostCategory.CONTEST_BOARD).build();
+		given(commonCommunityService.findPost(100L)).willReturn(post);
+		given(commonService.findUserAccount("testId", true)).willReturn(user);
+		given(postImageRepository.findAllByPost(any())).willReturn(List.of());
+		given(contestRepository.findByPostId(100L)).willReturn(Optional.of(Contest.builder().id(10L).build()));
+
+		// When
+		postService.deletePost(100L, "testId");
+
+		// Then
+		verify(postRepository).deleteCascade(100L);
+		verify(contestIndexService).removeContest(10L);
+		verify(searchResultCacheService).evict(SearchTarget.CONTEST);
+		verify(searchResultCacheService).evict(SearchTarget.POST);
 	}
 
 	@Test
-	@DisplayName("게시글 사진과 함께 삭제 테스트 (성공)")
+	@DisplayName("게시글 사진과 함께 삭제 테스트 (성공, 파일은 백그라운드에서 삭제)")
 	void deletePostWithImagesSuccessTest() {
 		// Given
 		UserAccount user = UserAccount.builder().userId("testId").build();
 		Post post = Post.builder().title("제목").content("내용").userAccount(user).view(1L).postCategory(PostCategory.FREE_BOARD).build();
 		given(commonCommunityService.findPost(100L)).willReturn(post);
 		given(commonService.findUserAccount("testId", true)).willReturn(user);
-		given(postImageRepository.findAllByPost(any())).willReturn(List.of(new PostImage()));
+		given(postImageRepository.findAllByPost(any()))
+				.willReturn(List.of(PostImage.builder().id(1L).fileName("image.png").build()));
+		given(postImageRepository.deleteAllByIdIn(List.of(1L))).willReturn(1);
 
 		// When
 
 		// Then
 		assertDoesNotThrow(() -> postService.deletePost(100L, "testId"));
-		verify(postRepository).deleteById(100L);
+		verify(postRepository).deleteCascade(100L);
 		verify(postImageRepository).findAllByPost(post);
-		verify(fileManagementService).deleteFile(anyList(), any());
+		verify(postImageCleanupService).deleteImages(List.of("image.png")); // 파일은 백그라운드에서 삭제
+		verify(fileManagementService, never()).deleteFile(anyList(), any());
+		verify(imageServingService, never()).evict(anyList());
+	}
+
+	@Test
+	@DisplayName("게시글 삭제 실패 (다른 요청이 먼저 삭제해 사진 정보가 없음)")
+	void deletePostConcurrentlyDeletedFailTest() {
+		// Given
+		UserAccount user = UserAccount.builder().userId("testId").build();
+		Post post = Post.builder().title("제목").content("내용").userAccount(user).view(1L).postCategory(PostCategory.FREE_BOARD).build();
+		given(commonCommunityService.findPost(100L)).willReturn(post);
+		given(commonService.findUserAccount("testId", true)).willReturn(user);
+		given(postImageRepository.findAllByPost(any()))
+				.willReturn(List.of(PostImage.builder().id(1L).fileName("image.png").build()));
+		given(postImageRepository.deleteAllByIdIn(List.of(1L))).willReturn(0);
+
+		// When
+
+		// Then
+		assertThrows(PostDeleteException.class, () -> postService.deletePost(100L, "testId"));
+		verify(postRepository, never()).deleteCascade(100L);
+		verify(postImageCleanupService, never()).deleteImages(anyList()); // 먼저 삭제한 요청만 참조 수를 줄인다.
+	}
+
+	@Test
+	@DisplayName("커서 기반 게시글 리스트 조회시 다음 커서를 만드는지 테스트")
+	void getPostResponseListByCursorTest() {
+		// Given
+		Post post1 = Post.builder().id(105L).title("제목").content("내용").view(1L).postCategory(PostCategory.FREE_BOARD).build();
+		Post post2 = Post.builder().id(104L).title("제목").content("내용").view(1L).postCategory(PostCategory.FREE_BOARD).build();
+		given(postRepository.findAllByIdLessThanOrderByIdDesc(Long.MAX_VALUE, PageRequest.of(0, 2)))
+				.willReturn(new SliceImpl<>(List.of(post1, post2), PageRequest.of(0, 2), true));
+		given(commonCommunityService.postListToPostResponseList(List.of(post1, post2))).willReturn(List.of());
+
+		// When
+		CursorResponse<PostResponse> result = postService.getPostResponseListByCursor(null, 2);
+
+		// Then
+		assertTrue(result.isHasNext());
+		assertEquals(104L, CursorResponse.decode(result.getNextCursor()));
+	}
+
+	@Test
+	@DisplayName("인기 게시글 리스트를 인기순으로 불러오고 삭제된 게시글은 제외하는지 테스트")
+	void getTrendingPostsTest() {
+		// Given
+		Post post1 = Post.builder().id(105L).title("제목").content("내용").view(1L).postCategory(PostCategory.FREE_BOARD).build();
+		Post post2 = Post.builder().id(101L).title("제목").content("내용").view(1L).postCategory(PostCategory.FREE_BOARD).build();
+		Pageable pageable = PageRequest.of(0, 3);
+		given(trendingPostService.findTrendingPostIds(PostCategory.FREE_BOARD, pageable)).willReturn(List.of(101L, 103L, 105L));
+		given(postRepository.findAllByIdIn(List.of(101L, 103L, 105L))).willReturn(List.of(post1, post2));
+		given(commonCommunityService.postListToPostResponseList(List.of(post2, post1))).willReturn(List.of());
+
+		// When
+		postService.getTrendingPosts(PostCategory.FREE_BOARD, pageable);
+
+		// Then
+		verify(commonCommunityService).postListToPostResponseList(List.of(post2, post1));
+	}
+
+	@Test
+	@DisplayName("인기 게시글이 없다면 데이터베이스를 조회하지 않는지 테스트")
+	void getTrendingPostsEmptyTest() {
+		// Given
+		Pageable pageable = PageRequest.of(0, 3);
+		given(trendingPostService.findTrendingPostIds(null, pageable)).willReturn(List.of());
+
+		// When
+		List<PostResponse> result = postService.getTrendingPosts(null, pageable);
+
+		// Then
+		assertTrue(result.isEmpty());
+		verify(postRepository, never()).findAllByIdIn(any());
 	}
 
 	@Test
-	@DisplayName("저장된 이미지 조회 실패")
-	void getImageResourceFailTest() {
+	@DisplayName("로그인한 회원이라면 게시글 리스트의 좋아요 상태를 한번에 채우는지 테스트")
+	void getPostResponseListIsLikedTest() {
 		// Given
-		given(postImageRepository.existsByFileName(any())).willReturn(false);
+		Pageable pageable = PageRequest.of(0, 15);
+		PostResponse post1 = PostResponse.builder().postId(101L).isLiked(false).build();
+		PostResponse post2 = PostResponse.builder().postId(100L).isLiked(false).build();
+		given(postFeedCacheService.getPage(eq(null), eq(pageable), any())).willReturn(List.of(post1, post2));
+		given(commonService.findAuthenticatedUserAccountId()).willReturn(Optional.of(1L));
+		given(postLikeCacheService.findLikedPostIds(1L, List.of(101L, 100L))).willReturn(Set.of(100L));
 
 		// When
+		List<PostResponse> result = postService.getPostResponseList(pageable);
 
 		// Then
-		assertThrows(MalformedURLException.class, () -> postService.getImageResource("test.png"));
+		assertFalse(result.get(0).getIsLiked());
+		assertTrue(result.get(1).getIsLiked());
+		verify(postLikeCacheService, never()).isLiked(any(), any());
 	}
 
 	@Test
-	@DisplayName("저장된 이미지 조회 성공")
-	void getImageResourceSuccessTest() throws MalformedURLException {
+	@DisplayName("로그인하지 않았다면 게시글 리스트의 좋아요 상태를 확인하지 않는지 테스트")
+	void getPostResponseListAnonymousTest() {
 		// Given
-		given(postImageRepository.existsByFileName(any())).willReturn(true);
-		UrlResource urlResource = new UrlResource("file:" + IMAGES_PATH + "test.png");
+		Pageable pageable = PageRequest.of(0, 15);
+		PostResponse post1 = PostResponse.builder().postId(101L).isLiked(false).build();
+		given(postFeedCacheService.getPage(eq(null), eq(pageable), any())).willReturn(List.of(post1));
+		given(commonService.findAuthenticatedUserAccountId()).willReturn(Optional.empty());
 
 		// When
-		UrlResource result = postService.getImageResource("test.png");
+		List<PostResponse> result = postService.getPostResponseList(pageable);
 
 		// Then
-		assertEquals(urlResource, result);
+		assertFalse(result.get(0).getIsLiked());
+		verify(postLikeCacheService, never()).findLikedPostIds(any(), any());
 	}
 }
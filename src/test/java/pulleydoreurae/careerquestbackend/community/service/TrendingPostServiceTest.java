@@ -0,0 +1,111 @@
+package pulleydoreurae.careerquestbackend.community.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("인기 게시글 Service 테스트")
+class TrendingPostServiceTest {
+
+	@InjectMocks
+	TrendingPostService trendingPostService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+
+	@Test
+	@DisplayName("페이지에 해당하는 순위를 한번에 조회하는지 테스트")
+	void findTrendingPostIdsTest() {
+		// Given
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(zSetOperations.reverseRange("trending:posts:FREE_BOARD", 10, 19))
+				.willReturn(new LinkedHashSet<>(List.of("105", "101", "103")));
+
+		// When
+		List<Long> result = trendingPostService.findTrendingPostIds(PostCategory.FREE_BOARD, PageRequest.of(1, 10));
+
+		// Then
+		assertEquals(List.of(105L, 101L, 103L), result);
+	}
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없다면 빈 리스트를 반환하는지 테스트")
+	void findTrendingPostIdsFailTest() {
+		// Given
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(zSetOperations.reverseRange(TrendingPostService.GLOBAL_KEY, 0, 14))
+				.willThrow(new RedisConnectionFailureException("연결 실패"));
+
+		// When
+		List<Long> result = trendingPostService.findTrendingPostIds(null, PageRequest.of(0, 15));
+
+		// Then
+		assertTrue(result.isEmpty());
+	}
+
+	@Test
+	@DisplayName("전체와 카테고리 목록에 좋아요 가중치를 더하는지 테스트")
+	void recordLikeTest() {
+		// Given
+		Post post = Post.builder().id(100L).postCategory(PostCategory.FREE_BOARD).build();
+
+		// When
+		trendingPostService.recordLike(post, true);
+
+		// Then
+		verify(redisTemplate).execute(any(RedisScript.class),
+				eq(List.of("trending:posts:epoch", TrendingPostService.GLOBAL_KEY, "trending:posts:FREE_BOARD")),
+				eq("100"), eq(String.valueOf(TrendingPostService.LIKE_WEIGHT)), anyString(),
+				eq(String.valueOf(TrendingPostService.HALF_LIFE_MILLIS)));
+	}
+
+	@Test
+	@DisplayName("좋아요 취소는 점수에 반영하지 않는지 테스트")
+	void recordUnlikeTest() {
+		// Given
+		Post post = Post.builder().id(100L).postCategory(PostCategory.FREE_BOARD).build();
+
+		// When
+		trendingPostService.recordLike(post, false);
+
+		// Then
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("점수 반영에 실패해도 예외를 던지지 않는지 테스트")
+	void recordFailTest() {
+		// Given
+		Post post = Post.builder().id(100L).postCategory(PostCategory.FREE_BOARD).build();
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+				.willThrow(new RedisConnectionFailureException("연결 실패"));
+
+		// When
+
+		// Then
+		assertDoesNotThrow(() -> trendingPostService.recordView(post));
+	}
+}
@@ -0,0 +1,175 @@
+package pulleydoreurae.careerquestbackend.notification.controller;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import pulleydoreurae.careerquestbackend.common.dto.response.CursorResponse;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.domain.dto.response.NotificationResponse;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@WebMvcTest(NotificationController.class)
+@AutoConfigureRestDocs
+class NotificationControllerTest {
+
+	@Autowired
+	MockMvc mockMvc;
+	@MockBean
+	NotificationService notificationService;
+
+	@Test
+	@DisplayName("알림 목록 조회 테스트")
+	@WithMockUser
+	void findNotificationsTest() throws Exception {
+		// Given
+		NotificationResponse notification1 = NotificationResponse.builder().notificationId(11L)
+				.type(NotificationType.POST_LIKE).targetId(100L).actorCount(12L).lastActorId("testId2")
+				.message("testId2 님 외 11명이 게시글에 좋아요를 눌렀습니다.").isRead(false)
+				.createdAt("2026.10.17 12:00").modifiedAt("2026.10.17 12:30").build();
+		NotificationResponse notification2 = NotificationResponse.builder().notificationId(10L)
+				.type(NotificationType.COMMENT).targetId(100L).actorCount(1L).lastActorId("testId3")
+				.message("testId3 님이 게시글에 댓글을 남겼습니다.").isRead(true)
+				.createdAt("2026.10.17 11:00").modifiedAt("2026.10.17 11:00").build();
+		given(notificationService.findNotifications("testId", null, 2))
+				.willReturn(new CursorResponse<>(List.of(notification1, notification2), "MTA", true));
+
+		// When
+		mockMvc.perform(
+						get("/api/notifications/{userId}", "testId")
+								.queryParam("limit", "2")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].notificationId").value(11L))
+				.andExpect(jsonPath("$.hasNext").value(true))
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters(
+								parameterWithName("userId").description("회원 아이디")
+						),
+						queryParameters(
+								parameterWithName("limit").description("조회할 개수 (기본값 15, 최대 100)")
+						),
+						responseFields(
+								fieldWithPath("content[].notificationId").description("알림 id"),
+								fieldWithPath("content[].type").description("알림 종류 (COMMENT, POST_LIKE, REVIEW_LIKE, TEAM_JOIN)"),
+								fieldWithPath("content[].targetId").description("게시글, 후기, 팀 id"),
+								fieldWithPath("content[].actorCount").description("읽기 전까지 합쳐진 알림 횟수"),
+								fieldWithPath("content[].lastActorId").description("마지막으로 알림을 발생시킨 회원 아이디"),
+								fieldWithPath("content[].message").description("알림 메시지"),
+								fieldWithPath("content[].isRead").description("읽음 여부"),
+								fieldWithPath("content[].createdAt").description("처음 발생한 시간"),
+								fieldWithPath("content[].modifiedAt").description("마지막으로 발생한 시간"),
+								fieldWithPath("nextCursor").description("다음 요청에 사용할 커서 (cursor 파라미터로 전달, 더 없다면 null)"),
+								fieldWithPath("hasNext").description("다음 내용 존재 여부")
+						)));
+
+		// Then
+		verify(notificationService).findNotifications("testId", null, 2);
+	}
+
+	@Test
+	@DisplayName("읽지 않은 알림 수 조회 테스트")
+	@WithMockUser
+	void countUnreadTest() throws Exception {
+		// Given
+		given(notificationService.countUnread("testId")).willReturn(3L);
+
+		// When
+		mockMvc.perform(
+						get("/api/notifications/{userId}/unread-count", "testId")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.unreadCount").value(3L))
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters(
+								parameterWithName("userId").description("회원 아이디")
+						),
+						responseFields(
+								fieldWithPath("unreadCount").description("읽지 않은 알림 수")
+						)));
+
+		// Then
+		verify(notificationService).countUnread("testId");
+	}
+
+	@Test
+	@DisplayName("모든 알림 읽음 처리 테스트")
+	@WithMockUser
+	void markAllAsReadTest() throws Exception {
+		// Given
+
+		// When
+		mockMvc.perform(
+						patch("/api/notifications/{userId}/read", "testId")
+								.with(csrf()))
+				.andExpect(status().isOk())
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters(
+								parameterWithName("userId").description("회원 아이디")
+						),
+						responseFields(
+								fieldWithPath("msg").description("처리 결과")
+						)));
+
+		// Then
+		verify(notificationService).markAllAsRead("testId");
+	}
+
+	@Test
+	@DisplayName("알림 읽음 처리 실패 테스트 (알림을 찾을 수 없음)")
+	@WithMockUser
+	void markAsReadFailTest() throws Exception {
+		// Given
+		willThrow(new IllegalArgumentException("알림 정보를 찾을 수 없습니다."))
+				.given(notificationService).markAsRead("testId", 100L);
+
+		// When
+		mockMvc.perform(
+						patch("/api/notifications/{userId}/{notificationId}/read", "testId", 100L)
+								.with(csrf()))
+				.andExpect(status().isBadRequest())
+				.andDo(print())
+				.andDo(document("{class-name}/{method-name}/",
+						preprocessRequest(prettyPrint()),
+						preprocessResponse(prettyPrint()),
+						pathParameters(
+								parameterWithName("userId").description("회원 아이디"),
+								parameterWithName("notificationId").description("알림 id")
+						),
+						responseFields(
+								fieldWithPath("msg").description("처리 결과")
+						)));
+
+		// Then
+	}
+}
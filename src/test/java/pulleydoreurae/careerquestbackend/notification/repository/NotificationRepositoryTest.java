@@ -0,0 +1,131 @@
+package pulleydoreurae.careerquestbackend.notification.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import jakarta.persistence.EntityManager;
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.auth.repository.UserAccountRepository;
+import pulleydoreurae.careerquestbackend.config.QueryDSLConfig;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.domain.entity.Notification;
+import pulleydoreurae.careerquestbackend.notification.repository.NotificationRepositoryCustom.Event;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@DataJpaTest
+@DisplayName("알림 Repository 테스트")
+@Import(QueryDSLConfig.class)
+class NotificationRepositoryTest {
+
+	@Autowired
+	NotificationRepository notificationRepository;
+	@Autowired
+	UserAccountRepository userAccountRepository;
+	@Autowired
+	EntityManager em;
+
+	@Test
+	@DisplayName("읽지 않은 같은 알림은 합치고 없는 알림만 새로 넣으며 같은 회원은 한명으로 세는지 테스트")
+	void applyEventsTest() {
+		// Given
+		UserAccount user = userAccountRepository.save(UserAccount.builder().userId("testId").build());
+		em.flush();
+		notificationRepository.applyEvents(List.of(new Event(user.getId(), NotificationType.POST_LIKE, 100L,
+				List.of("a", "b"), "b")));
+
+		// When
+		List<Event> inserted = notificationRepository.applyEvents(List.of(
+				new Event(user.getId(), NotificationType.POST_LIKE, 100L, List.of("a", "c", "b"), "b"),
+				new Event(user.getId(), NotificationType.COMMENT, 100L, List.of("c"), "c")));
+		em.clear();
+
+		// Then
+		List<Notification> result = notificationRepository.findAllByUserAccountIdAndIdLessThanOrderByIdDesc(
+				user.getId(), Long.MAX_VALUE, PageRequest.of(0, 10)).getContent();
+		assertAll(
+				() -> assertEquals(1, inserted.size()),
+				() -> assertEquals(NotificationType.COMMENT, inserted.get(0).type()),
+				() -> assertEquals(2, result.size()),
+				() -> assertEquals(NotificationType.POST_LIKE, result.get(1).getType()),
+				() -> assertEquals(3L, result.get(1).getActorCount()),
+				() -> assertEquals(1L, result.get(0).getActorCount()),
+				() -> assertEquals("b", result.get(1).getLastActorId()),
+				() -> assertEquals(2L, notificationRepository.countByUserAccountIdAndIsReadFalse(user.getId()))
+		);
+	}
+
+	@Test
+	@DisplayName("읽은 알림은 합치지 않고 새로 넣는지 테스트")
+	void applyEventsAfterReadTest() {
+		// Given
+		UserAccount user = userAccountRepository.save(UserAccount.builder().userId("testId").build());
+		em.flush();
+		notificationRepository.applyEvents(List.of(new Event(user.getId(), NotificationType.POST_LIKE, 100L,
+				List.of("a", "b"), "b")));
+		notificationRepository.markAllAsRead(user.getId());
+		int deleted = notificationRepository.deleteActorsOfRead(user.getId());
+
+		// When
+		List<Event> inserted = notificationRepository.applyEvents(
+				List.of(new Event(user.getId(), NotificationType.POST_LIKE, 100L, List.of("b"), "b")));
+		em.clear();
+
+		// Then
+		assertEquals(2, deleted);
+		assertEquals(1, inserted.size());
+		assertEquals(1L, notificationRepository.findAllByUserAccountIdAndIdLessThanOrderByIdDesc(user.getId(),
+				Long.MAX_VALUE, PageRequest.of(0, 10)).getContent().get(0).getActorCount());
+		assertEquals(1L, notificationRepository.countByUserAccountIdAndIsReadFalse(user.getId()));
+		assertEquals(2L, notificationRepository.count());
+	}
+
+	@Test
+	@DisplayName("탈퇴한 회원의 알림은 넣지 않는지 테스트")
+	void applyEventsUnknownUserTest() {
+		// Given
+
+		// When
+		List<Event> inserted = notificationRepository.applyEvents(
+				List.of(new Event(10000L, NotificationType.TEAM_JOIN, 1L, List.of("a"), "a")));
+
+		// Then
+		assertTrue(inserted.isEmpty());
+		assertEquals(0L, notificationRepository.count());
+	}
+
+	@Test
+	@DisplayName("다른 회원의 알림은 읽음 처리하지 않는지 테스트")
+	void markAsReadTest() {
+		// Given
+		UserAccount user = userAccountRepository.save(UserAccount.builder().userId("testId").build());
+		UserAccount user2 = userAccountRepository.save(UserAccount.builder().userId("testId2").build());
+		em.flush();
+		notificationRepository.applyEvents(List.of(new Event(user.getId(), NotificationType.COMMENT, 100L,
+				List.of("a"), "a")));
+		Slice<Notification> notifications = notificationRepository.findAllByUserAccountIdAndIdLessThanOrderByIdDesc(
+				user.getId(), Long.MAX_VALUE, PageRequest.of(0, 10));
+		Long id = notifications.getContent().get(0).getId();
+
+		// When
+		int other = notificationRepository.markAsRead(id, user2.getId());
+		int mine = notificationRepository.markAsRead(id, user.getId());
+		em.clear();
+
+		// Then
+		assertEquals(0, other);
+		assertEquals(1, mine);
+		assertEquals(0L, notificationRepository.countByUserAccountIdAndIsReadFalse(user.getId()));
+	}
+}
@@ -0,0 +1,215 @@
+package pulleydoreurae.careerquestbackend.notification.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
+import pulleydoreurae.careerquestbackend.common.service.CommonService;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.repository.NotificationRepository;
+import pulleydoreurae.careerquestbackend.notification.repository.NotificationRepositoryCustom.Event;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("알림 Service 테스트")
+class NotificationServiceTest {
+
+	@InjectMocks
+	NotificationService notificationService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	NotificationRepository notificationRepository;
+	@Mock
+	CommonService commonService;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+	@Mock
+	HashOperations<String, Object, Object> hashOperations;
+
+	@Test
+	@DisplayName("받는 회원, 종류, 대상별로 반영 대기 hash 에 남기는지 테스트")
+	void notifyTest() {
+		// Given
+		UserAccount actor = UserAccount.builder().id(2L).userId("actorId").build();
+
+		// When
+		notificationService.notify(1L, NotificationType.POST_LIKE, 100L, actor);
+
+		// Then
+		verify(redisTemplate).execute(any(RedisScript.class),
+				eq(List.of(NotificationService.PENDING_KEY, NotificationService.PENDING_ACTOR_KEY)),
+				eq("1:POST_LIKE:100"), eq("actorId"));
+	}
+
+	@Test
+	@DisplayName("자기 자신이 발생시킨 알림은 남기지 않는지 테스트")
+	void notifySelfTest() {
+		// Given
+		UserAccount actor = UserAccount.builder().id(1L).userId("testId").build();
+
+		// When
+		notificationService.notify(1L, NotificationType.COMMENT, 100L, actor);
+
+		// Then
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
+		verify(notificationRepository, never()).applyEvents(any());
+	}
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없다면 데이터베이스에 바로 저장하고 읽지 않은 알림 수를 지우는지 테스트")
+	void notifyFallbackTest() {
+		// Given
+		UserAccount actor = UserAccount.builder().id(2L).userId("actorId").build();
+		Event event = new Event(1L, NotificationType.TEAM_JOIN, 100L, List.of("actorId"), "actorId");
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+				.willThrow(new RedisConnectionFailureException("연결 실패"));
+		given(notificationRepository.applyEvents(List.of(event))).willReturn(List.of(event));
+
+		// When
+		notificationService.notify(1L, NotificationType.TEAM_JOIN, 100L, actor);
+
+		// Then
+		verify(notificationRepository).applyEvents(List.of(event));
+		verify(redisTemplate).delete(List.of("notifications:unread:1"));
+	}
+
+	@Test
+	@DisplayName("모아둔 알림을 회원별로 한번에 반영하고 새 알림을 받은 회원의 읽지 않은 알림 수를 지우는지 테스트")
+	void flushTest() {
+		// Given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+		given(redisTemplate.execute(any(RedisScript.class), anyList())).willReturn(1L);
+		given(hashOperations.keys(NotificationService.FLUSHING_KEY)).willReturn(
+				new LinkedHashSet<>(List.of("1:POST_LIKE:100:a", "1:POST_LIKE:100:b", "2:COMMENT:7:x:y")));
+		given(hashOperations.entries(NotificationService.FLUSHING_ACTOR_KEY))
+				.willReturn(Map.of("1:POST_LIKE:100", "b", "2:COMMENT:7", "x:y"));
+		Event like = new Event(1L, NotificationType.POST_LIKE, 100L, List.of("a", "b"), "b");
+		Event comment = new Event(2L, NotificationType.COMMENT, 7L, List.of("x:y"), "x:y");
+		given(notificationRepository.applyEvents(List.of(like, comment))).willReturn(List.of(like));
+
+		// When
+		notificationService.flush();
+
+		// Then
+		verify(redisTemplate).delete(List.of(NotificationService.FLUSHING_KEY, NotificationService.FLUSHING_ACTOR_KEY));
+		verify(redisTemplate).delete(List.of("notifications:unread:1"));
+		ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations).setIfAbsent(eq("notifications:flush-lock"), token.capture(), any(Duration.class));
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("notifications:flush-lock")), eq(token.getValue()));
+		verify(redisTemplate, never()).delete("notifications:flush-lock");
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 다음 주기에 다시 반영하도록 남겨두는지 테스트")
+	void flushFailTest() {
+		// Given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+		given(redisTemplate.execute(any(RedisScript.class), anyList())).willReturn(1L);
+		given(hashOperations.keys(NotificationService.FLUSHING_KEY)).willReturn(Set.of("1:COMMENT:100:a"));
+		given(hashOperations.entries(NotificationService.FLUSHING_ACTOR_KEY)).willReturn(Map.of("1:COMMENT:100", "a"));
+		willThrow(new IllegalStateException("반영 실패")).given(notificationRepository).applyEvents(any());
+
+		// When
+		notificationService.flush();
+
+		// Then
+		verify(redisTemplate, never()).delete(anyList());
+		ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations).setIfAbsent(eq("notifications:flush-lock"), token.capture(), any(Duration.class));
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("notifications:flush-lock")), eq(token.getValue()));
+		verify(redisTemplate, never()).delete("notifications:flush-lock");
+	}
+
+	@Test
+	@DisplayName("읽지 않은 알림 수가 Redis 에 없다면 데이터베이스에서 세어 저장하는지 테스트")
+	void countUnreadTest() {
+		// Given
+		UserAccount user = UserAccount.builder().id(1L).userId("testId").build();
+		given(commonService.findUserAccount("testId", true)).willReturn(user);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("notifications:unread:1")).willReturn(null);
+		given(notificationRepository.countByUserAccountIdAndIsReadFalse(1L)).willReturn(3L);
+
+		// When
+		Long result = notificationService.countUnread("testId");
+
+		// Then
+		assertEquals(3L, result);
+		verify(valueOperations).set(eq("notifications:unread:1"), eq("3"), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("읽지 않은 알림 수를 Redis 에서 바로 반환하는지 테스트")
+	void countUnreadCachedTest() {
+		// Given
+		UserAccount user = UserAccount.builder().id(1L).userId("testId").build();
+		given(commonService.findUserAccount("testId", true)).willReturn(user);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("notifications:unread:1")).willReturn("5");
+
+		// When
+		Long result = notificationService.countUnread("testId");
+
+		// Then
+		assertEquals(5L, result);
+		verify(notificationRepository, never()).countByUserAccountIdAndIsReadFalse(any());
+	}
+
+	@Test
+	@DisplayName("다른 회원의 알림을 읽음 처리하면 예외가 발생하는지 테스트")
+	void markAsReadFailTest() {
+		// Given
+		UserAccount user = UserAccount.builder().id(1L).userId("testId").build();
+		given(commonService.findUserAccount("testId", true)).willReturn(user);
+		given(notificationRepository.markAsRead(100L, 1L)).willReturn(0);
+
+		// When
+
+		// Then
+		assertThrows(IllegalArgumentException.class, () -> notificationService.markAsRead("testId", 100L));
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	@DisplayName("모든 알림을 읽음 처리하면 읽지 않은 알림 수를 다시 세도록 지우는지 테스트")
+	void markAllAsReadTest() {
+		// Given
+		UserAccount user = UserAccount.builder().id(1L).userId("testId").build();
+		given(commonService.findUserAccount("testId", true)).willReturn(user);
+
+		// When
+		notificationService.markAllAsRead("testId");
+
+		// Then
+		verify(notificationRepository).markAllAsRead(1L);
+		verify(notificationRepository).deleteActorsOfRead(1L);
+		verify(redisTemplate).delete("notifications:unread:1");
+	}
+}
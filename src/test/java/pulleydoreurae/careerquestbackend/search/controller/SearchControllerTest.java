@@ -33,8 +33,11 @@ import pulleydoreurae.careerquestbackend.community.domain.dto.response.ContestRe
 import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Contest;
 import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+import pulleydoreurae.careerquestbackend.search.domain.AutocompleteType;
+import pulleydoreurae.careerquestbackend.search.domain.response.AutocompleteResponse;
 import pulleydoreurae.careerquestbackend.search.domain.response.SearchRankResponse;
 import pulleydoreurae.careerquestbackend.search.domain.response.SearchResultResponse;
+import pulleydoreurae.careerquestbackend.search.service.AutocompleteService;
 import pulleydoreurae.careerquestbackend.search.service.SearchService;
 import pulleydoreurae.careerquestbackend.team.domain.TeamType;
 import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamResponse;
@@ -50,6 +53,9 @@ public class SearchControllerTest {
 	@MockBean
 	private SearchService searchService;
 
+	@MockBean
+	private AutocompleteService autocompleteService;
+
 	@Test
 	@DisplayName("실시간 검색어 불러오기")
 	@WithMockUser
@@ -221,5 +227,40 @@ public class SearchControllerTest {
 		// Then
 	}
 
-	
+	@Test
+	@DisplayName("검색어 자동완성 성공")
+	@WithMockUser
+	void autocompleteSuccess() throws Exception {
+		// Given
+		List<AutocompleteResponse> responses = List.of(
+			AutocompleteResponse.builder().keyword("정보처리기사").type(AutocompleteType.CERTIFICATION).build(),
+			AutocompleteResponse.builder().keyword("정보처리기사 스터디").type(AutocompleteType.TEAM).build(),
+			AutocompleteResponse.builder().keyword("정보보안기사").type(AutocompleteType.KEYWORD).build()
+		);
+
+		given(autocompleteService.suggest("정보", 3)).willReturn(responses);
+
+		// When
+		mockMvc.perform(
+				get("/api/search/autocomplete")
+					.queryParam("keyword", "정보")
+					.queryParam("limit", "3")
+					.with(csrf()))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].keyword").value("정보처리기사"))
+			.andDo(print())
+			.andDo(document("{class-name}/{method-name}/",
+				preprocessRequest(prettyPrint()),
+				preprocessResponse(prettyPrint()),
+				queryParameters(
+					parameterWithName("keyword").description("입력중인 검색어"),
+					parameterWithName("limit").description("최대 개수 (기본 10개, 최대 10개)").optional()
+				),
+				responseFields(
+					fieldWithPath(".[]keyword").description("자동완성 검색어"),
+					fieldWithPath(".[]type").description("검색어 출처 (KEYWORD, CERTIFICATION, TECH_STACK, TEAM)")
+				)));
+
+		// Then
+	}
 }
@@ -0,0 +1,150 @@
+package pulleydoreurae.careerquestbackend.search.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import pulleydoreurae.careerquestbackend.search.index.AutocompleteIndex.Suggestion;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@DisplayName("자동완성 색인 테스트")
+class AutocompleteIndexTest {
+
+	AutocompleteIndex index = new AutocompleteIndex();
+
+	@Test
+	@DisplayName("접두어로 시작하는 검색어를 인기 점수 순으로 찾는지 테스트")
+	void searchRankTest() {
+		// Given
+		index.put("CERTIFICATION:1", "CERTIFICATION", "정보처리기사", "정보처리기사");
+		index.put("CERTIFICATION:2", "CERTIFICATION", "정보보안기사", "정보보안기사");
+		index.put("CERTIFICATION:3", "CERTIFICATION", "정보처리산업기사", "정보처리산업기사");
+		index.put("CERTIFICATION:4", "CERTIFICATION", "전기기사", "전기기사");
+		index.updateScores(Map.of("정보보안기사", 5.0, "정보처리산업기사", 3.0));
+
+		// When
+		List<Suggestion> result = index.search("정보", 10);
+
+		// Then
+		assertEquals(List.of("정보보안기사", "정보처리산업기사", "정보처리기사"),
+				result.stream().map(Suggestion::keyword).toList());
+	}
+
+	@Test
+	@DisplayName("띄어쓰기 뒤의 단어로도 찾고 같은 검색어는 하나로 합치는지 테스트")
+	void searchWordAndMergeTest() {
+		// Given
+		index.put("TECH_STACK:1", "TECH_STACK", "spring boot", "Spring Boot");
+		index.put("TEAM:1", "TEAM", "spring boot", "spring boot");
+		index.put("TEAM:2", "TEAM", "boot camp", "boot camp");
+
+		// When
+		List<Suggestion> result = index.search("boot", 10);
+
+		// Then
+		assertEquals(2, result.size());
+		assertEquals(new Suggestion("boot camp", "TEAM", 0), result.get(0));
+		assertEquals(new Suggestion("Spring Boot", "TECH_STACK", 0), result.get(1));
+	}
+
+	@Test
+	@DisplayName("출처가 모두 제거된 검색어만 찾지 않는지 테스트")
+	void removeTest() {
+		// Given
+		index.put("TECH_STACK:1", "TECH_STACK", "java", "Java");
+		index.put("KEYWORD:java", "KEYWORD", "java", "java");
+		index.put("TEAM:1", "TEAM", "javascript 스터디", "JavaScript 스터디");
+
+		// When
+		index.remove("TECH_STACK:1");
+		index.remove("TEAM:1");
+
+		// Then
+		assertEquals(List.of(new Suggestion("java", "KEYWORD", 0)), index.search("ja", 10));
+		assertEquals(1, index.size());
+	}
+
+	@Test
+	@DisplayName("이름이 바뀌면 이전 검색어를 제거하는지 테스트")
+	void putReplaceTest() {
+		// Given
+		index.put("TEAM:1", "TEAM", "알고리즘 스터디", "알고리즘 스터디");
+
+		// When
+		index.put("TEAM:1", "TEAM", "코딩테스트 스터디", "코딩테스트 스터디");
+
+		// Then
+		assertTrue(index.search("알고", 10).isEmpty());
+		assertEquals(1, index.search("코딩", 10).size());
+		assertEquals(1, index.search("스터디", 10).size());
+	}
+
+	@Test
+	@DisplayName("한번에 교체하면 목록에 없는 출처만 제거하는지 테스트")
+	void replaceAllTest() {
+		// Given
+		index.put("CERTIFICATION:1", "CERTIFICATION", "정보처리기사", "정보처리기사");
+		index.put("CERTIFICATION:2", "CERTIFICATION", "정보보안기사", "정보보안기사");
+		index.put("TEAM:1", "TEAM", "정보처리기사 스터디", "정보처리기사 스터디");
+
+		// When
+		index.replaceAll("CERTIFICATION", "CERTIFICATION:",
+				Map.of("CERTIFICATION:1", "정보처리기사", "CERTIFICATION:3", "정보통신기사"),
+				Map.of("CERTIFICATION:1", "정보처리기사", "CERTIFICATION:3", "정보통신기사"));
+
+		// Then
+		assertEquals(List.of("정보처리기사", "정보통신기사", "정보처리기사 스터디"),
+				index.search("정보", 10).stream().map(Suggestion::keyword).toList());
+	}
+
+	@Test
+	@DisplayName("한번에 교체할 때 추가, 제거되거나 검색어가 바뀐 출처만 세는지 테스트")
+	void replaceAllChangesTest() {
+		// Given
+		index.replaceAll("TEAM", "TEAM:",
+				Map.of("TEAM:1", "자바 스터디", "TEAM:2", "알고리즘 스터디"),
+				Map.of("TEAM:1", "자바 스터디", "TEAM:2", "알고리즘 스터디"));
+
+		// When
+		int changes = index.replaceAll("TEAM", "TEAM:",
+				Map.of("TEAM:1", "자바 스터디", "TEAM:3", "스프링 스터디"),
+				Map.of("TEAM:1", "자바  스터디", "TEAM:3", "스프링 스터디"));
+
+		// Then
+		assertEquals(2, changes);
+		assertEquals(List.of("자바  스터디", "스프링 스터디"),
+				index.search("스", 10).stream().map(Suggestion::keyword).toList());
+	}
+
+	@Test
+	@DisplayName("점수가 내려가면 순위 밖에 있던 검색어가 다시 포함되는지 테스트")
+	void updateScoresTest() {
+		// Given
+		Map<String, Double> scores = new HashMap<>();
+		for (int i = 0; i < AutocompleteIndex.MAX_SUGGESTIONS + 1; i++) {
+			index.put("TEAM:" + i, "TEAM", "스터디" + i, "스터디" + i);
+			scores.put("스터디" + i, (double)(100 - i));
+		}
+		index.updateScores(scores);
+		String last = "스터디" + AutocompleteIndex.MAX_SUGGESTIONS;
+		assertFalse(index.search("스터디", 10).stream().anyMatch(s -> s.keyword().equals(last)));
+
+		// When
+		scores.put("스터디0", 0.0);
+		index.updateScores(scores);
+
+		// Then
+		List<Suggestion> result = index.search("스터디", 10);
+		assertEquals(AutocompleteIndex.MAX_SUGGESTIONS, result.size());
+		assertEquals(last, result.get(result.size() - 1).keyword());
+		assertTrue(index.search("스터디0", 10).size() == 1);
+	}
+}
@@ -0,0 +1,115 @@
+package pulleydoreurae.careerquestbackend.search.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@DisplayName("검색 역색인 테스트")
+class InvertedIndexTest {
+
+	InvertedIndex index = new InvertedIndex();
+
+	@Test
+	@DisplayName("조사가 붙은 단어도 부분 일치로 검색되는지 테스트")
+	void searchKoreanTest() {
+		// Given
+		index.put(1L, "FREE_BOARD", "정보처리기사 합격 후기", "자격증을 따기까지");
+		index.put(2L, "FREE_BOARD", "오늘 점심", "자격 증명사진 찍음");
+		index.put(3L, "FREE_BOARD", "제목", "내용");
+
+		// When
+		Page<Long> result = index.search("자격증", null, PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(List.of(1L), result.getContent());
+	}
+
+	@Test
+	@DisplayName("제목에 나온 문서가 더 높은 순위로 검색되는지 테스트")
+	void searchRankTest() {
+		// Given
+		index.put(1L, "FREE_BOARD", "질문", "스프링 시큐리티 설정이 궁금합니다");
+		index.put(2L, "FREE_BOARD", "스프링 시큐리티 질문", "설정이 궁금합니다");
+		index.put(3L, "FREE_BOARD", "질문", "스프링 부트 설정");
+
+		// When
+		Page<Long> result = index.search("시큐리티", null, PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(List.of(2L, 1L), result.getContent());
+	}
+
+	@Test
+	@DisplayName("필터와 페이지가 적용되는지 테스트")
+	void searchFilterAndPageTest() {
+		// Given
+		for (long i = 1; i <= 5; i++) {
+			index.put(i, i % 2 == 0 ? "QNA_BOARD" : "FREE_BOARD", "검색어", "내용");
+		}
+
+		// When
+		Page<Long> result = index.search("검색어", "FREE_BOARD", PageRequest.of(0, 2));
+
+		// Then
+		assertEquals(3, result.getTotalElements());
+		assertEquals(2, result.getTotalPages());
+		assertEquals(List.of(5L, 3L), result.getContent()); // 점수가 같다면 최신 글 먼저
+	}
+
+	@Test
+	@DisplayName("수정, 삭제가 색인에 반영되는지 테스트")
+	void updateAndRemoveTest() {
+		// Given
+		index.put(1L, "FREE_BOARD", "Spring", "내용");
+		index.put(2L, "FREE_BOARD", "Spring", "내용");
+
+		// When
+		index.put(1L, "FREE_BOARD", "JPA", "내용");
+		index.remove(2L);
+
+		// Then
+		assertTrue(index.search("spring", null, PageRequest.of(0, 10)).isEmpty());
+		assertThat(index.search("ＪＰＡ", null, PageRequest.of(0, 10)).getContent()).containsExactly(1L);
+		assertEquals(1, index.size());
+	}
+
+	@Test
+	@DisplayName("한 글자 검색어와 빈 검색어 테스트")
+	void searchShortKeywordTest() {
+		// Given
+		index.put(1L, "FREE_BOARD", "C 언어", "포인터");
+
+		// When
+
+		// Then
+		assertEquals(List.of(1L), index.search("c", null, PageRequest.of(0, 10)).getContent());
+		assertTrue(index.search(" ", null, PageRequest.of(0, 10)).isEmpty());
+	}
+
+	@Test
+	@DisplayName("색인된 문서 id 를 복사해서 반환하는지 테스트")
+	void idsTest() {
+		// Given
+		index.put(1L, "FREE_BOARD", "제목", "내용");
+		index.put(2L, "FREE_BOARD", "제목", "내용");
+
+		// When
+		Set<Long> result = index.ids();
+		index.remove(1L);
+
+		// Then
+		assertEquals(Set.of(1L, 2L), result);
+		assertEquals(Set.of(2L), index.ids());
+	}
+}
@@ -0,0 +1,186 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import pulleydoreurae.careerquestbackend.auth.domain.entity.TechnologyStack;
+import pulleydoreurae.careerquestbackend.auth.repository.TechnologyStackRepository;
+import pulleydoreurae.careerquestbackend.certification.domain.entity.Certification;
+import pulleydoreurae.careerquestbackend.certification.repository.CertificationRepository;
+import pulleydoreurae.careerquestbackend.certification.service.CertificationIndexService;
+import pulleydoreurae.careerquestbackend.common.service.IndexSyncService;
+import pulleydoreurae.careerquestbackend.search.domain.AutocompleteType;
+import pulleydoreurae.careerquestbackend.search.domain.response.AutocompleteResponse;
+import pulleydoreurae.careerquestbackend.team.domain.entity.Team;
+import pulleydoreurae.careerquestbackend.team.repository.TeamRepository;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("검색어 자동완성 Service 테스트")
+class AutocompleteServiceTest {
+
+	@InjectMocks
+	AutocompleteService autocompleteService;
+	@Mock
+	CertificationRepository certificationRepository;
+	@Mock
+	TechnologyStackRepository technologyStackRepository;
+	@Mock
+	TeamRepository teamRepository;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+	@Mock
+	CertificationIndexService certificationIndexService;
+	@Mock
+	IndexSyncService indexSyncService;
+
+	@Test
+	@DisplayName("모든 출처의 검색어를 정규화해서 검색 횟수 순으로 찾는지 테스트")
+	void rebuildTest() {
+		// Given
+		given(teamRepository.findAllByOrderByIdDesc(any(Pageable.class))).willReturn(
+				new PageImpl<>(List.of(Team.builder().id(1L).teamName("자바  스터디").build())));
+		given(certificationRepository.findAll()).willReturn(
+				List.of(Certification.builder().id(1L).certificationName("정보처리기사").build()));
+		given(technologyStackRepository.findAll()).willReturn(
+				List.of(TechnologyStack.builder().id(1L).stackName("Java").build()));
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(zSetOperations.reverseRange(AutocompleteService.SHOW_RANKING_KEY, 0, 9))
+				.willReturn(new LinkedHashSet<>(List.of("자바 스터디 모집")));
+		given(zSetOperations.reverseRangeWithScores(AutocompleteService.HIT_RANKING_KEY, 0, 999))
+				.willReturn(new LinkedHashSet<>(List.of(
+						new DefaultTypedTuple<>("자바 스터디 모집", 5.0),
+						new DefaultTypedTuple<>("JAVA", 2.0),
+						new DefaultTypedTuple<>("java", 2.0))));
+
+		// When
+		autocompleteService.rebuild();
+		List<AutocompleteResponse> result = autocompleteService.suggest(" 자바 ", 10);
+
+		// Then
+		assertEquals(List.of("자바 스터디 모집", "자바  스터디"),
+				result.stream().map(AutocompleteResponse::getKeyword).toList());
+		assertEquals(AutocompleteType.KEYWORD, result.get(0).getType());
+		assertEquals(AutocompleteType.TECH_STACK, autocompleteService.suggest("ja", 10).get(0).getType());
+		assertEquals(1, autocompleteService.suggest("스터디", 1).size());
+	}
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없어도 자격증, 기술 스택은 갱신하는지 테스트")
+	void refreshRedisFailTest() {
+		// Given
+		given(certificationRepository.findAll()).willReturn(
+				List.of(Certification.builder().id(1L).certificationName("정보처리기사").build()));
+		given(technologyStackRepository.findAll()).willReturn(List.of());
+		given(teamRepository.findAllByOrderByIdDesc(any(Pageable.class))).willReturn(new PageImpl<>(List.of()));
+		given(redisTemplate.opsForZSet()).willThrow(new RedisConnectionFailureException("연결 실패"));
+
+		// When
+		autocompleteService.refresh();
+
+		// Then
+		assertEquals(1, autocompleteService.suggest("정보", 10).size());
+	}
+
+	@Test
+	@DisplayName("삭제된 팀은 자동완성에서 제거하는지 테스트")
+	void removeTeamTest() {
+		// Given
+		Team team = Team.builder().id(1L).teamName("알고리즘 스터디").build();
+		autocompleteService.indexTeam(team);
+		assertEquals(1, autocompleteService.suggest("알고", 10).size());
+
+		// When
+		autocompleteService.removeTeam(1L);
+
+		// Then
+		assertTrue(autocompleteService.suggest("알고", 10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("주기적으로 갱신할 때 다른 서버에서 생성, 삭제된 팀도 반영하는지 테스트")
+	void refreshTeamTest() {
+		// Given
+		autocompleteService.indexTeam(Team.builder().id(1L).teamName("알고리즘 스터디").build());
+		given(certificationRepository.findAll()).willReturn(List.of());
+		given(technologyStackRepository.findAll()).willReturn(List.of());
+		given(teamRepository.findAllByOrderByIdDesc(any(Pageable.class))).willReturn(
+				new PageImpl<>(List.of(Team.builder().id(2L).teamName("알고리즘 대회").build())));
+		given(redisTemplate.opsForZSet()).willThrow(new RedisConnectionFailureException("연결 실패"));
+
+		// When
+		autocompleteService.refresh();
+
+		// Then
+		assertEquals(List.of("알고리즘 대회"),
+				autocompleteService.suggest("알고", 10).stream().map(AutocompleteResponse::getKeyword).toList());
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 변경된 팀을 데이터베이스에서 다시 불러와 반영하는지 테스트")
+	void syncTeamTest() {
+		// Given
+		autocompleteService.indexTeam(Team.builder().id(1L).teamName("알고리즘 스터디").build());
+		given(teamRepository.findById(1L)).willReturn(Optional.of(Team.builder().id(1L).teamName("자바 스터디").build()));
+		given(teamRepository.findById(2L)).willReturn(Optional.of(Team.builder().id(2L).teamName("알고리즘 대회")
+				.isDeleted(true).build()));
+
+		// When
+		autocompleteService.syncTeam(1L);
+		autocompleteService.syncTeam(2L);
+
+		// Then
+		assertTrue(autocompleteService.suggest("알고", 10).isEmpty());
+		assertEquals(1, autocompleteService.suggest("자바", 10).size());
+		verify(indexSyncService).publish(AutocompleteService.TEAM_TARGET, 1L);
+	}
+
+	@Test
+	@DisplayName("입력한 검색어가 비어있다면 빈 리스트를 반환하는지 테스트")
+	void suggestEmptyTest() {
+		// When
+		List<AutocompleteResponse> result = autocompleteService.suggest("   ", 10);
+
+		// Then
+		assertTrue(result.isEmpty());
+		verify(redisTemplate, never()).opsForZSet();
+	}
+
+	@Test
+	@DisplayName("접두어로 찾지 못하면 자격증 이름 색인(초성, 오타)에서 찾는지 테스트")
+	void suggestCertificationFallbackTest() {
+		// Given
+		given(certificationIndexService.searchNames("ㅈㅂㅊㄹ")).willReturn(List.of("정보처리기사", "정보처리산업기사"));
+
+		// When
+		List<AutocompleteResponse> result = autocompleteService.suggest("ㅈㅂㅊㄹ", 1);
+
+		// Then
+		assertEquals(1, result.size());
+		assertEquals("정보처리기사", result.get(0).getKeyword());
+		assertEquals(AutocompleteType.CERTIFICATION, result.get(0).getType());
+	}
+}
@@ -0,0 +1,115 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("검색 횟수 모아서 반영하기 테스트")
+class SearchHitCountServiceTest {
+
+	@InjectMocks
+	SearchHitCountService searchHitCountService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+
+	@SuppressWarnings("unchecked")
+	private void givenPipeline() {
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+			((SessionCallback<?>)invocation.getArgument(0)).execute(redisTemplate);
+			return List.of();
+		});
+	}
+
+	@Test
+	@DisplayName("모아둔 검색 횟수를 한번의 파이프라인으로 반영하는지 테스트")
+	@SuppressWarnings("unchecked")
+	void flushAllTest() {
+		// Given
+		givenPipeline();
+		searchHitCountService.increase("자바");
+		searchHitCountService.increase("자바");
+		searchHitCountService.increase("스프링");
+
+		// When
+		searchHitCountService.flushAll();
+
+		// Then
+		verify(redisTemplate).executePipelined(any(SessionCallback.class));
+		verify(zSetOperations).incrementScore(startsWith(SearchHitCountService.HIT_BUCKET_KEY_PREFIX), eq("자바"), eq(2.0));
+		verify(zSetOperations).incrementScore(startsWith(SearchHitCountService.HIT_BUCKET_KEY_PREFIX), eq("스프링"),
+				eq(1.0));
+		verify(redisTemplate).expire(startsWith(SearchHitCountService.HIT_BUCKET_KEY_PREFIX), eq(Duration.ofHours(25)));
+		assertEquals(0, searchHitCountService.getFlushLagMillis());
+	}
+
+	@Test
+	@DisplayName("주기적인 반영은 한 주기 전에 모아둔 검색 횟수를 반영하는지 테스트")
+	@SuppressWarnings("unchecked")
+	void flushTest() {
+		// Given
+		searchHitCountService.increase("자바");
+
+		// When
+		searchHitCountService.flush();
+		verify(redisTemplate, never()).executePipelined(any(SessionCallback.class));
+		givenPipeline();
+		searchHitCountService.flush();
+
+		// Then
+		verify(zSetOperations).incrementScore(startsWith(SearchHitCountService.HIT_BUCKET_KEY_PREFIX), eq("자바"), eq(1.0));
+	}
+
+	@Test
+	@DisplayName("반영에 실패하면 다음 주기에 다시 반영하는지 테스트")
+	@SuppressWarnings("unchecked")
+	void flushFailTest() {
+		// Given
+		searchHitCountService.increase("자바");
+		given(redisTemplate.executePipelined(any(SessionCallback.class)))
+				.willThrow(new RedisConnectionFailureException("연결 실패"));
+
+		// When
+		searchHitCountService.flushAll();
+
+		// Then
+		reset(redisTemplate);
+		givenPipeline();
+		searchHitCountService.flushAll();
+		verify(zSetOperations).incrementScore(startsWith(SearchHitCountService.HIT_BUCKET_KEY_PREFIX), eq("자바"), eq(1.0));
+	}
+
+	@Test
+	@DisplayName("집계 구간의 시간별 키를 최근 시간부터 반환하는지 테스트")
+	void bucketKeysTest() {
+		// When
+		List<String> result = searchHitCountService.bucketKeys(LocalDateTime.of(2026, 10, 17, 1, 30));
+
+		// Then
+		assertEquals(24, result.size());
+		assertEquals("hitRanking:2026101701", result.get(0));
+		assertEquals("hitRanking:2026101700", result.get(1));
+		assertEquals("hitRanking:2026101602", result.get(23));
+	}
+}
@@ -0,0 +1,164 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import pulleydoreurae.careerquestbackend.certification.domain.entity.Review;
+import pulleydoreurae.careerquestbackend.certification.repository.ReviewRepository;
+import pulleydoreurae.careerquestbackend.common.service.IndexSyncService;
+import pulleydoreurae.careerquestbackend.community.domain.PostCategory;
+import pulleydoreurae.careerquestbackend.community.domain.entity.Post;
+import pulleydoreurae.careerquestbackend.community.repository.PostRepository;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("검색 색인 Service 테스트")
+class SearchIndexServiceTest {
+
+	@InjectMocks
+	SearchIndexService searchIndexService;
+	@Mock
+	PostRepository postRepository;
+	@Mock
+	ReviewRepository reviewRepository;
+	@Mock
+	IndexSyncService indexSyncService;
+
+	@Test
+	@DisplayName("서버 시작시 데이터베이스의 게시글, 후기로 색인을 만드는지 테스트")
+	void rebuildTest() {
+		// Given
+		Post post = Post.builder().id(1L).title("검색어").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+		Review review = Review.builder().id(1L).title("검색어").content("내용").certificationName("정보처리기사").build();
+		given(postRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any())).willReturn(List.of(post));
+		given(reviewRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any())).willReturn(List.of(review));
+		given(postRepository.findAllByIdIn(List.of(1L))).willReturn(List.of(post));
+		given(reviewRepository.findAllByIdIn(List.of(1L))).willReturn(List.of(review));
+
+		// When
+		searchIndexService.rebuild();
+
+		// Then
+		assertEquals(List.of(post),
+				searchIndexService.searchPosts("검색어", null, PageRequest.of(0, 10)).getContent());
+		assertEquals(List.of(review),
+				searchIndexService.searchReviews("검색어", "정보처리기사", PageRequest.of(0, 10)).getContent());
+	}
+
+	@Test
+	@DisplayName("주기적으로 데이터베이스와 맞출 때 바뀐 게시글은 다시 색인하고 삭제된 게시글은 제거하는지 테스트")
+	void reconcileTest() {
+		// Given
+		Post post1 = Post.builder().id(1L).title("검색어").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+		Post post2 = Post.builder().id(2L).title("검색어").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+		searchIndexService.indexPost(post1);
+		searchIndexService.indexPost(post2);
+		// 다른 서버에서 1번 게시글을 삭제하고 2번 게시글을 수정했지만 알림을 받지 못한 상태
+		Post updated = Post.builder().id(2L).title("수정").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+		given(postRepository.findAllByIdGreaterThanOrderByIdAsc(eq(0L), any())).willReturn(List.of(updated));
+		given(postRepository.findAllByIdIn(List.of(2L))).willReturn(List.of(updated));
+
+		// When
+		searchIndexService.reconcile();
+
+		// Then
+		assertTrue(searchIndexService.searchPosts("검색어", null, PageRequest.of(0, 10)).isEmpty());
+		assertEquals(List.of(updated), searchIndexService.searchPosts("수정", null, PageRequest.of(0, 10)).getContent());
+	}
+
+	@Test
+	@DisplayName("색인 순서대로 게시글을 불러오고 이미 삭제된 게시글은 제외하는지 테스트")
+	void searchPostsTest() {
+		// Given
+		Post post1 = Post.builder().id(1L).title("질문").content("스프링 질문").postCategory(PostCategory.FREE_BOARD).build();
+		Post post2 = Post.builder().id(2L).title("스프링 질문").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+		Post post3 = Post.builder().id(3L).title("스프링").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+		searchIndexService.indexPost(post1);
+		searchIndexService.indexPost(post2);
+		searchIndexService.indexPost(post3);
+		// 3번 게시글은 색인에만 남아있는 상태
+		given(postRepository.findAllByIdIn(List.of(3L, 2L, 1L))).willReturn(List.of(post1, post2));
+
+		// When
+		Page<Post> result = searchIndexService.searchPosts("스프링", null, PageRequest.of(0, 10));
+
+		// Then
+		assertEquals(List.of(post2, post1), result.getContent());
+		assertEquals(3, result.getTotalElements());
+	}
+
+	@Test
+	@DisplayName("삭제한 게시글은 검색되지 않는지 테스트")
+	void removePostTest() {
+		// Given
+		Post post = Post.builder().id(1L).title("검색어").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+		searchIndexService.indexPost(post);
+
+		// When
+		searchIndexService.removePost(1L);
+
+		// Then
+		assertTrue(searchIndexService.searchPosts("검색어", null, PageRequest.of(0, 10)).isEmpty());
+		verify(postRepository, never()).findAllByIdIn(any());
+	}
+
+	@Test
+	@DisplayName("게시글 변경을 다른 서버에 알리는지 테스트")
+	void publishPostTest() {
+		// Given
+		Post post = Post.builder().id(1L).title("검색어").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+
+		// When
+		searchIndexService.indexPost(post);
+		searchIndexService.removePost(1L);
+
+		// Then
+		verify(indexSyncService, times(2)).publish(SearchIndexService.POST_TARGET, 1L);
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 변경된 게시글을 데이터베이스에서 다시 불러와 반영하는지 테스트")
+	void syncPostTest() {
+		// Given
+		Post post = Post.builder().id(1L).title("검색어").content("내용").postCategory(PostCategory.FREE_BOARD).build();
+		given(postRepository.findById(1L)).willReturn(Optional.of(post));
+		given(postRepository.findAllByIdIn(List.of(1L))).willReturn(List.of(post));
+
+		// When
+		searchIndexService.syncPost(1L);
+
+		// Then
+		assertEquals(List.of(post), searchIndexService.searchPosts("검색어", null, PageRequest.of(0, 10)).getContent());
+	}
+
+	@Test
+	@DisplayName("다른 서버에서 삭제된 후기를 색인에서 제거하는지 테스트")
+	void syncReviewTest() {
+		// Given
+		Review review = Review.builder().id(1L).title("검색어").content("내용").certificationName("정보처리기사").build();
+		searchIndexService.indexReview(review);
+		given(reviewRepository.findById(1L)).willReturn(Optional.empty());
+
+		// When
+		searchIndexService.syncReview(1L);
+
+		// Then
+		assertTrue(searchIndexService.searchReviews("검색어", null, PageRequest.of(0, 10)).isEmpty());
+		verify(reviewRepository, never()).findAllByIdIn(any());
+	}
+}
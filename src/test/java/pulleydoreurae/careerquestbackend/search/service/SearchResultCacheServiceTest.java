@@ -0,0 +1,204 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import pulleydoreurae.careerquestbackend.search.domain.SearchTarget;
+import pulleydoreurae.careerquestbackend.search.domain.response.SearchResultResponse;
+import pulleydoreurae.careerquestbackend.team.domain.TeamType;
+import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamResponse;
+import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamResponseWithPageInfo;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("통합검색 결과 캐시 Service 테스트")
+class SearchResultCacheServiceTest {
+
+	@InjectMocks
+	SearchResultCacheService searchResultCacheService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+	@Spy
+	ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	@Mock
+	Supplier<SearchResultResponse> loader;
+
+	static final List<String> VERSION_KEYS = List.of("search:version:CERTIFICATION", "search:version:CONTEST",
+			"search:version:POST", "search:version:TEAM");
+	static final String KEY = "search:v1.0.2.0:0:10:java 스터디";
+
+	SearchResultResponse searchResult;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		lenient().when(valueOperations.multiGet(VERSION_KEYS)).thenReturn(Arrays.asList("1", null, "2", null));
+
+		TeamResponseWithPageInfo teams = new TeamResponseWithPageInfo(1);
+		teams.getTeamResponse().add(TeamResponse.builder().teamId(1L).teamName("자바 스터디").teamType(TeamType.STUDY)
+				.startDate(LocalDate.of(2026, 10, 1)).endDate(LocalDate.of(2026, 12, 31)).build());
+		searchResult = SearchResultResponse.builder()
+				.certificationList(List.of())
+				.contestList(List.of())
+				.postList(List.of())
+				.teamList(teams)
+				.build();
+	}
+
+	@Test
+	@DisplayName("대소문자, 공백, 분리된 한글 자모를 정규화하는지 테스트")
+	void normalizeTest() {
+		// Given
+		String decomposed = "\u1112\u1161\u11AB"; // 자모로 분리된 "한"
+
+		// When
+
+		// Then
+		assertEquals("java 스터디", SearchResultCacheService.normalize("  JaVa \t  스터디 "));
+		assertEquals("한", SearchResultCacheService.normalize(decomposed));
+		assertEquals("", SearchResultCacheService.normalize(null));
+	}
+
+	@Test
+	@DisplayName("캐시에 없다면 불러와서 검색 대상별 버전을 포함한 키로 저장하는지 테스트")
+	void getResultMissTest() throws Exception {
+		// Given
+		given(loader.get()).willReturn(searchResult);
+
+		// When
+		SearchResultResponse result = searchResultCacheService.getResult("java 스터디", PageRequest.of(0, 10), loader);
+
+		// Then
+		assertSame(searchResult, result);
+		verify(valueOperations).set(KEY, objectMapper.writeValueAsString(searchResult), Duration.ofSeconds(30));
+		assertEquals(1, searchResultCacheService.getMissCount());
+	}
+
+	@Test
+	@DisplayName("캐시에 있다면 데이터베이스에서 불러오지 않는지 테스트")
+	void getResultHitTest() throws Exception {
+		// Given
+		given(valueOperations.get(KEY)).willReturn(objectMapper.writeValueAsString(searchResult));
+
+		// When
+		SearchResultResponse result = searchResultCacheService.getResult("java 스터디", PageRequest.of(0, 10), loader);
+
+		// Then
+		assertEquals(searchResult.getTeamList(), result.getTeamList());
+		assertTrue(result.getPostList().isEmpty());
+		verify(loader, never()).get();
+		assertEquals(1, searchResultCacheService.getHitCount());
+	}
+
+	@Test
+	@DisplayName("뒤쪽 페이지나 긴 키워드는 캐시하지 않는지 테스트")
+	void getResultNotCachedTest() {
+		// Given
+		given(loader.get()).willReturn(searchResult);
+		String longKeyword = "a".repeat(SearchResultCacheService.MAX_KEYWORD_LENGTH + 1);
+
+		// When
+		searchResultCacheService.getResult("java", PageRequest.of(SearchResultCacheService.CACHED_PAGES, 10), loader);
+		searchResultCacheService.getResult(longKeyword, PageRequest.of(0, 10), loader);
+
+		// Then
+		verify(loader, times(2)).get();
+		verify(redisTemplate, never()).opsForValue();
+	}
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없다면 데이터베이스에서 불러오는지 테스트")
+	void getResultFallbackTest() {
+		// Given
+		given(valueOperations.multiGet(VERSION_KEYS)).willThrow(new RedisConnectionFailureException("연결 실패"));
+		given(loader.get()).willReturn(searchResult);
+
+		// When
+		SearchResultResponse result = searchResultCacheService.getResult("java 스터디", PageRequest.of(0, 10), loader);
+
+		// Then
+		assertSame(searchResult, result);
+		verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("같은 키의 캐시가 비어있을 때 동시에 요청해도 한번만 불러오는지 테스트")
+	void getResultSingleFlightTest() throws Exception {
+		// Given
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loadCount = new AtomicInteger();
+		Supplier<SearchResultResponse> slowLoader = () -> {
+			loadCount.incrementAndGet();
+			entered.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return searchResult;
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		// When
+		Future<SearchResultResponse> leader = executor.submit(
+				() -> searchResultCacheService.getResult("java 스터디", PageRequest.of(0, 10), slowLoader));
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+		Future<SearchResultResponse> follower = executor.submit(
+				() -> searchResultCacheService.getResult("java 스터디", PageRequest.of(0, 10), slowLoader));
+		while (searchResultCacheService.getSharedCount() == 0) { // 뒤의 요청이 결과를 기다리기 시작할 때까지 대기
+			Thread.sleep(10);
+		}
+		release.countDown();
+
+		// Then
+		assertSame(searchResult, leader.get(5, TimeUnit.SECONDS));
+		assertSame(searchResult, follower.get(5, TimeUnit.SECONDS));
+		assertEquals(1, loadCount.get());
+		assertEquals(1, searchResultCacheService.getMissCount());
+		verify(valueOperations, times(1)).set(anyString(), anyString(), any(Duration.class));
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("검색 대상의 버전만 올려 무효화하는지 테스트")
+	void evictTest() {
+		// When
+		searchResultCacheService.evict(SearchTarget.POST);
+
+		// Then
+		verify(valueOperations).increment("search:version:POST");
+	}
+}
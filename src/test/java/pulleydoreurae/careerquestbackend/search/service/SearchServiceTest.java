@@ -0,0 +1,202 @@
+package pulleydoreurae.careerquestbackend.search.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import pulleydoreurae.careerquestbackend.certification.service.CertificationIndexService;
+import pulleydoreurae.careerquestbackend.community.domain.dto.response.PostResponse;
+import pulleydoreurae.careerquestbackend.community.repository.ContestRepository;
+import pulleydoreurae.careerquestbackend.community.service.CommonCommunityService;
+import pulleydoreurae.careerquestbackend.search.domain.response.SearchRankResponse;
+import pulleydoreurae.careerquestbackend.search.domain.response.SearchResultResponse;
+import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamResponseWithPageInfo;
+import pulleydoreurae.careerquestbackend.team.repository.TeamRepository;
+
+/**
+ * @author : parkjihyeok
+ * @since : 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("인기 검색어 순위 Service 테스트")
+class SearchServiceTest {
+
+	@InjectMocks
+	SearchService searchService;
+	@Mock
+	CertificationIndexService certificationIndexService;
+	@Mock
+	ContestRepository contestRepository;
+	@Mock
+	TeamRepository teamRepository;
+	@Mock
+	SearchIndexService searchIndexService;
+	@Mock
+	SearchResultCacheService searchResultCacheService;
+	@Mock
+	SearchHitCountService searchHitCountService;
+	@Mock
+	CommonCommunityService commonCommunityService;
+	@Mock
+	StringRedisTemplate redisTemplate;
+	@Mock
+	ZSetOperations<String, String> zSetOperations;
+	@Mock
+	HashOperations<String, Object, Object> hashOperations;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+
+	@Test
+	@DisplayName("인기 검색어와 순위 변동을 한번에 불러오는지 테스트")
+	void getShowRankingTest() {
+		// Given
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(zSetOperations.reverseRange(SearchService.SHOW_RANKING_KEY, 0, 9))
+				.willReturn(new LinkedHashSet<>(List.of("자바", "스프링")));
+		given(hashOperations.multiGet(SearchService.RANK_CHANGES_KEY, List.of("자바", "스프링")))
+				.willReturn(List.of("N", "-1"));
+
+		// When
+		List<SearchRankResponse> result = searchService.getShowRanking();
+
+		// Then
+		assertEquals(2, result.size());
+		assertEquals("스프링", result.get(1).getKeyword());
+		assertEquals("-1", result.get(1).getRankChange());
+		assertEquals(2, result.get(1).getRank());
+		verify(hashOperations, never()).get(any(), any());
+	}
+
+	@Test
+	@DisplayName("집계 구간의 시간별 검색 횟수를 합쳐 임시 키에 만든 뒤 한번에 교체하는지 테스트")
+	@SuppressWarnings("unchecked")
+	void updateRankingsTest() {
+		// Given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+		List<String> bucketKeys = List.of("hitRanking:2026101712", "hitRanking:2026101711", "hitRanking:2026101710");
+		given(searchHitCountService.bucketKeys(any())).willReturn(bucketKeys);
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(zSetOperations.reverseRange("hitRanking:next", 0, 9))
+				.willReturn(new LinkedHashSet<>(List.of("자바", "스프링")));
+		given(zSetOperations.reverseRange(SearchService.SHOW_RANKING_KEY, 0, 9))
+				.willReturn(new LinkedHashSet<>(List.of("스프링")));
+		given(redisTemplate.hasKey(anyString())).willReturn(true);
+		given(redisTemplate.execute(any(SessionCallback.class)))
+				.willAnswer(invocation -> ((SessionCallback<?>)invocation.getArgument(0)).execute(redisTemplate));
+
+		// When
+		searchService.updateRankings();
+
+		// Then
+		verify(zSetOperations).unionAndStore("hitRanking:2026101712",
+				List.of("hitRanking:2026101711", "hitRanking:2026101710"), "hitRanking:next");
+
+		verify(zSetOperations).add("showRanking:next", Set.of(
+				new DefaultTypedTuple<>("자바", 2.0), new DefaultTypedTuple<>("스프링", 1.0)));
+		verify(hashOperations).putAll("showRankingRankChanges:next", Map.of("자바", "N", "스프링", "-1"));
+
+		verify(redisTemplate).multi();
+		verify(redisTemplate).rename("hitRanking:next", SearchService.HIT_RANKING_KEY);
+		verify(redisTemplate).rename("showRanking:next", SearchService.SHOW_RANKING_KEY);
+		verify(redisTemplate).rename("showRankingRankChanges:next", SearchService.RANK_CHANGES_KEY);
+		verify(redisTemplate).exec();
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any()); // 같은 주기에 다시 갱신하지 않도록 잠금을 유지한다.
+	}
+
+	@Test
+	@DisplayName("집계 구간에 검색 기록이 없다면 순위를 삭제하는지 테스트")
+	@SuppressWarnings("unchecked")
+	void updateRankingsEmptyTest() {
+		// Given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+		given(searchHitCountService.bucketKeys(any())).willReturn(List.of("hitRanking:2026101712"));
+		given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+		given(zSetOperations.reverseRange(anyString(), eq(0L), eq(9L))).willReturn(new LinkedHashSet<>());
+		given(redisTemplate.hasKey(anyString())).willReturn(false);
+		given(redisTemplate.execute(any(SessionCallback.class)))
+				.willAnswer(invocation -> ((SessionCallback<?>)invocation.getArgument(0)).execute(redisTemplate));
+
+		// When
+		searchService.updateRankings();
+
+		// Then
+		verify(zSetOperations, never()).add(anyString(), anySet());
+		verify(redisTemplate, never()).rename(anyString(), anyString());
+		verify(redisTemplate).delete(SearchService.SHOW_RANKING_KEY);
+		verify(redisTemplate).delete(SearchService.RANK_CHANGES_KEY);
+		verify(redisTemplate).delete(SearchService.HIT_RANKING_KEY);
+	}
+
+	@Test
+	@DisplayName("다른 서버가 이번 주기의 순위를 이미 갱신했다면 다시 갱신하지 않는지 테스트")
+	void updateRankingsLockedTest() {
+		// Given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+		// When
+		searchService.updateRankings();
+
+		// Then
+		verify(searchHitCountService, never()).bucketKeys(any());
+		verify(redisTemplate, never()).opsForZSet();
+	}
+
+	@Test
+	@DisplayName("순위 갱신에 실패하면 잠금을 해제하는지 테스트")
+	void updateRankingsFailTest() {
+		// Given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+		given(searchHitCountService.bucketKeys(any())).willReturn(List.of("hitRanking:2026101712"));
+		given(redisTemplate.opsForZSet()).willThrow(new IllegalStateException("연결 실패"));
+
+		// When & Then
+		assertThrows(IllegalStateException.class, () -> searchService.updateRankings());
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("showRanking:update-lock")), anyString());
+	}
+
+	@Test
+	@DisplayName("검색 결과가 있다면 검색 횟수를 Redis 에 바로 보내지 않고 모아두는지 테스트")
+	void incrementSearchCountTest() {
+		// Given
+		given(searchResultCacheService.getResult(eq("자바"), any(), any())).willReturn(
+				SearchResultResponse.builder()
+						.certificationList(List.of())
+						.contestList(List.of())
+						.postList(List.of(new PostResponse()))
+						.teamList(new TeamResponseWithPageInfo(0))
+						.build());
+
+		// When
+		searchService.findAllByKeyword("자바", null);
+		searchService.findAllByKeyword("자바", null);
+
+		// Then
+		verify(searchHitCountService, times(2)).increase("자바");
+		verify(redisTemplate, never()).opsForZSet();
+	}
+}
@@ -81,4 +81,42 @@ class EmptyTeamMemberRepositoryTest {
 		assertEquals("정보처리기사1팀", result.getTeam().getTeamName());
 		assertEquals(5, result.getTeam().getMaxMember());
 	}
+
+	@Test
+	@DisplayName("팀장이 지정한 팀원 포지션 한번에 저장하기")
+	void saveAllInBatchTest() {
+		// Given
+		Team team = Team.builder().teamName("정보처리기사1팀").teamContent("정보처리기사를 목표로 하는 스터디").teamType(TeamType.STUDY).maxMember(5).startDate(LocalDate.of(2024, 3, 10)).endDate(LocalDate.of(2024, 5, 20)).build();
+		teamRepository.save(team);
+
+		// When
+		emptyTeamMemberRepository.saveAllInBatch(List.of(
+				EmptyTeamMember.builder().team(team).position("프론트 개발자").build(),
+				EmptyTeamMember.builder().team(team).position("백엔드 개발자").build(),
+				EmptyTeamMember.builder().team(team).position("디자이너").build()));
+
+		// Then
+		assertEquals(3, emptyTeamMemberRepository.findAllByTeamId(team.getId()).size());
+		assertEquals(1, emptyTeamMemberRepository.findAllByTeamIdAndPosition(team.getId(), "백엔드 개발자").size());
+	}
+
+	@Test
+	@DisplayName("팀 id로 팀장이 지정한 팀원 포지션 한번에 삭제하기")
+	void deleteAllByTeamIdTest() {
+		// Given
+		Team team1 = Team.builder().teamName("정보처리기사1팀").teamContent("정보처리기사를 목표로 하는 스터디").teamType(TeamType.STUDY).maxMember(5).startDate(LocalDate.of(2024, 3, 10)).endDate(LocalDate.of(2024, 5, 20)).build();
+		Team team2 = Team.builder().teamName("정보처리기사2팀").teamContent("정보처리기사를 목표로 하는 스터디").teamType(TeamType.STUDY).maxMember(5).startDate(LocalDate.of(2024, 3, 10)).endDate(LocalDate.of(2024, 5, 20)).build();
+		teamRepository.save(team1);
+		teamRepository.save(team2);
+		emptyTeamMemberRepository.save(EmptyTeamMember.builder().team(team1).position("프론트 개발자").build());
+		emptyTeamMemberRepository.save(EmptyTeamMember.builder().team(team1).position("백엔드 개발자").build());
+		emptyTeamMemberRepository.save(EmptyTeamMember.builder().team(team2).position("백엔드 개발자").build());
+
+		// When
+		emptyTeamMemberRepository.deleteAllByTeamId(team1.getId());
+
+		// Then
+		assertEquals(0, emptyTeamMemberRepository.findAllByTeamId(team1.getId()).size());
+		assertEquals(1, emptyTeamMemberRepository.findAllByTeamId(team2.getId()).size());
+	}
 }
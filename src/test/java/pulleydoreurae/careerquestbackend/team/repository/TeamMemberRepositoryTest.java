@@ -18,6 +18,7 @@ import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.auth.repository.UserAccountRepository;
 import pulleydoreurae.careerquestbackend.config.QueryDSLConfig;
 import pulleydoreurae.careerquestbackend.team.domain.TeamType;
+import pulleydoreurae.careerquestbackend.team.domain.dto.response.TeamMemberHistoryResponse;
 import pulleydoreurae.careerquestbackend.team.domain.entity.Team;
 import pulleydoreurae.careerquestbackend.team.domain.entity.TeamMember;
 
@@ -101,15 +102,16 @@ class TeamMemberRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("userId로 참여한 팀 정보 불러오기")
-	void findByUserIdTest() {
+	@DisplayName("userId로 참여한 팀 정보를 응답 형태로 불러오기")
+	void findHistoryByUserIdTest() {
 	    // Given
 
 	    // When
-		List<TeamMember> result = teamMemberRepository.findByUserId("testId1");
+		List<TeamMemberHistoryResponse> result = teamMemberRepository.findHistoryByUserId("testId1");
 
 		// Then
 		assertEquals(3, result.size());
-		assertEquals("정처기모여라!", result.get(0).getTeam().getTeamName());
+		assertEquals("testId1", result.get(0).getUserId());
+		assertEquals("정처기모여라!", result.get(0).getTeamName());
 	}
 }
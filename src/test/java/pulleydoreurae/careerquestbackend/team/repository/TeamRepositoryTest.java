@@ -13,6 +13,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import pulleydoreurae.careerquestbackend.config.QueryDSLConfig;
@@ -153,4 +154,26 @@ class TeamRepositoryTest {
 		assertEquals(3, result.getSize());
 		assertEquals("정보처리기사2팀", result.getContent().get(0).getTeamName());
 	}
+
+	@Test
+	@DisplayName("커서 기반 전체 팀 조회 테스트")
+	void findAllByIdLessThanOrderByIdDescTest() {
+		// Given
+		Team team1 = Team.builder().teamName("정보처리기사1팀").teamContent("정보처리기사 취득을 위한팀").teamType(TeamType.STUDY).maxMember(5).startDate(LocalDate.of(2024, 3, 10)).endDate(LocalDate.of(2024, 5, 20)).build();
+		Team team2 = Team.builder().teamName("정처기모여라!1").teamContent("정보처리기사 취득을 위한팀").teamType(TeamType.STUDY).maxMember(5).startDate(LocalDate.of(2024, 3, 10)).endDate(LocalDate.of(2024, 5, 20)).build();
+		Team team3 = Team.builder().teamName("정처기모여라!2").teamContent("정보처리기사 취득을 위한팀").teamType(TeamType.STUDY).maxMember(5).startDate(LocalDate.of(2024, 3, 10)).endDate(LocalDate.of(2024, 5, 20)).isDeleted(true).build();
+		Team team4 = Team.builder().teamName("정보처리기사2팀").teamContent("정보처리기사 취득을 위한팀").teamType(TeamType.STUDY).maxMember(5).startDate(LocalDate.of(2024, 3, 10)).endDate(LocalDate.of(2024, 5, 20)).build();
+		teamRepository.save(team1);
+		teamRepository.save(team2);
+		teamRepository.save(team3);
+		teamRepository.save(team4);
+
+		// When
+		Slice<Team> result = teamRepository.findAllByIdLessThanOrderByIdDesc(team4.getId(), PageRequest.of(0, 1));
+
+		// Then
+		assertEquals(1, result.getNumberOfElements());
+		assertEquals("정처기모여라!1", result.getContent().get(0).getTeamName()); // 삭제된 팀은 건너뛴다.
+		assertTrue(result.hasNext());
+	}
 }
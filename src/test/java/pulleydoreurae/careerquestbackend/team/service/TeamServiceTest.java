@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,11 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import pulleydoreurae.careerquestbackend.auth.domain.entity.UserAccount;
 import pulleydoreurae.careerquestbackend.common.service.CommonService;
+import pulleydoreurae.careerquestbackend.notification.domain.NotificationType;
+import pulleydoreurae.careerquestbackend.notification.service.NotificationService;
+import pulleydoreurae.careerquestbackend.search.domain.SearchTarget;
+import pulleydoreurae.careerquestbackend.search.service.AutocompleteService;
+import pulleydoreurae.careerquestbackend.search.service.SearchResultCacheService;
 import pulleydoreurae.careerquestbackend.team.domain.TeamType;
 import pulleydoreurae.careerquestbackend.team.domain.dto.request.KickRequest;
 import pulleydoreurae.careerquestbackend.team.domain.dto.request.TeamDeleteRequest;
@@ -49,6 +55,9 @@ class TeamServiceTest {
 	@Mock EmptyTeamMemberRepository emptyTeamMemberRepository;
 	@Mock TeamMemberRepository teamMemberRepository;
 	@Mock CommonService commonService;
+	@Mock NotificationService notificationService;
+	@Mock SearchResultCacheService searchResultCacheService;
+	@Mock AutocompleteService autocompleteService;
 
 	@Test
 	@DisplayName("팀 생성 테스트 - 실패(팀장의 정보를 찾을 수 없음)")
@@ -79,7 +88,8 @@ class TeamServiceTest {
 		// Then
 		assertDoesNotThrow(() -> teamService.makeTeam(request));
 		verify(teamRepository).save(any());
-		verify(emptyTeamMemberRepository, times(4)).save(any());
+		verify(emptyTeamMemberRepository).saveAllInBatch(argThat(saved -> saved.size() == 4));
+		verify(emptyTeamMemberRepository, never()).save(any());
 	}
 
 	@Test
@@ -95,8 +105,7 @@ class TeamServiceTest {
 	    // Then
 		assertThrows(IllegalArgumentException.class, () -> teamService.updateTeam(request));
 		verify(teamRepository, never()).save(any());
-		verify(emptyTeamMemberRepository, never()).findAllByTeamId(request.getTeamId());
-		verify(emptyTeamMemberRepository, never()).deleteAll(any());
+		verify(emptyTeamMemberRepository, never()).deleteAllByTeamId(request.getTeamId());
 	}
 
 	@Test
@@ -113,8 +122,8 @@ class TeamServiceTest {
 		// Then
 		assertDoesNotThrow(() -> teamService.updateTeam(request));
 		verify(teamRepository).save(any());
-		verify(emptyTeamMemberRepository).findAllByTeamId(request.getTeamId());
-		verify(emptyTeamMemberRepository).deleteAll(any());
+		verify(emptyTeamMemberRepository).deleteAllByTeamId(request.getTeamId());
+		verify(emptyTeamMemberRepository).saveAllInBatch(argThat(saved -> saved.size() == 4));
 	}
 
 	@Test
@@ -128,8 +137,7 @@ class TeamServiceTest {
 
 		// Then
 		assertThrows(IllegalAccessError.class, () -> teamService.deleteTeam(request));
-		verify(emptyTeamMemberRepository, never()).findAllByTeamId(any());
-		verify(emptyTeamMemberRepository, never()).deleteAll(any());
+		verify(emptyTeamMemberRepository, never()).deleteAllByTeamId(any());
 		verify(teamMemberRepository, never()).findAllByTeamId(any());
 		verify(teamMemberRepository, never()).deleteAll(any());
 		verify(teamRepository, never()).delete(any());
@@ -146,8 +154,7 @@ class TeamServiceTest {
 
 		// Then
 		assertThrows(IllegalArgumentException.class, () -> teamService.deleteTeam(request));
-		verify(emptyTeamMemberRepository, never()).findAllByTeamId(any());
-		verify(emptyTeamMemberRepository, never()).deleteAll(any());
+		verify(emptyTeamMemberRepository, never()).deleteAllByTeamId(any());
 		verify(teamMemberRepository, never()).findAllByTeamId(any());
 		verify(teamMemberRepository, never()).deleteAll(any());
 		verify(teamRepository, never()).delete(any());
@@ -164,6 +171,8 @@ class TeamServiceTest {
 
 		// Then
 		assertDoesNotThrow(() -> teamService.deleteTeam(request));
+		verify(searchResultCacheService).evict(SearchTarget.TEAM);
+		verify(autocompleteService).removeTeam(100L);
 	}
 
 	@Test
@@ -188,6 +197,7 @@ class TeamServiceTest {
 		EmptyTeamMember emptyTeamMember = EmptyTeamMember.builder().team(team).position("백엔드 개발자").build();
 		given(teamRepository.findById(100L)).willReturn(Optional.ofNullable(team));
 		given(emptyTeamMemberRepository.findAllByTeamIdAndPosition(100L, "백엔드 개발자")).willReturn(List.of(emptyTeamMember));
+		given(teamMemberRepository.findTeamLeaderIdByTeamId(100L)).willReturn(Optional.of(1L));
 
 		// When
 
@@ -195,6 +205,7 @@ class TeamServiceTest {
 		assertDoesNotThrow(() -> teamService.joinTeam(request));
 		verify(emptyTeamMemberRepository).delete(any());
 		verify(teamMemberRepository).save(any());
+		verify(notificationService).notify(eq(1L), eq(NotificationType.TEAM_JOIN), eq(100L), any());
 	}
 
 	@Test
@@ -416,7 +427,9 @@ class TeamServiceTest {
 		TeamMember teamMember3 = TeamMember.builder().userAccount(user).isTeamLeader(true).team(team3).position("DevOps").build();
 		TeamMember teamMember4 = TeamMember.builder().userAccount(user).isTeamLeader(false).team(team4).position("DBA").build();
 		TeamMember teamMember5 = TeamMember.builder().userAccount(user).isTeamLeader(false).team(team5).position("백엔드 개발자").build();
-		given(teamMemberRepository.findByUserId("testId")).willReturn(List.of(teamMember1, teamMember2, teamMember3, teamMember4, teamMember5));
+		given(teamMemberRepository.findHistoryByUserId("testId")).willReturn(
+				Stream.of(teamMember1, teamMember2, teamMember3, teamMember4, teamMember5)
+						.map(teamMember -> teamMemberToTeamMemberHistoryResponse(teamMember, "testId")).toList());
 
 	    // When
 		List<TeamMemberHistoryResponse> result = teamService.findMemberHistory("testId");